@@ -55,6 +55,15 @@ public interface GetCommitLogBuilder
               message = Validation.HASH_MESSAGE)
           String untilHash);
 
+  /**
+   * Let {@link #stream()} request the result as newline-delimited JSON, which the server writes
+   * while it produces the entries, instead of as one response object per page. Only supported by
+   * Nessie REST API v2, ignored otherwise.
+   *
+   * @since {@link NessieApiV2}
+   */
+  GetCommitLogBuilder streamingResponses(boolean streamingResponses);
+
   @Override // kept for byte-code compatibility
   LogResponse get() throws NessieNotFoundException;
 }
@@ -53,6 +53,15 @@ public interface GetDiffBuilder
     return r;
   }
 
+  /**
+   * Let {@link #stream()} request the result as newline-delimited JSON, which the server writes
+   * while it produces the entries, instead of as one response object per page. Only supported by
+   * Nessie REST API v2, ignored otherwise.
+   *
+   * @since {@link NessieApiV2}
+   */
+  GetDiffBuilder streamingResponses(boolean streamingResponses);
+
   @Override
   DiffResponse get() throws NessieNotFoundException;
 }
@@ -34,6 +34,15 @@ public interface GetEntriesBuilder
 
   GetEntriesBuilder withContent(boolean withContent);
 
+  /**
+   * Let {@link #stream()} request the result as newline-delimited JSON, which the server writes
+   * while it produces the entries, instead of as one response object per page. Only supported by
+   * Nessie REST API v2, ignored otherwise.
+   *
+   * @since {@link NessieApiV2}
+   */
+  GetEntriesBuilder streamingResponses(boolean streamingResponses);
+
   @Override // kept for byte-code compatibility
   EntriesResponse get() throws NessieNotFoundException;
 }
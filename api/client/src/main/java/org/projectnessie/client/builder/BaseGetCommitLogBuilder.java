@@ -32,6 +32,7 @@ public abstract class BaseGetCommitLogBuilder<PARAMS>
   protected Integer maxRecords;
   protected FetchOption fetchOption;
   protected String filter;
+  protected boolean streamingResponses;
   protected String untilHash;
 
   protected BaseGetCommitLogBuilder(BiFunction<PARAMS, String, PARAMS> paramsForPage) {
@@ -68,6 +69,12 @@ public abstract class BaseGetCommitLogBuilder<PARAMS>
     return this;
   }
 
+  @Override
+  public GetCommitLogBuilder streamingResponses(boolean streamingResponses) {
+    this.streamingResponses = streamingResponses;
+    return this;
+  }
+
   protected abstract PARAMS params();
 
   @Override
@@ -77,9 +84,22 @@ public abstract class BaseGetCommitLogBuilder<PARAMS>
 
   protected abstract LogResponse get(PARAMS p) throws NessieNotFoundException;
 
+  /**
+   * Fetches a page as a stream of response chunks, used by {@link #stream()} if {@link
+   * #streamingResponses(boolean) streaming responses} are requested. The default implementation
+   * returns the whole page as a single chunk.
+   */
+  protected Stream<LogResponse> getChunks(PARAMS p) throws NessieNotFoundException {
+    return Stream.of(get(p));
+  }
+
   @Override
   public Stream<LogEntry> stream() throws NessieNotFoundException {
     PARAMS p = params();
+    if (streamingResponses) {
+      return StreamingUtil.generateStreamFromChunks(
+          LogResponse::getLogEntries, pageToken -> getChunks(paramsForPage.apply(p, pageToken)));
+    }
     return StreamingUtil.generateStream(
         LogResponse::getLogEntries, pageToken -> get(paramsForPage.apply(p, pageToken)));
   }
@@ -40,6 +40,7 @@ public abstract class BaseGetDiffBuilder<PARAMS> implements GetDiffBuilder {
   protected ContentKey maxKey;
   protected ContentKey prefixKey;
   protected String filter;
+  protected boolean streamingResponses;
 
   protected BaseGetDiffBuilder(BiFunction<PARAMS, String, PARAMS> paramsForPage) {
     this.paramsForPage = paramsForPage;
@@ -117,6 +118,12 @@ public abstract class BaseGetDiffBuilder<PARAMS> implements GetDiffBuilder {
     return this;
   }
 
+  @Override
+  public GetDiffBuilder streamingResponses(boolean streamingResponses) {
+    this.streamingResponses = streamingResponses;
+    return this;
+  }
+
   @Override
   public DiffResponse get() throws NessieNotFoundException {
     return get(paramsForPage.apply(params(), pageToken));
@@ -126,9 +133,22 @@ public abstract class BaseGetDiffBuilder<PARAMS> implements GetDiffBuilder {
 
   protected abstract DiffResponse get(PARAMS p) throws NessieNotFoundException;
 
+  /**
+   * Fetches a page as a stream of response chunks, used by {@link #stream()} if {@link
+   * #streamingResponses(boolean) streaming responses} are requested. The default implementation
+   * returns the whole page as a single chunk.
+   */
+  protected Stream<DiffResponse> getChunks(PARAMS p) throws NessieNotFoundException {
+    return Stream.of(get(p));
+  }
+
   @Override
   public Stream<DiffResponse.DiffEntry> stream() throws NessieNotFoundException {
     PARAMS p = params();
+    if (streamingResponses) {
+      return StreamingUtil.generateStreamFromChunks(
+          DiffResponse::getDiffs, pageToken -> getChunks(paramsForPage.apply(p, pageToken)));
+    }
     return StreamingUtil.generateStream(
         DiffResponse::getDiffs, pageToken -> get(paramsForPage.apply(p, pageToken)));
   }
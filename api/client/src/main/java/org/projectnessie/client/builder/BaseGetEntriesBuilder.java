@@ -38,6 +38,7 @@ public abstract class BaseGetEntriesBuilder<PARAMS>
   protected ContentKey maxKey;
   protected ContentKey prefixKey;
   protected String filter;
+  protected boolean streamingResponses;
   protected boolean withContent;
   protected boolean forWrite;
 
@@ -99,10 +100,25 @@ public abstract class BaseGetEntriesBuilder<PARAMS>
     return this;
   }
 
+  @Override
+  public GetEntriesBuilder streamingResponses(boolean streamingResponses) {
+    this.streamingResponses = streamingResponses;
+    return this;
+  }
+
   protected abstract PARAMS params();
 
   protected abstract EntriesResponse get(PARAMS p) throws NessieNotFoundException;
 
+  /**
+   * Fetches a page as a stream of response chunks, used by {@link #stream()} if {@link
+   * #streamingResponses(boolean) streaming responses} are requested. The default implementation
+   * returns the whole page as a single chunk.
+   */
+  protected Stream<EntriesResponse> getChunks(PARAMS p) throws NessieNotFoundException {
+    return Stream.of(get(p));
+  }
+
   @Override
   public EntriesResponse get() throws NessieNotFoundException {
     return get(paramsForPage.apply(params(), pageToken));
@@ -111,6 +127,10 @@ public abstract class BaseGetEntriesBuilder<PARAMS>
   @Override
   public Stream<Entry> stream() throws NessieNotFoundException {
     PARAMS p = params();
+    if (streamingResponses) {
+      return StreamingUtil.generateStreamFromChunks(
+          EntriesResponse::getEntries, pageToken -> getChunks(paramsForPage.apply(p, pageToken)));
+    }
     return StreamingUtil.generateStream(
         EntriesResponse::getEntries, pageToken -> get(paramsForPage.apply(p, pageToken)));
   }
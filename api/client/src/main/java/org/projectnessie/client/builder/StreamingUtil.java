@@ -15,8 +15,11 @@
  */
 package org.projectnessie.client.builder;
 
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Spliterator;
+import java.util.Spliterators.AbstractSpliterator;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -43,12 +46,33 @@ public final class StreamingUtil {
     R fetchPage(String pageToken) throws NessieNotFoundException;
   }
 
+  /**
+   * Fetches a page as a lazily consumed stream of response chunks. The chunks of a page must be
+   * read in order, the last chunk carries the paging token of the page, if any. The returned stream
+   * is closed when the page has been consumed or when the resulting stream is closed.
+   */
+  @FunctionalInterface
+  public interface ChunkFetcher<R> {
+    Stream<R> fetchChunks(String pageToken) throws NessieNotFoundException;
+  }
+
   public static <ENTRY, RESP extends PaginatedResponse> Stream<ENTRY> generateStream(
       Function<RESP, List<ENTRY>> entriesExtractor, PageFetcher<RESP> pageFetcher)
       throws NessieNotFoundException {
     return new ResultStreamPaginator<>(entriesExtractor, pageFetcher).generateStream();
   }
 
+  /**
+   * Like {@link #generateStream(Function, PageFetcher)}, but for pages that are received in
+   * multiple chunks, for example streamed responses, so entries are passed on while the rest of
+   * the page is still being received.
+   */
+  public static <ENTRY, RESP extends PaginatedResponse> Stream<ENTRY> generateStreamFromChunks(
+      Function<RESP, List<ENTRY>> entriesExtractor, ChunkFetcher<RESP> chunkFetcher)
+      throws NessieNotFoundException {
+    return new ChunkedResultStreamPaginator<>(entriesExtractor, chunkFetcher).generateStream();
+  }
+
   /**
    * Internal helper class to implement continuation token driven paging for a result stream.
    *
@@ -142,4 +166,100 @@ public final class StreamingUtil {
       return StreamSupport.stream(spliterator, false);
     }
   }
+
+  /**
+   * Internal helper class to implement continuation token driven paging for a result stream, when
+   * each page is received as a stream of chunks.
+   *
+   * @param <R> REST result chunk type
+   * @param <E> entry type
+   */
+  static final class ChunkedResultStreamPaginator<R extends PaginatedResponse, E> {
+
+    private final Function<R, List<E>> entriesFromResponse;
+    private final ChunkFetcher<R> fetcher;
+
+    ChunkedResultStreamPaginator(
+        Function<R, List<E>> entriesFromResponse, ChunkFetcher<R> fetcher) {
+      this.entriesFromResponse = entriesFromResponse;
+      this.fetcher = fetcher;
+    }
+
+    /**
+     * Constructs the stream that uses paging under the covers.
+     *
+     * <p>This implementation requests the first page eagerly to propagate {@link
+     * NessieNotFoundException}.
+     *
+     * @return stream of entries
+     * @throws NessieNotFoundException propagated from {@link ChunkFetcher#fetchChunks(String)}
+     */
+    Stream<E> generateStream() throws NessieNotFoundException {
+      Stream<R> firstPage = fetcher.fetchChunks(null);
+      ChunkSpliterator spliterator = new ChunkSpliterator(firstPage);
+      return StreamSupport.stream(spliterator, false).onClose(spliterator::closePage);
+    }
+
+    private final class ChunkSpliterator extends AbstractSpliterator<E> {
+      private Stream<R> page;
+      private Iterator<R> chunks;
+      private Iterator<E> entries = Collections.emptyIterator();
+      private String pageToken;
+      private boolean entriesInPage;
+
+      ChunkSpliterator(Stream<R> firstPage) {
+        super(Long.MAX_VALUE, 0);
+        this.page = firstPage;
+        this.chunks = firstPage.iterator();
+      }
+
+      @Override
+      public boolean tryAdvance(Consumer<? super E> action) {
+        while (!entries.hasNext()) {
+          if (chunks == null) {
+            return false;
+          }
+
+          if (chunks.hasNext()) {
+            R chunk = chunks.next();
+            entries = entriesFromResponse.apply(chunk).iterator();
+            entriesInPage |= entries.hasNext();
+            pageToken = chunk.isHasMore() ? chunk.getToken() : null;
+            continue;
+          }
+
+          // Consumed the last chunk of the current page
+          closePage();
+          if (pageToken == null) {
+            return false;
+          }
+          if (!entriesInPage) {
+            throw new IllegalStateException(
+                "Backend returned empty page, but indicates there are more results");
+          }
+
+          try {
+            page = fetcher.fetchChunks(pageToken);
+          } catch (NessieNotFoundException e) {
+            throw new RuntimeException(e);
+          }
+          chunks = page.iterator();
+          pageToken = null;
+          entriesInPage = false;
+        }
+
+        action.accept(entries.next());
+        return true;
+      }
+
+      void closePage() {
+        Stream<R> p = page;
+        page = null;
+        chunks = null;
+        if (p != null) {
+          p.close();
+        }
+      }
+    }
+  }
 }
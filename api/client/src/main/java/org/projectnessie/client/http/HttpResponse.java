@@ -53,6 +53,28 @@ public class HttpResponse {
     }
   }
 
+  /**
+   * Lazily read a sequence of entities, for example newline-delimited JSON, from the underlying
+   * HTTP response. Entities are only read from the network as the returned iterator is advanced.
+   *
+   * <p>The returned iterator must be closed to release the underlying HTTP response.
+   *
+   * @return an iterator over the entities, which is empty if the response has no content
+   * @throws HttpClientException if the response cannot be read
+   */
+  public <V> MappingIterator<V> readEntities(Class<V> clazz) {
+    ObjectReader reader = mapper.readerFor(clazz);
+    try {
+      InputStream is = responseContext.getInputStream();
+      if (is == null) {
+        return MappingIterator.emptyIterator();
+      }
+      return reader.readValues(is);
+    } catch (IOException e) {
+      throw new HttpClientException("Failed to read entities", e);
+    }
+  }
+
   private <V> V decodeEntity(ObjectReader reader, InputStream is) throws IOException {
     if (is != null) {
       CapturingInputStream capturing = new CapturingInputStream(is);
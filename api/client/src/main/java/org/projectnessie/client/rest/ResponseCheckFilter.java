@@ -59,36 +59,45 @@ public class ResponseCheckFilter {
       error = decodeErrorObject(status, is, MAPPER.reader());
     }
 
+    throw toException(status, error);
+  }
+
+  /**
+   * Maps a {@link NessieError} that has been received from the server, for example in a streamed
+   * response, to the exception that represents it on the client side.
+   *
+   * @param error the error received from the server
+   * @return the exception to throw, never {@code null}
+   */
+  public static Exception toException(NessieError error) {
+    return toException(Status.fromCode(error.getStatus()), error);
+  }
+
+  private static Exception toException(Status status, NessieError error) {
     Optional<Exception> modelException = ErrorCode.asException(error);
     if (modelException.isPresent()) {
       // expected exception reported by one of the Nessie Server API endpoints
-      throw modelException.get();
+      return modelException.get();
     }
 
     // If the error could not be identified as a Nessie-controlled error, throw a client-side
     // exception with some level of break-down by sub-class to allow for intelligent exception
     // handling on the caller side.
-    Exception exception;
     switch (status.getCode()) {
       case INTERNAL_SERVER_ERROR_CODE:
-        exception = new NessieInternalServerException(error);
-        break;
+        return new NessieInternalServerException(error);
       case SERVICE_UNAVAILABLE_CODE:
-        exception = new NessieUnavailableException(error);
-        break;
+        return new NessieUnavailableException(error);
       case UNAUTHORIZED_CODE:
         // Note: UNAUTHORIZED at this point cannot be a Nessie-controlled error.
         // It must be an error reported at a higher level HTTP service in front of the Nessie
         // Server.
-        exception = new NessieNotAuthorizedException(error);
-        break;
+        return new NessieNotAuthorizedException(error);
       default:
         // Note: Non-Nessie 404 (Not Found) errors (e.g. mistakes in Nessie URIs) will also go
         // through this code and will be reported as generic NessieServiceException.
-        exception = new NessieServiceException(error);
+        return new NessieServiceException(error);
     }
-
-    throw exception;
   }
 
   private static NessieError decodeErrorObject(
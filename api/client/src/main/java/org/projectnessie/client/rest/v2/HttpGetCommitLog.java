@@ -15,9 +15,11 @@
  */
 package org.projectnessie.client.rest.v2;
 
+import java.util.stream.Stream;
 import org.projectnessie.api.v2.params.CommitLogParams;
 import org.projectnessie.client.builder.BaseGetCommitLogBuilder;
 import org.projectnessie.client.http.HttpClient;
+import org.projectnessie.client.http.HttpRequest;
 import org.projectnessie.error.NessieNotFoundException;
 import org.projectnessie.model.FetchOption;
 import org.projectnessie.model.LogResponse;
@@ -44,6 +46,16 @@ final class HttpGetCommitLog extends BaseGetCommitLogBuilder<CommitLogParams> {
 
   @Override
   protected LogResponse get(CommitLogParams p) throws NessieNotFoundException {
+    return request(p).unwrap(NessieNotFoundException.class).get().readEntity(LogResponse.class);
+  }
+
+  @Override
+  protected Stream<LogResponse> getChunks(CommitLogParams p) throws NessieNotFoundException {
+    return NdJsonResponses.streamedChunks(
+        request(p), LogResponse.class, LogResponse::getLogEntries);
+  }
+
+  private HttpRequest request(CommitLogParams p) {
     return client
         .newRequest()
         .path("trees/{ref}/history")
@@ -54,9 +66,6 @@ final class HttpGetCommitLog extends BaseGetCommitLogBuilder<CommitLogParams> {
         .queryParam("page-token", p.pageToken())
         .queryParam("filter", p.filter())
         .queryParam("limit-hash", p.startHash())
-        .queryParam("fetch", FetchOption.getFetchOptionName(p.fetchOption()))
-        .unwrap(NessieNotFoundException.class)
-        .get()
-        .readEntity(LogResponse.class);
+        .queryParam("fetch", FetchOption.getFetchOptionName(p.fetchOption()));
   }
 }
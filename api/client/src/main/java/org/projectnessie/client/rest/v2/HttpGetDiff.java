@@ -15,6 +15,7 @@
  */
 package org.projectnessie.client.rest.v2;
 
+import java.util.stream.Stream;
 import org.projectnessie.api.v2.params.DiffParams;
 import org.projectnessie.client.builder.BaseGetDiffBuilder;
 import org.projectnessie.client.http.HttpClient;
@@ -50,6 +51,19 @@ final class HttpGetDiff extends BaseGetDiffBuilder<DiffParams> {
 
   @Override
   public DiffResponse get(DiffParams params) throws NessieNotFoundException {
+    return request(params)
+        .unwrap(NessieNotFoundException.class)
+        .get()
+        .readEntity(DiffResponse.class);
+  }
+
+  @Override
+  protected Stream<DiffResponse> getChunks(DiffParams params) throws NessieNotFoundException {
+    return NdJsonResponses.streamedChunks(
+        request(params), DiffResponse.class, DiffResponse::getDiffs);
+  }
+
+  private HttpRequest request(DiffParams params) {
     HttpRequest req =
         client
             .newRequest()
@@ -72,6 +86,6 @@ final class HttpGetDiff extends BaseGetDiffBuilder<DiffParams> {
     if (k != null) {
       req.queryParam("prefix-key", api.toPathString(k));
     }
-    return req.unwrap(NessieNotFoundException.class).get().readEntity(DiffResponse.class);
+    return req;
   }
 }
@@ -15,6 +15,7 @@
  */
 package org.projectnessie.client.rest.v2;
 
+import java.util.stream.Stream;
 import org.projectnessie.api.v2.params.EntriesParams;
 import org.projectnessie.client.api.GetEntriesBuilder;
 import org.projectnessie.client.builder.BaseGetEntriesBuilder;
@@ -57,6 +58,16 @@ final class HttpGetEntries extends BaseGetEntriesBuilder<EntriesParams> {
 
   @Override
   protected EntriesResponse get(EntriesParams p) throws NessieNotFoundException {
+    return request(p).unwrap(NessieNotFoundException.class).get().readEntity(EntriesResponse.class);
+  }
+
+  @Override
+  protected Stream<EntriesResponse> getChunks(EntriesParams p) throws NessieNotFoundException {
+    return NdJsonResponses.streamedChunks(
+        request(p), EntriesResponse.class, EntriesResponse::getEntries);
+  }
+
+  private HttpRequest request(EntriesParams p) {
     HttpRequest req =
         client
             .newRequest()
@@ -79,6 +90,6 @@ final class HttpGetEntries extends BaseGetEntriesBuilder<EntriesParams> {
     if (k != null) {
       req.queryParam("prefix-key", api.toPathString(k));
     }
-    return req.unwrap(NessieNotFoundException.class).get().readEntity(EntriesResponse.class);
+    return req;
   }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.client.rest.v2;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.projectnessie.client.http.HttpClientException;
+import org.projectnessie.client.http.HttpRequest;
+import org.projectnessie.client.rest.ResponseCheckFilter;
+import org.projectnessie.error.NessieError;
+import org.projectnessie.error.NessieNotFoundException;
+import org.projectnessie.model.PaginatedResponse;
+
+/**
+ * Reads streamed, newline-delimited JSON responses of the Nessie REST API v2.
+ *
+ * <p>Each line of a streamed response is either a response page that contains exactly one entry,
+ * or the trailing response page without entries, which carries the paging token, or an error line
+ * if the server failed to produce the response after it started streaming. The error line is an
+ * object with the single field {@value #ERROR_FIELD} containing the {@link NessieError}.
+ */
+final class NdJsonResponses {
+
+  static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+  /** Name of the only field of the error line. */
+  static final String ERROR_FIELD = "error";
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private NdJsonResponses() {}
+
+  /**
+   * Executes the given request and returns the lines of the streamed response as a lazily
+   * consumed stream of response chunks. The first line is read eagerly to propagate {@link
+   * NessieNotFoundException}. The returned stream must be closed to release the HTTP response.
+   */
+  static <R extends PaginatedResponse> Stream<R> streamedChunks(
+      HttpRequest request, Class<R> type, Function<R, List<?>> entries)
+      throws NessieNotFoundException {
+    MappingIterator<JsonNode> lines =
+        request
+            .accept(APPLICATION_NDJSON)
+            .unwrap(NessieNotFoundException.class)
+            .get()
+            .readEntities(JsonNode.class);
+    try {
+      ChunkIterator<R> chunks = new ChunkIterator<>(lines, type, entries);
+      chunks.advance();
+      Spliterator<R> spliterator = Spliterators.spliteratorUnknownSize(chunks, 0);
+      return StreamSupport.stream(spliterator, false).onClose(chunks::close);
+    } catch (RuntimeException | NessieNotFoundException e) {
+      closeQuietly(lines, e);
+      throw e;
+    }
+  }
+
+  private static void closeQuietly(MappingIterator<?> lines, Exception e) {
+    try {
+      lines.close();
+    } catch (IOException ex) {
+      e.addSuppressed(ex);
+    }
+  }
+
+  private static final class ChunkIterator<R extends PaginatedResponse> implements Iterator<R> {
+    private final MappingIterator<JsonNode> lines;
+    private final Class<R> type;
+    private final Function<R, List<?>> entries;
+    private R next;
+    private boolean finished;
+
+    ChunkIterator(MappingIterator<JsonNode> lines, Class<R> type, Function<R, List<?>> entries) {
+      this.lines = lines;
+      this.type = type;
+      this.entries = entries;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (next == null && !finished) {
+        try {
+          advance();
+        } catch (NessieNotFoundException e) {
+          throw new RuntimeException(e);
+        }
+      }
+      return next != null;
+    }
+
+    @Override
+    public R next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      R chunk = next;
+      next = null;
+      return chunk;
+    }
+
+    /** Reads the next line, lines are only read when the previous chunk has been consumed. */
+    void advance() throws NessieNotFoundException {
+      try {
+        if (!lines.hasNextValue()) {
+          throw new HttpClientException(
+              "Streamed response ended without the trailing response page");
+        }
+        JsonNode line = lines.nextValue();
+        JsonNode error = line.get(ERROR_FIELD);
+        if (error != null && line.size() == 1) {
+          throw asException(MAPPER.treeToValue(error, NessieError.class));
+        }
+        next = MAPPER.treeToValue(line, type);
+        finished = entries.apply(next).isEmpty();
+      } catch (IOException e) {
+        throw new HttpClientException("Failed to read streamed response", e);
+      }
+    }
+
+    private static NessieNotFoundException asException(NessieError error) {
+      Exception e = ResponseCheckFilter.toException(error);
+      if (e instanceof NessieNotFoundException) {
+        return (NessieNotFoundException) e;
+      }
+      if (e instanceof RuntimeException) {
+        throw (RuntimeException) e;
+      }
+      throw new HttpClientException(e);
+    }
+
+    void close() {
+      next = null;
+      finished = true;
+      try {
+        lines.close();
+      } catch (IOException e) {
+        throw new HttpClientException("Failed to close streamed response", e);
+      }
+    }
+  }
+}
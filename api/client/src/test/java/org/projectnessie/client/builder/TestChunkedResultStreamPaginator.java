@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.client.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.projectnessie.client.builder.StreamingUtil.ChunkedResultStreamPaginator;
+import org.projectnessie.error.NessieReferenceNotFoundException;
+import org.projectnessie.model.PaginatedResponse;
+
+class TestChunkedResultStreamPaginator {
+  @Test
+  void testNotFoundException() {
+    ChunkedResultStreamPaginator<MockChunk, String> paginator =
+        new ChunkedResultStreamPaginator<>(
+            MockChunk::getElements,
+            token -> {
+              throw new NessieReferenceNotFoundException("Ref not found");
+            });
+    assertThatThrownBy(paginator::generateStream)
+        .isInstanceOf(NessieReferenceNotFoundException.class)
+        .hasMessage("Ref not found");
+  }
+
+  @Test
+  void testTwoPages() throws Exception {
+    Iterator<String> expectedTokens = Arrays.asList(null, "token").iterator();
+    Iterator<List<MockChunk>> pages =
+        Arrays.asList(
+                Arrays.asList(entry("1"), entry("2"), trailer("token")),
+                Arrays.asList(entry("3"), trailer(null)))
+            .iterator();
+    AtomicInteger closed = new AtomicInteger();
+
+    ChunkedResultStreamPaginator<MockChunk, String> paginator =
+        new ChunkedResultStreamPaginator<>(
+            MockChunk::getElements,
+            token -> {
+              assertEquals(expectedTokens.next(), token);
+              return pages.next().stream().onClose(closed::incrementAndGet);
+            });
+    assertThat(paginator.generateStream()).containsExactly("1", "2", "3");
+    assertThat(closed).hasValue(2);
+  }
+
+  @Test
+  void testChunksAreConsumedLazily() throws Exception {
+    List<String> fetched = new ArrayList<>();
+    ChunkedResultStreamPaginator<MockChunk, String> paginator =
+        new ChunkedResultStreamPaginator<>(
+            MockChunk::getElements,
+            token ->
+                Stream.of("1", "2", "3", null)
+                    .peek(fetched::add)
+                    .map(e -> e != null ? entry(e) : trailer(null)));
+
+    try (Stream<String> stream = paginator.generateStream()) {
+      assertThat(stream.limit(1)).containsExactly("1");
+    }
+    assertThat(fetched).containsExactly("1");
+  }
+
+  @Test
+  void testEmptyResult() throws Exception {
+    ChunkedResultStreamPaginator<MockChunk, String> paginator =
+        new ChunkedResultStreamPaginator<>(
+            MockChunk::getElements, token -> Stream.of(trailer(null)));
+    assertThat(paginator.generateStream()).isEmpty();
+  }
+
+  @SuppressWarnings("ResultOfMethodCallIgnored")
+  @Test
+  void testEmptyResultButMoreInPage() {
+    ChunkedResultStreamPaginator<MockChunk, String> paginator =
+        new ChunkedResultStreamPaginator<>(
+            MockChunk::getElements, token -> Stream.of(trailer("x")));
+    assertThatThrownBy(() -> paginator.generateStream().collect(Collectors.toList()))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Backend returned empty page, but indicates there are more results");
+  }
+
+  private static MockChunk entry(String element) {
+    return new MockChunk(false, null, Collections.singletonList(element));
+  }
+
+  private static MockChunk trailer(String token) {
+    return new MockChunk(token != null, token, Collections.emptyList());
+  }
+
+  private static class MockChunk implements PaginatedResponse {
+    private final boolean more;
+    private final String token;
+    private final List<String> elements;
+
+    MockChunk(boolean more, String token, List<String> elements) {
+      this.more = more;
+      this.token = token;
+      this.elements = elements;
+    }
+
+    List<String> getElements() {
+      return elements;
+    }
+
+    @Override
+    public boolean isHasMore() {
+      return more;
+    }
+
+    @Nullable
+    @jakarta.annotation.Nullable
+    @Override
+    public String getToken() {
+      return token;
+    }
+  }
+}
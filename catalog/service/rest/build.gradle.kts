@@ -51,6 +51,8 @@ dependencies {
 
   implementation(libs.slf4j.api)
   implementation(libs.guava)
+  implementation(libs.caffeine)
+  implementation(libs.micrometer.core)
 
   // javax/jakarta
   compileOnly(libs.jakarta.ws.rs.api)
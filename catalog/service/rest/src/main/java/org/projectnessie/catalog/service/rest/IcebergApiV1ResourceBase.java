@@ -40,6 +40,7 @@ import com.google.common.base.Splitter;
 import io.smallrye.mutiny.Uni;
 import java.io.IOException;
 import java.net.URI;
+import java.security.Principal;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.HashMap;
@@ -97,6 +98,7 @@ abstract class IcebergApiV1ResourceBase extends AbstractCatalogResource {
   final ContentService contentService;
   final ServerConfig serverConfig;
   final LakehouseConfig lakehouseConfig;
+  final AccessContext accessContext;
 
   static final ApiContext ICEBERG_V1 = apiContext("Iceberg", 1);
 
@@ -108,11 +110,22 @@ abstract class IcebergApiV1ResourceBase extends AbstractCatalogResource {
       AccessContext accessContext) {
     this.serverConfig = serverConfig;
     this.lakehouseConfig = lakehouseConfig;
+    this.accessContext = accessContext;
     this.treeService = new TreeApiImpl(serverConfig, store, authorizer, accessContext, ICEBERG_V1);
     this.contentService =
         new ContentApiImpl(serverConfig, store, authorizer, accessContext, ICEBERG_V1);
   }
 
+  /** Name of the current principal, an empty string for anonymous requests. */
+  String principal() {
+    if (accessContext == null) {
+      return "";
+    }
+    Principal user = accessContext.user();
+    String name = user != null ? user.getName() : null;
+    return name != null ? name : "";
+  }
+
   protected Stream<EntriesResponse.Entry> listContent(
       NamespaceRef namespaceRef,
       String contentType,
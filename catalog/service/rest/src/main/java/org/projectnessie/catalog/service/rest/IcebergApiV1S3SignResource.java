@@ -65,6 +65,7 @@ public class IcebergApiV1S3SignResource extends IcebergApiV1ResourceBase {
   @Inject IcebergErrorMapper errorMapper;
   @Inject SignerKeysService signerKeysService;
   @Inject UriInfo uriInfo;
+  @Inject S3SignDecisionCache decisionCache;
 
   Clock clock = Clock.systemUTC();
 
@@ -117,6 +118,8 @@ public class IcebergApiV1S3SignResource extends IcebergApiV1ResourceBase {
         .readLocations(signerSignature.readLocations())
         .catalogService(catalogService)
         .signer(signer)
+        .principal(principal())
+        .decisionCache(decisionCache)
         .build()
         .verifyAndSign();
   }
@@ -163,6 +166,8 @@ public class IcebergApiV1S3SignResource extends IcebergApiV1ResourceBase {
         .readLocations(readLocations)
         .catalogService(catalogService)
         .signer(signer)
+        .principal(principal())
+        .decisionCache(decisionCache)
         .build()
         .verifyAndSign();
   }
@@ -37,6 +37,8 @@ import static org.projectnessie.catalog.formats.iceberg.rest.IcebergMetadataUpda
 import static org.projectnessie.catalog.formats.iceberg.rest.IcebergMetadataUpdate.SetDefaultSortOrder.setDefaultSortOrder;
 import static org.projectnessie.catalog.formats.iceberg.rest.IcebergMetadataUpdate.SetProperties.setProperties;
 import static org.projectnessie.catalog.formats.iceberg.rest.IcebergMetadataUpdate.UpgradeFormatVersion.upgradeFormatVersion;
+import static org.projectnessie.catalog.service.rest.LoadTableResponseCache.ifNoneMatch;
+import static org.projectnessie.catalog.service.rest.TableMetricsReport.tableMetricsReport;
 import static org.projectnessie.catalog.service.rest.TableRef.tableRef;
 import static org.projectnessie.model.Content.Type.ICEBERG_TABLE;
 import static org.projectnessie.model.Reference.ReferenceType.BRANCH;
@@ -61,10 +63,13 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -98,6 +103,8 @@ import org.projectnessie.catalog.service.api.SnapshotResponse;
 import org.projectnessie.catalog.service.config.LakehouseConfig;
 import org.projectnessie.catalog.service.config.WarehouseConfig;
 import org.projectnessie.catalog.service.rest.IcebergErrorMapper.IcebergEntityKind;
+import org.projectnessie.catalog.service.rest.LoadTableResponseCache.LoadTableResponseKey;
+import org.projectnessie.catalog.service.rest.LoadTableResponseCache.SerializedLoadTableResponse;
 import org.projectnessie.error.NessieContentNotFoundException;
 import org.projectnessie.error.NessieNotFoundException;
 import org.projectnessie.model.Branch;
@@ -127,6 +134,8 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
 
   @Inject IcebergConfigurer icebergConfigurer;
   @Inject IcebergErrorMapper errorMapper;
+  @Inject LoadTableResponseCache loadTableResponseCache;
+  @Inject MetricsReportQueue metricsReportQueue;
 
   public IcebergApiV1TableResource() {
     this(null, null, null, null, null);
@@ -151,22 +160,92 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
   @GET
   @Path("/v1/{prefix}/namespaces/{namespace}/tables/{table}")
   @Blocking
-  public Uni<IcebergLoadTableResponse> loadTable(
+  public Uni<Response> loadTable(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
       @PathParam("table") String table,
       @QueryParam("snapshots") String snapshots,
-      @HeaderParam("X-Iceberg-Access-Delegation") String dataAccess)
+      @HeaderParam("X-Iceberg-Access-Delegation") String dataAccess,
+      @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch)
       throws IOException {
 
     TableRef tableRef = decodeTableRef(prefix, namespace, table);
 
-    return this.loadTable(tableRef, prefix, dataAccess, false);
+    return this.loadTable(
+        tableRef,
+        (snap, warehouseLocation, key) ->
+            conditionalLoadTableResponse(
+                snap, warehouseLocation, prefix, key, dataAccess, ifNoneMatch));
+  }
+
+  /**
+   * Produces the load-table response for the {@code loadTable} endpoint. Responds with {@code 304
+   * Not Modified}, if the client already has the current response, as indicated by the {@code
+   * If-None-Match} request header. The serialized response body is served from {@link
+   * LoadTableResponseCache}, if possible.
+   */
+  private Response conditionalLoadTableResponse(
+      SnapshotResponse snap,
+      String warehouseLocation,
+      String prefix,
+      ContentKey contentKey,
+      String dataAccess,
+      String ifNoneMatch) {
+    boolean writeAccessGranted = hasWriteAccess(snap, contentKey);
+    IcebergTable content = (IcebergTable) snap.content();
+
+    LoadTableResponseKey responseKey =
+        ImmutableLoadTableResponseKey.builder()
+            .principal(principal())
+            .key(contentKey)
+            .prefix(prefix)
+            .warehouseLocation(warehouseLocation)
+            .snapshotId(snap.nessieSnapshot().id().toString())
+            .contentId(requireNonNull(content.getId()))
+            .metadataLocation(content.getMetadataLocation())
+            .dataAccess(dataAccess)
+            .writeAccessGranted(writeAccessGranted)
+            .build();
+
+    SerializedLoadTableResponse serialized =
+        loadTableResponseCache.get(
+            responseKey,
+            () ->
+                loadTableResultFromSnapshot(
+                    snap,
+                    IcebergLoadTableResponse.builder(),
+                    warehouseLocation,
+                    prefix,
+                    contentKey,
+                    dataAccess,
+                    writeAccessGranted));
+
+    EntityTag entityTag = new EntityTag(serialized.etag());
+    if (ifNoneMatch(ifNoneMatch, serialized.etag())) {
+      return Response.notModified(entityTag).build();
+    }
+    return Response.ok(serialized.body(), MediaType.APPLICATION_JSON_TYPE).tag(entityTag).build();
   }
 
   private Uni<IcebergLoadTableResponse> loadTable(
       TableRef tableRef, String prefix, String dataAccess, boolean writeAccessValidated)
       throws NessieNotFoundException {
+    return loadTable(
+        tableRef,
+        (snap, warehouseLocation, key) ->
+            loadTableResultFromSnapshotResponse(
+                snap,
+                IcebergLoadTableResponse.builder(),
+                warehouseLocation,
+                prefix,
+                key,
+                dataAccess,
+                writeAccessValidated));
+  }
+
+  /** Retrieves the snapshot of the referenced table and maps it using the given function. */
+  private <R> Uni<R> loadTable(TableRef tableRef, LoadTableFunction<R> loadTableFunction)
+      throws NessieNotFoundException {
     ContentKey key = tableRef.contentKey();
 
     WarehouseConfig warehouse = lakehouseConfig.catalog().getWarehouse(tableRef.warehouse());
@@ -176,16 +255,12 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
             SnapshotReqParams.forSnapshotHttpReq(tableRef.reference(), "iceberg", null),
             ICEBERG_TABLE,
             ICEBERG_V1)
-        .map(
-            snap ->
-                loadTableResultFromSnapshotResponse(
-                    snap,
-                    IcebergLoadTableResponse.builder(),
-                    warehouse.location(),
-                    prefix,
-                    key,
-                    dataAccess,
-                    writeAccessValidated));
+        .map(snap -> loadTableFunction.apply(snap, warehouse.location(), key));
+  }
+
+  @FunctionalInterface
+  private interface LoadTableFunction<R> {
+    R apply(SnapshotResponse snap, String warehouseLocation, ContentKey key);
   }
 
   private <R extends IcebergLoadTableResult, B extends IcebergLoadTableResult.Builder<R, B>>
@@ -197,6 +272,27 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
           ContentKey contentKey,
           String dataAccess,
           boolean writeAccessValidated) {
+    // Check whether the current user has write access to the table, if that hasn't been already
+    // checked by the caller.
+    return loadTableResultFromSnapshot(
+        snap,
+        builder,
+        warehouseLocation,
+        prefix,
+        contentKey,
+        dataAccess,
+        writeAccessValidated || hasWriteAccess(snap, contentKey));
+  }
+
+  private <R extends IcebergLoadTableResult, B extends IcebergLoadTableResult.Builder<R, B>>
+      R loadTableResultFromSnapshot(
+          SnapshotResponse snap,
+          B builder,
+          String warehouseLocation,
+          String prefix,
+          ContentKey contentKey,
+          String dataAccess,
+          boolean writeAccessGranted) {
     IcebergTableMetadata tableMetadata =
         (IcebergTableMetadata)
             snap.entityObject()
@@ -210,21 +306,6 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
     }
     IcebergTable content = (IcebergTable) snap.content();
 
-    if (!writeAccessValidated) {
-      // Check whether the current user has write access to the table, if that hasn't been already
-      // checked by the caller.
-      try {
-        contentService.getContent(
-            contentKey,
-            snap.effectiveReference().getName(),
-            snap.effectiveReference().getHash(),
-            false,
-            API_WRITE);
-        writeAccessValidated = true;
-      } catch (Exception ignore) {
-      }
-    }
-
     return loadTableResult(
         content.getMetadataLocation(),
         snap.nessieSnapshot(),
@@ -234,7 +315,21 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
         prefix,
         contentKey,
         dataAccess,
-        writeAccessValidated);
+        writeAccessGranted);
+  }
+
+  private boolean hasWriteAccess(SnapshotResponse snap, ContentKey contentKey) {
+    try {
+      contentService.getContent(
+          contentKey,
+          snap.effectiveReference().getName(),
+          snap.effectiveReference().getHash(),
+          false,
+          API_WRITE);
+      return true;
+    } catch (Exception ignore) {
+      return false;
+    }
   }
 
   private <R extends IcebergLoadTableResult, B extends IcebergLoadTableResult.Builder<R, B>>
@@ -584,8 +679,9 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
   }
 
   private void pushMetrics(TableRef tableRef, IcebergMetricsReport report) {
-    // TODO push metrics to "somewhere".
-    // TODO note that metrics for "staged tables" are also received, even if those do not yet exist
+    // Note that metrics for "staged tables" are also received, even if those do not yet exist.
+    // The report is dropped, if the queue is full, the request thread must never wait here.
+    metricsReportQueue.offer(tableMetricsReport(tableRef, Instant.now(), report));
   }
 
   @Operation(operationId = "iceberg.v1.updateTable")
@@ -24,10 +24,11 @@ import static org.projectnessie.catalog.formats.iceberg.rest.IcebergError.iceber
 import static org.projectnessie.catalog.formats.iceberg.rest.IcebergS3SignResponse.icebergS3SignResponse;
 import static org.projectnessie.catalog.service.rest.IcebergApiV1ResourceBase.ICEBERG_V1;
 import static org.projectnessie.catalog.service.rest.IcebergConfigurer.icebergWriteLocation;
+import static org.projectnessie.catalog.service.rest.S3SignDecisionCache.S3SignDecision.s3SignDecision;
+import static org.projectnessie.catalog.service.rest.S3SignDecisionCache.noopDecisionCache;
 import static org.projectnessie.versioned.RequestMeta.apiRead;
 import static org.projectnessie.versioned.RequestMeta.apiWrite;
 
-import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.ws.rs.core.Response.Status;
 import java.net.URI;
@@ -36,6 +37,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.immutables.value.Value;
 import org.immutables.value.Value.Check;
@@ -51,6 +53,8 @@ import org.projectnessie.catalog.model.snapshot.NessieEntitySnapshot;
 import org.projectnessie.catalog.service.api.CatalogService;
 import org.projectnessie.catalog.service.api.SnapshotReqParams;
 import org.projectnessie.catalog.service.api.SnapshotResponse;
+import org.projectnessie.catalog.service.rest.S3SignDecisionCache.S3SignDecision;
+import org.projectnessie.catalog.service.rest.S3SignDecisionCache.S3SignDecisionKey;
 import org.projectnessie.error.NessieContentNotFoundException;
 import org.projectnessie.error.NessieNotFoundException;
 import org.projectnessie.model.Content;
@@ -81,6 +85,17 @@ abstract class IcebergS3SignParams {
 
   abstract RequestSigner signer();
 
+  /** Name of the principal requesting the signature, part of the decision cache key. */
+  @Value.Default
+  String principal() {
+    return "";
+  }
+
+  @Value.Default
+  S3SignDecisionCache decisionCache() {
+    return noopDecisionCache();
+  }
+
   @Check
   void check() {
     checkArgument(
@@ -103,17 +118,51 @@ abstract class IcebergS3SignParams {
   }
 
   Uni<IcebergS3SignResponse> verifyAndSign() {
+    S3SignDecisionCache cache = decisionCache();
+    S3SignDecisionKey decisionKey = null;
+    // Write decisions are never cached: the metadata location that must not be signed for writes
+    // changes with every commit, a cached decision would allow signing the new current metadata
+    // location until it expires.
+    if (cache.isEnabled() && !write()) {
+      decisionKey =
+          ImmutableS3SignDecisionKey.builder()
+              .principal(principal())
+              .ref(ref())
+              .key(key())
+              .warehouseLocation(warehouseLocation())
+              .writeLocations(writeLocations())
+              .readLocations(readLocations())
+              .build();
+      S3SignDecision cached = cache.get(decisionKey);
+      if (cached != null) {
+        return Uni.createFrom().item(cached).map(this::checkAndSign);
+      }
+    }
+
+    S3SignDecisionKey k = decisionKey;
     return fetchSnapshot()
-        .call(this::checkForbiddenLocations)
-        .onItem()
-        .transformToMulti(this::collectAllowedLocations)
-        .filter(this::checkLocation)
-        .toUni()
-        .onItem()
-        .ifNull()
-        .failWith(this::unauthorized)
-        .replaceWith(request().uri())
-        .map(this::sign);
+        .map(
+            snapshotResponse -> {
+              S3SignDecision decision = decide(snapshotResponse.orElse(null));
+              // Only cache decisions that are based on an existing entity, a failed or missing
+              // snapshot must be re-evaluated.
+              if (k != null && snapshotResponse.isPresent()) {
+                cache.put(k, decision);
+              }
+              return decision;
+            })
+        .map(this::checkAndSign);
+  }
+
+  private IcebergS3SignResponse checkAndSign(S3SignDecision decision) {
+    String requested = requestedS3Uri();
+    if (decision.forbiddenLocation().filter(requested::equals).isPresent()) {
+      throw unauthorized();
+    }
+    if (decision.allowedLocations().stream().noneMatch(this::checkLocation)) {
+      throw unauthorized();
+    }
+    return sign(request().uri());
   }
 
   private boolean checkLocation(String location) {
@@ -147,7 +196,11 @@ abstract class IcebergS3SignParams {
     return requestedPath.startsWith(locationPath);
   }
 
-  private Uni<SnapshotResponse> fetchSnapshot() {
+  /**
+   * Fetches the snapshot, yields an empty optional, if the content does not exist or cannot be
+   * imported.
+   */
+  private Uni<Optional<SnapshotResponse>> fetchSnapshot() {
     try {
       RequestMetaBuilder requestMeta = write() ? apiWrite() : apiRead();
       requestMeta.addKeyAction(key(), CATALOG_S3_SIGN.name());
@@ -161,84 +214,86 @@ abstract class IcebergS3SignParams {
                   ICEBERG_V1);
       // consider an import failure as a non-existing content:
       // signing will be authorized for the future location only.
-      return Uni.createFrom().completionStage(stage).onFailure().recoverWithNull();
+      return Uni.createFrom()
+          .completionStage(stage)
+          .map(Optional::ofNullable)
+          .onFailure()
+          .recoverWithItem(Optional.empty());
     } catch (NessieContentNotFoundException ignored) {
-      return Uni.createFrom().nullItem();
+      return Uni.createFrom().item(Optional.empty());
     } catch (NessieNotFoundException e) {
       return Uni.createFrom().failure(e);
     }
   }
 
-  private Uni<?> checkForbiddenLocations(SnapshotResponse snapshotResponse) {
+  private S3SignDecision decide(SnapshotResponse snapshotResponse) {
+    return s3SignDecision(
+        collectAllowedLocations(snapshotResponse), forbiddenLocation(snapshotResponse));
+  }
+
+  private Optional<String> forbiddenLocation(SnapshotResponse snapshotResponse) {
     if (snapshotResponse != null && write()) {
       Content content = snapshotResponse.content();
       // TODO disallow all table and view metadata objects, not only the metadata json location
-      String metadataLocation = null;
       if (content instanceof IcebergContent) {
-        metadataLocation = ((IcebergContent) content).getMetadataLocation();
-      }
-      if (metadataLocation != null
-          && requestedS3Uri().equals(normalizeS3Scheme(metadataLocation))) {
-        return Uni.createFrom().failure(unauthorized());
+        String metadataLocation = ((IcebergContent) content).getMetadataLocation();
+        if (metadataLocation != null) {
+          return Optional.of(normalizeS3Scheme(metadataLocation));
+        }
       }
     }
-    return Uni.createFrom().item(snapshotResponse);
+    return Optional.empty();
   }
 
-  private Multi<String> collectAllowedLocations(SnapshotResponse snapshotResponse) {
+  /** Collects the allowed location prefixes, returns an empty list if nothing is allowed. */
+  private List<String> collectAllowedLocations(SnapshotResponse snapshotResponse) {
     if (snapshotResponse == null) {
       // table does not exist - nothing to write to, nothing to read from
-      return Multi.createFrom()
-          .items(Stream.concat(writeLocations().stream(), readLocations().stream()));
+      return Stream.concat(writeLocations().stream(), readLocations().stream())
+          .collect(Collectors.toList());
+    }
+
+    NessieEntitySnapshot<?> snapshot = snapshotResponse.nessieSnapshot();
+    // table exists: collect all locations, current and historical
+
+    // check the base location sent with the request matches the current
+    // iceberg location (see IcebergConfigurer: they must match)
+    List<String> expectedBaseLocations = new ArrayList<>();
+    String location = normalizeS3Scheme(requireNonNull(snapshot.icebergLocation()));
+    expectedBaseLocations.add(location);
+
+    String writeLocation = icebergWriteLocation(snapshot.properties());
+    if (writeLocation != null) {
+      writeLocation = normalizeS3Scheme(writeLocation);
+      if (!writeLocation.startsWith(location)) {
+        expectedBaseLocations.add(writeLocation);
+      }
+    }
+
+    if (write()) {
+      for (String baseLocation : writeLocations()) {
+        if (expectedBaseLocations.contains(baseLocation)) {
+          return List.of(baseLocation);
+        }
+      }
     } else {
-      NessieEntitySnapshot<?> snapshot = snapshotResponse.nessieSnapshot();
-      // table exists: collect all locations, current and historical
-      return Multi.createFrom()
-          .emitter(
-              e -> {
-                // check the base location sent with the request matches the current
-                // iceberg location (see IcebergConfigurer: they must match)
-                List<String> expectedBaseLocations = new ArrayList<>();
-                String location = normalizeS3Scheme(requireNonNull(snapshot.icebergLocation()));
-                expectedBaseLocations.add(location);
-
-                String writeLocation = icebergWriteLocation(snapshot.properties());
-                if (writeLocation != null) {
-                  writeLocation = normalizeS3Scheme(writeLocation);
-                  if (!writeLocation.startsWith(location)) {
-                    expectedBaseLocations.add(writeLocation);
-                  }
-                }
-
-                if (write()) {
-                  for (String baseLocation : writeLocations()) {
-                    if (expectedBaseLocations.contains(baseLocation)) {
-                      e.emit(baseLocation);
-                      e.complete();
-                      return;
-                    }
-                  }
-                } else {
-                  Iterator<String> locations =
-                      Stream.concat(writeLocations().stream(), readLocations().stream()).iterator();
-                  while (locations.hasNext()) {
-                    String baseLocation = locations.next();
-                    if (expectedBaseLocations.contains(baseLocation)) {
-                      e.emit(baseLocation);
-                      // Allow reading from ancient locations, but only allow writes to the current
-                      // location
-                      for (String s : snapshot.additionalKnownLocations()) {
-                        e.emit(normalizeS3Scheme(s));
-                      }
-                      e.complete();
-                      return;
-                    }
-                  }
-                }
-
-                e.fail(unauthorized());
-              });
+      Iterator<String> locations =
+          Stream.concat(writeLocations().stream(), readLocations().stream()).iterator();
+      while (locations.hasNext()) {
+        String baseLocation = locations.next();
+        if (expectedBaseLocations.contains(baseLocation)) {
+          List<String> allowed = new ArrayList<>();
+          allowed.add(baseLocation);
+          // Allow reading from ancient locations, but only allow writes to the current location
+          for (String s : snapshot.additionalKnownLocations()) {
+            allowed.add(normalizeS3Scheme(s));
+          }
+          return allowed;
+        }
+      }
     }
+
+    return List.of();
   }
 
   private IcebergS3SignResponse sign(String uriToSign) {
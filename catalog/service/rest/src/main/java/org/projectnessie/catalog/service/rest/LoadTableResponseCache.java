@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.service.rest;
+
+import static java.util.Collections.singletonList;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import com.google.common.hash.Hashing;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CaffeineStatsCounter;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import org.projectnessie.catalog.formats.iceberg.rest.IcebergLoadTableResponse;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.nessie.immutables.NessieImmutable;
+
+/**
+ * Serializes Iceberg load-table responses, computes their entity tags and caches the serialized
+ * response bodies for a short time.
+ *
+ * <p>The entity tag is a hash over the serialized response body, so it changes whenever the
+ * response changes, including changes to time-limited information like S3 signer parameters or
+ * vended credentials. Cached response bodies expire after a short time, so clients get a new
+ * response with new time-limited information after that time.
+ */
+public class LoadTableResponseCache {
+  public static final String CACHE_NAME = "iceberg-load-table-responses";
+
+  private final ObjectMapper objectMapper;
+  private final Cache<LoadTableResponseKey, SerializedLoadTableResponse> responses;
+
+  public LoadTableResponseCache(
+      Duration ttl, long capacityMb, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    this.objectMapper = objectMapper;
+    this.responses =
+        ttl.isZero() || ttl.isNegative() || capacityMb <= 0
+            ? null
+            : Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumWeight(capacityMb * 1024L * 1024L)
+                .weigher(
+                    (LoadTableResponseKey k, SerializedLoadTableResponse v) -> v.body().length)
+                .recordStats(() -> statsCounter(Optional.ofNullable(meterRegistry), capacityMb))
+                .build();
+  }
+
+  /** Returns a cache instance that only serializes responses, but does not cache them. */
+  public static LoadTableResponseCache noopLoadTableResponseCache(ObjectMapper objectMapper) {
+    return new LoadTableResponseCache(Duration.ZERO, 0L, objectMapper, null);
+  }
+
+  boolean isEnabled() {
+    return responses != null;
+  }
+
+  /**
+   * Returns the cached serialized response for the given key or serializes and caches the response
+   * provided by {@code loader}.
+   */
+  SerializedLoadTableResponse get(
+      LoadTableResponseKey key, Supplier<IcebergLoadTableResponse> loader) {
+    if (responses == null) {
+      return serialize(loader.get());
+    }
+    return responses.get(key, k -> serialize(loader.get()));
+  }
+
+  private SerializedLoadTableResponse serialize(IcebergLoadTableResponse response) {
+    try {
+      byte[] body = objectMapper.writeValueAsBytes(response);
+      String etag = Hashing.sha256().hashBytes(body).toString();
+      return SerializedLoadTableResponse.serializedLoadTableResponse(body, etag);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Checks whether the value of an {@code If-None-Match} request header matches the given (opaque,
+   * unquoted) entity tag, using the weak comparison defined by RFC 9110.
+   */
+  static boolean ifNoneMatch(@Nullable String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    for (String tag : ifNoneMatch.split(",")) {
+      tag = tag.trim();
+      if (tag.equals("*")) {
+        return true;
+      }
+      if (tag.startsWith("W/")) {
+        tag = tag.substring(2);
+      }
+      if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+        tag = tag.substring(1, tag.length() - 1);
+      }
+      if (tag.equals(etag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static StatsCounter statsCounter(Optional<MeterRegistry> meterRegistry, long capacityMb) {
+    if (meterRegistry.isPresent()) {
+      meterRegistry
+          .get()
+          .gauge(
+              "cache_capacity_mb",
+              singletonList(Tag.of("cache", CACHE_NAME)),
+              "",
+              x -> capacityMb);
+
+      return new CaffeineStatsCounter(meterRegistry.get(), CACHE_NAME);
+    }
+    return StatsCounter.disabledStatsCounter();
+  }
+
+  /** Identifies a load-table response, contains everything the response depends on. */
+  @NessieImmutable
+  interface LoadTableResponseKey {
+    String principal();
+
+    ContentKey key();
+
+    String prefix();
+
+    String warehouseLocation();
+
+    /** ID of the Nessie table snapshot. */
+    String snapshotId();
+
+    String contentId();
+
+    String metadataLocation();
+
+    @Nullable
+    String dataAccess();
+
+    boolean writeAccessGranted();
+  }
+
+  /** A serialized load-table response and its entity tag. */
+  @NessieImmutable
+  interface SerializedLoadTableResponse {
+    byte[] body();
+
+    String etag();
+
+    static SerializedLoadTableResponse serializedLoadTableResponse(byte[] body, String etag) {
+      return ImmutableSerializedLoadTableResponse.builder().body(body).etag(etag).build();
+    }
+  }
+}
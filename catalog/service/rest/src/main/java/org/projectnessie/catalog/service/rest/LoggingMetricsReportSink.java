@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.service.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.List;
+import org.projectnessie.api.v2.params.ParsedReference;
+import org.projectnessie.catalog.formats.iceberg.meta.IcebergJson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes each Iceberg metrics report as a single JSON line to the {@value #LOGGER_NAME} logger.
+ * Configure a dedicated log handler for that logger to persist the reports to a file.
+ */
+public class LoggingMetricsReportSink implements MetricsReportSink {
+  public static final String LOGGER_NAME = "org.projectnessie.catalog.metrics-reports";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(LOGGER_NAME);
+
+  private final ObjectMapper objectMapper = IcebergJson.objectMapper();
+
+  @Override
+  public void report(List<TableMetricsReport> reports) {
+    if (!LOGGER.isInfoEnabled()) {
+      return;
+    }
+    for (TableMetricsReport report : reports) {
+      LOGGER.info("{}", toJson(report));
+    }
+  }
+
+  String toJson(TableMetricsReport report) {
+    TableRef tableRef = report.tableRef();
+    ObjectNode node = objectMapper.createObjectNode();
+    node.put("received", report.received().toString());
+    node.put("warehouse", tableRef.warehouse());
+    ParsedReference ref = tableRef.reference();
+    if (ref != null) {
+      node.put("reference", ref.name());
+      node.put("hash", ref.hashWithRelativeSpec());
+    }
+    node.put("table", tableRef.contentKey().toString());
+    node.set("report", objectMapper.valueToTree(report.report()));
+    try {
+      return objectMapper.writeValueAsString(node);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "log";
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.service.rest;
+
+import static java.util.Collections.emptyList;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded queue for Iceberg metrics reports that decouples the REST request threads from the
+ * {@link MetricsReportSink}s.
+ *
+ * <p>{@link #offer(TableMetricsReport)} never blocks, reports are dropped if the queue is full. A
+ * single background thread collects reports into batches, a batch is complete when it has reached
+ * the configured batch size or when the configured maximum batch delay has elapsed after the first
+ * report of the batch has been received, and passes each batch to all sinks.
+ */
+public class MetricsReportQueue implements AutoCloseable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(MetricsReportQueue.class);
+
+  public static final String METRIC_REPORTS = "nessie.catalog.metrics-reports";
+  public static final String METRIC_QUEUE_SIZE = "nessie.catalog.metrics-reports.queue-size";
+
+  private static final long IDLE_POLL_MILLIS = 100L;
+
+  private final BlockingQueue<TableMetricsReport> queue;
+  private final List<MetricsReportSink> sinks;
+  private final int batchSize;
+  private final long maxBatchDelayNanos;
+  private final Thread dispatcher;
+
+  private final LongAdder accepted = new LongAdder();
+  private final LongAdder dropped = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+
+  private volatile boolean closed;
+
+  public MetricsReportQueue(
+      int capacity,
+      int batchSize,
+      Duration maxBatchDelay,
+      List<MetricsReportSink> sinks,
+      @Nullable MeterRegistry meterRegistry) {
+    this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+    this.sinks = List.copyOf(sinks);
+    this.batchSize = Math.max(1, batchSize);
+    this.maxBatchDelayNanos = maxBatchDelay.toNanos();
+
+    if (meterRegistry != null) {
+      registerMetrics(meterRegistry);
+    }
+
+    this.dispatcher = new Thread(this::dispatchLoop, "nessie-metrics-reports");
+    this.dispatcher.setDaemon(true);
+    if (!this.sinks.isEmpty()) {
+      this.dispatcher.start();
+    }
+  }
+
+  /**
+   * Enqueues a report without blocking.
+   *
+   * @return {@code true} if the report has been enqueued, {@code false} if it has been dropped,
+   *     because the queue is full, the queue has been closed or no sinks are configured
+   */
+  public boolean offer(TableMetricsReport report) {
+    if (closed || sinks.isEmpty() || !queue.offer(report)) {
+      dropped.increment();
+      return false;
+    }
+    accepted.increment();
+    return true;
+  }
+
+  /** Number of reports that have been enqueued. */
+  public long acceptedReports() {
+    return accepted.sum();
+  }
+
+  /**
+   * Number of reports that have been dropped, because the queue was full, the queue has been closed
+   * or no sinks are configured.
+   */
+  public long droppedReports() {
+    return dropped.sum();
+  }
+
+  /** Number of reports for which a sink failed. */
+  public long failedReports() {
+    return failed.sum();
+  }
+
+  /** Current number of queued reports. */
+  public int queueSize() {
+    return queue.size();
+  }
+
+  /** Stops accepting new reports and waits a short time until the queued reports are processed. */
+  @Override
+  public void close() {
+    closed = true;
+    if (dispatcher.isAlive()) {
+      try {
+        dispatcher.join(TimeUnit.SECONDS.toMillis(10));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      dispatcher.interrupt();
+    }
+  }
+
+  private void dispatchLoop() {
+    try {
+      while (true) {
+        List<TableMetricsReport> batch = nextBatch();
+        if (batch.isEmpty()) {
+          if (closed) {
+            break;
+          }
+          continue;
+        }
+        dispatch(batch);
+      }
+    } catch (InterruptedException e) {
+      LOGGER.debug("Metrics reports dispatcher interrupted, {} reports not processed", queueSize());
+    }
+  }
+
+  private List<TableMetricsReport> nextBatch() throws InterruptedException {
+    TableMetricsReport first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+    if (first == null) {
+      return emptyList();
+    }
+
+    List<TableMetricsReport> batch = new ArrayList<>(batchSize);
+    batch.add(first);
+    long deadline = System.nanoTime() + maxBatchDelayNanos;
+    while (batch.size() < batchSize) {
+      queue.drainTo(batch, batchSize - batch.size());
+      if (batch.size() >= batchSize || closed) {
+        break;
+      }
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0L) {
+        break;
+      }
+      TableMetricsReport next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+      if (next == null) {
+        break;
+      }
+      batch.add(next);
+    }
+    return batch;
+  }
+
+  private void dispatch(List<TableMetricsReport> batch) {
+    for (MetricsReportSink sink : sinks) {
+      try {
+        sink.report(batch);
+      } catch (RuntimeException e) {
+        failed.add(batch.size());
+        LOGGER.warn("Metrics report sink {} failed to process {} reports", sink, batch.size(), e);
+      }
+    }
+  }
+
+  private void registerMetrics(MeterRegistry meterRegistry) {
+    FunctionCounter.builder(METRIC_REPORTS, accepted, LongAdder::sum)
+        .tag("result", "accepted")
+        .description("Number of Iceberg metrics reports accepted by the queue")
+        .register(meterRegistry);
+    FunctionCounter.builder(METRIC_REPORTS, dropped, LongAdder::sum)
+        .tag("result", "dropped")
+        .description(
+            "Number of Iceberg metrics reports dropped, because the queue was full, "
+                + "the queue has been closed or no sinks are configured")
+        .register(meterRegistry);
+    FunctionCounter.builder(METRIC_REPORTS, failed, LongAdder::sum)
+        .tag("result", "failed")
+        .description("Number of Iceberg metrics reports a sink failed to process")
+        .register(meterRegistry);
+    Gauge.builder(METRIC_QUEUE_SIZE, queue, BlockingQueue::size)
+        .description("Number of queued Iceberg metrics reports")
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.service.rest;
+
+import java.util.List;
+
+/**
+ * Receives the Iceberg metrics reports sent by clients to the Iceberg REST {@code metrics}
+ * endpoint.
+ *
+ * <p>Sinks are invoked by {@link MetricsReportQueue} from a single background thread, never from a
+ * request thread, with batches of reports that have been received within a short time window.
+ * Implementations do not need to be thread-safe, but must not block for a long time, because new
+ * reports are dropped while the queue is full.
+ */
+public interface MetricsReportSink {
+
+  /** Processes a batch of metrics reports, the list is never empty. */
+  void report(List<TableMetricsReport> reports);
+}
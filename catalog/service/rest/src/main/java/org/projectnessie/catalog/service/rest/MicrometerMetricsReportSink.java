@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.service.rest;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+import org.projectnessie.catalog.formats.iceberg.metrics.IcebergCommitMetricsResult;
+import org.projectnessie.catalog.formats.iceberg.metrics.IcebergCommitReport;
+import org.projectnessie.catalog.formats.iceberg.metrics.IcebergCounterResult;
+import org.projectnessie.catalog.formats.iceberg.metrics.IcebergMetricsReport;
+import org.projectnessie.catalog.formats.iceberg.metrics.IcebergScanMetricsResult;
+import org.projectnessie.catalog.formats.iceberg.metrics.IcebergScanReport;
+import org.projectnessie.catalog.formats.iceberg.metrics.IcebergTimerResult;
+import org.projectnessie.catalog.formats.iceberg.metrics.IcebergUnit;
+
+/**
+ * Records the values of Iceberg scan and commit reports in Micrometer timers and distribution
+ * summaries with percentile histograms, tagged with the warehouse and, if enabled, the table.
+ *
+ * <p>Per-table tags make it possible to find slow tables, but result in a high number of time
+ * series for catalogs with many tables.
+ */
+public class MicrometerMetricsReportSink implements MetricsReportSink {
+  public static final String SCAN_PREFIX = "nessie.iceberg.scan.";
+  public static final String COMMIT_PREFIX = "nessie.iceberg.commit.";
+
+  private final MeterRegistry meterRegistry;
+  private final boolean tableTag;
+
+  public MicrometerMetricsReportSink(MeterRegistry meterRegistry, boolean tableTag) {
+    this.meterRegistry = meterRegistry;
+    this.tableTag = tableTag;
+  }
+
+  @Override
+  public void report(List<TableMetricsReport> reports) {
+    // Group the reports of a batch per table, so the meters of a table are looked up only once per
+    // batch.
+    Map<Tags, TableMeters> tables = new HashMap<>();
+    for (TableMetricsReport report : reports) {
+      TableMeters meters = tables.computeIfAbsent(tags(report.tableRef()), TableMeters::new);
+      IcebergMetricsReport metricsReport = report.report();
+      if (metricsReport instanceof IcebergScanReport) {
+        meters.scan(((IcebergScanReport) metricsReport).metrics());
+      } else if (metricsReport instanceof IcebergCommitReport) {
+        meters.commit(((IcebergCommitReport) metricsReport).metrics());
+      }
+    }
+  }
+
+  private Tags tags(TableRef tableRef) {
+    String warehouse = tableRef.warehouse();
+    Tags tags = Tags.of("warehouse", warehouse != null ? warehouse : "");
+    return tableTag ? tags.and("table", tableRef.contentKey().toString()) : tags;
+  }
+
+  @Override
+  public String toString() {
+    return "micrometer";
+  }
+
+  private final class TableMeters {
+    private final Tags tags;
+    private final Map<String, Timer> timers = new HashMap<>();
+    private final Map<String, DistributionSummary> summaries = new HashMap<>();
+
+    TableMeters(Tags tags) {
+      this.tags = tags;
+    }
+
+    void scan(IcebergScanMetricsResult metrics) {
+      record(SCAN_PREFIX + "planning-duration", metrics.totalPlanningDuration());
+      record(SCAN_PREFIX + "result-data-files", metrics.resultDataFiles());
+      record(SCAN_PREFIX + "result-delete-files", metrics.resultDeleteFiles());
+      record(SCAN_PREFIX + "scanned-data-manifests", metrics.scannedDataManifests());
+      record(SCAN_PREFIX + "skipped-data-manifests", metrics.skippedDataManifests());
+      record(SCAN_PREFIX + "skipped-data-files", metrics.skippedDataFiles());
+      record(SCAN_PREFIX + "total-file-size", metrics.totalFileSizeInBytes());
+    }
+
+    void commit(IcebergCommitMetricsResult metrics) {
+      record(COMMIT_PREFIX + "duration", metrics.totalDuration());
+      record(COMMIT_PREFIX + "attempts", metrics.attempts());
+      record(COMMIT_PREFIX + "added-data-files", metrics.addedDataFiles());
+      record(COMMIT_PREFIX + "removed-data-files", metrics.removedDataFiles());
+      record(COMMIT_PREFIX + "added-delete-files", metrics.addedDeleteFiles());
+      record(COMMIT_PREFIX + "added-records", metrics.addedRecords());
+      record(COMMIT_PREFIX + "added-files-size", metrics.addedFilesSizeBytes());
+    }
+
+    private void record(String name, @Nullable IcebergTimerResult timer) {
+      if (timer == null || timer.count() <= 0L) {
+        return;
+      }
+      timers
+          .computeIfAbsent(
+              name,
+              n -> Timer.builder(n).tags(tags).publishPercentileHistogram().register(meterRegistry))
+          .record(timer.totalDuration(), timer.timeUnit());
+    }
+
+    private void record(String name, @Nullable IcebergCounterResult counter) {
+      if (counter == null) {
+        return;
+      }
+      summaries
+          .computeIfAbsent(
+              name,
+              n ->
+                  DistributionSummary.builder(n)
+                      .tags(tags)
+                      .baseUnit(counter.unit() == IcebergUnit.BYTES ? "bytes" : null)
+                      .publishPercentileHistogram()
+                      .register(meterRegistry))
+          .record(counter.value());
+    }
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.service.rest;
+
+import static java.util.Collections.singletonList;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CaffeineStatsCounter;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Nullable;
+import org.projectnessie.api.v2.params.ParsedReference;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.nessie.immutables.NessieImmutable;
+
+/**
+ * Short-lived cache for the outcome of the access checks and location collection done for Iceberg
+ * S3 read signing requests.
+ *
+ * <p>Clients like Spark send many signing requests for the same table within a short time. With
+ * this cache, only the first of those read requests for a principal, reference and table needs to
+ * load the table snapshot, repeated requests only perform the location check and the actual
+ * signing.
+ *
+ * <p>Decisions for write requests are not cached, because those depend on the table's current
+ * metadata location, which changes with every commit.
+ */
+public class S3SignDecisionCache {
+  public static final String CACHE_NAME = "iceberg-s3-sign-decisions";
+
+  private static final S3SignDecisionCache NOOP = new S3SignDecisionCache();
+
+  private final Cache<S3SignDecisionKey, S3SignDecision> decisions;
+
+  public S3SignDecisionCache(Duration ttl, int maxSize, MeterRegistry meterRegistry) {
+    this.decisions =
+        ttl.isZero() || ttl.isNegative() || maxSize <= 0
+            ? null
+            : Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats(() -> statsCounter(Optional.ofNullable(meterRegistry), maxSize))
+                .build();
+  }
+
+  private S3SignDecisionCache() {
+    this.decisions = null;
+  }
+
+  /** Returns a cache instance that does not cache anything. */
+  public static S3SignDecisionCache noopDecisionCache() {
+    return NOOP;
+  }
+
+  boolean isEnabled() {
+    return decisions != null;
+  }
+
+  @Nullable
+  S3SignDecision get(S3SignDecisionKey key) {
+    return decisions != null ? decisions.getIfPresent(key) : null;
+  }
+
+  void put(S3SignDecisionKey key, S3SignDecision decision) {
+    if (decisions != null) {
+      decisions.put(key, decision);
+    }
+  }
+
+  private static StatsCounter statsCounter(Optional<MeterRegistry> meterRegistry, int maxSize) {
+    if (meterRegistry.isPresent()) {
+      meterRegistry
+          .get()
+          .gauge("max_entries", singletonList(Tag.of("cache", CACHE_NAME)), "", x -> maxSize);
+
+      return new CaffeineStatsCounter(meterRegistry.get(), CACHE_NAME);
+    }
+    return StatsCounter.disabledStatsCounter();
+  }
+
+  /** Identifies a read signing decision, contains everything the decision depends on. */
+  @NessieImmutable
+  interface S3SignDecisionKey {
+    String principal();
+
+    ParsedReference ref();
+
+    ContentKey key();
+
+    String warehouseLocation();
+
+    List<String> writeLocations();
+
+    List<String> readLocations();
+  }
+
+  /** The locations that may be signed for a {@link S3SignDecisionKey}. */
+  @NessieImmutable
+  interface S3SignDecision {
+    /** Allowed location prefixes, empty if signing is not allowed at all. */
+    List<String> allowedLocations();
+
+    /**
+     * Location that must not be signed, the table's or view's metadata location for writes, always
+     * empty for cached read decisions.
+     */
+    Optional<String> forbiddenLocation();
+
+    static S3SignDecision s3SignDecision(
+        List<String> allowedLocations, Optional<String> forbiddenLocation) {
+      return ImmutableS3SignDecision.builder()
+          .allowedLocations(allowedLocations)
+          .forbiddenLocation(forbiddenLocation)
+          .build();
+    }
+  }
+}
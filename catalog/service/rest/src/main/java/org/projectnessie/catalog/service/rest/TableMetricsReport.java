@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.service.rest;
+
+import java.time.Instant;
+import org.immutables.value.Value;
+import org.projectnessie.catalog.formats.iceberg.metrics.IcebergMetricsReport;
+import org.projectnessie.nessie.immutables.NessieImmutable;
+
+/** An Iceberg metrics report received for a table. */
+@NessieImmutable
+public interface TableMetricsReport {
+  /**
+   * The table as addressed by the client. The reference is the one from the request, the commit
+   * for which the metrics have been generated is not known.
+   */
+  @Value.Parameter(order = 1)
+  TableRef tableRef();
+
+  @Value.Parameter(order = 2)
+  Instant received();
+
+  @Value.Parameter(order = 3)
+  IcebergMetricsReport report();
+
+  static TableMetricsReport tableMetricsReport(
+      TableRef tableRef, Instant received, IcebergMetricsReport report) {
+    return ImmutableTableMetricsReport.of(tableRef, received, report);
+  }
+}
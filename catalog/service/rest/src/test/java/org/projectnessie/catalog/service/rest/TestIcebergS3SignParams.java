@@ -18,6 +18,8 @@ package org.projectnessie.catalog.service.rest;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.projectnessie.catalog.service.rest.IcebergApiV1ResourceBase.ICEBERG_V1;
 import static org.projectnessie.versioned.RequestMeta.apiRead;
@@ -26,6 +28,7 @@ import static org.projectnessie.versioned.RequestMeta.apiWrite;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
 import java.net.URI;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -305,6 +308,93 @@ class TestIcebergS3SignParams {
     expectFailure(response, "URI not allowed for signing: " + dataFileUri);
   }
 
+  @Test
+  void decisionCacheHit() throws Exception {
+    when(catalogService.retrieveSnapshot(
+            any(), eq(key), isNull(), eq(expectedApiRead(key)), eq(ICEBERG_V1)))
+        .thenReturn(successStage);
+    when(signer.sign(any())).thenReturn(signingResponse);
+    S3SignDecisionCache cache = new S3SignDecisionCache(Duration.ofMinutes(1), 100, null);
+    ImmutableIcebergS3SignParams.Builder builder =
+        newBuilder().decisionCache(cache).principal("alice").request(readRequest);
+
+    expectSuccess(builder.build().verifyAndSign());
+    expectSuccess(builder.build().verifyAndSign());
+    verify(catalogService, times(1)).retrieveSnapshot(any(), any(), any(), any(), any());
+
+    // Other principal
+    expectSuccess(builder.principal("bob").build().verifyAndSign());
+    verify(catalogService, times(2)).retrieveSnapshot(any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void decisionCacheDeniedDecision() throws Exception {
+    when(catalogService.retrieveSnapshot(
+            any(), eq(key), isNull(), eq(expectedApiRead(key)), eq(ICEBERG_V1)))
+        .thenReturn(successStage);
+    S3SignDecisionCache cache = new S3SignDecisionCache(Duration.ofMinutes(1), 100, null);
+    ImmutableIcebergS3SignParams.Builder builder =
+        newBuilder()
+            .decisionCache(cache)
+            .request(readRequest)
+            .writeLocations(List.of("s3://wrong-bucket/warehouse/ns/table1_cafebabee"));
+
+    expectFailure(
+        builder.build().verifyAndSign(), "URI not allowed for signing: " + metadataJsonUri);
+    expectFailure(
+        builder.build().verifyAndSign(), "URI not allowed for signing: " + metadataJsonUri);
+    verify(catalogService, times(1)).retrieveSnapshot(any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void decisionCacheSkipsMissingContent() throws Exception {
+    when(catalogService.retrieveSnapshot(
+            any(), eq(key), isNull(), eq(expectedApiRead(key)), eq(ICEBERG_V1)))
+        .thenThrow(new NessieContentNotFoundException(key, "main"));
+    when(signer.sign(any())).thenReturn(signingResponse);
+    S3SignDecisionCache cache = new S3SignDecisionCache(Duration.ofMinutes(1), 100, null);
+
+    expectSuccess(newBuilder().decisionCache(cache).request(readRequest).build().verifyAndSign());
+    expectSuccess(newBuilder().decisionCache(cache).request(readRequest).build().verifyAndSign());
+    verify(catalogService, times(2)).retrieveSnapshot(any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void decisionCacheSkipsWrites() throws Exception {
+    String newMetadataLocation = baseLocation + "/metadata/metadata2.json";
+    String newMetadataJsonUri =
+        "https://bucket.s3.amazonaws.com/warehouse/ns/table1_cafebabe/metadata/metadata2.json";
+    Content committedTable = IcebergTable.of(newMetadataLocation, 2, 1, 1, 1);
+    SnapshotResponse committedResponse =
+        SnapshotResponse.forEntity(
+            Branch.of("main", "87654321"),
+            committedTable,
+            "metadata2.json",
+            "application/json",
+            key,
+            committedTable,
+            nessieTableSnapshot);
+    when(catalogService.retrieveSnapshot(
+            any(), eq(key), isNull(), eq(expectedApiWrite(key)), eq(ICEBERG_V1)))
+        .thenReturn(successStage, CompletableFuture.completedStage(committedResponse));
+    when(signer.sign(any())).thenReturn(signingResponse);
+    S3SignDecisionCache cache = new S3SignDecisionCache(Duration.ofMinutes(1), 100, null);
+    ImmutableIcebergS3SignParams.Builder builder =
+        newBuilder()
+            .decisionCache(cache)
+            .principal("alice")
+            .request(
+                IcebergS3SignRequest.builder().from(writeRequest).uri(newMetadataJsonUri).build());
+
+    // Writing the next metadata location is allowed before the commit
+    expectSuccess(builder.build().verifyAndSign());
+
+    // After the commit, it is the current metadata location and must not be signed for writes
+    expectFailure(
+        builder.build().verifyAndSign(), "URI not allowed for signing: " + newMetadataJsonUri);
+    verify(catalogService, times(2)).retrieveSnapshot(any(), any(), any(), any(), any());
+  }
+
   private ImmutableIcebergS3SignParams.Builder newBuilder() {
     return ImmutableIcebergS3SignParams.builder()
         .request(writeRequest)
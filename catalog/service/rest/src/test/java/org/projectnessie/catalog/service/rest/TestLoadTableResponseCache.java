@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.service.rest;
+
+import static org.projectnessie.catalog.service.rest.LoadTableResponseCache.ifNoneMatch;
+import static org.projectnessie.catalog.service.rest.LoadTableResponseCache.noopLoadTableResponseCache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.catalog.formats.iceberg.meta.IcebergJson;
+import org.projectnessie.catalog.formats.iceberg.meta.IcebergTableMetadata;
+import org.projectnessie.catalog.formats.iceberg.rest.IcebergLoadTableResponse;
+import org.projectnessie.catalog.service.rest.LoadTableResponseCache.LoadTableResponseKey;
+import org.projectnessie.catalog.service.rest.LoadTableResponseCache.SerializedLoadTableResponse;
+import org.projectnessie.model.ContentKey;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestLoadTableResponseCache {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  static final ObjectMapper MAPPER = IcebergJson.objectMapper();
+
+  @Test
+  public void cachedResponses() {
+    LoadTableResponseCache cache =
+        new LoadTableResponseCache(Duration.ofMinutes(1), 1, MAPPER, null);
+    soft.assertThat(cache.isEnabled()).isTrue();
+
+    AtomicInteger loads = new AtomicInteger();
+    Supplier<IcebergLoadTableResponse> loader1 = loader(loads, "s3://bucket/table1");
+    Supplier<IcebergLoadTableResponse> loader2 = loader(loads, "s3://bucket/table2");
+
+    SerializedLoadTableResponse r1 = cache.get(key("meta1", false), loader1);
+    SerializedLoadTableResponse r1again = cache.get(key("meta1", false), loader1);
+    soft.assertThat(loads).hasValue(1);
+    soft.assertThat(r1again).isSameAs(r1);
+
+    // different access results in a different key
+    SerializedLoadTableResponse r1write = cache.get(key("meta1", true), loader1);
+    soft.assertThat(loads).hasValue(2);
+    // ... but the same response body results in the same entity tag
+    soft.assertThat(r1write.etag()).isEqualTo(r1.etag());
+
+    SerializedLoadTableResponse r2 = cache.get(key("meta2", false), loader2);
+    soft.assertThat(loads).hasValue(3);
+    soft.assertThat(r2.etag()).isNotEqualTo(r1.etag());
+    soft.assertThat(r2.body()).isNotEqualTo(r1.body());
+  }
+
+  @Test
+  public void noopCache() {
+    LoadTableResponseCache cache = noopLoadTableResponseCache(MAPPER);
+    soft.assertThat(cache.isEnabled()).isFalse();
+
+    AtomicInteger loads = new AtomicInteger();
+    Supplier<IcebergLoadTableResponse> loader = loader(loads, "s3://bucket/table1");
+
+    SerializedLoadTableResponse r1 = cache.get(key("meta1", false), loader);
+    SerializedLoadTableResponse r2 = cache.get(key("meta1", false), loader);
+    soft.assertThat(loads).hasValue(2);
+    soft.assertThat(r2.etag()).isEqualTo(r1.etag());
+    soft.assertThat(r2.body()).isEqualTo(r1.body());
+  }
+
+  @Test
+  public void ifNoneMatchHeader() {
+    soft.assertThat(ifNoneMatch(null, "abc")).isFalse();
+    soft.assertThat(ifNoneMatch("", "abc")).isFalse();
+    soft.assertThat(ifNoneMatch("\"abd\"", "abc")).isFalse();
+    soft.assertThat(ifNoneMatch("\"abc\"", "abc")).isTrue();
+    soft.assertThat(ifNoneMatch("W/\"abc\"", "abc")).isTrue();
+    soft.assertThat(ifNoneMatch("\"xyz\", \"abc\"", "abc")).isTrue();
+    soft.assertThat(ifNoneMatch("*", "abc")).isTrue();
+  }
+
+  private static Supplier<IcebergLoadTableResponse> loader(AtomicInteger loads, String location) {
+    return () -> {
+      loads.incrementAndGet();
+      return IcebergLoadTableResponse.builder()
+          .metadataLocation(location + "/metadata/00000-meta.json")
+          .metadata(
+              IcebergTableMetadata.builder()
+                  .location(location)
+                  .tableUuid("a5bc3a8b-1ad5-4c97-9bb1-bb4c3a8f8d4c")
+                  .formatVersion(2)
+                  .lastUpdatedMs(1L)
+                  .lastColumnId(0)
+                  .currentSnapshotId(-1L)
+                  .build())
+          .build();
+    };
+  }
+
+  private static LoadTableResponseKey key(String metadataLocation, boolean writeAccessGranted) {
+    return ImmutableLoadTableResponseKey.builder()
+        .principal("")
+        .key(ContentKey.of("ns", "table"))
+        .prefix("main")
+        .warehouseLocation("s3://bucket/")
+        .snapshotId("snap")
+        .contentId("cid")
+        .metadataLocation(metadataLocation)
+        .dataAccess("remote-signing")
+        .writeAccessGranted(writeAccessGranted)
+        .build();
+  }
+}
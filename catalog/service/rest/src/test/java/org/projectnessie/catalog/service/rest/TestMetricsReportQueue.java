@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.service.rest;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.projectnessie.catalog.service.rest.TableMetricsReport.tableMetricsReport;
+import static org.projectnessie.catalog.service.rest.TableRef.tableRef;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.catalog.formats.iceberg.meta.IcebergJson;
+import org.projectnessie.catalog.formats.iceberg.metrics.IcebergMetricsReport;
+import org.projectnessie.model.ContentKey;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestMetricsReportQueue {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  static final String COMMIT_REPORT =
+      "{\"report-type\":\"commit-report\",\"table-name\":\"nessie.ns.table\","
+          + "\"snapshot-id\":7199270021382915417,\"sequence-number\":1,\"operation\":\"append\","
+          + "\"metrics\":{"
+          + "\"total-duration\":{\"count\":1,\"time-unit\":\"nanoseconds\","
+          + "\"total-duration\":307738775},"
+          + "\"attempts\":{\"unit\":\"count\",\"value\":1},"
+          + "\"added-data-files\":{\"unit\":\"count\",\"value\":1},"
+          + "\"added-records\":{\"unit\":\"count\",\"value\":2},"
+          + "\"added-files-size-bytes\":{\"unit\":\"bytes\",\"value\":10}"
+          + "}}";
+
+  @Test
+  public void deliverBatches() throws Exception {
+    List<List<TableMetricsReport>> batches = new ArrayList<>();
+    CountDownLatch delivered = new CountDownLatch(5);
+    MetricsReportSink sink =
+        reports -> {
+          synchronized (batches) {
+            batches.add(List.copyOf(reports));
+          }
+          reports.forEach(r -> delivered.countDown());
+        };
+
+    try (MetricsReportQueue queue =
+        new MetricsReportQueue(100, 2, Duration.ofMillis(10), List.of(sink), null)) {
+      for (int i = 0; i < 5; i++) {
+        soft.assertThat(queue.offer(report("table" + i))).isTrue();
+      }
+      soft.assertThat(delivered.await(30, SECONDS)).isTrue();
+      soft.assertThat(queue.acceptedReports()).isEqualTo(5);
+      soft.assertThat(queue.droppedReports()).isEqualTo(0);
+    }
+
+    synchronized (batches) {
+      soft.assertThat(batches).allSatisfy(b -> soft.assertThat(b).hasSizeBetween(1, 2));
+      soft.assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(5);
+    }
+  }
+
+  @Test
+  public void dropWhenFull() throws Exception {
+    CountDownLatch sinkEntered = new CountDownLatch(1);
+    CountDownLatch sinkRelease = new CountDownLatch(1);
+    MetricsReportSink blockingSink =
+        reports -> {
+          sinkEntered.countDown();
+          try {
+            sinkRelease.await();
+          } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+          }
+        };
+
+    try (MetricsReportQueue queue =
+        new MetricsReportQueue(2, 1, Duration.ZERO, List.of(blockingSink), null)) {
+      // first report is taken by the dispatcher, which then blocks in the sink
+      soft.assertThat(queue.offer(report("t"))).isTrue();
+      soft.assertThat(sinkEntered.await(30, SECONDS)).isTrue();
+
+      soft.assertThat(queue.offer(report("t"))).isTrue();
+      soft.assertThat(queue.offer(report("t"))).isTrue();
+      soft.assertThat(queue.offer(report("t"))).isFalse();
+      soft.assertThat(queue.queueSize()).isEqualTo(2);
+      soft.assertThat(queue.acceptedReports()).isEqualTo(3);
+      soft.assertThat(queue.droppedReports()).isEqualTo(1);
+
+      sinkRelease.countDown();
+    }
+  }
+
+  @Test
+  public void failingSink() throws Exception {
+    CountDownLatch delivered = new CountDownLatch(1);
+    MetricsReportSink failing =
+        reports -> {
+          throw new RuntimeException("sink failure");
+        };
+    MetricsReportSink working = reports -> delivered.countDown();
+
+    try (MetricsReportQueue queue =
+        new MetricsReportQueue(10, 10, Duration.ZERO, List.of(failing, working), null)) {
+      soft.assertThat(queue.offer(report("t"))).isTrue();
+      soft.assertThat(delivered.await(30, SECONDS)).isTrue();
+      soft.assertThat(queue.failedReports()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  public void noSinks() {
+    try (MetricsReportQueue queue =
+        new MetricsReportQueue(10, 10, Duration.ZERO, List.of(), null)) {
+      soft.assertThat(queue.offer(report("t"))).isFalse();
+      soft.assertThat(queue.droppedReports()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  public void micrometerSink() throws Exception {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    MicrometerMetricsReportSink sink = new MicrometerMetricsReportSink(registry, true);
+
+    sink.report(List.of(report("table1"), report("table1"), report("table2")));
+
+    Timer table1Duration =
+        registry
+            .find(MicrometerMetricsReportSink.COMMIT_PREFIX + "duration")
+            .tag("table", "ns.table1")
+            .timer();
+    soft.assertThat(table1Duration).isNotNull();
+    soft.assertThat(table1Duration.count()).isEqualTo(2);
+    soft.assertThat(table1Duration.totalTime(SECONDS)).isGreaterThan(0.6d).isLessThan(0.62d);
+
+    DistributionSummary table2Records =
+        registry
+            .find(MicrometerMetricsReportSink.COMMIT_PREFIX + "added-records")
+            .tag("table", "ns.table2")
+            .summary();
+    soft.assertThat(table2Records).isNotNull();
+    soft.assertThat(table2Records.count()).isEqualTo(1);
+    soft.assertThat(table2Records.totalAmount()).isEqualTo(2d);
+  }
+
+  @Test
+  public void loggingSink() throws Exception {
+    LoggingMetricsReportSink sink = new LoggingMetricsReportSink();
+    String json = sink.toJson(report("table1"));
+    soft.assertThat(json)
+        .contains("\"table\":\"ns.table1\"")
+        .contains("\"warehouse\":\"warehouse\"")
+        .contains("\"report-type\":\"commit-report\"");
+  }
+
+  static TableMetricsReport report(String table) {
+    try {
+      IcebergMetricsReport report =
+          IcebergJson.objectMapper().readValue(COMMIT_REPORT, IcebergMetricsReport.class);
+      return tableMetricsReport(
+          tableRef(ContentKey.of("ns", table), null, "warehouse"), Instant.now(), report);
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
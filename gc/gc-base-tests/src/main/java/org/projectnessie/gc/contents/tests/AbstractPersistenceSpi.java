@@ -16,6 +16,7 @@
 package org.projectnessie.gc.contents.tests;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.projectnessie.gc.contents.ContentReference.icebergContent;
@@ -40,6 +41,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.projectnessie.gc.contents.ContentReference;
 import org.projectnessie.gc.contents.LiveContentSet;
 import org.projectnessie.gc.contents.LiveContentSetNotFoundException;
+import org.projectnessie.gc.contents.ReferenceWatermark;
+import org.projectnessie.gc.contents.WatermarkCommit;
 import org.projectnessie.gc.contents.spi.PersistenceSpi;
 import org.projectnessie.gc.files.FileReference;
 import org.projectnessie.model.ContentKey;
@@ -469,6 +472,82 @@ public abstract class AbstractPersistenceSpi {
     }
   }
 
+  @Test
+  void carryForwardLiveContent() throws Exception {
+    LiveSetVals vals1 = new LiveSetVals();
+    vals1.startIdentify();
+    soft.assertThat(persistenceSpi.addIdentifiedLiveContent(vals1.id, vals1.refs.stream()))
+        .isEqualTo(vals1.refs.size());
+    vals1.finishIdentify();
+
+    LiveSetVals vals2 = new LiveSetVals(0);
+    vals2.startIdentify();
+    ContentReference ref0 = vals1.refs.get(0);
+    ContentReference ref2 = vals1.refs.get(2);
+    ContentReference ref3 = vals1.refs.get(3);
+    soft.assertThat(persistenceSpi.addIdentifiedLiveContent(vals2.id, Stream.of(ref0)))
+        .isEqualTo(1L);
+
+    soft.assertThat(persistenceSpi.carryForwardLiveContent(vals2.id, vals1.id, emptyList()))
+        .isEqualTo(0L);
+    // ref0 has already been added, the unknown commit has no content references
+    soft.assertThat(
+            persistenceSpi.carryForwardLiveContent(
+                vals2.id,
+                vals1.id,
+                asList(ref0.commitId(), ref2.commitId(), ref3.commitId(), "cafebabe")))
+        .isEqualTo(2L);
+
+    try (Stream<String> contentIds = persistenceSpi.fetchContentIds(vals2.id)) {
+      soft.assertThat(contentIds)
+          .containsExactlyInAnyOrder(ref0.contentId(), ref2.contentId(), ref3.contentId());
+    }
+    for (ContentReference ref : asList(ref0, ref2, ref3)) {
+      try (Stream<ContentReference> refs =
+          persistenceSpi.fetchContentReferences(vals2.id, ref.contentId())) {
+        soft.assertThat(refs).containsExactly(ref);
+      }
+    }
+
+    // The previous live content set is not modified
+    try (Stream<String> contentIds = persistenceSpi.fetchContentIds(vals1.id)) {
+      soft.assertThat(contentIds).containsExactlyInAnyOrderElementsOf(vals1.contentIds());
+    }
+  }
+
+  @Test
+  void referenceWatermarks() throws Exception {
+    LiveSetVals vals1 = new LiveSetVals();
+    vals1.startIdentify();
+
+    ReferenceWatermark main =
+        ReferenceWatermark.of(
+            "main",
+            asList(
+                WatermarkCommit.of("cafebabe", vals1.identifyStart, 1),
+                WatermarkCommit.of("deadbeef", vals1.identifyStart.minusSeconds(10), 2)),
+            WatermarkCommit.of("12345678", vals1.identifyStart.minusSeconds(20), 3));
+    ReferenceWatermark branch =
+        ReferenceWatermark.of(
+            "branch",
+            singletonList(WatermarkCommit.of("87654321", vals1.identifyStart.minusMillis(5), 1)),
+            null);
+
+    persistenceSpi.addReferenceWatermark(vals1.id, main);
+    persistenceSpi.addReferenceWatermark(vals1.id, branch);
+
+    soft.assertThat(persistenceSpi.fetchReferenceWatermark(vals1.id, "main")).contains(main);
+    soft.assertThat(persistenceSpi.fetchReferenceWatermark(vals1.id, "branch")).contains(branch);
+    soft.assertThat(persistenceSpi.fetchReferenceWatermark(vals1.id, "other")).isEmpty();
+    soft.assertThat(persistenceSpi.fetchReferenceWatermark(UUID.randomUUID(), "main")).isEmpty();
+
+    vals1.finishIdentify();
+    soft.assertThat(persistenceSpi.fetchReferenceWatermark(vals1.id, "main")).contains(main);
+
+    persistenceSpi.deleteLiveContentSet(vals1.id);
+    soft.assertThat(persistenceSpi.fetchReferenceWatermark(vals1.id, "main")).isEmpty();
+  }
+
   @Test
   public void baseLocations() throws Exception {
     LiveSetVals vals1 = new LiveSetVals();
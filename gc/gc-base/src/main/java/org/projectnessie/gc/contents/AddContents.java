@@ -17,6 +17,7 @@ package org.projectnessie.gc.contents;
 
 import jakarta.validation.constraints.NotNull;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.projectnessie.gc.identify.IdentifyLiveContents;
@@ -34,8 +35,30 @@ import org.projectnessie.gc.identify.IdentifyLiveContents;
  */
 public interface AddContents extends AutoCloseable {
 
+  /**
+   * Adds live content references, can be called concurrently.
+   *
+   * <p>Content references may be collected and persisted in batches, the returned number of newly
+   * persisted content references can therefore include content references from previous
+   * invocations. Content references that are still collected are persisted by {@link #close()}.
+   */
   long addLiveContent(@NotNull Stream<ContentReference> contentReference);
 
+  /**
+   * Adds the live content references of the given commits from the previous live content set
+   * {@code previousLiveSetId}, used by incremental identify runs.
+   *
+   * @return the number of newly persisted content references
+   */
+  long carryForwardLiveContent(
+      @NotNull UUID previousLiveSetId, @NotNull Collection<String> commitIds);
+
+  /**
+   * Records the commits of a named reference that have been considered as live, used by a later,
+   * incremental identify run.
+   */
+  void addReferenceWatermark(@NotNull ReferenceWatermark watermark);
+
   void finished();
 
   void finishedExceptionally(@NotNull Throwable e);
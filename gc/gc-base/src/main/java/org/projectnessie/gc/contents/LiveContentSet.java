@@ -20,6 +20,7 @@ import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotNull;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.immutables.value.Value;
@@ -84,6 +85,14 @@ public abstract class LiveContentSet {
     return persistenceSpi().fetchContentReferences(id(), contentId);
   }
 
+  /**
+   * Returns the commits of the given named reference that have been considered as live by the
+   * identify run that produced this live content set, if recorded.
+   */
+  public Optional<ReferenceWatermark> fetchReferenceWatermark(@NotNull String referenceName) {
+    return persistenceSpi().fetchReferenceWatermark(id(), referenceName);
+  }
+
   public void associateBaseLocations(String contentId, Collection<StorageUri> baseLocations) {
     // TODO detect duplicate base locations for different content-IDs
     persistenceSpi().associateBaseLocations(id(), contentId, baseLocations);
@@ -22,6 +22,10 @@ import com.google.errorprone.annotations.MustBeClosed;
 import jakarta.validation.constraints.NotNull;
 import java.time.Clock;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.UUID;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -54,13 +58,30 @@ public abstract class LiveContentSetsRepository {
     return ImmutableLiveContentSetsRepository.builder();
   }
 
+  public static final int DEFAULT_LIVE_CONTENTS_BATCH_SIZE = 1000;
+
   public interface Builder {
     @CanIgnoreReturnValue
     Builder persistenceSpi(PersistenceSpi persistenceSpi);
 
+    /**
+     * The number of live content references collected by {@link AddContents#addLiveContent(Stream)}
+     * before those are passed to the {@link PersistenceSpi}, defaults to {@value
+     * #DEFAULT_LIVE_CONTENTS_BATCH_SIZE}. Remaining content references are passed by {@link
+     * AddContents#close()}. A value of {@code 1} disables batching.
+     */
+    @CanIgnoreReturnValue
+    Builder liveContentsBatchSize(int liveContentsBatchSize);
+
     LiveContentSetsRepository build();
   }
 
+  @Value.Check
+  void check() {
+    Preconditions.checkArgument(
+        liveContentsBatchSize() > 0, "Live contents batch size must be greater than 0");
+  }
+
   /**
    * Retrieve an existing live-content-set, created via a previous invocation of {@link
    * #newAddContents()}.
@@ -83,6 +104,8 @@ public abstract class LiveContentSetsRepository {
     return new AddContents() {
       private final UUID id = idGenerator().get();
       private final Instant created = clock().instant();
+      private final int batchSize = liveContentsBatchSize();
+      private final List<ContentReference> pending = new ArrayList<>();
       private volatile boolean closed;
       private boolean finished;
       private Throwable failure;
@@ -120,7 +143,59 @@ public abstract class LiveContentSetsRepository {
       @Override
       public long addLiveContent(@NotNull Stream<ContentReference> contentReference) {
         Preconditions.checkState(!closed, "AddContents instance already closed.");
-        return persistenceSpi().addIdentifiedLiveContent(id, contentReference);
+        if (batchSize == 1) {
+          return persistenceSpi().addIdentifiedLiveContent(id, contentReference);
+        }
+
+        // Collect the content references outside the lock, only the last, incomplete batch is
+        // added to the pending content references, shared by all threads.
+        long count = 0L;
+        List<ContentReference> batch = new ArrayList<>();
+        for (Iterator<ContentReference> iter = contentReference.iterator(); iter.hasNext(); ) {
+          batch.add(iter.next());
+          if (batch.size() == batchSize) {
+            count += persistenceSpi().addIdentifiedLiveContent(id, batch.stream());
+            batch.clear();
+          }
+        }
+        if (!batch.isEmpty()) {
+          List<ContentReference> flush = null;
+          synchronized (pending) {
+            pending.addAll(batch);
+            if (pending.size() >= batchSize) {
+              flush = new ArrayList<>(pending);
+              pending.clear();
+            }
+          }
+          if (flush != null) {
+            count += persistenceSpi().addIdentifiedLiveContent(id, flush.stream());
+          }
+        }
+        return count;
+      }
+
+      @Override
+      public long carryForwardLiveContent(
+          @NotNull UUID previousLiveSetId, @NotNull Collection<String> commitIds) {
+        Preconditions.checkState(!closed, "AddContents instance already closed.");
+        return persistenceSpi().carryForwardLiveContent(id, previousLiveSetId, commitIds);
+      }
+
+      private void flushPending() {
+        List<ContentReference> flush;
+        synchronized (pending) {
+          flush = new ArrayList<>(pending);
+          pending.clear();
+        }
+        if (!flush.isEmpty()) {
+          persistenceSpi().addIdentifiedLiveContent(id, flush.stream());
+        }
+      }
+
+      @Override
+      public void addReferenceWatermark(@NotNull ReferenceWatermark watermark) {
+        Preconditions.checkState(!closed, "AddContents instance already closed.");
+        persistenceSpi().addReferenceWatermark(id, watermark);
       }
 
       @Override
@@ -132,6 +207,13 @@ public abstract class LiveContentSetsRepository {
           return;
         }
         closed = true;
+        if (failure == null) {
+          try {
+            flushPending();
+          } catch (RuntimeException e) {
+            failure = e;
+          }
+        }
         persistenceSpi().finishedIdentifyLiveContents(id, clock().instant(), failure);
       }
     };
@@ -139,6 +221,11 @@ public abstract class LiveContentSetsRepository {
 
   abstract PersistenceSpi persistenceSpi();
 
+  @Value.Default
+  int liveContentsBatchSize() {
+    return DEFAULT_LIVE_CONTENTS_BATCH_SIZE;
+  }
+
   @Value.Default
   @VisibleForTesting
   Clock clock() {
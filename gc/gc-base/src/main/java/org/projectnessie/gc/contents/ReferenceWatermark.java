@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.gc.contents;
+
+import com.google.common.base.Preconditions;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import org.immutables.value.Value;
+import org.projectnessie.gc.identify.IdentifyLiveContents;
+
+/**
+ * Records which commits of a named reference have been considered as live by an {@link
+ * IdentifyLiveContents#identifyLiveContents() identify run}, used by a later, incremental identify
+ * run to only walk the commits that have been added since.
+ */
+@Value.Immutable
+public interface ReferenceWatermark {
+
+  static ReferenceWatermark of(
+      @NotNull String referenceName,
+      @NotNull List<WatermarkCommit> liveCommits,
+      @Nullable WatermarkCommit firstNonLiveCommit) {
+    return ImmutableReferenceWatermark.of(referenceName, liveCommits, firstNonLiveCommit);
+  }
+
+  @Value.Parameter(order = 1)
+  String referenceName();
+
+  /**
+   * The live commits of the reference, starting with the HEAD commit of the reference at the time
+   * of the identify run, followed by its parent commits.
+   */
+  @Value.Parameter(order = 2)
+  List<WatermarkCommit> liveCommits();
+
+  /**
+   * The most recent non-live commit of the reference, or {@code null} if all commits of the
+   * reference were live.
+   */
+  @Value.Parameter(order = 3)
+  @Nullable
+  WatermarkCommit firstNonLiveCommit();
+
+  @Value.Check
+  default void check() {
+    Preconditions.checkArgument(
+        !liveCommits().isEmpty(), "A reference watermark must have at least one live commit");
+  }
+}
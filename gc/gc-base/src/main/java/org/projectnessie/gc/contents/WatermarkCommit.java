@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.gc.contents;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Instant;
+import org.immutables.value.Value;
+
+/** A commit recorded in a {@link ReferenceWatermark}. */
+@Value.Immutable
+public interface WatermarkCommit {
+
+  static WatermarkCommit of(@NotNull String commitId, @NotNull Instant commitTime, int position) {
+    return ImmutableWatermarkCommit.of(commitId, commitTime, position);
+  }
+
+  @Value.Parameter(order = 1)
+  String commitId();
+
+  @Value.Parameter(order = 2)
+  Instant commitTime();
+
+  /**
+   * The position of the commit in the commit log of the reference, starting at {@code 1} for the
+   * HEAD commit, as passed to {@link org.projectnessie.gc.identify.CutoffPolicy#isCutoff(Instant,
+   * int)}.
+   */
+  @Value.Parameter(order = 3)
+  int position();
+}
@@ -22,6 +22,7 @@ import com.google.common.base.Preconditions;
 import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotNull;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -39,6 +40,7 @@ import org.projectnessie.gc.contents.ImmutableLiveContentSet;
 import org.projectnessie.gc.contents.LiveContentSet;
 import org.projectnessie.gc.contents.LiveContentSet.Status;
 import org.projectnessie.gc.contents.LiveContentSetNotFoundException;
+import org.projectnessie.gc.contents.ReferenceWatermark;
 import org.projectnessie.gc.contents.spi.PersistenceSpi;
 import org.projectnessie.gc.files.FileReference;
 import org.projectnessie.storage.uri.StorageUri;
@@ -56,6 +58,14 @@ public class InMemoryPersistenceSpi implements PersistenceSpi {
     /** Map of content-ID to set of content-references. */
     final Map<String, Set<ContentReference>> contents = new ConcurrentHashMap<>();
 
+    /**
+     * Map of commit-ID to set of content-references, {@link #contents} does not retain the
+     * commit-IDs of equal content-references.
+     */
+    final Map<String, Set<ContentReference>> contentsByCommit = new ConcurrentHashMap<>();
+
+    final Map<String, ReferenceWatermark> watermarks = new ConcurrentHashMap<>();
+
     final Map<String, Collection<StorageUri>> baseLocations = new ConcurrentHashMap<>();
 
     final AtomicReference<LiveContentSet> liveContentSet;
@@ -70,16 +80,21 @@ public class InMemoryPersistenceSpi implements PersistenceSpi {
   @Override
   public long addIdentifiedLiveContent(
       @NotNull UUID liveSetId, @NotNull Stream<ContentReference> contentReference) {
+    InMemoryLiveContentSet lcs = get(liveSetId);
     return contentReference
         .mapToLong(
-            ref ->
-                get(liveSetId)
-                        .contents
-                        .computeIfAbsent(
-                            ref.contentId(), x -> Collections.synchronizedSet(new HashSet<>()))
-                        .add(ref)
-                    ? 1L
-                    : 0L)
+            ref -> {
+              lcs.contentsByCommit
+                  .computeIfAbsent(
+                      ref.commitId(), x -> Collections.synchronizedSet(new HashSet<>()))
+                  .add(ref);
+              return lcs.contents
+                      .computeIfAbsent(
+                          ref.contentId(), x -> Collections.synchronizedSet(new HashSet<>()))
+                      .add(ref)
+                  ? 1L
+                  : 0L;
+            })
         .sum();
   }
 
@@ -183,6 +198,33 @@ public class InMemoryPersistenceSpi implements PersistenceSpi {
         .orElse(Stream.empty());
   }
 
+  @Override
+  public long carryForwardLiveContent(
+      @NotNull UUID liveSetId,
+      @NotNull UUID previousLiveSetId,
+      @NotNull Collection<String> commitIds) {
+    InMemoryLiveContentSet previous = get(previousLiveSetId);
+    return addIdentifiedLiveContent(
+        liveSetId,
+        commitIds.stream()
+            .map(commitId -> previous.contentsByCommit.getOrDefault(commitId, emptySet()))
+            .flatMap(refs -> new ArrayList<>(refs).stream()));
+  }
+
+  @Override
+  public void addReferenceWatermark(
+      @NotNull UUID liveSetId, @NotNull ReferenceWatermark watermark) {
+    assertStatus(get(liveSetId), Status.IDENTIFY_IN_PROGRESS)
+        .watermarks
+        .put(watermark.referenceName(), watermark);
+  }
+
+  @Override
+  public Optional<ReferenceWatermark> fetchReferenceWatermark(
+      @NotNull UUID liveSetId, @NotNull String referenceName) {
+    return getOptional(liveSetId).map(lcs -> lcs.watermarks.get(referenceName));
+  }
+
   @Override
   public void associateBaseLocations(
       UUID liveSetId, String contentId, Collection<StorageUri> baseLocations) {
@@ -20,12 +20,14 @@ import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotNull;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.projectnessie.gc.contents.ContentReference;
 import org.projectnessie.gc.contents.LiveContentSet;
 import org.projectnessie.gc.contents.LiveContentSetNotFoundException;
 import org.projectnessie.gc.contents.LiveContentSetsRepository;
+import org.projectnessie.gc.contents.ReferenceWatermark;
 import org.projectnessie.gc.files.FileReference;
 import org.projectnessie.storage.uri.StorageUri;
 
@@ -64,6 +66,23 @@ public interface PersistenceSpi {
   Stream<ContentReference> fetchContentReferences(
       @NotNull UUID liveSetId, @NotNull String contentId);
 
+  /**
+   * Adds the content references of the live content set {@code previousLiveSetId} that have been
+   * found at one of the given commits to the live content set {@code liveSetId}, ignores
+   * duplicates.
+   *
+   * @return the number of actually added content references
+   */
+  long carryForwardLiveContent(
+      @NotNull UUID liveSetId,
+      @NotNull UUID previousLiveSetId,
+      @NotNull Collection<String> commitIds);
+
+  void addReferenceWatermark(@NotNull UUID liveSetId, @NotNull ReferenceWatermark watermark);
+
+  Optional<ReferenceWatermark> fetchReferenceWatermark(
+      @NotNull UUID liveSetId, @NotNull String referenceName);
+
   void associateBaseLocations(
       @NotNull UUID liveSetId,
       @NotNull String contentId,
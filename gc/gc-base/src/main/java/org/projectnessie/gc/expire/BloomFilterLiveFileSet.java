@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.gc.expire;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.PrimitiveSink;
+import org.projectnessie.storage.uri.StorageUri;
+
+/** {@link LiveFileSet} backed by a Guava {@link BloomFilter}. */
+@SuppressWarnings("UnstableApiUsage")
+final class BloomFilterLiveFileSet implements LiveFileSet {
+
+  private final BloomFilter<StorageUri> filter;
+
+  BloomFilterLiveFileSet(long expectedFileCount, double falsePositiveProbability) {
+    this.filter =
+        BloomFilter.create(
+            BloomFilterLiveFileSet::funnel, expectedFileCount, falsePositiveProbability);
+  }
+
+  @Override
+  public void add(StorageUri file) {
+    filter.put(file);
+  }
+
+  @Override
+  public void finish() {}
+
+  @Override
+  public boolean contains(StorageUri file) {
+    return filter.mightContain(file);
+  }
+
+  @Override
+  public double expectedFpp() {
+    return filter.expectedFpp();
+  }
+
+  @Override
+  public long approximateElementCount() {
+    return filter.approximateElementCount();
+  }
+
+  @Override
+  public void close() {}
+
+  /**
+   * Add URI components discretely to the {@link PrimitiveSink}, because that is more efficient than
+   * converting the {@code StorageUri} to a {@code String}, especially since the URIs are almost
+   * always relative and have only the path component.
+   */
+  private static void funnel(StorageUri uri, PrimitiveSink sink) {
+    funnelString(uri.scheme(), sink);
+    funnelString(uri.authority(), sink);
+    funnelString(uri.path(), sink);
+  }
+
+  private static void funnelString(String s, PrimitiveSink sink) {
+    if (s != null) {
+      sink.putUnencodedChars(s);
+    }
+  }
+}
@@ -40,4 +40,19 @@ public interface ContentToFiles {
    */
   @MustBeClosed
   Stream<FileReference> extractFiles(@NotNull ContentReference contentReference);
+
+  /**
+   * Extracts all files and base locations from the given {@link Content} object, like {@link
+   * #extractFiles(ContentReference)}, but allows implementations to skip the files referenced by
+   * manifests that have already been expanded for the same content.
+   *
+   * <p>Implementations must still return the manifests themselves. The default implementation
+   * ignores the given {@link ManifestDeduplicator}.
+   */
+  @MustBeClosed
+  default Stream<FileReference> extractFiles(
+      @NotNull ContentReference contentReference,
+      @NotNull ManifestDeduplicator manifestDeduplicator) {
+    return extractFiles(contentReference);
+  }
 }
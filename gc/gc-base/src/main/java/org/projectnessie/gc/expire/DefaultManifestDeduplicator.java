@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.gc.expire;
+
+import jakarta.annotation.Nonnull;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.projectnessie.storage.uri.StorageUri;
+
+/**
+ * Remembers the manifests that have already been expanded while identifying the live files of a
+ * single content.
+ *
+ * <p>The number of remembered manifests is bounded to protect against excessive heap usage. Once
+ * the bound has been reached, manifests that have not been remembered are just read again, which
+ * does not change the result of the live-files identification.
+ */
+public final class DefaultManifestDeduplicator implements ManifestDeduplicator {
+
+  private final Map<StorageUri, Set<StorageUri>> expanded = new ConcurrentHashMap<>();
+  private final AtomicInteger remaining;
+  private final LongAdder skipped = new LongAdder();
+
+  public DefaultManifestDeduplicator(int maxManifests) {
+    this.remaining = new AtomicInteger(maxManifests);
+  }
+
+  @Override
+  public boolean alreadyExpanded(@Nonnull StorageUri baseLocation, @Nonnull StorageUri manifest) {
+    Set<StorageUri> manifests =
+        expanded.computeIfAbsent(baseLocation, x -> ConcurrentHashMap.newKeySet());
+    if (manifests.contains(manifest)) {
+      skipped.increment();
+      return true;
+    }
+    if (remaining.getAndDecrement() <= 0) {
+      remaining.incrementAndGet();
+      return false;
+    }
+    if (!manifests.add(manifest)) {
+      remaining.incrementAndGet();
+      skipped.increment();
+      return true;
+    }
+    return false;
+  }
+
+  /** Number of manifests that did not need to be read again. */
+  public long skippedManifests() {
+    return skipped.sum();
+  }
+}
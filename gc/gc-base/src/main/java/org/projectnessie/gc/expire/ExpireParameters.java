@@ -16,6 +16,8 @@
 package org.projectnessie.gc.expire;
 
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import jakarta.annotation.Nullable;
+import java.nio.file.Path;
 import java.time.Instant;
 import org.immutables.value.Value;
 import org.projectnessie.gc.contents.LiveContentSet;
@@ -30,6 +32,9 @@ public interface ExpireParameters {
   long DEFAULT_EXPECTED_FILE_COUNT = 1_000_000L;
   double DEFAULT_FALSE_POSITIVE_PROBABILITY = 0.00001d;
   double DEFAULT_ALLOWED_FALSE_POSITIVE_PROBABILITY = 0.0001d;
+  int DEFAULT_MAX_DEDUPLICATED_MANIFESTS = 100_000;
+  int DEFAULT_PER_CONTENT_PARALLELISM = 1;
+  int DEFAULT_LIVE_FILES_SPILL_THRESHOLD = 1_000_000;
 
   static Builder builder() {
     return ImmutableExpireParameters.builder();
@@ -56,6 +61,48 @@ public interface ExpireParameters {
     @CanIgnoreReturnValue
     Builder allowedFalsePositiveProbability(double allowedFalsePositiveProbability);
 
+    /**
+     * How the live files of a content are tracked, defaults to {@link
+     * LiveFileSetType#BLOOM_FILTER}. The expected file count and false-positive-probabilities only
+     * apply to {@link LiveFileSetType#BLOOM_FILTER}.
+     */
+    @CanIgnoreReturnValue
+    Builder liveFileSetType(LiveFileSetType liveFileSetType);
+
+    /**
+     * The number of live files of a content kept on heap before those are spilled to a local
+     * file, only applies to {@link LiveFileSetType#EXACT}, defaults to {@value
+     * #DEFAULT_LIVE_FILES_SPILL_THRESHOLD}.
+     */
+    @CanIgnoreReturnValue
+    Builder liveFilesSpillThreshold(int liveFilesSpillThreshold);
+
+    /**
+     * The local directory to spill live files to, only applies to {@link LiveFileSetType#EXACT},
+     * defaults to the system's temporary directory.
+     */
+    @CanIgnoreReturnValue
+    Builder liveFilesSpillDirectory(Path liveFilesSpillDirectory);
+
+    /**
+     * The maximum number of manifests per content that are remembered to not read the same
+     * manifest again for another snapshot, defaults to {@value
+     * #DEFAULT_MAX_DEDUPLICATED_MANIFESTS}. Set to {@code 0} to disable manifest deduplication.
+     */
+    @CanIgnoreReturnValue
+    Builder maxDeduplicatedManifests(int maxDeduplicatedManifests);
+
+    /**
+     * The number of threads used to expire a single content, defaults to {@value
+     * #DEFAULT_PER_CONTENT_PARALLELISM}. Limits the number of concurrent manifest reads while
+     * identifying the live files and the number of base locations that are listed and swept
+     * concurrently. A value greater than 1 keeps all live content references of the content on
+     * heap. {@link org.projectnessie.gc.expire.local.DefaultLocalExpire} shares one pool of its
+     * parallelism times this value threads between all contents of an expire run.
+     */
+    @CanIgnoreReturnValue
+    Builder perContentParallelism(int perContentParallelism);
+
     /** Function used to recustively list files from a base location. */
     @CanIgnoreReturnValue
     Builder filesLister(FilesLister filesLister);
@@ -97,6 +144,29 @@ public interface ExpireParameters {
     return DEFAULT_ALLOWED_FALSE_POSITIVE_PROBABILITY;
   }
 
+  @Value.Default
+  default LiveFileSetType liveFileSetType() {
+    return LiveFileSetType.BLOOM_FILTER;
+  }
+
+  @Value.Default
+  default int liveFilesSpillThreshold() {
+    return DEFAULT_LIVE_FILES_SPILL_THRESHOLD;
+  }
+
+  @Nullable
+  Path liveFilesSpillDirectory();
+
+  @Value.Default
+  default int maxDeduplicatedManifests() {
+    return DEFAULT_MAX_DEDUPLICATED_MANIFESTS;
+  }
+
+  @Value.Default
+  default int perContentParallelism() {
+    return DEFAULT_PER_CONTENT_PARALLELISM;
+  }
+
   FilesLister filesLister();
 
   ContentToFiles contentToFiles();
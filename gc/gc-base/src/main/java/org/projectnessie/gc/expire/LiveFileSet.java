@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.gc.expire;
+
+import org.projectnessie.storage.uri.StorageUri;
+
+/**
+ * Set of the live files of a single content, used by {@link PerContentDeleteExpired}.
+ *
+ * <p>Files are added concurrently via {@link #add(StorageUri)}. After all live files have been
+ * added, {@link #finish()} must be called once, before {@link #contains(StorageUri)} can be used.
+ */
+interface LiveFileSet extends AutoCloseable {
+
+  /** Adds a live file, can be called concurrently. */
+  void add(StorageUri file);
+
+  /** Called once after all live files have been added. */
+  void finish();
+
+  /**
+   * Returns {@code true}, if the given file is live. Implementations may return {@code true} for
+   * files that have not been added, see {@link #expectedFpp()}.
+   */
+  boolean contains(StorageUri file);
+
+  /** The probability that {@link #contains(StorageUri)} returns {@code true} for a non-live file. */
+  double expectedFpp();
+
+  /** The (approximate) number of distinct live files. */
+  long approximateElementCount();
+
+  @Override
+  void close();
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.gc.expire;
+
+/** Defines how {@link PerContentDeleteExpired} keeps track of the live files of a content. */
+public enum LiveFileSetType {
+  /**
+   * Live files are tracked in an on-heap bloom filter sized using the expected file count and
+   * false-positive-probability. Expiry of a content is aborted, if the effective
+   * false-positive-probability exceeds the allowed false-positive-probability.
+   */
+  BLOOM_FILTER,
+  /**
+   * Live files are tracked exactly. Up to the configured number of files are kept on heap, more
+   * files are spilled as sorted, prefix-compressed runs to local files, which are merged into a
+   * memory-mapped file. Expiry of a content is never aborted because of the number of live files.
+   */
+  EXACT
+}
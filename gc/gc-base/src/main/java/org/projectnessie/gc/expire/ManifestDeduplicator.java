@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.gc.expire;
+
+import jakarta.annotation.Nonnull;
+import org.projectnessie.storage.uri.StorageUri;
+
+/**
+ * Tells {@link ContentToFiles} implementations whether the files referenced by a manifest have
+ * already been extracted for the same content.
+ *
+ * <p>Snapshots of the same table usually share most of their manifests. Since manifests are
+ * immutable, the files referenced by a manifest only need to be read once per base location to
+ * identify the live files of a content.
+ */
+@FunctionalInterface
+public interface ManifestDeduplicator {
+  ManifestDeduplicator NOOP = (baseLocation, manifest) -> false;
+
+  /**
+   * Returns {@code true} if the files referenced by the given manifest have already been extracted
+   * for the given base location, or {@code false} if the manifest is seen for the first time and
+   * its referenced files must be extracted.
+   */
+  boolean alreadyExpanded(@Nonnull StorageUri baseLocation, @Nonnull StorageUri manifest);
+}
@@ -15,15 +15,19 @@
  */
 package org.projectnessie.gc.expire;
 
-import com.google.common.hash.BloomFilter;
-import com.google.common.hash.PrimitiveSink;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.errorprone.annotations.MustBeClosed;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.immutables.value.Value;
+import org.projectnessie.gc.contents.ContentReference;
 import org.projectnessie.gc.files.DeleteSummary;
 import org.projectnessie.gc.files.FileReference;
 import org.projectnessie.gc.files.NessieFileIOException;
@@ -48,14 +52,45 @@ public abstract class PerContentDeleteExpired {
     @CanIgnoreReturnValue
     Builder contentId(String contentId);
 
+    /**
+     * The pool used to expire the content in parallel, if {@link
+     * ExpireParameters#perContentParallelism()} is greater than 1. The pool is not shut down. If
+     * not set, a pool is created for this content.
+     */
+    @CanIgnoreReturnValue
+    Builder forkJoinPool(ForkJoinPool forkJoinPool);
+
     PerContentDeleteExpired build();
   }
 
   /** Returns a stream of files that can be expired. */
-  @SuppressWarnings("UnstableApiUsage")
   public DeleteSummary expire() {
-    BloomFilter<StorageUri> filter = createBloomFilter();
+    int parallelism = expireParameters().perContentParallelism();
+    if (parallelism <= 1) {
+      return expireContent(false);
+    }
+
+    Optional<ForkJoinPool> sharedPool = forkJoinPool();
+    if (sharedPool.isPresent()) {
+      return sharedPool.get().invoke(ForkJoinTask.adapt(() -> expireContent(true)));
+    }
+
+    @SuppressWarnings("resource")
+    ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism);
+    try {
+      return forkJoinPool.invoke(ForkJoinTask.adapt(() -> expireContent(true)));
+    } finally {
+      forkJoinPool.shutdown();
+    }
+  }
+
+  private DeleteSummary expireContent(boolean parallel) {
+    try (LiveFileSet liveFiles = createLiveFileSet()) {
+      return expireContent(liveFiles, parallel);
+    }
+  }
 
+  private DeleteSummary expireContent(LiveFileSet liveFiles, boolean parallel) {
     Set<StorageUri> baseLocations = new HashSet<>();
     Consumer<StorageUri> addBaseLocation =
         l -> {
@@ -70,11 +105,16 @@ public abstract class PerContentDeleteExpired {
           }
         };
 
-    long identifiedLiveFiles = identifyLiveFiles(filter, addBaseLocation);
+    DefaultManifestDeduplicator manifestDeduplicator =
+        new DefaultManifestDeduplicator(expireParameters().maxDeduplicatedManifests());
 
-    double expectedFpp = filter.expectedFpp();
-    long approximateElementCount = filter.approximateElementCount();
-    if (filter.expectedFpp() > expireParameters().allowedFalsePositiveProbability()) {
+    long identifiedLiveFiles =
+        identifyLiveFiles(liveFiles, addBaseLocation, manifestDeduplicator, parallel);
+    long skippedManifests = manifestDeduplicator.skippedManifests();
+
+    double expectedFpp = liveFiles.expectedFpp();
+    long approximateElementCount = liveFiles.approximateElementCount();
+    if (expectedFpp > expireParameters().allowedFalsePositiveProbability()) {
       LOGGER.warn(
           "live-set#{} content#{}: Aborting expire - expected FPP {} is higher than the allowed "
               + "FPP {}. Approximate files count is {}, expected is {}, real is {} live (probably less).",
@@ -85,15 +125,20 @@ public abstract class PerContentDeleteExpired {
           approximateElementCount,
           expireParameters().expectedFileCount(),
           identifiedLiveFiles);
-      return DeleteSummary.EMPTY;
+      return DeleteSummary.EMPTY.withSkippedManifests(skippedManifests);
     }
 
     expireParameters().liveContentSet().associateBaseLocations(contentId(), baseLocations);
 
-    return baseLocations.stream()
+    Stream<StorageUri> baseLocationStream = baseLocations.stream();
+    if (parallel) {
+      baseLocationStream = baseLocationStream.parallel();
+    }
+    return baseLocationStream
         .map(
             baseLocation -> {
-              try (Stream<FileReference> fileObjects = identifyExpiredFiles(filter, baseLocation)) {
+              try (Stream<FileReference> fileObjects =
+                  identifyExpiredFiles(liveFiles, baseLocation)) {
                 return expireParameters().fileDeleter().deleteMultiple(baseLocation, fileObjects);
               } catch (Exception e) {
                 String msg = "Failed to expire objects in base location " + baseLocation;
@@ -101,16 +146,19 @@ public abstract class PerContentDeleteExpired {
                 throw new RuntimeException(msg, e);
               }
             })
-        .reduce(DeleteSummary.EMPTY, DeleteSummary::add, DeleteSummary::add);
+        .reduce(DeleteSummary.EMPTY, DeleteSummary::add, DeleteSummary::add)
+        .withSkippedManifests(skippedManifests);
   }
 
   /**
    * First part of {@link #expire()} to identify all files that are referenced by all live {@link
    * Content} objects.
    */
-  @SuppressWarnings("UnstableApiUsage")
   private long identifyLiveFiles(
-      BloomFilter<StorageUri> filter, Consumer<StorageUri> addBaseLocation) {
+      LiveFileSet liveFiles,
+      Consumer<StorageUri> addBaseLocation,
+      DefaultManifestDeduplicator manifestDeduplicator,
+      boolean parallel) {
     LOGGER.debug(
         "live-set#{} content#{}: Start collecting files and base locations, max file modification time: {}.",
         expireParameters().liveContentSet().id(),
@@ -119,44 +167,61 @@ public abstract class PerContentDeleteExpired {
 
     long liveFileCount;
     try (Stream<FileReference> contents =
-        expireParameters()
-            .liveContentSet()
-            .fetchContentReferences(contentId())
+        contentReferences(parallel)
             .flatMap(
                 c -> {
                   @SuppressWarnings("MustBeClosedChecker")
-                  Stream<FileReference> r = expireParameters().contentToFiles().extractFiles(c);
+                  Stream<FileReference> r =
+                      expireParameters().contentToFiles().extractFiles(c, manifestDeduplicator);
                   return r;
                 })) {
       liveFileCount =
           contents
               .peek(f -> addBaseLocation.accept(f.base()))
               .map(FileReference::path)
-              .peek(filter::put)
+              .peek(liveFiles::add)
               .count();
     }
+    liveFiles.finish();
 
     LOGGER.debug(
-        "live-set#{} content#{}: Identified {} live files (configured: {}), with an expected "
-            + "false-positive-probability of {} (configured: {}).",
+        "live-set#{} content#{}: Identified {} live files (configured: {}), skipped {} already "
+            + "read manifests, with an expected false-positive-probability of {} (configured: {}).",
         expireParameters().liveContentSet().id(),
         contentId(),
         liveFileCount,
+        manifestDeduplicator.skippedManifests(),
         expireParameters().expectedFileCount(),
-        filter.expectedFpp(),
+        liveFiles.expectedFpp(),
         expireParameters().falsePositiveProbability());
 
     return liveFileCount;
   }
 
+  @MustBeClosed
+  private Stream<ContentReference> contentReferences(boolean parallel) {
+    @SuppressWarnings("MustBeClosedChecker")
+    Stream<ContentReference> contentReferences =
+        expireParameters().liveContentSet().fetchContentReferences(contentId());
+    if (!parallel) {
+      return contentReferences;
+    }
+    // Materialize the content references, the stream returned by the live-content-set cannot be
+    // split efficiently, so it would not expand the content references in parallel.
+    List<ContentReference> list;
+    try (Stream<ContentReference> s = contentReferences) {
+      list = s.collect(Collectors.toList());
+    }
+    return list.parallelStream();
+  }
+
   /**
    * Second part of {@link #expire()} to walk all base locations and identify the files that are not
    * referenced by any live content object.
    */
-  @SuppressWarnings("UnstableApiUsage")
   @MustBeClosed
   private Stream<FileReference> identifyExpiredFiles(
-      BloomFilter<StorageUri> filter, StorageUri baseLocation) throws NessieFileIOException {
+      LiveFileSet liveFiles, StorageUri baseLocation) throws NessieFileIOException {
     ExpireStats expireStats = new ExpireStats();
     long maxFileTime = expireParameters().maxFileModificationTime().toEpochMilli();
 
@@ -171,7 +236,7 @@ public abstract class PerContentDeleteExpired {
     return list.filter(
             f -> {
               expireStats.totalFiles++;
-              if (filter.mightContain(f.path())) {
+              if (liveFiles.contains(f.path())) {
                 expireStats.liveFiles++;
                 return false;
               }
@@ -205,34 +270,24 @@ public abstract class PerContentDeleteExpired {
     long newFiles = 0;
   }
 
-  @SuppressWarnings("UnstableApiUsage")
-  BloomFilter<StorageUri> createBloomFilter() {
-    return BloomFilter.create(
-        PerContentDeleteExpired::funnel,
-        expireParameters().expectedFileCount(),
-        expireParameters().falsePositiveProbability());
-  }
-
-  /**
-   * Add URI components discretely to the {@link PrimitiveSink}, because that is more efficient than
-   * converting the {@code StorageUri} to a {@code String}, especially since the URIs are almost
-   * always relative and have only the path component.
-   */
-  @SuppressWarnings("UnstableApiUsage")
-  private static void funnel(StorageUri uri, PrimitiveSink sink) {
-    funnelString(uri.scheme(), sink);
-    funnelString(uri.authority(), sink);
-    funnelString(uri.path(), sink);
-  }
-
-  @SuppressWarnings("UnstableApiUsage")
-  private static void funnelString(String s, PrimitiveSink sink) {
-    if (s != null) {
-      sink.putUnencodedChars(s);
+  LiveFileSet createLiveFileSet() {
+    ExpireParameters params = expireParameters();
+    switch (params.liveFileSetType()) {
+      case BLOOM_FILTER:
+        return new BloomFilterLiveFileSet(
+            params.expectedFileCount(), params.falsePositiveProbability());
+      case EXACT:
+        return new SpillingLiveFileSet(
+            params.liveFilesSpillDirectory(), params.liveFilesSpillThreshold());
+      default:
+        throw new IllegalArgumentException(
+            "Unsupported live file set type " + params.liveFileSetType());
     }
   }
 
   abstract ExpireParameters expireParameters();
 
   abstract String contentId();
+
+  abstract Optional<ForkJoinPool> forkJoinPool();
 }
@@ -0,0 +1,467 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.gc.expire;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.primitives.Ints;
+import jakarta.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import org.projectnessie.storage.uri.StorageUri;
+
+/**
+ * Exact {@link LiveFileSet} that can hold more files than fit on heap.
+ *
+ * <p>Files are collected on heap until the spill threshold is reached. The collected files are then
+ * sorted and written as a deflate-compressed run file. Consecutive, sorted file names usually share
+ * a long common prefix, so each entry only contains the length of the prefix shared with the
+ * previous entry and the remaining suffix.
+ *
+ * <p>{@link #finish()} merges all runs into a single file of prefix-compressed blocks of {@value
+ * #BLOCK_ENTRIES} entries, which is memory-mapped. Only the first file of each block is kept on
+ * heap, a lookup binary-searches those and then scans a single block. If no run had to be spilled,
+ * lookups use the sorted on-heap files.
+ */
+final class SpillingLiveFileSet implements LiveFileSet {
+
+  static final int BLOCK_ENTRIES = 128;
+  static final int MAX_SEGMENT_SIZE = 1 << 30;
+
+  private static final Comparator<byte[]> COMPARATOR = Arrays::compareUnsigned;
+  private static final String MERGED_FILE = "live-files";
+
+  @Nullable private final Path spillDirectory;
+  private final int spillThreshold;
+  private final int maxSegmentSize;
+
+  private byte[][] buffer;
+  private int bufferSize;
+  private Path tempDirectory;
+  private final List<Path> runs = new ArrayList<>();
+  private boolean finished;
+  private boolean closed;
+
+  private long elementCount;
+  private byte[][] sortedFiles;
+  private byte[][] blockFirstFiles;
+  private int[] blockSegments;
+  private int[] blockOffsets;
+  private MappedByteBuffer[] segments;
+
+  SpillingLiveFileSet(@Nullable Path spillDirectory, int spillThreshold) {
+    this(spillDirectory, spillThreshold, MAX_SEGMENT_SIZE);
+  }
+
+  SpillingLiveFileSet(@Nullable Path spillDirectory, int spillThreshold, int maxSegmentSize) {
+    checkArgument(spillThreshold > 0, "Spill threshold must be greater than 0");
+    this.spillDirectory = spillDirectory;
+    this.spillThreshold = spillThreshold;
+    this.maxSegmentSize = maxSegmentSize;
+    this.buffer = new byte[Math.min(spillThreshold, 1024)][];
+  }
+
+  @Override
+  public void add(StorageUri file) {
+    byte[] key = file.location().getBytes(UTF_8);
+
+    byte[][] spill = null;
+    int spillSize = 0;
+    synchronized (this) {
+      checkState(!finished, "Live file set already finished");
+      if (bufferSize == buffer.length) {
+        buffer = Arrays.copyOf(buffer, Math.min(spillThreshold, buffer.length * 2));
+      }
+      buffer[bufferSize++] = key;
+      if (bufferSize == spillThreshold) {
+        spill = buffer;
+        spillSize = bufferSize;
+        buffer = new byte[spillThreshold][];
+        bufferSize = 0;
+      }
+    }
+
+    if (spill != null) {
+      // Sort and write the run outside the lock, so other threads can continue to add files.
+      Path run = writeRun(spill, spillSize);
+      synchronized (this) {
+        runs.add(run);
+      }
+    }
+  }
+
+  @Override
+  public synchronized void finish() {
+    checkState(!finished, "Live file set already finished");
+    finished = true;
+
+    if (runs.isEmpty()) {
+      sortedFiles = Arrays.copyOf(buffer, sortUnique(buffer, bufferSize));
+      elementCount = sortedFiles.length;
+      buffer = null;
+      return;
+    }
+
+    if (bufferSize > 0) {
+      runs.add(writeRun(buffer, bufferSize));
+    }
+    buffer = null;
+
+    try {
+      merge();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public boolean contains(StorageUri file) {
+    checkState(finished, "Live file set not finished");
+    byte[] key = file.location().getBytes(UTF_8);
+
+    if (sortedFiles != null) {
+      return Arrays.binarySearch(sortedFiles, key, COMPARATOR) >= 0;
+    }
+
+    int idx = Arrays.binarySearch(blockFirstFiles, key, COMPARATOR);
+    if (idx >= 0) {
+      return true;
+    }
+    int block = -idx - 2;
+    if (block < 0) {
+      return false;
+    }
+
+    ByteBuffer buf = segments[blockSegments[block]].duplicate();
+    buf.position(blockOffsets[block]);
+    int entries = buf.getInt();
+    byte[] current = new byte[Math.max(key.length, 256)];
+    int length = 0;
+    for (int i = 0; i < entries; i++) {
+      int shared = readVarInt(buf);
+      int suffix = readVarInt(buf);
+      length = shared + suffix;
+      if (current.length < length) {
+        current = Arrays.copyOf(current, Math.max(length, current.length * 2));
+      }
+      buf.get(current, shared, suffix);
+      int cmp = Arrays.compareUnsigned(current, 0, length, key, 0, key.length);
+      if (cmp == 0) {
+        return true;
+      }
+      if (cmp > 0) {
+        return false;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public double expectedFpp() {
+    return 0d;
+  }
+
+  @Override
+  public synchronized long approximateElementCount() {
+    return elementCount;
+  }
+
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    finished = true;
+    buffer = null;
+    sortedFiles = null;
+    blockFirstFiles = null;
+    segments = null;
+    if (tempDirectory != null) {
+      try {
+        for (Path run : runs) {
+          Files.deleteIfExists(run);
+        }
+        Files.deleteIfExists(tempDirectory.resolve(MERGED_FILE));
+        Files.deleteIfExists(tempDirectory);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  /** Sorts the first {@code size} elements and moves duplicates to the end, returns the count. */
+  private static int sortUnique(byte[][] files, int size) {
+    Arrays.sort(files, 0, size, COMPARATOR);
+    int unique = 0;
+    for (int i = 0; i < size; i++) {
+      if (unique == 0 || !Arrays.equals(files[unique - 1], files[i])) {
+        files[unique++] = files[i];
+      }
+    }
+    return unique;
+  }
+
+  private Path writeRun(byte[][] files, int size) {
+    int unique = sortUnique(files, size);
+    try {
+      Path run = Files.createTempFile(tempDirectory(), "run-", "");
+      try (DataOutputStream out =
+          new DataOutputStream(
+              new BufferedOutputStream(new DeflaterOutputStream(Files.newOutputStream(run))))) {
+        out.writeInt(unique);
+        byte[] previous = new byte[0];
+        for (int i = 0; i < unique; i++) {
+          writeEntry(out, previous, files[i]);
+          previous = files[i];
+        }
+      }
+      return run;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private synchronized Path tempDirectory() throws IOException {
+    if (tempDirectory == null) {
+      tempDirectory =
+          spillDirectory != null
+              ? Files.createTempDirectory(spillDirectory, "nessie-gc-live-files-")
+              : Files.createTempDirectory("nessie-gc-live-files-");
+    }
+    return tempDirectory;
+  }
+
+  private void merge() throws IOException {
+    Path merged = tempDirectory().resolve(MERGED_FILE);
+
+    PriorityQueue<RunReader> queue =
+        new PriorityQueue<>((a, b) -> COMPARATOR.compare(a.current, b.current));
+    BlockWriter writer;
+    try (DataOutputStream out =
+        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(merged)))) {
+      for (Path run : runs) {
+        RunReader reader = new RunReader(run);
+        if (reader.advance()) {
+          queue.add(reader);
+        } else {
+          reader.close();
+        }
+      }
+
+      writer = new BlockWriter(out, maxSegmentSize);
+      byte[] last = null;
+      while (!queue.isEmpty()) {
+        RunReader reader = queue.poll();
+        byte[] file = reader.current;
+        if (reader.advance()) {
+          queue.add(reader);
+        } else {
+          reader.close();
+        }
+
+        if (last == null || !Arrays.equals(last, file)) {
+          writer.add(file);
+          last = file;
+        }
+      }
+      writer.finish();
+    } finally {
+      for (RunReader reader : queue) {
+        reader.close();
+      }
+    }
+
+    for (Path run : runs) {
+      Files.deleteIfExists(run);
+    }
+    runs.clear();
+
+    elementCount = writer.elementCount;
+    blockFirstFiles = writer.firstFiles.toArray(new byte[0][]);
+    blockSegments = Ints.toArray(writer.segmentIndexes);
+    blockOffsets = Ints.toArray(writer.offsets);
+    segments = new MappedByteBuffer[writer.segmentRanges.size()];
+    try (FileChannel channel = FileChannel.open(merged, StandardOpenOption.READ)) {
+      for (int i = 0; i < segments.length; i++) {
+        long[] range = writer.segmentRanges.get(i);
+        segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, range[0], range[1]);
+      }
+    }
+  }
+
+  private static void writeEntry(DataOutput out, byte[] previous, byte[] file)
+      throws IOException {
+    int max = Math.min(previous.length, file.length);
+    int shared = 0;
+    while (shared < max && previous[shared] == file[shared]) {
+      shared++;
+    }
+    writeVarInt(out, shared);
+    writeVarInt(out, file.length - shared);
+    out.write(file, shared, file.length - shared);
+  }
+
+  private static void writeVarInt(DataOutput out, int value) throws IOException {
+    while ((value & ~0x7f) != 0) {
+      out.writeByte((value & 0x7f) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+  private static int readVarInt(DataInput in) throws IOException {
+    int value = 0;
+    for (int shift = 0; ; shift += 7) {
+      byte b = in.readByte();
+      value |= (b & 0x7f) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+  }
+
+  private static int readVarInt(ByteBuffer buf) {
+    int value = 0;
+    for (int shift = 0; ; shift += 7) {
+      byte b = buf.get();
+      value |= (b & 0x7f) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+  }
+
+  /**
+   * Writes the sorted and distinct files as blocks of {@value #BLOCK_ENTRIES} prefix-compressed
+   * entries, blocks do not span segments, so each segment can be memory-mapped individually.
+   */
+  private static final class BlockWriter {
+    private final DataOutputStream out;
+    private final int maxSegmentSize;
+    private final ByteArrayOutputStream block = new ByteArrayOutputStream();
+    private final DataOutputStream blockOut = new DataOutputStream(block);
+    private int blockEntries;
+    private byte[] previous;
+    private long position;
+    private long segmentStart;
+
+    final List<byte[]> firstFiles = new ArrayList<>();
+    final List<Integer> segmentIndexes = new ArrayList<>();
+    final List<Integer> offsets = new ArrayList<>();
+    final List<long[]> segmentRanges = new ArrayList<>();
+    long elementCount;
+
+    BlockWriter(DataOutputStream out, int maxSegmentSize) {
+      this.out = out;
+      this.maxSegmentSize = maxSegmentSize;
+    }
+
+    void add(byte[] file) throws IOException {
+      if (blockEntries == 0) {
+        firstFiles.add(file);
+        previous = new byte[0];
+      }
+      writeEntry(blockOut, previous, file);
+      previous = file;
+      elementCount++;
+      if (++blockEntries == BLOCK_ENTRIES) {
+        flushBlock();
+      }
+    }
+
+    void finish() throws IOException {
+      if (blockEntries > 0) {
+        flushBlock();
+      }
+      if (position > segmentStart) {
+        segmentRanges.add(new long[] {segmentStart, position - segmentStart});
+      }
+    }
+
+    private void flushBlock() throws IOException {
+      int blockSize = Integer.BYTES + block.size();
+      if (position > segmentStart && position - segmentStart + blockSize > maxSegmentSize) {
+        segmentRanges.add(new long[] {segmentStart, position - segmentStart});
+        segmentStart = position;
+      }
+      segmentIndexes.add(segmentRanges.size());
+      offsets.add((int) (position - segmentStart));
+
+      out.writeInt(blockEntries);
+      block.writeTo(out);
+      position += blockSize;
+
+      block.reset();
+      blockEntries = 0;
+    }
+  }
+
+  /** Sequentially reads the prefix-compressed entries of a run file. */
+  private static final class RunReader implements Closeable {
+    private final DataInputStream in;
+    private int remaining;
+    byte[] current = new byte[0];
+
+    RunReader(Path run) throws IOException {
+      this.in =
+          new DataInputStream(
+              new BufferedInputStream(new InflaterInputStream(Files.newInputStream(run))));
+      this.remaining = in.readInt();
+    }
+
+    boolean advance() throws IOException {
+      if (remaining == 0) {
+        return false;
+      }
+      remaining--;
+      int shared = readVarInt(in);
+      int suffix = readVarInt(in);
+      byte[] next = Arrays.copyOf(current, shared + suffix);
+      in.readFully(next, shared, suffix);
+      current = next;
+      return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+      in.close();
+    }
+  }
+}
@@ -21,6 +21,7 @@ import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Optional;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Stream;
@@ -69,10 +70,18 @@ public abstract class DefaultLocalExpire implements Expire {
 
     @SuppressWarnings("resource")
     ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism());
+    // The pool for the parallel work of the individual contents is shared by all contents, the
+    // total I/O concurrency is bounded by the number of concurrently expired contents times the
+    // per-content parallelism.
+    int perContentParallelism = expireParameters().perContentParallelism();
+    @SuppressWarnings("resource")
+    ForkJoinPool perContentPool =
+        perContentParallelism > 1 ? new ForkJoinPool(parallelism() * perContentParallelism) : null;
     RuntimeException error = null;
     try {
       DeleteSummary deleteSummary =
-          forkJoinPool.invoke(ForkJoinTask.adapt(this::expireInForkJoinPool));
+          forkJoinPool.invoke(
+              ForkJoinTask.adapt(() -> expireInForkJoinPool(Optional.ofNullable(perContentPool))));
       LOGGER.info(
           "live-set#{}: Expiry finished, took {}, deletion summary: {}.",
           expireParameters().liveContentSet().id(),
@@ -85,28 +94,31 @@ public abstract class DefaultLocalExpire implements Expire {
     } finally {
       expireParameters().liveContentSet().finishedExpireContents(clock().instant(), error);
       forkJoinPool.shutdown();
+      if (perContentPool != null) {
+        perContentPool.shutdown();
+      }
     }
   }
 
-  private DeleteSummary expireInForkJoinPool() {
+  private DeleteSummary expireInForkJoinPool(Optional<ForkJoinPool> perContentPool) {
     try (Stream<String> contentIds = expireParameters().liveContentSet().fetchContentIds()) {
       return contentIds
           .parallel()
-          .map(this::expireSingleContent)
+          .map(contentId -> expireSingleContent(contentId, perContentPool))
           .reduce(DeleteSummary.EMPTY, DeleteSummary::add);
     }
   }
 
-  private DeleteSummary expireSingleContent(String contentId) {
+  private DeleteSummary expireSingleContent(
+      String contentId, Optional<ForkJoinPool> perContentPool) {
     LOGGER.debug(
         "live-set#{}: Expiring content ID {}.",
         expireParameters().liveContentSet().id(),
         contentId);
-    return PerContentDeleteExpired.builder()
-        .expireParameters(expireParameters())
-        .contentId(contentId)
-        .build()
-        .expire();
+    PerContentDeleteExpired.Builder perContent =
+        PerContentDeleteExpired.builder().expireParameters(expireParameters()).contentId(contentId);
+    perContentPool.ifPresent(perContent::forkJoinPool);
+    return perContent.build().expire();
   }
 
   abstract ExpireParameters expireParameters();
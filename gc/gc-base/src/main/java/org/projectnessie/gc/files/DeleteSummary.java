@@ -31,9 +31,9 @@ public interface DeleteSummary {
   default DeleteSummary add(DeleteResult deleteResult) {
     switch (deleteResult) {
       case SUCCESS:
-        return of(deleted() + 1L, failures());
+        return ImmutableDeleteSummary.copyOf(this).withDeleted(deleted() + 1L);
       case FAILURE:
-        return of(deleted(), failures() + 1L);
+        return ImmutableDeleteSummary.copyOf(this).withFailures(failures() + 1L);
       default:
         throw new IllegalArgumentException("" + deleteResult);
     }
@@ -41,7 +41,13 @@ public interface DeleteSummary {
 
   @CanIgnoreReturnValue
   default DeleteSummary add(DeleteSummary b) {
-    return of(deleted() + b.deleted(), failures() + b.failures());
+    return of(deleted() + b.deleted(), failures() + b.failures())
+        .withSkippedManifests(skippedManifests() + b.skippedManifests());
+  }
+
+  /** Returns a copy of this summary with the given number of skipped manifests. */
+  default DeleteSummary withSkippedManifests(long skippedManifests) {
+    return ImmutableDeleteSummary.copyOf(this).withSkippedManifests(skippedManifests);
   }
 
   /** Number of successful deletes. */
@@ -51,4 +57,13 @@ public interface DeleteSummary {
   /** Number of deletes that failed. */
   @Value.Parameter(order = 2)
   long failures();
+
+  /**
+   * Number of manifests that did not need to be read again, because those have already been read
+   * for another snapshot of the same content.
+   */
+  @Value.Default
+  default long skippedManifests() {
+    return 0L;
+  }
 }
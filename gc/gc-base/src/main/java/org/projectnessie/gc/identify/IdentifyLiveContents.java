@@ -23,10 +23,13 @@ import jakarta.annotation.Nullable;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.Spliterator;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -35,7 +38,10 @@ import java.util.stream.Stream;
 import org.immutables.value.Value;
 import org.projectnessie.error.NessieNotFoundException;
 import org.projectnessie.gc.contents.AddContents;
+import org.projectnessie.gc.contents.LiveContentSet;
 import org.projectnessie.gc.contents.LiveContentSetsRepository;
+import org.projectnessie.gc.contents.ReferenceWatermark;
+import org.projectnessie.gc.contents.WatermarkCommit;
 import org.projectnessie.gc.repository.RepositoryConnector;
 import org.projectnessie.model.CommitMeta;
 import org.projectnessie.model.Content;
@@ -142,6 +148,29 @@ public abstract class IdentifyLiveContents {
     @CanIgnoreReturnValue
     Builder referenceComparator(ReferenceComparator referenceComparator);
 
+    /**
+     * Enables the incremental mode, which only walks the commits that have been added to a named
+     * reference since the given, previous live content set has been identified. Content references
+     * from commits that are still live are carried forward from the previous live content set.
+     *
+     * <p>References without a recorded {@link ReferenceWatermark watermark} in the previous live
+     * content set, for example new references or references that were not completely walked, are
+     * walked completely.
+     *
+     * @see #recordReferenceWatermarks(boolean)
+     */
+    @CanIgnoreReturnValue
+    Builder previousLiveContentSet(LiveContentSet previousLiveContentSet);
+
+    /**
+     * Whether to record a {@link ReferenceWatermark watermark} for each walked named reference,
+     * default is {@code false}. Watermarks are required by a later, incremental identify run that
+     * uses the live content set of this run as its {@link
+     * #previousLiveContentSet(LiveContentSet) previous live content set}.
+     */
+    @CanIgnoreReturnValue
+    Builder recordReferenceWatermarks(boolean recordReferenceWatermarks);
+
     /**
      * Configures the number of references that can expire concurrently, default is {@value
      * #DEFAULT_PARALLELISM}.
@@ -188,16 +217,22 @@ public abstract class IdentifyLiveContents {
           refs = refs.sorted(refsCmp);
         }
 
+        Set<String> carriedCommits = ConcurrentHashMap.newKeySet();
         Optional<ReferencesWalkResult> result =
             refs.parallel()
-                .map(ref -> identifyContentsForReference(addContents, ref))
+                .map(ref -> identifyContentsForReference(addContents, ref, carriedCommits))
                 .reduce(ReferencesWalkResult::add);
 
+        long carriedContents = carryForwardContents(addContents, carriedCommits);
+
         LOGGER.info(
-            "live-set#{}: Finished walking all named references, took {}: {}.",
+            "live-set#{}: Finished walking all named references, took {}: {}, "
+                + "carried forward {} contents from {} live commits.",
             addContents.id(),
             Duration.between(addContents.created(), clock().instant()),
-            result.isPresent() ? result.get() : "<no result>");
+            result.isPresent() ? result.get() : "<no result>",
+            carriedContents,
+            carriedCommits.size());
 
         addContents.finished();
 
@@ -214,9 +249,8 @@ public abstract class IdentifyLiveContents {
     }
   }
 
-  @SuppressWarnings("resource")
   private ReferencesWalkResult identifyContentsForReference(
-      AddContents addContents, Reference namedReference) {
+      AddContents addContents, Reference namedReference, Set<String> carriedCommits) {
     CutoffPolicy cutoffPolicy = cutOffPolicySupplier().get(namedReference);
 
     if (visitedDeduplicator().alreadyVisited(cutoffPolicy.timestamp(), namedReference.getHash())) {
@@ -230,20 +264,64 @@ public abstract class IdentifyLiveContents {
       return ReferencesWalkResult.singleShortCircuit(0, 0);
     }
 
+    LiveContentSet previous = previousLiveContentSet();
+    ReferenceWatermark previousWatermark =
+        previous != null
+            ? previous.fetchReferenceWatermark(namedReference.getName()).orElse(null)
+            : null;
+
+    ReferencesWalkResult result =
+        walkCommitLog(addContents, namedReference, cutoffPolicy, previousWatermark, carriedCommits);
+    if (result == null) {
+      LOGGER.info(
+          "live-set#{}: Commits of {} older than the previous live content set are live using {}, "
+              + "walking the whole commit log.",
+          addContents.id(),
+          namedReference,
+          cutoffPolicy);
+      result = walkCommitLog(addContents, namedReference, cutoffPolicy, null, carriedCommits);
+    }
+    return result;
+  }
+
+  /**
+   * Walks the commit log of the given reference.
+   *
+   * <p>If a watermark from the previous live content set is given, the commit log is only walked
+   * until the HEAD commit recorded in the watermark. The cut-off policy is then evaluated against
+   * the recorded commits, without fetching those from Nessie again, and the IDs of the recorded
+   * commits that are still live are added to {@code carriedCommits}.
+   *
+   * @return the walk result or {@code null}, if the given watermark cannot be used, because commits
+   *     older than the recorded commits would be live
+   */
+  @SuppressWarnings("resource")
+  @Nullable
+  private ReferencesWalkResult walkCommitLog(
+      AddContents addContents,
+      Reference namedReference,
+      CutoffPolicy cutoffPolicy,
+      @Nullable ReferenceWatermark previousWatermark,
+      Set<String> carriedCommits) {
     LOGGER.info(
-        "live-set#{}: Start walking the commit log of {} using {}.",
+        "live-set#{}: Start walking the commit log of {} using {}{}.",
         addContents.id(),
         namedReference,
-        cutoffPolicy);
+        cutoffPolicy,
+        previousWatermark != null ? ", incrementally" : "");
 
     int numCommits = 0;
     long numContents = 0;
+    List<String> carriedCommitIds = new ArrayList<>();
 
     try (Stream<LogResponse.LogEntry> commits = repositoryConnector().commitLog(namedReference)) {
 
       LogEntryHolder holder = new LogEntryHolder();
       String lastCommitId = null;
       String finalCommitId = null;
+      boolean collectAllKeys = true;
+      List<WatermarkCommit> liveCommits = new ArrayList<>();
+      WatermarkCommit firstNonLiveCommit = null;
 
       for (Spliterator<LogResponse.LogEntry> spliterator = commits.spliterator();
           spliterator.tryAdvance(holder::set); ) {
@@ -277,6 +355,53 @@ public abstract class IdentifyLiveContents {
           return ReferencesWalkResult.singleShortCircuit(numCommits, numContents);
         }
 
+        if (previousWatermark != null
+            && commitHash.equals(previousWatermark.liveCommits().get(0).commitId())) {
+          // Reached the HEAD commit of the previous identify run, evaluate the cut-off policy
+          // against the recorded commits instead of walking the rest of the commit log.
+          int positionOffset = numCommits - previousWatermark.liveCommits().get(0).position();
+          boolean headIsLive = lastCommitId == null;
+          for (WatermarkCommit previousCommit : previousWatermark.liveCommits()) {
+            WatermarkCommit commit =
+                WatermarkCommit.of(
+                    previousCommit.commitId(),
+                    previousCommit.commitTime(),
+                    positionOffset + previousCommit.position());
+            if (headIsLive || !cutoffPolicy.isCutoff(commit.commitTime(), commit.position())) {
+              headIsLive = false;
+              liveCommits.add(commit);
+              carriedCommitIds.add(commit.commitId());
+              lastCommitId = commit.commitId();
+            } else {
+              firstNonLiveCommit = commit;
+              finalCommitId = commit.commitId();
+              break;
+            }
+          }
+
+          if (firstNonLiveCommit == null) {
+            // All recorded live commits are still live.
+            WatermarkCommit previousNonLive = previousWatermark.firstNonLiveCommit();
+            if (previousNonLive != null) {
+              firstNonLiveCommit =
+                  WatermarkCommit.of(
+                      previousNonLive.commitId(),
+                      previousNonLive.commitTime(),
+                      positionOffset + previousNonLive.position());
+              if (!cutoffPolicy.isCutoff(
+                  firstNonLiveCommit.commitTime(), firstNonLiveCommit.position())) {
+                // Commits that were not live in the previous run would be live now.
+                return null;
+              }
+              finalCommitId = firstNonLiveCommit.commitId();
+            }
+            // The contents reachable from the oldest live commit have been collected by the
+            // previous identify run and are carried forward.
+            collectAllKeys = false;
+          }
+          break;
+        }
+
         // The HEAD commit is always live, consult cutoff-policy for all other commits
         if (lastCommitId == null || !cutoffPolicy.isCutoff(commitTime, numCommits)) {
           // commit is "live"
@@ -287,6 +412,7 @@ public abstract class IdentifyLiveContents {
               operations.size(),
               namedReference);
           lastCommitId = commitHash;
+          liveCommits.add(WatermarkCommit.of(commitHash, commitTime, numCommits));
           numContents +=
               addContents.addLiveContent(
                   operations.stream()
@@ -312,12 +438,13 @@ public abstract class IdentifyLiveContents {
         } else {
           // 1st non-live commit
           finalCommitId = commitHash;
+          firstNonLiveCommit = WatermarkCommit.of(commitHash, commitTime, numCommits);
           break;
         }
       }
 
       // Always consider all content reachable from the last live commit.
-      if (lastCommitId != null) {
+      if (lastCommitId != null && collectAllKeys) {
         try {
           numContents += collectAllKeys(addContents, Detached.of(lastCommitId));
         } catch (NessieNotFoundException e) {
@@ -325,22 +452,42 @@ public abstract class IdentifyLiveContents {
         }
       }
 
+      carriedCommits.addAll(carriedCommitIds);
+      if (recordReferenceWatermarks() && !liveCommits.isEmpty()) {
+        addContents.addReferenceWatermark(
+            ReferenceWatermark.of(namedReference.getName(), liveCommits, firstNonLiveCommit));
+      }
+
       LOGGER.info(
-          "live-set#{}: Finished walking the commit log of {} using {} after {} commits, {}",
+          "live-set#{}: Finished walking the commit log of {} using {} after {} commits, "
+              + "{} live commits carried forward, {}",
           addContents.id(),
           namedReference,
           cutoffPolicy,
           numCommits,
+          carriedCommitIds.size(),
           finalCommitId != null
               ? format("commit %s is the first non-live commit.", finalCommitId)
               : "no more commits");
-      return ReferencesWalkResult.single(numCommits, numContents);
+      return ReferencesWalkResult.single(numCommits, numContents, carriedCommitIds.size());
     } catch (NessieNotFoundException e) {
       throw new RuntimeException(
           "GC-run#" + addContents.id() + ": Could not find reference " + namedReference, e);
     }
   }
 
+  /**
+   * Adds the content references of the previous live content set that have been found at commits
+   * that are still live.
+   */
+  private long carryForwardContents(AddContents addContents, Set<String> carriedCommits) {
+    LiveContentSet previous = previousLiveContentSet();
+    if (previous == null || carriedCommits.isEmpty()) {
+      return 0L;
+    }
+    return addContents.carryForwardLiveContent(previous.id(), carriedCommits);
+  }
+
   @SuppressWarnings("resource")
   private long collectAllKeys(AddContents addContents, Detached ref)
       throws NessieNotFoundException {
@@ -358,21 +505,27 @@ public abstract class IdentifyLiveContents {
     final int numCommits;
     final int shortCircuits;
     final long numContents;
+    final int numCarriedCommits;
 
     private ReferencesWalkResult(
-        int numReferences, int numCommits, int shortCircuits, long numContents) {
+        int numReferences,
+        int numCommits,
+        int shortCircuits,
+        long numContents,
+        int numCarriedCommits) {
       this.numReferences = numReferences;
       this.numCommits = numCommits;
       this.shortCircuits = shortCircuits;
       this.numContents = numContents;
+      this.numCarriedCommits = numCarriedCommits;
     }
 
     static ReferencesWalkResult singleShortCircuit(int numCommits, long numContents) {
-      return new ReferencesWalkResult(1, numCommits, 1, numContents);
+      return new ReferencesWalkResult(1, numCommits, 1, numContents, 0);
     }
 
-    static ReferencesWalkResult single(int numCommits, long numContents) {
-      return new ReferencesWalkResult(1, numCommits, 0, numContents);
+    static ReferencesWalkResult single(int numCommits, long numContents, int numCarriedCommits) {
+      return new ReferencesWalkResult(1, numCommits, 0, numContents, numCarriedCommits);
     }
 
     ReferencesWalkResult add(ReferencesWalkResult other) {
@@ -380,7 +533,8 @@ public abstract class IdentifyLiveContents {
           numReferences + other.numReferences,
           numCommits + other.numCommits,
           shortCircuits + other.shortCircuits,
-          numContents + other.numContents);
+          numContents + other.numContents,
+          numCarriedCommits + other.numCarriedCommits);
     }
 
     @Override
@@ -392,7 +546,9 @@ public abstract class IdentifyLiveContents {
           + ", numContents="
           + numContents
           + ", shortCircuits="
-          + shortCircuits;
+          + shortCircuits
+          + ", numCarriedCommits="
+          + numCarriedCommits;
     }
   }
 
@@ -427,6 +583,14 @@ public abstract class IdentifyLiveContents {
   @Nullable
   abstract ReferenceComparator referenceComparator();
 
+  @Nullable
+  abstract LiveContentSet previousLiveContentSet();
+
+  @Value.Default
+  boolean recordReferenceWatermarks() {
+    return false;
+  }
+
   @Value.Default
   int parallelism() {
     return DEFAULT_PARALLELISM;
@@ -16,6 +16,8 @@
 package org.projectnessie.gc.contents;
 
 import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
@@ -23,6 +25,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.projectnessie.gc.contents.inmem.InMemoryPersistenceSpi;
 import org.projectnessie.gc.contents.spi.PersistenceSpi;
+import org.projectnessie.model.Content;
+import org.projectnessie.model.ContentKey;
 
 @ExtendWith(SoftAssertionsExtension.class)
 public class TestLiveContentsSetRepository {
@@ -61,4 +65,44 @@ public class TestLiveContentsSetRepository {
     soft.assertThat(liveContentSet.status()).isSameAs(LiveContentSet.Status.IDENTIFY_SUCCESS);
     soft.assertThat(liveContentSet.errorMessage()).isNull();
   }
+
+  @Test
+  public void batchedLiveContents() throws Exception {
+    PersistenceSpi persistenceSpi = new InMemoryPersistenceSpi();
+
+    LiveContentSetsRepository liveContentSetsRepository =
+        LiveContentSetsRepository.builder()
+            .persistenceSpi(persistenceSpi)
+            .liveContentsBatchSize(3)
+            .build();
+    UUID id;
+    try (AddContents addContents = liveContentSetsRepository.newAddContents()) {
+      id = addContents.id();
+      // 2 pending content references
+      soft.assertThat(addContents.addLiveContent(contentReferences(0, 2))).isEqualTo(0L);
+      // 1 batch of 3 content references plus the now 3 pending content references
+      soft.assertThat(addContents.addLiveContent(contentReferences(2, 6))).isEqualTo(6L);
+      // 2 pending content references, persisted by close()
+      soft.assertThat(addContents.addLiveContent(contentReferences(6, 8))).isEqualTo(0L);
+      soft.assertThat(persistenceSpi.fetchDistinctContentIdCount(id)).isEqualTo(6L);
+      addContents.finished();
+    }
+
+    LiveContentSet liveContentSet = liveContentSetsRepository.getLiveContentSet(id);
+    soft.assertThat(liveContentSet.status()).isSameAs(LiveContentSet.Status.IDENTIFY_SUCCESS);
+    soft.assertThat(liveContentSet.fetchDistinctContentIdCount()).isEqualTo(8L);
+  }
+
+  private static Stream<ContentReference> contentReferences(int from, int to) {
+    return IntStream.range(from, to)
+        .mapToObj(
+            i ->
+                ContentReference.icebergContent(
+                    Content.Type.ICEBERG_TABLE,
+                    "cid-" + i,
+                    "12345678",
+                    ContentKey.of("table-" + i),
+                    "meta-" + i,
+                    i));
+  }
 }
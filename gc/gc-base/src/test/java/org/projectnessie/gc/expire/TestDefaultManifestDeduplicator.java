@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.gc.expire;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.storage.uri.StorageUri;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestDefaultManifestDeduplicator {
+  @InjectSoftAssertions SoftAssertions soft;
+
+  static final StorageUri BASE_1 = StorageUri.of("s3://bucket/table1/");
+  static final StorageUri BASE_2 = StorageUri.of("s3://bucket/table2/");
+  static final StorageUri MANIFEST_1 = StorageUri.of("s3://bucket/table1/metadata/m1.avro");
+  static final StorageUri MANIFEST_2 = StorageUri.of("s3://bucket/table1/metadata/m2.avro");
+  static final StorageUri MANIFEST_3 = StorageUri.of("s3://bucket/table1/metadata/m3.avro");
+
+  @Test
+  public void deduplicate() {
+    DefaultManifestDeduplicator dedup = new DefaultManifestDeduplicator(10);
+
+    soft.assertThat(dedup.alreadyExpanded(BASE_1, MANIFEST_1)).isFalse();
+    soft.assertThat(dedup.alreadyExpanded(BASE_1, MANIFEST_1)).isTrue();
+    soft.assertThat(dedup.alreadyExpanded(BASE_1, MANIFEST_2)).isFalse();
+    soft.assertThat(dedup.alreadyExpanded(BASE_1, MANIFEST_2)).isTrue();
+    soft.assertThat(dedup.alreadyExpanded(BASE_1, MANIFEST_1)).isTrue();
+
+    // Files are relative to the base location, so the same manifest must be expanded again for
+    // another base location
+    soft.assertThat(dedup.alreadyExpanded(BASE_2, MANIFEST_1)).isFalse();
+    soft.assertThat(dedup.alreadyExpanded(BASE_2, MANIFEST_1)).isTrue();
+
+    soft.assertThat(dedup.skippedManifests()).isEqualTo(4L);
+  }
+
+  @Test
+  public void bounded() {
+    DefaultManifestDeduplicator dedup = new DefaultManifestDeduplicator(2);
+
+    soft.assertThat(dedup.alreadyExpanded(BASE_1, MANIFEST_1)).isFalse();
+    soft.assertThat(dedup.alreadyExpanded(BASE_1, MANIFEST_2)).isFalse();
+    // bound reached, manifest-3 is not remembered and must be read every time
+    soft.assertThat(dedup.alreadyExpanded(BASE_1, MANIFEST_3)).isFalse();
+    soft.assertThat(dedup.alreadyExpanded(BASE_1, MANIFEST_3)).isFalse();
+    // already remembered manifests are still deduplicated
+    soft.assertThat(dedup.alreadyExpanded(BASE_1, MANIFEST_1)).isTrue();
+    soft.assertThat(dedup.alreadyExpanded(BASE_1, MANIFEST_2)).isTrue();
+
+    soft.assertThat(dedup.skippedManifests()).isEqualTo(2L);
+  }
+
+  @Test
+  public void disabled() {
+    DefaultManifestDeduplicator dedup = new DefaultManifestDeduplicator(0);
+
+    soft.assertThat(dedup.alreadyExpanded(BASE_1, MANIFEST_1)).isFalse();
+    soft.assertThat(dedup.alreadyExpanded(BASE_1, MANIFEST_1)).isFalse();
+    soft.assertThat(dedup.skippedManifests()).isZero();
+  }
+}
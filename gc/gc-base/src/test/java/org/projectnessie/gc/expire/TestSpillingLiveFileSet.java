@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.gc.expire;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.projectnessie.storage.uri.StorageUri;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestSpillingLiveFileSet {
+  @InjectSoftAssertions SoftAssertions soft;
+
+  @TempDir Path tempDir;
+
+  static StorageUri file(int i) {
+    return StorageUri.of(String.format("data/%08d-%d.parquet", i, i % 7));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    // number of files, spill threshold, max segment size
+    "0,10,1000000",
+    "1,10,1000000",
+    "500,1000,1000000",
+    "500,1,1000000",
+    "5000,100,1000000",
+    "5000,333,2000"
+  })
+  public void exactMembership(int numFiles, int spillThreshold, int maxSegmentSize)
+      throws Exception {
+    try (SpillingLiveFileSet liveFiles =
+        new SpillingLiveFileSet(tempDir, spillThreshold, maxSegmentSize)) {
+      // Add every file twice to exercise deduplication within and across runs
+      IntStream.range(0, numFiles * 2)
+          .parallel()
+          .map(i -> (i * 2) % (numFiles * 2))
+          .forEach(i -> liveFiles.add(file(i)));
+      liveFiles.finish();
+
+      soft.assertThat(liveFiles.approximateElementCount()).isEqualTo(numFiles);
+      soft.assertThat(liveFiles.expectedFpp()).isZero();
+      for (int i = -1; i <= numFiles * 2; i++) {
+        soft.assertThat(liveFiles.contains(file(i)))
+            .describedAs("file %d", i)
+            .isEqualTo(i >= 0 && i < numFiles * 2 && (i & 1) == 0);
+      }
+      soft.assertThat(liveFiles.contains(StorageUri.of("a"))).isFalse();
+      soft.assertThat(liveFiles.contains(StorageUri.of("zzz"))).isFalse();
+    }
+
+    try (Stream<Path> files = Files.list(tempDir)) {
+      soft.assertThat(files).isEmpty();
+    }
+  }
+
+  @Test
+  public void notFinished() {
+    try (SpillingLiveFileSet liveFiles = new SpillingLiveFileSet(tempDir, 10)) {
+      liveFiles.add(file(1));
+      soft.assertThatIllegalStateException()
+          .isThrownBy(() -> liveFiles.contains(file(1)))
+          .withMessage("Live file set not finished");
+      liveFiles.finish();
+      soft.assertThatIllegalStateException()
+          .isThrownBy(() -> liveFiles.add(file(2)))
+          .withMessage("Live file set already finished");
+      soft.assertThat(liveFiles.contains(file(1))).isTrue();
+    }
+  }
+}
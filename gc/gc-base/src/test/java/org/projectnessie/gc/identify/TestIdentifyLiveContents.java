@@ -19,28 +19,48 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.projectnessie.gc.contents.ContentReference.icebergContent;
 import static org.projectnessie.jaxrs.ext.NessieJaxRsExtension.jaxRsExtension;
 
+import com.google.common.collect.Maps;
 import java.time.Instant;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.projectnessie.client.api.NessieApiV1;
 import org.projectnessie.client.ext.NessieClientFactory;
+import org.projectnessie.gc.contents.LiveContentSet;
 import org.projectnessie.gc.contents.LiveContentSetsRepository;
 import org.projectnessie.gc.contents.inmem.InMemoryPersistenceSpi;
 import org.projectnessie.gc.repository.NessieRepositoryConnector;
 import org.projectnessie.gc.repository.RepositoryConnector;
 import org.projectnessie.jaxrs.ext.NessieJaxRsExtension;
+import org.projectnessie.model.Branch;
+import org.projectnessie.model.CommitMeta;
 import org.projectnessie.model.Content;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.Detached;
+import org.projectnessie.model.IcebergTable;
+import org.projectnessie.model.LogResponse;
+import org.projectnessie.model.Operation;
+import org.projectnessie.model.Reference;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.inmemorytests.InmemoryBackendTestFactory;
 import org.projectnessie.versioned.storage.testextension.NessieBackend;
 import org.projectnessie.versioned.storage.testextension.NessiePersist;
 import org.projectnessie.versioned.storage.testextension.PersistExtension;
 
-@ExtendWith(PersistExtension.class)
+@ExtendWith({PersistExtension.class, SoftAssertionsExtension.class})
 @NessieBackend(InmemoryBackendTestFactory.class)
 public class TestIdentifyLiveContents {
 
@@ -48,6 +68,8 @@ public class TestIdentifyLiveContents {
 
   @RegisterExtension static NessieJaxRsExtension server = jaxRsExtension(() -> persist);
 
+  @InjectSoftAssertions protected SoftAssertions soft;
+
   private NessieApiV1 nessieApi;
 
   @BeforeEach
@@ -126,4 +148,126 @@ public class TestIdentifyLiveContents {
           .hasMessageContaining("identifyLiveContents() has already been called");
     }
   }
+
+  @ParameterizedTest
+  @CsvSource({
+    // head commit of the 1st run, head commit of the 2nd run, number of commits (cut-off policy)
+    // regular incremental run, only the new commits need to be walked
+    "10,13,5",
+    // no new commits
+    "10,10,5",
+    // commits that were not live in the 1st run would be live, walks the whole commit log
+    "10,13,10",
+    // more commits than the cut-off policy retains
+    "10,20,5"
+  })
+  public void incremental(int firstHead, int secondHead, int commits) throws Exception {
+    LiveContentSetsRepository repository =
+        LiveContentSetsRepository.builder().persistenceSpi(new InMemoryPersistenceSpi()).build();
+
+    LiveContentSet first =
+        repository.getLiveContentSet(
+            fakeRepositoryIdentify(repository, firstHead, 5, null, true, new AtomicInteger())
+                .identifyLiveContents());
+
+    AtomicInteger walked = new AtomicInteger();
+    LiveContentSet incremental =
+        repository.getLiveContentSet(
+            fakeRepositoryIdentify(repository, secondHead, commits, first, true, walked)
+                .identifyLiveContents());
+    LiveContentSet full =
+        repository.getLiveContentSet(
+            fakeRepositoryIdentify(
+                    repository, secondHead, commits, null, false, new AtomicInteger())
+                .identifyLiveContents());
+
+    soft.assertThat(incremental.status()).isEqualTo(LiveContentSet.Status.IDENTIFY_SUCCESS);
+    soft.assertThat(first.fetchReferenceWatermark("main")).isPresent();
+    soft.assertThat(incremental.fetchReferenceWatermark("main")).isPresent();
+    // Watermarks are only recorded, if requested
+    soft.assertThat(full.fetchReferenceWatermark("main")).isEmpty();
+    try (Stream<String> incrementalIds = incremental.fetchContentIds();
+        Stream<String> fullIds = full.fetchContentIds()) {
+      soft.assertThat(incrementalIds)
+          .containsExactlyInAnyOrderElementsOf(fullIds.collect(Collectors.toList()));
+    }
+    if (commits == 5) {
+      // Commits of the 1st run are not walked again
+      soft.assertThat(walked).hasValue(Math.min(secondHead - firstHead + 1, commits + 1));
+    }
+  }
+
+  private IdentifyLiveContents fakeRepositoryIdentify(
+      LiveContentSetsRepository repository,
+      int head,
+      int commits,
+      LiveContentSet previous,
+      boolean recordWatermarks,
+      AtomicInteger walked) {
+    Instant now = Instant.now();
+    return IdentifyLiveContents.builder()
+        .contentTypeFilter(
+            new ContentTypeFilter() {
+              @Override
+              public boolean test(Content.Type type) {
+                return true;
+              }
+
+              @Override
+              public Set<Content.Type> validTypes() {
+                throw new UnsupportedOperationException();
+              }
+            })
+        .cutOffPolicySupplier(r -> CutoffPolicy.numCommits(commits))
+        .contentToContentReference(
+            (content, commitId, key) -> icebergContent(commitId, key, content))
+        .liveContentSetsRepository(repository)
+        .previousLiveContentSet(previous)
+        .recordReferenceWatermarks(recordWatermarks)
+        .repositoryConnector(
+            new RepositoryConnector() {
+              @Override
+              public Stream<Reference> allReferences() {
+                return Stream.of(Branch.of("main", commitId(head)));
+              }
+
+              @Override
+              public Stream<LogResponse.LogEntry> commitLog(Reference ref) {
+                return IntStream.iterate(head, i -> i > 0, i -> i - 1)
+                    .peek(i -> walked.incrementAndGet())
+                    .mapToObj(
+                        i ->
+                            LogResponse.LogEntry.builder()
+                                .commitMeta(
+                                    CommitMeta.builder()
+                                        .commitTime(now.minusSeconds(head - i))
+                                        .hash(commitId(i))
+                                        .message("commit " + i)
+                                        .build())
+                                .addOperations(
+                                    Operation.Put.of(
+                                        ContentKey.of("commit-" + i), table("commit-" + i)))
+                                .build());
+              }
+
+              @Override
+              public Stream<Map.Entry<ContentKey, Content>> allContents(
+                  Detached ref, Set<Content.Type> types) {
+                String name = "contents-" + Integer.parseInt(ref.getHash(), 16);
+                return Stream.of(Maps.immutableEntry(ContentKey.of(name), table(name)));
+              }
+
+              @Override
+              public void close() {}
+            })
+        .build();
+  }
+
+  private static String commitId(int i) {
+    return String.format("%016x", i);
+  }
+
+  private static Content table(String name) {
+    return IcebergTable.of("meep://bucket/" + name + "/metadata.json", 1, 2, 3, 4, name);
+  }
 }
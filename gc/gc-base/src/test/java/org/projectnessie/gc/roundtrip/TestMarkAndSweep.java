@@ -16,6 +16,8 @@
 package org.projectnessie.gc.roundtrip;
 
 import static org.projectnessie.gc.contents.ContentReference.icebergContent;
+import static org.projectnessie.gc.expire.LiveFileSetType.BLOOM_FILTER;
+import static org.projectnessie.gc.expire.LiveFileSetType.EXACT;
 import static org.projectnessie.gc.identify.CutoffPolicy.atTimestamp;
 import static org.projectnessie.gc.identify.CutoffPolicy.numCommits;
 import static org.projectnessie.model.Content.Type.ICEBERG_TABLE;
@@ -45,6 +47,7 @@ import org.projectnessie.gc.contents.LiveContentSet.Status;
 import org.projectnessie.gc.contents.LiveContentSetsRepository;
 import org.projectnessie.gc.contents.inmem.InMemoryPersistenceSpi;
 import org.projectnessie.gc.expire.ExpireParameters;
+import org.projectnessie.gc.expire.LiveFileSetType;
 import org.projectnessie.gc.expire.local.DefaultLocalExpire;
 import org.projectnessie.gc.files.DeleteResult;
 import org.projectnessie.gc.files.DeleteSummary;
@@ -76,10 +79,14 @@ public class TestMarkAndSweep {
 
   static Stream<Arguments> markAndSweep() {
     return Stream.of(
-        Arguments.arguments(new MarkAndSweep(100L, 10, 2L, false)),
-        Arguments.arguments(new MarkAndSweep(100L, 10, 2L, true)),
-        Arguments.arguments(new MarkAndSweep(100_000L, 10_000, 2L, false)),
-        Arguments.arguments(new MarkAndSweep(100_000L, 10_000, 2L, true)));
+        Arguments.arguments(new MarkAndSweep(100L, 10, 2L, false, 1, BLOOM_FILTER)),
+        Arguments.arguments(new MarkAndSweep(100L, 10, 2L, true, 1, BLOOM_FILTER)),
+        Arguments.arguments(new MarkAndSweep(100L, 10, 2L, false, 4, BLOOM_FILTER)),
+        Arguments.arguments(new MarkAndSweep(100L, 10, 2L, false, 1, EXACT)),
+        Arguments.arguments(new MarkAndSweep(100_000L, 10_000, 2L, false, 1, BLOOM_FILTER)),
+        Arguments.arguments(new MarkAndSweep(100_000L, 10_000, 2L, true, 1, BLOOM_FILTER)),
+        Arguments.arguments(new MarkAndSweep(100_000L, 10_000, 2L, true, 4, BLOOM_FILTER)),
+        Arguments.arguments(new MarkAndSweep(100_000L, 10_000, 2L, true, 4, EXACT)));
   }
 
   static class MarkAndSweep {
@@ -93,8 +100,16 @@ public class TestMarkAndSweep {
     final long newestToDeleteMillis;
     final long tooNewMillis;
     final boolean atTimestamp;
-
-    MarkAndSweep(long numCommits, int numKeysAtCutOff, long numExpired, boolean atTimestamp) {
+    final int perContentParallelism;
+    final LiveFileSetType liveFileSetType;
+
+    MarkAndSweep(
+        long numCommits,
+        int numKeysAtCutOff,
+        long numExpired,
+        boolean atTimestamp,
+        int perContentParallelism,
+        LiveFileSetType liveFileSetType) {
       this.numCommits = numCommits;
       this.numKeysAtCutOff = numKeysAtCutOff;
       this.numExpired = numExpired;
@@ -102,6 +117,8 @@ public class TestMarkAndSweep {
       this.newestToDeleteMillis = maxFileModificationTime.toEpochMilli();
       this.tooNewMillis = maxFileModificationTime.toEpochMilli() + 1;
       this.atTimestamp = atTimestamp;
+      this.perContentParallelism = perContentParallelism;
+      this.liveFileSetType = liveFileSetType;
     }
 
     @Override
@@ -115,6 +132,10 @@ public class TestMarkAndSweep {
           + numExpired
           + ", atTimestamp="
           + atTimestamp
+          + ", perContentParallelism="
+          + perContentParallelism
+          + ", liveFileSetType="
+          + liveFileSetType
           + '}';
     }
 
@@ -300,6 +321,8 @@ public class TestMarkAndSweep {
                     .filesLister(lister)
                     .fileDeleter(deleter)
                     .expectedFileCount(100)
+                    .perContentParallelism(markAndSweep.perContentParallelism)
+                    .liveFileSetType(markAndSweep.liveFileSetType)
                     .contentToFiles(
                         contentReference -> {
                           StorageUri baseLocation =
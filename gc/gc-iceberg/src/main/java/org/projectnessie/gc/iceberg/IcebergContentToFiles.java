@@ -27,6 +27,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.apache.iceberg.ManifestFile;
@@ -42,6 +43,7 @@ import org.apache.iceberg.view.ViewMetadataParser;
 import org.immutables.value.Value;
 import org.projectnessie.gc.contents.ContentReference;
 import org.projectnessie.gc.expire.ContentToFiles;
+import org.projectnessie.gc.expire.ManifestDeduplicator;
 import org.projectnessie.gc.files.FileReference;
 import org.projectnessie.model.Content;
 import org.projectnessie.storage.uri.StorageUri;
@@ -91,9 +93,21 @@ public abstract class IcebergContentToFiles implements ContentToFiles {
   @Override
   @MustBeClosed
   public Stream<FileReference> extractFiles(ContentReference contentReference) {
+    return extractFiles(contentReference, ManifestDeduplicator.NOOP);
+  }
+
+  /**
+   * Like {@link #extractFiles(ContentReference)}, but does not read the data and delete files of
+   * manifest files that have already been expanded according to the given {@link
+   * ManifestDeduplicator}. The manifest files themselves are always returned.
+   */
+  @Override
+  @MustBeClosed
+  public Stream<FileReference> extractFiles(
+      ContentReference contentReference, ManifestDeduplicator manifestDeduplicator) {
     Content.Type contentType = contentReference.contentType();
     if (contentType.equals(ICEBERG_TABLE)) {
-      return extractTableFiles(contentReference);
+      return extractTableFiles(contentReference, manifestDeduplicator);
     } else if (contentType.equals(ICEBERG_VIEW)) {
       return extractViewFiles(contentReference);
     } else {
@@ -119,7 +133,8 @@ public abstract class IcebergContentToFiles implements ContentToFiles {
     return extractFilesRelativize(allFiles, baseUri);
   }
 
-  private Stream<FileReference> extractTableFiles(ContentReference contentReference) {
+  private Stream<FileReference> extractTableFiles(
+      ContentReference contentReference, ManifestDeduplicator manifestDeduplicator) {
     FileIO io = io();
 
     TableMetadata tableMetadata;
@@ -139,6 +154,8 @@ public abstract class IcebergContentToFiles implements ContentToFiles {
 
     Map<Integer, PartitionSpec> specsById = tableMetadata.specsById();
 
+    StorageUri baseUri = baseUri(tableMetadata, contentReference);
+
     Stream<StorageUri> allFiles = elementaryUrisFromSnapshot(snapshot, contentReference);
 
     if (snapshot != null) {
@@ -152,7 +169,12 @@ public abstract class IcebergContentToFiles implements ContentToFiles {
                         try {
                           @SuppressWarnings("MustBeClosedChecker")
                           Stream<StorageUri> r =
-                              allManifestsAndDataFiles(io, snapshot, specsById, contentReference);
+                              allManifestsAndDataFiles(
+                                  io,
+                                  snapshot,
+                                  specsById,
+                                  contentReference,
+                                  mf -> manifestDeduplicator.alreadyExpanded(baseUri, mf));
                           return r;
                         } catch (Exception e) {
                           String msg =
@@ -172,8 +194,6 @@ public abstract class IcebergContentToFiles implements ContentToFiles {
                       }));
     }
 
-    StorageUri baseUri = baseUri(tableMetadata, contentReference);
-
     return extractFilesRelativize(allFiles, baseUri);
   }
 
@@ -251,10 +271,28 @@ public abstract class IcebergContentToFiles implements ContentToFiles {
       Snapshot snapshot,
       Map<Integer, PartitionSpec> specsById,
       ContentReference contentReference) {
+    return allManifestsAndDataFiles(io, snapshot, specsById, contentReference, mf -> false);
+  }
+
+  /**
+   * Like {@link #allManifestsAndDataFiles(FileIO, Snapshot, Map, ContentReference)}, but does not
+   * read the data and delete files of manifest files for which {@code alreadyExpanded} returns
+   * {@code true}.
+   */
+  @MustBeClosed
+  static Stream<StorageUri> allManifestsAndDataFiles(
+      FileIO io,
+      Snapshot snapshot,
+      Map<Integer, PartitionSpec> specsById,
+      ContentReference contentReference,
+      Predicate<StorageUri> alreadyExpanded) {
     return allManifests(io, specsById, snapshot)
         .flatMap(
             mf -> {
               StorageUri manifestFileLoc = manifestFileUri(mf, contentReference);
+              if (alreadyExpanded.test(manifestFileLoc)) {
+                return Stream.of(manifestFileLoc);
+              }
               @SuppressWarnings("MustBeClosedChecker")
               Stream<StorageUri> allDataAndDeleteFiles =
                   allDataAndDeleteFiles(io, specsById, mf, contentReference);
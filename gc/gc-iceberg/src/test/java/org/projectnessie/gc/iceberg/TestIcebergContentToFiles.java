@@ -56,6 +56,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.projectnessie.gc.contents.ContentReference;
+import org.projectnessie.gc.expire.DefaultManifestDeduplicator;
 import org.projectnessie.gc.files.FileReference;
 import org.projectnessie.gc.iceberg.mocks.IcebergFileIOMocking;
 import org.projectnessie.gc.iceberg.mocks.ImmutableMockSnapshot;
@@ -168,6 +169,52 @@ public class TestIcebergContentToFiles {
     }
   }
 
+  @Test
+  public void manifestDeduplication() {
+    String tableId = UUID.randomUUID().toString();
+    String tableMetaLocation = tableMetadataLocation(tableId, 0);
+    MockSnapshot tableSnapshot =
+        ImmutableMockSnapshot.builder()
+            .manifestListLocation(manifestListLocation(tableId, 0))
+            .tableUuid(tableId)
+            .build();
+    MockTableMetadata tableMetadata =
+        ImmutableMockTableMetadata.builder()
+            .location(tableBase(tableId))
+            .tableUuid(tableId)
+            .addSnapshots(tableSnapshot)
+            .build();
+    IcebergFileIOMocking fileIO = IcebergFileIOMocking.forSingleSnapshot(tableMetadata);
+    ContentReference contentReference =
+        icebergContent(
+            ICEBERG_TABLE, "cid", "12345678", ContentKey.of("foo", "bar"), tableMetaLocation, 0L);
+
+    IcebergContentToFiles contentToFiles = IcebergContentToFiles.builder().io(fileIO).build();
+    DefaultManifestDeduplicator dedup = new DefaultManifestDeduplicator(10);
+
+    try (Stream<FileReference> extractFiles =
+        contentToFiles.extractFiles(contentReference, dedup)) {
+      soft.assertThat(extractFiles)
+          .map(FileReference::absolutePath)
+          .containsExactlyInAnyOrder(
+              StorageUri.of(tableMetaLocation),
+              StorageUri.of(manifestListLocation(tableId, 0)),
+              StorageUri.of(manifestFileLocation(tableId, 0, 0)),
+              StorageUri.of(dataFilePath(tableId, 0, 0, 0)));
+    }
+    // The manifest is still returned, but its data files are not read again
+    try (Stream<FileReference> extractFiles =
+        contentToFiles.extractFiles(contentReference, dedup)) {
+      soft.assertThat(extractFiles)
+          .map(FileReference::absolutePath)
+          .containsExactlyInAnyOrder(
+              StorageUri.of(tableMetaLocation),
+              StorageUri.of(manifestListLocation(tableId, 0)),
+              StorageUri.of(manifestFileLocation(tableId, 0, 0)));
+    }
+    soft.assertThat(dedup.skippedManifests()).isEqualTo(1L);
+  }
+
   @Test
   public void safeAgainstMissingTableMetadata() {
     InputFile inputFile = mock(InputFile.class);
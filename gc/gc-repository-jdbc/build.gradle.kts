@@ -14,7 +14,10 @@
  * limitations under the License.
  */
 
-plugins { id("nessie-conventions-client") }
+plugins {
+  id("nessie-conventions-client")
+  alias(libs.plugins.jmh)
+}
 
 publishingHelper { mavenName = "Nessie - GC - JDBC live-contents-set persistence" }
 
@@ -67,4 +70,10 @@ dependencies {
   intTestRuntimeOnly(libs.docker.java.api)
   intTestImplementation(project(":nessie-container-spec-helper"))
   intTestCompileOnly(libs.immutables.value.annotations)
+
+  jmhImplementation(libs.jmh.core)
+  jmhAnnotationProcessor(libs.jmh.generator.annprocess)
+  jmhRuntimeOnly(libs.logback.classic)
 }
+
+jmh { jmhVersion = libs.versions.jmh.get() }
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.gc.contents.jdbc;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.projectnessie.gc.contents.ContentReference.icebergContent;
+import static org.projectnessie.model.Content.Type.ICEBERG_TABLE;
+
+import java.sql.Connection;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.projectnessie.gc.contents.AddContents;
+import org.projectnessie.gc.contents.ContentReference;
+import org.projectnessie.gc.contents.LiveContentSetsRepository;
+import org.projectnessie.gc.files.FileReference;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.storage.uri.StorageUri;
+
+/**
+ * Insert throughput of the JDBC live-content-set persistence against an in-memory H2 database.
+ *
+ * <p>{@code batchSize} is the number of rows per {@code INSERT} statement and the number of content
+ * references collected by {@link AddContents}, {@code 1} is the row-by-row behavior.
+ */
+@Warmup(iterations = 2, time = 2000, timeUnit = MILLISECONDS)
+@Measurement(iterations = 3, time = 1000, timeUnit = MILLISECONDS)
+@Fork(1)
+@Threads(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+public class JdbcPersistenceInsertBench {
+  @State(Scope.Benchmark)
+  public static class BenchmarkParam {
+
+    @Param({"1", "10", "100", "1000"})
+    public int batchSize;
+
+    @Param({"1000"})
+    public int rows;
+
+    /** Number of content references per {@link AddContents#addLiveContent(Stream)} invocation. */
+    @Param({"2"})
+    public int rowsPerCommit;
+
+    DataSource dataSource;
+    JdbcPersistenceSpi persistenceSpi;
+    LiveContentSetsRepository repository;
+
+    @Setup
+    public void init() throws Exception {
+      dataSource =
+          AgroalJdbcDataSourceProvider.builder()
+              .jdbcUrl("jdbc:h2:mem:gc-bench;MODE=PostgreSQL")
+              .usernamePasswordCredentials("test", "test")
+              .poolMinSize(1)
+              .poolMaxSize(1)
+              .poolInitialSize(1)
+              .build()
+              .dataSource();
+      try (Connection conn = dataSource.getConnection()) {
+        JdbcHelper.createTables(conn, false);
+      }
+      persistenceSpi =
+          JdbcPersistenceSpi.builder().dataSource(dataSource).batchSize(batchSize).build();
+      repository =
+          LiveContentSetsRepository.builder()
+              .persistenceSpi(persistenceSpi)
+              .liveContentsBatchSize(batchSize)
+              .build();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+      try (Connection conn = dataSource.getConnection()) {
+        JdbcHelper.dropTables(conn);
+      } finally {
+        if (dataSource instanceof AutoCloseable) {
+          ((AutoCloseable) dataSource).close();
+        }
+      }
+    }
+
+    Stream<ContentReference> contentReferences(int from, int to) {
+      return IntStream.range(from, to)
+          .mapToObj(
+              i ->
+                  icebergContent(
+                      ICEBERG_TABLE,
+                      "cid-" + (i % 100),
+                      "commit-" + i,
+                      ContentKey.of("namespace", "table-" + (i % 100)),
+                      "s3://bucket/namespace/table-" + (i % 100) + "/metadata/" + i + ".json",
+                      i));
+    }
+
+    Stream<FileReference> fileReferences() {
+      StorageUri base = StorageUri.of("s3://bucket/namespace/table/");
+      return IntStream.range(0, rows)
+          .mapToObj(
+              i -> FileReference.of(StorageUri.of("data/" + i + ".parquet"), base, 12345L + i));
+    }
+  }
+
+  @Benchmark
+  public long addIdentifiedLiveContent(BenchmarkParam param) {
+    return param.persistenceSpi.addIdentifiedLiveContent(
+        UUID.randomUUID(), param.contentReferences(0, param.rows));
+  }
+
+  @Benchmark
+  public long addFileDeletions(BenchmarkParam param) {
+    return param.persistenceSpi.addFileDeletions(UUID.randomUUID(), param.fileReferences());
+  }
+
+  /** Simulates an identify run, which adds a few content references per commit. */
+  @Benchmark
+  public long addLiveContentPerCommit(BenchmarkParam param) {
+    long count = 0L;
+    try (AddContents addContents = param.repository.newAddContents()) {
+      for (int i = 0; i < param.rows; i += param.rowsPerCommit) {
+        count += addContents.addLiveContent(param.contentReferences(i, i + param.rowsPerCommit));
+      }
+      addContents.finished();
+    }
+    return count;
+  }
+}
@@ -55,7 +55,7 @@ public final class JdbcHelper {
     }
   }
 
-  private static boolean tableExists(Connection connection, String tableName) throws SQLException {
+  static boolean tableExists(Connection connection, String tableName) throws SQLException {
     DatabaseMetaData meta = connection.getMetaData();
     if (meta.storesUpperCaseIdentifiers()) {
       tableName = tableName.toUpperCase(Locale.ROOT);
@@ -92,6 +92,18 @@ public final class JdbcHelper {
     R withStatement(Connection connection, PreparedStatement preparedStatement) throws SQLException;
   }
 
+  @FunctionalInterface
+  interface BindRow<T> {
+    /** Binds the columns of one row, starting at the 1-based parameter index {@code param}. */
+    void bindRow(PreparedStatement preparedStatement, int param, T row) throws SQLException;
+  }
+
+  @FunctionalInterface
+  interface ExecuteBatch<T> {
+    /** Binds the parameters for the given batch and executes the statement. */
+    int execute(PreparedStatement preparedStatement, List<T> batch) throws SQLException;
+  }
+
   @FunctionalInterface
   interface Prepare {
     void prepare(PreparedStatement preparedStatement) throws SQLException;
@@ -18,16 +18,20 @@ package org.projectnessie.gc.contents.jdbc;
 import static com.google.common.base.Throwables.getStackTraceAsString;
 import static org.projectnessie.gc.contents.ContentReference.icebergContent;
 import static org.projectnessie.gc.contents.jdbc.JdbcHelper.isIntegrityConstraintViolation;
+import static org.projectnessie.gc.contents.jdbc.JdbcHelper.tableExists;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.ADD_CONTENT;
+import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.CARRY_FORWARD_LIVE_CONTENTS;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.DELETE_FILE_DELETIONS;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.DELETE_LIVE_CONTENTS;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.DELETE_LIVE_CONTENT_SET;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.DELETE_LIVE_SET_LOCATIONS;
+import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.DELETE_LIVE_SET_WATERMARKS;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.ERROR_LENGTH;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.FINISH_EXPIRE;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.FINISH_IDENTIFY;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.INSERT_CONTENT_LOCATION;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.INSERT_FILE_DELETIONS;
+import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.INSERT_WATERMARK_COMMIT;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.SELECT_ALL_LIVE_CONTENT_SETS;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.SELECT_CONTENT_COUNT;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.SELECT_CONTENT_IDS;
@@ -36,6 +40,7 @@ import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.SELECT_CONTENT_LOCATI
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.SELECT_CONTENT_REFERENCES;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.SELECT_FILE_DELETIONS;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.SELECT_LIVE_CONTENT_SET;
+import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.SELECT_WATERMARK_COMMITS;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.START_EXPIRE;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.START_IDENTIFY;
 import static org.projectnessie.model.Content.Type.ICEBERG_TABLE;
@@ -56,8 +61,10 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import javax.annotation.Nullable;
@@ -67,6 +74,10 @@ import org.intellij.lang.annotations.Language;
 import org.projectnessie.gc.contents.ContentReference;
 import org.projectnessie.gc.contents.LiveContentSet;
 import org.projectnessie.gc.contents.LiveContentSetNotFoundException;
+import org.projectnessie.gc.contents.ReferenceWatermark;
+import org.projectnessie.gc.contents.WatermarkCommit;
+import org.projectnessie.gc.contents.jdbc.JdbcHelper.BindRow;
+import org.projectnessie.gc.contents.jdbc.JdbcHelper.ExecuteBatch;
 import org.projectnessie.gc.contents.jdbc.JdbcHelper.FromRow;
 import org.projectnessie.gc.contents.jdbc.JdbcHelper.Prepare;
 import org.projectnessie.gc.contents.jdbc.JdbcHelper.ResultSetSplit;
@@ -85,13 +96,43 @@ public abstract class JdbcPersistenceSpi implements PersistenceSpi {
     return ImmutableJdbcPersistenceSpi.builder();
   }
 
+  public static final int DEFAULT_BATCH_SIZE = 100;
+
+  /** The maximum number of bind parameters of a single statement supported by PostgreSQL. */
+  static final int MAX_BIND_PARAMETERS = 65535;
+
+  /** The number of columns of the widest multi-row {@code INSERT}, into gc_live_set_contents. */
+  static final int MAX_INSERT_COLUMNS = 7;
+
+  /**
+   * The maximum batch size, so that the bind parameters of the widest multi-row {@code INSERT} do
+   * not exceed {@link #MAX_BIND_PARAMETERS}.
+   */
+  public static final int MAX_BATCH_SIZE = MAX_BIND_PARAMETERS / MAX_INSERT_COLUMNS;
+
   @SuppressWarnings({"UnusedReturnValue", "unused"})
   public interface Builder {
     Builder dataSource(DataSource dataSource);
 
+    /**
+     * The maximum number of rows written by a single, multi-row {@code INSERT} statement, defaults
+     * to {@value #DEFAULT_BATCH_SIZE}, must not be greater than {@value #MAX_BATCH_SIZE}.
+     */
+    Builder batchSize(int batchSize);
+
     JdbcPersistenceSpi build();
   }
 
+  @Value.Check
+  protected void check() {
+    Preconditions.checkArgument(batchSize() > 0, "Batch size must be greater than 0");
+    Preconditions.checkArgument(
+        batchSize() <= MAX_BATCH_SIZE,
+        "Batch size must not be greater than %s, but is %s",
+        MAX_BATCH_SIZE,
+        batchSize());
+  }
+
   @Value.Lazy
   protected String productName() {
     try (Connection conn = dataSource().getConnection()) {
@@ -222,40 +263,33 @@ public abstract class JdbcPersistenceSpi implements PersistenceSpi {
 
   @Override
   public long addIdentifiedLiveContent(UUID liveSetId, Stream<ContentReference> contentReference) {
-    return singleStatement(
-        decorateInsertStatement(ADD_CONTENT),
-        (conn, stmt) -> {
-          stmt.setString(1, liveSetId.toString());
-          long count = 0L;
-          for (Iterator<ContentReference> iter = contentReference.iterator(); iter.hasNext(); ) {
-            ContentReference ref = iter.next();
-            stmt.setString(2, ref.contentId());
-            stmt.setString(3, ref.commitId());
-            stmt.setString(4, ref.contentKey().toPathString());
-            stmt.setString(5, ref.contentType().name());
-            if (ref.contentType().equals(ICEBERG_TABLE) || ref.contentType().equals(ICEBERG_VIEW)) {
-              stmt.setString(
-                  6,
-                  Objects.requireNonNull(
-                      ref.metadataLocation(),
-                      "Illegal null metadataLocation in ContentReference for ICEBERG_TABLE/ICEBERG_VIEW"));
-              stmt.setLong(
-                  7,
-                  Objects.requireNonNull(
-                      ref.snapshotId(),
-                      "Illegal null snapshotId in ContentReference for ICEBERG_TABLE/ICEBERG_VIEW"));
-            } else {
-              throw new UnsupportedOperationException(
-                  "Unsupported content type " + ref.contentType());
-            }
-            // TODO add batch updates
-            if (stmt.executeUpdate() != 0) {
-              count++;
-            }
+    String liveSetIdString = liveSetId.toString();
+    return insertRows(
+        ADD_CONTENT,
+        7,
+        contentReference.iterator(),
+        (stmt, param, ref) -> {
+          stmt.setString(param, liveSetIdString);
+          stmt.setString(param + 1, ref.contentId());
+          stmt.setString(param + 2, ref.commitId());
+          stmt.setString(param + 3, ref.contentKey().toPathString());
+          stmt.setString(param + 4, ref.contentType().name());
+          if (ref.contentType().equals(ICEBERG_TABLE) || ref.contentType().equals(ICEBERG_VIEW)) {
+            stmt.setString(
+                param + 5,
+                Objects.requireNonNull(
+                    ref.metadataLocation(),
+                    "Illegal null metadataLocation in ContentReference for ICEBERG_TABLE/ICEBERG_VIEW"));
+            stmt.setLong(
+                param + 6,
+                Objects.requireNonNull(
+                    ref.snapshotId(),
+                    "Illegal null snapshotId in ContentReference for ICEBERG_TABLE/ICEBERG_VIEW"));
+          } else {
+            throw new UnsupportedOperationException(
+                "Unsupported content type " + ref.contentType());
           }
-          return count;
-        },
-        true);
+        });
   }
 
   @Override
@@ -271,20 +305,92 @@ public abstract class JdbcPersistenceSpi implements PersistenceSpi {
   }
 
   @Override
-  public void associateBaseLocations(
-      UUID liveSetId, String contentId, Collection<StorageUri> baseLocations) {
-    singleStatement(
-        decorateInsertStatement(INSERT_CONTENT_LOCATION),
+  public long carryForwardLiveContent(
+      UUID liveSetId, UUID previousLiveSetId, Collection<String> commitIds) {
+    String liveSetIdString = liveSetId.toString();
+    String previousLiveSetIdString = previousLiveSetId.toString();
+    return executeInBatches(
+        commits -> decorateInsertStatement(carryForwardLiveContents(commits)),
+        commitIds.iterator(),
+        (stmt, batch) -> {
+          stmt.setString(1, liveSetIdString);
+          stmt.setString(2, previousLiveSetIdString);
+          for (int i = 0; i < batch.size(); i++) {
+            stmt.setString(i + 3, batch.get(i));
+          }
+          return stmt.executeUpdate();
+        });
+  }
+
+  @Override
+  public void addReferenceWatermark(UUID liveSetId, ReferenceWatermark watermark) {
+    List<WatermarkCommit> commits = new ArrayList<>(watermark.liveCommits());
+    WatermarkCommit firstNonLiveCommit = watermark.firstNonLiveCommit();
+    if (firstNonLiveCommit != null) {
+      // The first non-live commit is stored using the negated position.
+      commits.add(
+          WatermarkCommit.of(
+              firstNonLiveCommit.commitId(),
+              firstNonLiveCommit.commitTime(),
+              -firstNonLiveCommit.position()));
+    }
+    String liveSetIdString = liveSetId.toString();
+    insertRows(
+        INSERT_WATERMARK_COMMIT,
+        5,
+        commits.iterator(),
+        (stmt, param, commit) -> {
+          stmt.setString(param, liveSetIdString);
+          stmt.setString(param + 1, watermark.referenceName());
+          stmt.setInt(param + 2, commit.position());
+          stmt.setString(param + 3, commit.commitId());
+          stmt.setString(param + 4, commit.commitTime().toString());
+        });
+  }
+
+  @Override
+  public Optional<ReferenceWatermark> fetchReferenceWatermark(
+      UUID liveSetId, String referenceName) {
+    return singleStatement(
+        SELECT_WATERMARK_COMMITS,
         (conn, stmt) -> {
           stmt.setString(1, liveSetId.toString());
-          stmt.setString(2, contentId);
-          for (StorageUri baseLocation : baseLocations) {
-            stmt.setString(3, baseLocation.toString());
-            stmt.executeUpdate();
+          stmt.setString(2, referenceName);
+          List<WatermarkCommit> liveCommits = new ArrayList<>();
+          WatermarkCommit firstNonLiveCommit = null;
+          try (ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+              int position = rs.getInt(1);
+              WatermarkCommit commit =
+                  WatermarkCommit.of(
+                      rs.getString(2), Instant.parse(rs.getString(3)), Math.abs(position));
+              if (position < 0) {
+                firstNonLiveCommit = commit;
+              } else {
+                liveCommits.add(commit);
+              }
+            }
           }
-          return null;
+          return liveCommits.isEmpty()
+              ? Optional.empty()
+              : Optional.of(ReferenceWatermark.of(referenceName, liveCommits, firstNonLiveCommit));
         },
-        true);
+        false);
+  }
+
+  @Override
+  public void associateBaseLocations(
+      UUID liveSetId, String contentId, Collection<StorageUri> baseLocations) {
+    String liveSetIdString = liveSetId.toString();
+    insertRows(
+        INSERT_CONTENT_LOCATION,
+        3,
+        baseLocations.iterator(),
+        (stmt, param, baseLocation) -> {
+          stmt.setString(param, liveSetIdString);
+          stmt.setString(param + 1, contentId);
+          stmt.setString(param + 2, baseLocation.toString());
+        });
   }
 
   @Override
@@ -319,6 +425,14 @@ public abstract class JdbcPersistenceSpi implements PersistenceSpi {
             stmt2.setString(1, liveSetId.toString());
             stmt2.executeUpdate();
           }
+          // The watermarks table does not exist in schemas created before incremental identify
+          // was introduced, and it is only needed for incremental identify runs.
+          if (tableExists(conn, "gc_live_set_watermarks")) {
+            try (PreparedStatement stmt2 = conn.prepareStatement(DELETE_LIVE_SET_WATERMARKS)) {
+              stmt2.setString(1, liveSetId.toString());
+              stmt2.executeUpdate();
+            }
+          }
           try (PreparedStatement stmt2 = conn.prepareStatement(DELETE_LIVE_CONTENTS)) {
             stmt2.setString(1, liveSetId.toString());
             stmt2.executeUpdate();
@@ -371,23 +485,17 @@ public abstract class JdbcPersistenceSpi implements PersistenceSpi {
 
   @Override
   public long addFileDeletions(UUID liveSetId, Stream<FileReference> files) {
-    return singleStatement(
-        decorateInsertStatement(INSERT_FILE_DELETIONS),
-        (conn, stmt) -> {
-          long count = 0L;
-          for (Iterator<FileReference> iter = files.iterator(); iter.hasNext(); ) {
-            FileReference f = iter.next();
-            stmt.setString(1, liveSetId.toString());
-            stmt.setString(2, f.base().toString());
-            stmt.setString(3, f.path().toString());
-            stmt.setLong(4, f.modificationTimeMillisEpoch());
-            if (stmt.executeUpdate() != 0) {
-              count++;
-            }
-          }
-          return count;
-        },
-        true);
+    String liveSetIdString = liveSetId.toString();
+    return insertRows(
+        INSERT_FILE_DELETIONS,
+        4,
+        files.iterator(),
+        (stmt, param, f) -> {
+          stmt.setString(param, liveSetIdString);
+          stmt.setString(param + 1, f.base().toString());
+          stmt.setString(param + 2, f.path().toString());
+          stmt.setLong(param + 3, f.modificationTimeMillisEpoch());
+        });
   }
 
   @Override
@@ -476,6 +584,99 @@ public abstract class JdbcPersistenceSpi implements PersistenceSpi {
     }
   }
 
+  /**
+   * Inserts all rows using multi-row {@code INSERT} statements of up to {@link #batchSize()} rows,
+   * duplicate rows are ignored.
+   *
+   * <p>Multi-row statements are used instead of JDBC batches, because the number of rows reported
+   * for a batch is not reliable for all drivers, when duplicate rows are ignored.
+   *
+   * @return the number of inserted, non-duplicate rows
+   */
+  <T> long insertRows(
+      @Language("SQL") String insert, int columns, Iterator<T> rows, BindRow<T> bindRow) {
+    return executeInBatches(
+        batchRows -> decorateInsertStatement(multiRowInsert(insert, batchRows)),
+        rows,
+        (stmt, batch) -> {
+          for (int i = 0; i < batch.size(); i++) {
+            bindRow.bindRow(stmt, i * columns + 1, batch.get(i));
+          }
+          return stmt.executeUpdate();
+        });
+  }
+
+  /**
+   * Executes the statement produced by {@code sqlForBatch} for batches of up to {@link
+   * #batchSize()} elements using a single connection and transaction.
+   *
+   * @param sqlForBatch produces the SQL statement for the given number of elements
+   * @return the sum of the updated row counts
+   */
+  private <T> long executeInBatches(
+      IntFunction<String> sqlForBatch, Iterator<T> elements, ExecuteBatch<T> execute) {
+    int batchSize = batchSize();
+    List<T> batch = nextBatch(elements, batchSize);
+    if (batch.isEmpty()) {
+      return 0L;
+    }
+
+    return singleStatement(
+        sqlForBatch.apply(batch.size()),
+        (conn, stmt) -> {
+          long count = 0L;
+          for (List<T> current = batch;
+              !current.isEmpty();
+              current = nextBatch(elements, batchSize)) {
+            if (current.size() == batch.size()) {
+              count += execute.execute(stmt, current);
+            } else {
+              // Remaining elements, fewer than the batch size
+              try (PreparedStatement remaining =
+                  conn.prepareStatement(sqlForBatch.apply(current.size()))) {
+                count += execute.execute(remaining, current);
+              }
+            }
+          }
+          return count;
+        },
+        true);
+  }
+
+  private static <T> List<T> nextBatch(Iterator<T> rows, int batchSize) {
+    List<T> batch = new ArrayList<>(Math.min(batchSize, 16));
+    while (batch.size() < batchSize && rows.hasNext()) {
+      batch.add(rows.next());
+    }
+    return batch;
+  }
+
+  /**
+   * Repeats the values-tuple of the given single-row {@code INSERT ... VALUES (?, ...)} statement
+   * {@code rows} times.
+   */
+  static String multiRowInsert(String insert, int rows) {
+    int valuesIdx = insert.lastIndexOf("VALUES ");
+    Preconditions.checkArgument(valuesIdx > 0, "Not an INSERT ... VALUES statement: %s", insert);
+    int tupleIdx = valuesIdx + "VALUES ".length();
+    String tuple = insert.substring(tupleIdx);
+    StringBuilder sb = new StringBuilder(tupleIdx + rows * (tuple.length() + 2));
+    sb.append(insert, 0, tupleIdx).append(tuple);
+    for (int i = 1; i < rows; i++) {
+      sb.append(", ").append(tuple);
+    }
+    return sb.toString();
+  }
+
+  /** Appends the {@code IN}-list for the given number of commit IDs. */
+  static String carryForwardLiveContents(int commits) {
+    StringBuilder sb = new StringBuilder(CARRY_FORWARD_LIVE_CONTENTS).append("(?");
+    for (int i = 1; i < commits; i++) {
+      sb.append(", ?");
+    }
+    return sb.append(')').toString();
+  }
+
   <R> Stream<R> streamingResult(@Language("SQL") String sql, Prepare prepare, FromRow<R> fromRow) {
     List<AutoCloseable> closeables = new ArrayList<>();
 
@@ -496,4 +697,9 @@ public abstract class JdbcPersistenceSpi implements PersistenceSpi {
   }
 
   abstract DataSource dataSource();
+
+  @Value.Default
+  int batchSize() {
+    return DEFAULT_BATCH_SIZE;
+  }
 }
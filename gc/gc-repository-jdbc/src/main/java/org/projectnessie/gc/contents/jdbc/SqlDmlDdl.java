@@ -68,6 +68,22 @@ final class SqlDmlDdl {
           + "    modification_timestamp BIGINT, \n"
           + "    PRIMARY KEY (live_set_id, base_uri, path_uri))";
 
+  /**
+   * Commits considered as live per reference, {@code commit_position} is the position of the commit
+   * in the commit log starting at {@code 1} for the HEAD commit, the position of the first non-live
+   * commit is stored as a negative value. The commit time is stored in its ISO-8601 representation
+   * to not lose precision.
+   */
+  @Language("SQL")
+  static final String CREATE_LIVE_SET_WATERMARKS =
+      "CREATE TABLE gc_live_set_watermarks (\n"
+          + "    live_set_id VARCHAR(40), \n"
+          + "    ref_name VARCHAR(500), \n"
+          + "    commit_position INT, \n"
+          + "    commit_id VARCHAR(100), \n"
+          + "    commit_time VARCHAR(40), \n"
+          + "    PRIMARY KEY (live_set_id, ref_name, commit_position))";
+
   @Language("SQL")
   static final String INSERT_FILE_DELETIONS =
       "INSERT INTO gc_file_deletions \n"
@@ -101,6 +117,23 @@ final class SqlDmlDdl {
   @Language("SQL")
   static final String DELETE_LIVE_CONTENT_SET = "DELETE FROM gc_live_sets WHERE live_set_id = ?";
 
+  @Language("SQL")
+  static final String DELETE_LIVE_SET_WATERMARKS =
+      "DELETE FROM gc_live_set_watermarks WHERE live_set_id = ?";
+
+  @Language("SQL")
+  static final String INSERT_WATERMARK_COMMIT =
+      "INSERT INTO gc_live_set_watermarks \n"
+          + "    (live_set_id, ref_name, commit_position, commit_id, commit_time) \n"
+          + "    VALUES (?, ?, ?, ?, ?)";
+
+  @Language("SQL")
+  static final String SELECT_WATERMARK_COMMITS =
+      "SELECT commit_position, commit_id, commit_time \n"
+          + "    FROM gc_live_set_watermarks \n"
+          + "    WHERE live_set_id = ? AND ref_name = ? \n"
+          + "    ORDER BY commit_position";
+
   @Language("SQL")
   static final String DELETE_LIVE_SET_LOCATIONS =
       "DELETE FROM gc_live_set_content_locations WHERE live_set_id = ?";
@@ -165,10 +198,23 @@ final class SqlDmlDdl {
           + "    FROM gc_live_set_contents \n"
           + "    WHERE live_set_id = ? AND content_id = ?";
 
+  /**
+   * Copies the content references of the commits from a previous live content set, the {@code
+   * IN}-list with the commit IDs is appended by {@link
+   * JdbcPersistenceSpi#carryForwardLiveContents(int)}.
+   */
+  static final String CARRY_FORWARD_LIVE_CONTENTS =
+      "INSERT INTO gc_live_set_contents \n"
+          + "    (live_set_id, content_id, commit_id, content_key, content_type, metadata_location, snapshot_id) \n"
+          + "    SELECT ?, content_id, commit_id, content_key, content_type, metadata_location, snapshot_id \n"
+          + "    FROM gc_live_set_contents \n"
+          + "    WHERE live_set_id = ? AND commit_id IN ";
+
   static final Map<String, String> ALL_CREATES =
       ImmutableMap.of(
           "gc_live_sets", CREATE_LIVE_SETS,
           "gc_live_set_contents", CREATE_LIVE_SET_CONTENTS,
           "gc_live_set_content_locations", CREATE_LIVE_SET_LOCATIONS,
-          "gc_file_deletions", CREATE_FILE_DELETIONS);
+          "gc_file_deletions", CREATE_FILE_DELETIONS,
+          "gc_live_set_watermarks", CREATE_LIVE_SET_WATERMARKS);
 }
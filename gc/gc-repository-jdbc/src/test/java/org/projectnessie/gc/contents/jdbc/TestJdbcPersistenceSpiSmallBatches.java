@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.gc.contents.jdbc;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.projectnessie.gc.contents.spi.PersistenceSpi;
+
+/** Runs the persistence tests with a batch size that is smaller than the number of rows. */
+public class TestJdbcPersistenceSpiSmallBatches extends AbstractJdbcPersistenceSpi {
+
+  @BeforeAll
+  static void createDataSource() throws Exception {
+    initDataSource("jdbc:h2:mem:nessie-batches;MODE=PostgreSQL");
+  }
+
+  @Override
+  protected PersistenceSpi createPersistenceSpi() {
+    return JdbcPersistenceSpi.builder().dataSource(dataSource).batchSize(3).build();
+  }
+}
@@ -17,9 +17,20 @@ package org.projectnessie.gc.contents.jdbc;
 
 import static com.google.common.base.Strings.repeat;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+import static org.projectnessie.gc.contents.jdbc.JdbcPersistenceSpi.MAX_BATCH_SIZE;
+import static org.projectnessie.gc.contents.jdbc.JdbcPersistenceSpi.MAX_BIND_PARAMETERS;
+import static org.projectnessie.gc.contents.jdbc.JdbcPersistenceSpi.MAX_INSERT_COLUMNS;
+import static org.projectnessie.gc.contents.jdbc.JdbcPersistenceSpi.multiRowInsert;
 import static org.projectnessie.gc.contents.jdbc.JdbcPersistenceSpi.trimError;
+import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.ADD_CONTENT;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.ERROR_LENGTH;
+import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.INSERT_CONTENT_LOCATION;
+import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.INSERT_FILE_DELETIONS;
+import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.INSERT_WATERMARK_COMMIT;
 
+import javax.sql.DataSource;
 import org.junit.jupiter.api.Test;
 
 public class TestJdbcPersistenceUnit {
@@ -34,4 +45,48 @@ public class TestJdbcPersistenceUnit {
         .endsWith(" ... (truncated)")
         .hasSize(ERROR_LENGTH);
   }
+
+  @Test
+  void multiRowInserts() {
+    assertThat(multiRowInsert(INSERT_CONTENT_LOCATION, 1)).isEqualTo(INSERT_CONTENT_LOCATION);
+    assertThat(multiRowInsert(INSERT_CONTENT_LOCATION, 3))
+        .isEqualTo(INSERT_CONTENT_LOCATION + ", (?, ?, ?), (?, ?, ?)")
+        .endsWith("VALUES (?, ?, ?), (?, ?, ?), (?, ?, ?)");
+  }
+
+  @Test
+  void batchSizeLimit() {
+    assertThat(bindParameters(ADD_CONTENT)).isEqualTo(MAX_INSERT_COLUMNS);
+    assertThat(bindParameters(INSERT_CONTENT_LOCATION)).isLessThan(MAX_INSERT_COLUMNS);
+    assertThat(bindParameters(INSERT_FILE_DELETIONS)).isLessThan(MAX_INSERT_COLUMNS);
+    assertThat(bindParameters(INSERT_WATERMARK_COMMIT)).isLessThan(MAX_INSERT_COLUMNS);
+    assertThat(bindParameters(multiRowInsert(ADD_CONTENT, MAX_BATCH_SIZE)))
+        .isLessThanOrEqualTo(MAX_BIND_PARAMETERS);
+
+    DataSource dataSource = mock(DataSource.class);
+    assertThat(
+            JdbcPersistenceSpi.builder()
+                .dataSource(dataSource)
+                .batchSize(MAX_BATCH_SIZE)
+                .build()
+                .batchSize())
+        .isEqualTo(MAX_BATCH_SIZE);
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () ->
+                JdbcPersistenceSpi.builder()
+                    .dataSource(dataSource)
+                    .batchSize(MAX_BATCH_SIZE + 1)
+                    .build())
+        .withMessage(
+            "Batch size must not be greater than %s, but is %s",
+            MAX_BATCH_SIZE, MAX_BATCH_SIZE + 1);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> JdbcPersistenceSpi.builder().dataSource(dataSource).batchSize(0).build())
+        .withMessage("Batch size must be greater than 0");
+  }
+
+  private static int bindParameters(String sql) {
+    return (int) sql.chars().filter(c -> c == '?').count();
+  }
 }
@@ -20,11 +20,15 @@ import static java.lang.String.format;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Instant;
 import java.util.UUID;
 import javax.sql.DataSource;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.projectnessie.gc.contents.LiveContentSetNotFoundException;
 import org.projectnessie.gc.contents.spi.PersistenceSpi;
 import org.projectnessie.gc.contents.tests.AbstractPersistenceSpi;
 
@@ -70,6 +74,23 @@ public abstract class AbstractJdbcPersistenceSpi extends AbstractPersistenceSpi
     }
   }
 
+  /** Schemas created before incremental identify was introduced have no watermarks table. */
+  @Test
+  void deleteWithoutWatermarksTable() throws Exception {
+    try (Connection conn = dataSource.getConnection();
+        Statement st = conn.createStatement()) {
+      st.execute("DROP TABLE gc_live_set_watermarks");
+    }
+
+    UUID id = UUID.randomUUID();
+    persistenceSpi.startIdentifyLiveContents(id, Instant.now());
+    persistenceSpi.finishedIdentifyLiveContents(id, Instant.now(), null);
+    persistenceSpi.deleteLiveContentSet(id);
+
+    soft.assertThatThrownBy(() -> persistenceSpi.getLiveContentSet(id))
+        .isInstanceOf(LiveContentSetNotFoundException.class);
+  }
+
   @SuppressWarnings("SqlSourceToSinkFlow")
   @Override
   protected void assertDeleted(UUID id) throws Exception {
@@ -27,6 +27,8 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.apache.hadoop.conf.Configuration;
@@ -77,6 +79,7 @@ public abstract class BaseRepositoryCommand extends BaseCommand {
     this.out = commandSpec.commandLine().getOut();
 
     preValidate();
+    liveContentSetsStorageOptions.validate(commandSpec);
 
     LiveContentSetsRepository liveContentSetsRepository =
         liveContentSetsStorageOptions.createLiveContentSetsRepository(closeables);
@@ -134,6 +137,27 @@ public abstract class BaseRepositoryCommand extends BaseCommand {
                     asString(liveContentSet.errorMessage()))));
   }
 
+  /** Returns the most recently created live-set, for which the identify phase succeeded. */
+  private static Optional<LiveContentSet> previousLiveContentSet(
+      LiveContentSetsRepository liveContentSetsRepository) {
+    try (Stream<LiveContentSet> liveContentSets = liveContentSetsRepository.getAllLiveContents()) {
+      return liveContentSets
+          .filter(
+              liveContentSet -> {
+                switch (liveContentSet.status()) {
+                  case IDENTIFY_SUCCESS:
+                  case EXPIRY_IN_PROGRESS:
+                  case EXPIRY_SUCCESS:
+                  case EXPIRY_FAILED:
+                    return true;
+                  default:
+                    return false;
+                }
+              })
+          .max(Comparator.comparing(LiveContentSet::created));
+    }
+  }
+
   protected LiveContentSet identify(
       Closeables closeables,
       LiveContentSetsRepository liveContentSetsRepository,
@@ -164,15 +188,24 @@ public abstract class BaseRepositoryCommand extends BaseCommand {
     RepositoryConnector repositoryConnector =
         markOptions.getNessie().createRepositoryConnector(closeables);
 
-    IdentifyLiveContents identify =
+    IdentifyLiveContents.Builder identifyBuilder =
         IdentifyLiveContents.builder()
             .liveContentSetsRepository(liveContentSetsRepository)
             .contentTypeFilter(IcebergContentTypeFilter.INSTANCE)
             .cutOffPolicySupplier(perRefCutoffPolicySupplier)
             .repositoryConnector(repositoryConnector)
             .contentToContentReference(IcebergContentToContentReference.INSTANCE)
-            .parallelism(markOptions.getParallelism())
-            .build();
+            .parallelism(markOptions.getParallelism());
+    if (markOptions.isIncremental()) {
+      identifyBuilder.recordReferenceWatermarks(true);
+      previousLiveContentSet(liveContentSetsRepository)
+          .ifPresent(
+              previous -> {
+                out.printf("Incremental identify based on live-set %s.%n", previous.id());
+                identifyBuilder.previousLiveContentSet(previous);
+              });
+    }
+    IdentifyLiveContents identify = identifyBuilder.build();
 
     UUID liveContentSetId = identify.identifyLiveContents();
 
@@ -240,6 +273,11 @@ public abstract class BaseRepositoryCommand extends BaseCommand {
               .falsePositiveProbability(sweepOptions.getFalsePositiveProbability())
               .expectedFileCount(sweepOptions.getExpectedFileCount())
               .allowedFalsePositiveProbability(sweepOptions.getAllowedFalsePositiveProbability())
+              .liveFileSetType(sweepOptions.getLiveFileSetType())
+              .liveFilesSpillThreshold(sweepOptions.getLiveFilesSpillThreshold())
+              .liveFilesSpillDirectory(sweepOptions.getLiveFilesSpillDirectory())
+              .maxDeduplicatedManifests(sweepOptions.getMaxDeduplicatedManifests())
+              .perContentParallelism(sweepOptions.getPerContentParallelism())
               .build();
 
       Expire expire =
@@ -258,12 +296,13 @@ public abstract class BaseRepositoryCommand extends BaseCommand {
 
       String msg =
           format(
-              "Nessie-GC sweep phase for live-content-set %s finished with status %s after %s, deleted %d files, %d files could not be deleted.",
+              "Nessie-GC sweep phase for live-content-set %s finished with status %s after %s, deleted %d files, %d files could not be deleted, %d manifests did not need to be read again.",
               liveContentSet.id(),
               liveContentSet.status(),
               Duration.between(liveContentSet.created(), liveContentSet.identifyCompleted()),
               summary.deleted(),
-              summary.failures());
+              summary.failures(),
+              summary.skippedManifests());
 
       if (liveContentSet.status() != LiveContentSet.Status.EXPIRY_SUCCESS) {
         throw new ExecutionException(commandSpec.commandLine(), msg);
@@ -15,12 +15,17 @@
  */
 package org.projectnessie.gc.tool.cli.options;
 
+import static org.projectnessie.gc.contents.jdbc.JdbcPersistenceSpi.DEFAULT_BATCH_SIZE;
+import static org.projectnessie.gc.contents.jdbc.JdbcPersistenceSpi.MAX_BATCH_SIZE;
+
 import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
 import javax.sql.DataSource;
 import org.projectnessie.gc.contents.jdbc.AgroalJdbcDataSourceProvider;
 import picocli.CommandLine;
+import picocli.CommandLine.Model.CommandSpec;
+import picocli.CommandLine.ParameterException;
 
 public class JdbcOptions {
   @CommandLine.Option(
@@ -58,6 +63,17 @@ public class JdbcOptions {
               + "Possible values: CREATE, DROP_AND_CREATE, CREATE_IF_NOT_EXISTS.")
   SchemaCreateStrategy schemaCreateStrategy;
 
+  @CommandLine.Option(
+      names = "--jdbc-batch-size",
+      description =
+          "The maximum number of rows inserted by a single INSERT statement, defaults to "
+              + DEFAULT_BATCH_SIZE
+              + ", must be between 1 and "
+              + MAX_BATCH_SIZE
+              + ".",
+      defaultValue = "" + DEFAULT_BATCH_SIZE)
+  int batchSize = DEFAULT_BATCH_SIZE;
+
   public DataSource createDataSource() throws SQLException {
     AgroalJdbcDataSourceProvider.Builder jdbcDsBuilder =
         AgroalJdbcDataSourceProvider.builder()
@@ -68,6 +84,18 @@ public class JdbcOptions {
     return dataSourceProvider.dataSource();
   }
 
+  public void validate(CommandSpec commandSpec) {
+    if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+      throw new ParameterException(
+          commandSpec.commandLine(),
+          "--jdbc-batch-size must be between 1 and " + MAX_BATCH_SIZE + ", but is " + batchSize);
+    }
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
   public SchemaCreateStrategy getSchemaCreateStrategy() {
     return schemaCreateStrategy;
   }
@@ -58,6 +58,12 @@ public class LiveContentSetsStorageOptions {
     }
   }
 
+  public void validate(CommandSpec commandSpec) {
+    if (contentsStorageOpts.jdbc != null) {
+      contentsStorageOpts.jdbc.validate(commandSpec);
+    }
+  }
+
   public LiveContentSetsRepository createLiveContentSetsRepository(Closeables closeables)
       throws Exception {
     return LiveContentSetsRepository.builder()
@@ -85,6 +91,9 @@ public class LiveContentSetsStorageOptions {
         schemaCreateStrategy.apply(conn);
       }
     }
-    return JdbcPersistenceSpi.builder().dataSource(dataSource).build();
+    return JdbcPersistenceSpi.builder()
+        .dataSource(dataSource)
+        .batchSize(jdbc.getBatchSize())
+        .build();
   }
 }
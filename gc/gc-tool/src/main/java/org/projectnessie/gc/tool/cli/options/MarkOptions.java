@@ -81,6 +81,15 @@ public class MarkOptions {
       description = "Number of Nessie references that can be walked in parallel.")
   int parallelism;
 
+  @CommandLine.Option(
+      names = "--incremental",
+      description = {
+        "Only walk the commits that have been added since the most recent, successfully "
+            + "identified live-set.",
+        "Live contents of commits that are still live are carried forward from that live-set."
+      })
+  boolean incremental;
+
   @CommandLine.Spec CommandSpec commandSpec;
 
   public NessieOptions getNessie() {
@@ -91,6 +100,10 @@ public class MarkOptions {
     return parallelism;
   }
 
+  public boolean isIncremental() {
+    return incremental;
+  }
+
   public Path getLiveSetIdFile() {
     return liveSetIdFile;
   }
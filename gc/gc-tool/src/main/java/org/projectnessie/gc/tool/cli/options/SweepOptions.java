@@ -18,8 +18,13 @@ package org.projectnessie.gc.tool.cli.options;
 import static org.projectnessie.gc.expire.ExpireParameters.DEFAULT_ALLOWED_FALSE_POSITIVE_PROBABILITY;
 import static org.projectnessie.gc.expire.ExpireParameters.DEFAULT_EXPECTED_FILE_COUNT;
 import static org.projectnessie.gc.expire.ExpireParameters.DEFAULT_FALSE_POSITIVE_PROBABILITY;
+import static org.projectnessie.gc.expire.ExpireParameters.DEFAULT_LIVE_FILES_SPILL_THRESHOLD;
+import static org.projectnessie.gc.expire.ExpireParameters.DEFAULT_MAX_DEDUPLICATED_MANIFESTS;
+import static org.projectnessie.gc.expire.ExpireParameters.DEFAULT_PER_CONTENT_PARALLELISM;
 
+import java.nio.file.Path;
 import java.time.Instant;
+import org.projectnessie.gc.expire.LiveFileSetType;
 import picocli.CommandLine;
 
 public class SweepOptions {
@@ -38,6 +43,47 @@ public class SweepOptions {
       defaultValue = "4")
   int parallelism;
 
+  @CommandLine.Option(
+      names = "--per-content-parallelism",
+      description =
+          "Number of manifests read and base locations listed in parallel for a single content, "
+              + "the total I/O concurrency is bounded by --expiry-parallelism times this value, "
+              + "defaults to "
+              + DEFAULT_PER_CONTENT_PARALLELISM
+              + ".",
+      defaultValue = "" + DEFAULT_PER_CONTENT_PARALLELISM)
+  int perContentParallelism;
+
+  @CommandLine.Option(
+      names = "--live-file-set",
+      description = {
+        "How the live files of a content are tracked, one of: ${COMPLETION-CANDIDATES}, "
+            + "defaults to ${DEFAULT-VALUE}.",
+        "BLOOM_FILTER keeps a bloom-filter on heap, configured via --expected-file-count and "
+            + "--fpp, expiry of a content is aborted if --allowed-fpp is exceeded.",
+        "EXACT keeps up to --live-files-spill-threshold files on heap and spills to local "
+            + "files, configured via --live-files-spill-directory."
+      },
+      defaultValue = "BLOOM_FILTER")
+  LiveFileSetType liveFileSetType;
+
+  @CommandLine.Option(
+      names = "--live-files-spill-threshold",
+      description =
+          "The number of live files of a content kept on heap before those are spilled to a "
+              + "local file, only used with --live-file-set=EXACT, defaults to "
+              + DEFAULT_LIVE_FILES_SPILL_THRESHOLD
+              + ".",
+      defaultValue = "" + DEFAULT_LIVE_FILES_SPILL_THRESHOLD)
+  int liveFilesSpillThreshold;
+
+  @CommandLine.Option(
+      names = "--live-files-spill-directory",
+      description =
+          "Local directory to spill live files to, only used with --live-file-set=EXACT, "
+              + "defaults to the system's temporary directory.")
+  Path liveFilesSpillDirectory;
+
   @CommandLine.Option(
       names = "--expected-file-count",
       description =
@@ -67,6 +113,17 @@ public class SweepOptions {
       defaultValue = "" + DEFAULT_ALLOWED_FALSE_POSITIVE_PROBABILITY)
   double allowedFalsePositiveProbability;
 
+  @CommandLine.Option(
+      names = "--max-deduplicated-manifests",
+      description =
+          "The maximum number of manifests per content that are remembered to not read the same "
+              + "manifest again for another snapshot, 0 disables manifest deduplication, "
+              + "defaults to "
+              + DEFAULT_MAX_DEDUPLICATED_MANIFESTS
+              + ".",
+      defaultValue = "" + DEFAULT_MAX_DEDUPLICATED_MANIFESTS)
+  int maxDeduplicatedManifests;
+
   @CommandLine.Option(
       names = "--defer-deletes",
       negatable = true,
@@ -92,10 +149,30 @@ public class SweepOptions {
     return allowedFalsePositiveProbability;
   }
 
+  public LiveFileSetType getLiveFileSetType() {
+    return liveFileSetType;
+  }
+
+  public int getLiveFilesSpillThreshold() {
+    return liveFilesSpillThreshold;
+  }
+
+  public Path getLiveFilesSpillDirectory() {
+    return liveFilesSpillDirectory;
+  }
+
+  public int getMaxDeduplicatedManifests() {
+    return maxDeduplicatedManifests;
+  }
+
   public int getParallelism() {
     return parallelism;
   }
 
+  public int getPerContentParallelism() {
+    return perContentParallelism;
+  }
+
   public Instant getMaxFileModificationTime() {
     return maxFileModificationTime;
   }
@@ -962,6 +962,16 @@ public abstract class BaseTestNessieApi {
 
       soft.assertThat(api().getDiff().fromRef(branch1).toRef(branch2).maxRecords(1).stream())
           .containsExactlyInAnyOrderElementsOf(diff1);
+
+      soft.assertThat(
+              api()
+                  .getDiff()
+                  .fromRef(branch1)
+                  .toRef(branch2)
+                  .maxRecords(3)
+                  .streamingResponses(true)
+                  .stream())
+          .containsExactlyInAnyOrderElementsOf(diff1);
     }
   }
 
@@ -1004,6 +1014,15 @@ public abstract class BaseTestNessieApi {
 
     soft.assertThat(api().getCommitLog().reference(main).maxRecords(1).stream())
         .containsExactlyInAnyOrderElementsOf(all);
+
+    soft.assertThat(api().getCommitLog().reference(main).streamingResponses(true).stream())
+        .containsExactlyElementsOf(all);
+    soft.assertThat(
+            api().getCommitLog().reference(main).maxRecords(3).streamingResponses(true).stream())
+        .containsExactlyElementsOf(all);
+    soft.assertThatThrownBy(
+            () -> api().getCommitLog().refName("no-such-branch").streamingResponses(true).stream())
+        .isInstanceOf(NessieNotFoundException.class);
   }
 
   @Test
@@ -1207,6 +1226,16 @@ public abstract class BaseTestNessieApi {
 
     soft.assertThat(api().getEntries().withContent(isV2()).reference(main).maxRecords(1).stream())
         .containsExactlyInAnyOrderElementsOf(all);
+
+    soft.assertThat(
+            api()
+                .getEntries()
+                .withContent(isV2())
+                .reference(main)
+                .maxRecords(3)
+                .streamingResponses(true)
+                .stream())
+        .containsExactlyInAnyOrderElementsOf(all);
   }
 
   @NessieApiVersions(versions = NessieApiVersion.V2)
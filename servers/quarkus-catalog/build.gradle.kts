@@ -31,6 +31,7 @@ dependencies {
   implementation(project(":nessie-tasks-service-async"))
   implementation(project(":nessie-tasks-service-impl"))
   implementation(project(":nessie-services-config"))
+  implementation(project(":nessie-versioned-storage-cache"))
   implementation(project(":nessie-versioned-storage-common"))
 
   implementation(enforcedPlatform(libs.quarkus.bom))
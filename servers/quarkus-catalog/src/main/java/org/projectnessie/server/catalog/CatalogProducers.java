@@ -18,6 +18,7 @@ package org.projectnessie.server.catalog;
 import static java.time.Clock.systemUTC;
 
 import com.azure.core.http.HttpClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.auth.http.HttpTransportFactory;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.quarkus.runtime.StartupEvent;
@@ -34,6 +35,8 @@ import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.time.Clock;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -71,8 +74,15 @@ import org.projectnessie.catalog.service.impl.IcebergExceptionMapper;
 import org.projectnessie.catalog.service.impl.IllegalArgumentExceptionMapper;
 import org.projectnessie.catalog.service.impl.NessieExceptionMapper;
 import org.projectnessie.catalog.service.impl.PreviousTaskExceptionMapper;
+import org.projectnessie.catalog.service.rest.LoadTableResponseCache;
+import org.projectnessie.catalog.service.rest.LoggingMetricsReportSink;
+import org.projectnessie.catalog.service.rest.MetricsReportQueue;
+import org.projectnessie.catalog.service.rest.MetricsReportSink;
+import org.projectnessie.catalog.service.rest.MicrometerMetricsReportSink;
+import org.projectnessie.catalog.service.rest.S3SignDecisionCache;
 import org.projectnessie.nessie.tasks.async.TasksAsync;
 import org.projectnessie.nessie.tasks.async.pool.JavaPoolTasksAsync;
+import org.projectnessie.nessie.tasks.async.virtual.VirtualThreadTasksAsync;
 import org.projectnessie.nessie.tasks.async.wrapping.ThreadContextTasksAsync;
 import org.projectnessie.nessie.tasks.service.TasksServiceConfig;
 import org.projectnessie.nessie.tasks.service.impl.TasksServiceExecutor;
@@ -237,6 +247,65 @@ public class CatalogProducers {
     return new S3Signer(lakehouseConfig.s3(), secretsProvider, s3sessions);
   }
 
+  @Produces
+  @Singleton
+  public S3SignDecisionCache s3SignDecisionCache(
+      CatalogServiceConfig config, @Any Instance<MeterRegistry> meterRegistry) {
+    return new S3SignDecisionCache(
+        config.s3SignDecisionCacheTtl(),
+        config.s3SignDecisionCacheMaxSize(),
+        meterRegistry.isResolvable() ? meterRegistry.get() : null);
+  }
+
+  @Produces
+  @Singleton
+  public LoadTableResponseCache loadTableResponseCache(
+      CatalogServiceConfig config,
+      ObjectMapper objectMapper,
+      @Any Instance<MeterRegistry> meterRegistry) {
+    return new LoadTableResponseCache(
+        config.loadTableResponseCacheTtl(),
+        config.loadTableResponseCacheCapacityMb(),
+        objectMapper,
+        meterRegistry.isResolvable() ? meterRegistry.get() : null);
+  }
+
+  @Produces
+  @Singleton
+  public MetricsReportQueue metricsReportQueue(
+      CatalogServiceConfig config,
+      @Any Instance<MetricsReportSink> customSinks,
+      @Any Instance<MeterRegistry> meterRegistry) {
+    MeterRegistry registry = meterRegistry.isResolvable() ? meterRegistry.get() : null;
+
+    List<MetricsReportSink> sinks = new ArrayList<>();
+    for (String sink : config.metricsReportsSinks()) {
+      String sinkName = sink.trim().toLowerCase(Locale.ROOT);
+      if ("micrometer".equals(sinkName)) {
+        if (registry != null) {
+          sinks.add(
+              new MicrometerMetricsReportSink(registry, config.metricsReportsMicrometerTableTag()));
+        }
+      } else if ("log".equals(sinkName)) {
+        sinks.add(new LoggingMetricsReportSink());
+      } else if (!"none".equals(sinkName) && !sinkName.isEmpty()) {
+        throw new IllegalArgumentException("Unknown Iceberg metrics reports sink: " + sink);
+      }
+    }
+    customSinks.forEach(sinks::add);
+
+    return new MetricsReportQueue(
+        config.metricsReportsQueueSize(),
+        config.metricsReportsBatchSize(),
+        config.metricsReportsMaxBatchDelay(),
+        sinks,
+        registry);
+  }
+
+  public void closeMetricsReportQueue(@Disposes MetricsReportQueue metricsReportQueue) {
+    metricsReportQueue.close();
+  }
+
   @Produces
   @Singleton
   public BackendExceptionMapper backendExceptionMapper() {
@@ -252,13 +321,30 @@ public class CatalogProducers {
   }
 
   /**
-   * Provides the {@link TasksAsync} instance backed by a thread-pool executor configured according
-   * to {@link CatalogServiceConfig}, with thread-context propagation.
+   * Provides the {@link TasksAsync} instance backed by virtual threads or by a thread-pool executor
+   * configured according to {@link CatalogServiceConfig}, with thread-context propagation.
    */
   @Produces
   @Singleton
   @TasksServiceExecutor
   public TasksAsync tasksAsync(ThreadContext threadContext, CatalogServiceConfig config) {
+    if (config.tasksVirtualThreads()) {
+      LOGGER.debug(
+          "Tasks handling configured with virtual threads, max {} concurrent tasks per repository, minimum delay of {}ms, race min/max of {}ms/{}ms.",
+          config.tasksMaxConcurrentPerRepository(),
+          config.tasksMinimumDelay().toMillis(),
+          config.raceWaitMin(),
+          config.raceWaitMax());
+
+      TasksAsync base =
+          new VirtualThreadTasksAsync(
+              Thread.ofVirtual().name("tasks-async-", 1).factory(),
+              systemUTC(),
+              config.tasksMinimumDelay().toMillis(),
+              config.tasksMaxConcurrentPerRepository());
+      return new ThreadContextTasksAsync(base, threadContext);
+    }
+
     int maxThreads = config.tasksMaxThreads();
     if (maxThreads <= 0) {
       // Keep the max pool size between 2 and 16
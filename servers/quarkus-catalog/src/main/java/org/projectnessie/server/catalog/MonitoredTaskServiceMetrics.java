@@ -124,6 +124,10 @@ public class MonitoredTaskServiceMetrics implements TaskServiceMetrics {
   @Override
   public void taskRunningStateUpdateNoLongerRunning() {}
 
+  @Override
+  @Counted(PREFIX)
+  public void taskRemoteChangeWakeUp() {}
+
   @Override
   @Counted(PREFIX)
   public void taskHasFinalFailure() {}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.server.catalog;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.projectnessie.nessie.tasks.api.TasksService;
+import org.projectnessie.versioned.storage.cache.DistributedCacheInvalidationListener;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+
+/**
+ * Forwards object invalidations received from other Nessie instances to the {@link TasksService},
+ * so that tasks waiting for another instance, for example to finish a snapshot import, complete as
+ * soon as the other instance persisted the final task state.
+ */
+@Singleton
+public class TasksCacheInvalidationListener implements DistributedCacheInvalidationListener {
+  private final TasksService tasksService;
+
+  @Inject
+  public TasksCacheInvalidationListener(TasksService tasksService) {
+    this.tasksService = tasksService;
+  }
+
+  @Override
+  public void objInvalidated(String repositoryId, ObjId objId) {
+    tasksService.remoteObjChanged(repositoryId, objId);
+  }
+}
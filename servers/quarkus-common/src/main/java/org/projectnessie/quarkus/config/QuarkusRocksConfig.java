@@ -20,6 +20,8 @@ import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithName;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.OptionalInt;
 import org.projectnessie.versioned.storage.rocksdb.RocksDBBackendBaseConfig;
 
 /**
@@ -34,4 +36,24 @@ public interface QuarkusRocksConfig extends RocksDBBackendBaseConfig {
   @WithDefault("/tmp/nessie-rocksdb-store")
   @Override
   Path databasePath();
+
+  @WithName("block-cache-size-mb")
+  @Override
+  OptionalInt blockCacheSizeMb();
+
+  @WithName("bloom-filter-bits-per-key")
+  @Override
+  OptionalInt bloomFilterBitsPerKey();
+
+  @WithName("compression")
+  @Override
+  Optional<Compression> compression();
+
+  @WithName("compaction-style")
+  @Override
+  Optional<CompactionStyle> compactionStyle();
+
+  @WithName("sync-writes")
+  @Override
+  Optional<Boolean> syncWrites();
 }
@@ -16,8 +16,13 @@
 package org.projectnessie.quarkus.providers.storage;
 
 import static java.lang.String.format;
+import static org.projectnessie.versioned.storage.common.logic.CommitLogReadAhead.discardedBatches;
+import static org.projectnessie.versioned.storage.common.logic.CommitLogReadAhead.issuedBatches;
+import static org.projectnessie.versioned.storage.common.logic.CommitLogReadAhead.rejectedBatches;
+import static org.projectnessie.versioned.storage.common.logic.CommitLogReadAhead.usedBatches;
 import static org.projectnessie.versioned.storage.common.logic.Logics.repositoryLogic;
 
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.quarkus.runtime.StartupEvent;
 import io.smallrye.common.os.OS;
@@ -32,6 +37,7 @@ import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.UUID;
 import org.projectnessie.quarkus.config.QuarkusStoreConfig;
 import org.projectnessie.quarkus.config.VersionStoreConfig;
@@ -48,6 +54,7 @@ import org.projectnessie.versioned.storage.cache.DistributedCacheInvalidation;
 import org.projectnessie.versioned.storage.cache.DistributedCacheInvalidationConsumer;
 import org.projectnessie.versioned.storage.cache.DistributedCacheInvalidations;
 import org.projectnessie.versioned.storage.cache.PersistCaches;
+import org.projectnessie.versioned.storage.common.logic.CommitLogReadAhead;
 import org.projectnessie.versioned.storage.common.persist.Backend;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.common.persist.PersistFactory;
@@ -124,6 +131,32 @@ public class PersistProvider {
     LOGGER.debug("Eager initialization of persist implementation '{}'", persist.name());
   }
 
+  /**
+   * Exposes whether commit log read-ahead batches are actually used. The counters are always
+   * registered, because database implementations with an asynchronous facet read ahead even if the
+   * commit log read-ahead is not configured.
+   */
+  public void registerCommitLogReadAheadMetrics(
+      @Observes StartupEvent event, @Any Instance<MeterRegistry> meterRegistry) {
+    if (!meterRegistry.isResolvable()) {
+      return;
+    }
+    MeterRegistry registry = meterRegistry.get();
+    String name = "nessie.storage.commit-log.read-ahead.batches";
+    FunctionCounter.builder(name, CommitLogReadAhead.class, c -> issuedBatches())
+        .tag("result", "issued")
+        .register(registry);
+    FunctionCounter.builder(name, CommitLogReadAhead.class, c -> usedBatches())
+        .tag("result", "used")
+        .register(registry);
+    FunctionCounter.builder(name, CommitLogReadAhead.class, c -> discardedBatches())
+        .tag("result", "discarded")
+        .register(registry);
+    FunctionCounter.builder(name, CommitLogReadAhead.class, c -> rejectedBatches())
+        .tag("result", "rejected")
+        .register(registry);
+  }
+
   @Produces
   @Singleton
   public CacheBackend produceCacheBackend(
@@ -162,6 +195,13 @@ public class PersistProvider {
 
       String info = format("Using objects cache with %d MB", effectiveCacheSizeMB);
 
+      OptionalInt deserializedCacheSizeMB = storeConfig.cacheDeserializedCapacityMB();
+      if (deserializedCacheSizeMB.isPresent() && deserializedCacheSizeMB.getAsInt() > 0) {
+        cacheConfig.deserializedCapacityMb(deserializedCacheSizeMB.getAsInt());
+        info +=
+            format(", deserialized objects cache with %d MB", deserializedCacheSizeMB.getAsInt());
+      }
+
       CacheBackend cacheBackend = PersistCaches.newBackend(cacheConfig.build());
 
       if (invalidationSender.isResolvable() && cacheInvalidationReceiver.isResolvable()) {
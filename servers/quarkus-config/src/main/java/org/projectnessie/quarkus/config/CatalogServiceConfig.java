@@ -19,6 +19,7 @@ import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithName;
 import java.time.Duration;
+import java.util.List;
 
 @ConfigMapping(prefix = "nessie.catalog.service")
 public interface CatalogServiceConfig {
@@ -42,6 +43,23 @@ public interface CatalogServiceConfig {
   @WithDefault("PT0.001S")
   Duration tasksMinimumDelay();
 
+  /**
+   * Advanced property, run async tasks like imports on virtual threads instead of a thread pool.
+   * The {@code tasks.threads.*} settings do not apply to virtual threads.
+   */
+  @WithName("tasks.virtual-threads.enabled")
+  @WithDefault("false")
+  boolean tasksVirtualThreads();
+
+  /**
+   * Advanced property, the maximum number of concurrently executing tasks, like imports, per
+   * repository when {@code tasks.virtual-threads.enabled} is set. Zero or negative values mean no
+   * limit. Task state updates are not subject to this limit.
+   */
+  @WithName("tasks.virtual-threads.max-concurrent-per-repository")
+  @WithDefault("256")
+  int tasksMaxConcurrentPerRepository();
+
   /** Advanced thread pool setting for async tasks like imports. */
   @WithName("race.wait.min")
   @WithDefault("PT0.005S")
@@ -51,4 +69,74 @@ public interface CatalogServiceConfig {
   @WithName("race.wait.max")
   @WithDefault("PT0.250S")
   Duration raceWaitMax();
+
+  /**
+   * Duration for which the access-check result for Iceberg S3 read signing requests is cached per
+   * principal, reference and table. Repeated read signing requests within this duration do not need
+   * to load the table snapshot. Write signing requests are never cached. Set to {@code PT0S} to
+   * disable the cache.
+   */
+  @WithName("s3-sign.decision-cache.ttl")
+  @WithDefault("PT5S")
+  Duration s3SignDecisionCacheTtl();
+
+  /** Maximum number of cached access-check results for Iceberg S3 signing requests. */
+  @WithName("s3-sign.decision-cache.max-size")
+  @WithDefault("10000")
+  int s3SignDecisionCacheMaxSize();
+
+  /**
+   * Duration for which serialized Iceberg load-table responses are cached. Repeated load-table
+   * requests for an unchanged table within this duration are served from the cache or, if the
+   * client sends a matching {@code If-None-Match} header, answered with {@code 304 Not Modified}.
+   * Responses can contain time-limited information like S3 signer parameters or vended
+   * credentials, so this duration should be short. Set to {@code PT0S} to disable the cache.
+   */
+  @WithName("load-table.response-cache.ttl")
+  @WithDefault("PT10S")
+  Duration loadTableResponseCacheTtl();
+
+  /** Maximum total size of the cached serialized Iceberg load-table responses in megabytes. */
+  @WithName("load-table.response-cache.capacity-mb")
+  @WithDefault("32")
+  int loadTableResponseCacheCapacityMb();
+
+  /**
+   * Maximum number of Iceberg metrics reports that are queued for processing by the metrics report
+   * sinks. Reports received while the queue is full are dropped and counted.
+   */
+  @WithName("metrics-reports.queue-size")
+  @WithDefault("10000")
+  int metricsReportsQueueSize();
+
+  /** Maximum number of Iceberg metrics reports passed to the metrics report sinks at once. */
+  @WithName("metrics-reports.batch-size")
+  @WithDefault("500")
+  int metricsReportsBatchSize();
+
+  /**
+   * Maximum time to wait for more Iceberg metrics reports after the first report of a batch has
+   * been received.
+   */
+  @WithName("metrics-reports.max-batch-delay")
+  @WithDefault("PT1S")
+  Duration metricsReportsMaxBatchDelay();
+
+  /**
+   * Built-in sinks for Iceberg metrics reports. {@code micrometer} records the reports in
+   * Micrometer histograms, {@code log} writes each report as a JSON line to the {@code
+   * org.projectnessie.catalog.metrics-reports} logger. Use {@code none} to disable the built-in
+   * sinks. Additional sinks can be provided as CDI beans implementing {@code MetricsReportSink}.
+   */
+  @WithName("metrics-reports.sinks")
+  @WithDefault("micrometer")
+  List<String> metricsReportsSinks();
+
+  /**
+   * Whether the Micrometer metrics for Iceberg metrics reports are tagged with the table name.
+   * Disable this for catalogs with a very large number of tables.
+   */
+  @WithName("metrics-reports.micrometer.table-tag")
+  @WithDefault("true")
+  boolean metricsReportsMicrometerTableTag();
 }
@@ -114,6 +114,16 @@ public interface QuarkusStoreConfig extends StoreConfig {
   @Override
   long referencePreviousHeadTimeSpanSeconds();
 
+  @WithName(CONFIG_COMMIT_COMBINING_MAX_COMMITS)
+  @WithDefault("" + DEFAULT_COMMIT_COMBINING_MAX_COMMITS)
+  @Override
+  int commitCombiningMaxCommits();
+
+  @WithName(CONFIG_COMMIT_LOG_READ_AHEAD)
+  @WithDefault("" + DEFAULT_COMMIT_LOG_READ_AHEAD)
+  @Override
+  int commitLogReadAhead();
+
   String CONFIG_CACHE_CAPACITY_MB = "cache-capacity-mb";
 
   /**
@@ -149,6 +159,16 @@ public interface QuarkusStoreConfig extends StoreConfig {
   @WithName(CONFIG_CACHE_CAPACITY_FRACTION_ADJUST_MB)
   OptionalInt cacheCapacityFractionAdjustMB();
 
+  String CONFIG_CACHE_DESERIALIZED_CAPACITY_MB = "cache-deserialized-capacity-mb";
+
+  /**
+   * Optional amount of heap in MB used to cache already deserialized objects in front of the
+   * objects cache, which saves the CPU and allocation cost of deserializing frequently accessed
+   * objects. Not enabled by default. This amount of heap is used in addition to the objects cache.
+   */
+  @WithName(CONFIG_CACHE_DESERIALIZED_CAPACITY_MB)
+  OptionalInt cacheDeserializedCapacityMB();
+
   @WithName(CONFIG_REFERENCE_CACHE_TTL)
   @Override
   Optional<Duration> referenceCacheTtl();
@@ -24,6 +24,8 @@ import io.quarkus.vertx.http.ManagementInterface;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.ext.web.RoutingContext;
 import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.util.HashSet;
@@ -35,6 +37,8 @@ import org.projectnessie.quarkus.providers.ServerInstanceId;
 import org.projectnessie.server.distcache.CacheInvalidations.CacheInvalidationEvictReference;
 import org.projectnessie.versioned.storage.cache.DistributedCacheInvalidation;
 import org.projectnessie.versioned.storage.cache.DistributedCacheInvalidationConsumer;
+import org.projectnessie.versioned.storage.cache.DistributedCacheInvalidationListener;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,11 +55,25 @@ public class CacheInvalidationReceiver implements DistributedCacheInvalidationCo
   private final Set<String> validTokens;
   private final String invalidationPath;
   private final ObjectMapper objectMapper;
+  private final Iterable<DistributedCacheInvalidationListener> invalidationListeners;
 
   @Inject
   public CacheInvalidationReceiver(
-      QuarkusStoreConfig storeConfig, @ServerInstanceId String serverInstanceId) {
+      QuarkusStoreConfig storeConfig,
+      @ServerInstanceId String serverInstanceId,
+      @Any Instance<DistributedCacheInvalidationListener> invalidationListeners) {
+    this(
+        storeConfig,
+        serverInstanceId,
+        (Iterable<DistributedCacheInvalidationListener>) invalidationListeners);
+  }
+
+  CacheInvalidationReceiver(
+      QuarkusStoreConfig storeConfig,
+      String serverInstanceId,
+      Iterable<DistributedCacheInvalidationListener> invalidationListeners) {
     this.serverInstanceId = serverInstanceId;
+    this.invalidationListeners = invalidationListeners;
     this.invalidationPath = storeConfig.cacheInvalidationUri();
     this.validTokens =
         new HashSet<>(storeConfig.cacheInvalidationValidTokens().orElse(emptyList()));
@@ -133,7 +151,9 @@ public class CacheInvalidationReceiver implements DistributedCacheInvalidationCo
           case CacheInvalidations.CacheInvalidationEvictObj.TYPE:
             CacheInvalidations.CacheInvalidationEvictObj putObj =
                 (CacheInvalidations.CacheInvalidationEvictObj) invalidation;
-            cacheInvalidation.evictObj(putObj.repoId(), objIdFromByteArray(putObj.id()));
+            ObjId objId = objIdFromByteArray(putObj.id());
+            cacheInvalidation.evictObj(putObj.repoId(), objId);
+            objInvalidated(putObj.repoId(), objId);
             break;
           case CacheInvalidations.CacheInvalidationEvictReference.TYPE:
             CacheInvalidationEvictReference putReference =
@@ -150,6 +170,16 @@ public class CacheInvalidationReceiver implements DistributedCacheInvalidationCo
     responseNoContent(rc);
   }
 
+  private void objInvalidated(String repositoryId, ObjId objId) {
+    for (DistributedCacheInvalidationListener listener : invalidationListeners) {
+      try {
+        listener.objInvalidated(repositoryId, objId);
+      } catch (RuntimeException e) {
+        LOGGER.warn("Cache invalidation listener {} failed", listener, e);
+      }
+    }
+  }
+
   private void responseServerError(RoutingContext rc) {
     rc.response().setStatusCode(500).setStatusMessage("Server error parsing request body").end();
   }
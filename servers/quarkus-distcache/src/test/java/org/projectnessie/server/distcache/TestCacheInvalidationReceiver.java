@@ -41,6 +41,7 @@ import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.projectnessie.quarkus.config.QuarkusStoreConfig;
 import org.projectnessie.versioned.storage.cache.DistributedCacheInvalidation;
+import org.projectnessie.versioned.storage.cache.DistributedCacheInvalidationListener;
 
 public class TestCacheInvalidationReceiver {
 
@@ -54,7 +55,11 @@ public class TestCacheInvalidationReceiver {
     String receiverId = "receiverId";
     String senderId = "senderId";
 
-    CacheInvalidationReceiver receiver = buildReceiver(tokens, receiverId);
+    DistributedCacheInvalidationListener invalidationListener =
+        mock(DistributedCacheInvalidationListener.class);
+
+    CacheInvalidationReceiver receiver =
+        buildReceiver(tokens, receiverId, singletonList(invalidationListener));
     receiver.applyDistributedCacheInvalidation(distributedCacheInvalidation);
 
     CacheInvalidations invalidations = cacheInvalidations(allInvalidationTypes());
@@ -77,6 +82,9 @@ public class TestCacheInvalidationReceiver {
     verify(distributedCacheInvalidation).evictObj("repo", EMPTY_OBJ_ID);
     verify(distributedCacheInvalidation).evictReference("repo", "refs/foo/bar");
     verifyNoMoreInteractions(distributedCacheInvalidation);
+
+    verify(invalidationListener).objInvalidated("repo", EMPTY_OBJ_ID);
+    verifyNoMoreInteractions(invalidationListener);
   }
 
   @Test
@@ -169,10 +177,17 @@ public class TestCacheInvalidationReceiver {
   }
 
   private static CacheInvalidationReceiver buildReceiver(List<String> tokens, String receiverId) {
+    return buildReceiver(tokens, receiverId, emptyList());
+  }
+
+  private static CacheInvalidationReceiver buildReceiver(
+      List<String> tokens,
+      String receiverId,
+      List<DistributedCacheInvalidationListener> invalidationListeners) {
     QuarkusStoreConfig config = mock(QuarkusStoreConfig.class);
     when(config.cacheInvalidationValidTokens()).thenReturn(Optional.of(tokens));
 
-    return new CacheInvalidationReceiver(config, receiverId);
+    return new CacheInvalidationReceiver(config, receiverId, invalidationListeners);
   }
 
   List<CacheInvalidations.CacheInvalidation> allInvalidationTypes() {
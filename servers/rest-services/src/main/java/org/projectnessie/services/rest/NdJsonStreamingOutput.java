@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.rest;
+
+import static java.util.Collections.singletonMap;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+import org.projectnessie.error.BaseNessieClientServerException;
+import org.projectnessie.error.ErrorCode;
+import org.projectnessie.error.NessieError;
+import org.projectnessie.error.NessieRuntimeException;
+import org.projectnessie.model.ser.Views;
+import org.projectnessie.services.authz.AccessCheckException;
+import org.projectnessie.services.rest.common.RestCommon;
+import org.projectnessie.services.spi.PagedCountingResponseHandler;
+
+/**
+ * Writes a paged response as newline-delimited JSON while the service produces it, instead of
+ * collecting the whole page in memory.
+ *
+ * <p>Each entry is written as a response page that contains only that entry. The last line is the
+ * response page without entries, which carries the paging token and effective references, if any.
+ * Errors that happen before the first line has been written, for example if the reference does not
+ * exist or access is denied, are reported as a regular error response with the matching HTTP
+ * status code. Errors that happen after that cannot be reported via the HTTP status code anymore,
+ * so those are written as a final line, an object with the single field {@value #ERROR_FIELD}
+ * containing the {@link NessieError}. Back-pressure is provided by the blocking writes to the
+ * response output stream.
+ */
+final class NdJsonStreamingOutput implements StreamingOutput {
+
+  static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+  /** Name of the only field of the error line. */
+  static final String ERROR_FIELD = "error";
+
+  @FunctionalInterface
+  interface Producer {
+    void produce(Lines lines) throws BaseNessieClientServerException;
+  }
+
+  /** Receives the lines of the streamed response. */
+  static final class Lines {
+    private final ObjectWriter writer;
+    private final OutputStream output;
+    // created with the first line, nothing is written to the output stream before
+    private JsonGenerator generator;
+
+    private Lines(ObjectWriter writer, OutputStream output) {
+      this.writer = writer;
+      this.output = output;
+    }
+
+    void write(Object value) {
+      try {
+        if (generator == null) {
+          generator = writer.createGenerator(output);
+        }
+        writer.writeValue(generator, value);
+        generator.writeRaw('\n');
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    private boolean isEmpty() {
+      return generator == null;
+    }
+
+    private void close() throws IOException {
+      if (generator != null) {
+        generator.close();
+      }
+    }
+  }
+
+  /**
+   * Response handler that writes each entry as a single-entry response page and the trailing
+   * response page, when the service {@linkplain #build() builds} the response.
+   */
+  abstract static class Handler<R, E> extends PagedCountingResponseHandler<R, E> {
+    private final Lines lines;
+    private String pagingToken;
+
+    Handler(Lines lines, Integer maxRecords) {
+      super(maxRecords);
+      this.lines = lines;
+    }
+
+    Handler(Lines lines, Integer maxRecords, int strictMax) {
+      super(maxRecords, strictMax);
+      this.lines = lines;
+    }
+
+    /** Builds the response page that contains only the given entry. */
+    protected abstract R entryPage(E entry);
+
+    /** Builds the trailing response page without entries. */
+    protected abstract R trailerPage(String pagingToken);
+
+    @Override
+    protected boolean doAddEntry(E entry) {
+      lines.write(entryPage(entry));
+      return true;
+    }
+
+    @Override
+    public void hasMore(String pagingToken) {
+      this.pagingToken = pagingToken;
+    }
+
+    @Override
+    public R build() {
+      R trailer = trailerPage(pagingToken);
+      lines.write(trailer);
+      return trailer;
+    }
+  }
+
+  private final ObjectWriter writer;
+  private final Producer producer;
+  private final Function<String, String> requestHeader;
+
+  /**
+   * @param objectMapper the object mapper configured for the server, indentation is always
+   *     disabled, because every value must be written as a single line
+   */
+  NdJsonStreamingOutput(
+      ObjectMapper objectMapper, Producer producer, Function<String, String> requestHeader) {
+    this.writer =
+        objectMapper
+            .writerWithView(Views.V2.class)
+            .without(SerializationFeature.INDENT_OUTPUT)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            // lines are terminated explicitly
+            .withRootValueSeparator("");
+    this.producer = producer;
+    this.requestHeader = requestHeader;
+  }
+
+  @Override
+  public void write(OutputStream output) throws IOException {
+    Lines lines = new Lines(writer, output);
+    try {
+      producer.produce(lines);
+    } catch (BaseNessieClientServerException e) {
+      writeError(lines, e.getErrorCode(), e);
+    } catch (NessieRuntimeException e) {
+      writeError(lines, e.getErrorCode(), e);
+    } catch (AccessCheckException e) {
+      writeError(lines, ErrorCode.FORBIDDEN, e);
+    } catch (IllegalArgumentException e) {
+      writeError(lines, ErrorCode.BAD_REQUEST, e);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    } finally {
+      lines.close();
+    }
+  }
+
+  private void writeError(Lines lines, ErrorCode errorCode, Exception e) {
+    Response.Status status = Response.Status.fromStatusCode(errorCode.httpStatus());
+    if (status == null) {
+      status = Response.Status.INTERNAL_SERVER_ERROR;
+    }
+    NessieError error =
+        RestCommon.buildNessieError(
+            e.getMessage(),
+            status.getStatusCode(),
+            status.getReasonPhrase(),
+            errorCode,
+            e,
+            false,
+            requestHeader);
+    if (lines.isEmpty()) {
+      // Nothing has been written yet, the error can still be reported via the HTTP status code.
+      throw new WebApplicationException(
+          e, Response.status(status).entity(error).type(MediaType.APPLICATION_JSON_TYPE).build());
+    }
+    lines.write(singletonMap(ERROR_FIELD, error));
+  }
+}
@@ -17,7 +17,9 @@ package org.projectnessie.services.rest;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static org.projectnessie.api.v2.params.ReferenceResolver.resolveReferencePathElement;
+import static org.projectnessie.model.Validation.REF_NAME_PATH_ELEMENT_REGEX;
 import static org.projectnessie.services.impl.RefUtil.toReference;
+import static org.projectnessie.services.rest.NdJsonStreamingOutput.APPLICATION_NDJSON;
 import static org.projectnessie.services.rest.RestApiContext.NESSIE_V2;
 import static org.projectnessie.services.rest.common.RestCommon.updateCommitMeta;
 import static org.projectnessie.services.spi.TreeService.MAX_COMMIT_LOG_ENTRIES;
@@ -25,10 +27,17 @@ import static org.projectnessie.versioned.RequestMeta.API_READ;
 import static org.projectnessie.versioned.RequestMeta.API_WRITE;
 
 import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.BeanParam;
+import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.StreamingOutput;
 import java.util.List;
 import java.util.Locale;
 import org.projectnessie.api.v2.http.HttpTreeApi;
@@ -50,6 +59,7 @@ import org.projectnessie.model.ContentResponse;
 import org.projectnessie.model.DiffResponse;
 import org.projectnessie.model.DiffResponse.DiffEntry;
 import org.projectnessie.model.EntriesResponse;
+import org.projectnessie.model.FetchOption;
 import org.projectnessie.model.GetMultipleContentsRequest;
 import org.projectnessie.model.GetMultipleContentsResponse;
 import org.projectnessie.model.ImmutableCommitMeta;
@@ -87,29 +97,63 @@ import org.projectnessie.versioned.VersionStore;
 @Path("api/v2/trees")
 public class RestV2TreeResource implements HttpTreeApi {
 
+  /**
+   * Streamed responses are only produced if explicitly requested, the lower server-side quality
+   * lets JSON responses win for requests that accept any media type.
+   */
+  private static final String APPLICATION_NDJSON_LOW_QUALITY = APPLICATION_NDJSON + ";qs=0.5";
+
   private final ConfigService configService;
   private final TreeService treeService;
   private final ContentService contentService;
   private final DiffService diffService;
   private final HttpHeaders httpHeaders;
+  private final ObjectMapper objectMapper;
 
   // Mandated by CDI 2.0
   public RestV2TreeResource() {
     this(null, null, null, null, null);
   }
 
-  @Inject
   public RestV2TreeResource(
       ServerConfig config,
       VersionStore store,
       Authorizer authorizer,
       AccessContext accessContext,
       HttpHeaders httpHeaders) {
+    this(config, store, authorizer, accessContext, httpHeaders, new ObjectMapper());
+  }
+
+  @Inject
+  public RestV2TreeResource(
+      ServerConfig config,
+      VersionStore store,
+      Authorizer authorizer,
+      AccessContext accessContext,
+      HttpHeaders httpHeaders,
+      Instance<ObjectMapper> objectMapper) {
+    this(
+        config,
+        store,
+        authorizer,
+        accessContext,
+        httpHeaders,
+        objectMapper.isResolvable() ? objectMapper.get() : new ObjectMapper());
+  }
+
+  private RestV2TreeResource(
+      ServerConfig config,
+      VersionStore store,
+      Authorizer authorizer,
+      AccessContext accessContext,
+      HttpHeaders httpHeaders,
+      ObjectMapper objectMapper) {
     this.configService = new ConfigApiImpl(config, store, authorizer, accessContext, NESSIE_V2);
     this.treeService = new TreeApiImpl(config, store, authorizer, accessContext, NESSIE_V2);
     this.contentService = new ContentApiImpl(config, store, authorizer, accessContext, NESSIE_V2);
     this.diffService = new DiffApiImpl(config, store, authorizer, accessContext, NESSIE_V2);
     this.httpHeaders = httpHeaders;
+    this.objectMapper = objectMapper;
   }
 
   private ParsedReference parseRefPathString(String refPathString) {
@@ -321,6 +365,157 @@ public class RestV2TreeResource implements HttpTreeApi {
             params.getFilter());
   }
 
+  /**
+   * Streaming variant of {@link #getEntries(String, EntriesParams)}, selected via the {@code
+   * Accept} header, see {@link NdJsonStreamingOutput}.
+   */
+  @GET
+  @Produces(APPLICATION_NDJSON_LOW_QUALITY)
+  @Path("{ref:" + REF_NAME_PATH_ELEMENT_REGEX + "}/entries")
+  public StreamingOutput getEntriesStreamed(
+      @PathParam("ref") String ref, @BeanParam EntriesParams params)
+      throws NessieNotFoundException {
+    ParsedReference reference = parseRefPathString(ref);
+    checkReferenceExists(reference);
+    ImmutableEntriesResponse.Builder trailer = EntriesResponse.builder();
+    return ndJson(
+        lines ->
+            tree()
+                .getEntries(
+                    reference.name(),
+                    reference.hashWithRelativeSpec(),
+                    null,
+                    params.filter(),
+                    params.pageToken(),
+                    params.withContent(),
+                    new NdJsonStreamingOutput.Handler<EntriesResponse, EntriesResponse.Entry>(
+                        lines, params.maxRecords()) {
+                      @Override
+                      protected EntriesResponse entryPage(EntriesResponse.Entry entry) {
+                        return EntriesResponse.builder().addEntries(entry).build();
+                      }
+
+                      @Override
+                      protected EntriesResponse trailerPage(String pagingToken) {
+                        return pagingToken != null
+                            ? trailer.isHasMore(true).token(pagingToken).build()
+                            : trailer.build();
+                      }
+                    },
+                    h -> trailer.effectiveReference(toReference(h)),
+                    params.minKey(),
+                    params.maxKey(),
+                    params.prefixKey(),
+                    params.getRequestedKeys()));
+  }
+
+  /**
+   * Streaming variant of {@link #getCommitLog(String, CommitLogParams)}, selected via the {@code
+   * Accept} header, see {@link NdJsonStreamingOutput}. The same hard limit of {@link
+   * TreeService#MAX_COMMIT_LOG_ENTRIES} entries per page applies.
+   */
+  @GET
+  @Produces(APPLICATION_NDJSON_LOW_QUALITY)
+  @Path("{ref:" + REF_NAME_PATH_ELEMENT_REGEX + "}/history")
+  public StreamingOutput getCommitLogStreamed(
+      @PathParam("ref") String ref, @BeanParam CommitLogParams params)
+      throws NessieNotFoundException {
+    ParsedReference reference = parseRefPathString(ref);
+    checkReferenceExists(reference);
+    return ndJson(
+        lines ->
+            tree()
+                .getCommitLog(
+                    reference.name(),
+                    params.fetchOption(),
+                    params.startHash(),
+                    reference.hashWithRelativeSpec(),
+                    params.filter(),
+                    params.pageToken(),
+                    new NdJsonStreamingOutput.Handler<LogResponse, LogEntry>(
+                        lines, params.maxRecords(), MAX_COMMIT_LOG_ENTRIES) {
+                      @Override
+                      protected LogResponse entryPage(LogEntry entry) {
+                        return ImmutableLogResponse.builder().addLogEntries(entry).build();
+                      }
+
+                      @Override
+                      protected LogResponse trailerPage(String pagingToken) {
+                        return ImmutableLogResponse.builder()
+                            .isHasMore(pagingToken != null)
+                            .token(pagingToken)
+                            .build();
+                      }
+                    }));
+  }
+
+  /**
+   * Streaming variant of {@link #getDiff(DiffParams)}, selected via the {@code Accept} header, see
+   * {@link NdJsonStreamingOutput}.
+   */
+  @GET
+  @Produces(APPLICATION_NDJSON_LOW_QUALITY)
+  @Path(
+      "{from-ref:"
+          + REF_NAME_PATH_ELEMENT_REGEX
+          + "}/diff/{to-ref:"
+          + REF_NAME_PATH_ELEMENT_REGEX
+          + "}")
+  public StreamingOutput getDiffStreamed(@BeanParam DiffParams params)
+      throws NessieNotFoundException {
+    ParsedReference from = parseRefPathString(params.getFromRef());
+    ParsedReference to = parseRefPathString(params.getToRef());
+    checkReferenceExists(from);
+    checkReferenceExists(to);
+    ImmutableDiffResponse.Builder trailer = DiffResponse.builder();
+    return ndJson(
+        lines ->
+            diff()
+                .getDiff(
+                    from.name(),
+                    from.hashWithRelativeSpec(),
+                    to.name(),
+                    to.hashWithRelativeSpec(),
+                    params.pageToken(),
+                    new NdJsonStreamingOutput.Handler<DiffResponse, DiffEntry>(
+                        lines, params.maxRecords()) {
+                      @Override
+                      protected DiffResponse entryPage(DiffEntry entry) {
+                        return DiffResponse.builder().addDiffs(entry).build();
+                      }
+
+                      @Override
+                      protected DiffResponse trailerPage(String pagingToken) {
+                        return pagingToken != null
+                            ? trailer.isHasMore(true).token(pagingToken).build()
+                            : trailer.build();
+                      }
+                    },
+                    h -> trailer.effectiveFromReference(toReference(h)),
+                    h -> trailer.effectiveToReference(toReference(h)),
+                    params.minKey(),
+                    params.maxKey(),
+                    params.prefixKey(),
+                    params.getRequestedKeys(),
+                    params.getFilter()));
+  }
+
+  /**
+   * Resolves the named reference before a streamed response is returned, so that a non-existing
+   * reference or a denied access is reported with the matching HTTP status code. Errors that
+   * happen later, but before the first line has been written, are handled by {@link
+   * NdJsonStreamingOutput}.
+   */
+  private void checkReferenceExists(ParsedReference reference) throws NessieNotFoundException {
+    if (reference.name() != null) {
+      tree().getReferenceByName(reference.name(), FetchOption.MINIMAL);
+    }
+  }
+
+  private StreamingOutput ndJson(NdJsonStreamingOutput.Producer producer) {
+    return new NdJsonStreamingOutput(objectMapper, producer, httpHeaders::getHeaderString);
+  }
+
   @JsonView(Views.V2.class)
   @Override
   public SingleReferenceResponse assignReference(String type, String ref, Reference assignTo)
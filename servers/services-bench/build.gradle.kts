@@ -27,6 +27,9 @@ publishingHelper { mavenName = "Nessie - Services - Microbenchmarks" }
 dependencies {
   implementation(project(":nessie-model"))
   implementation(project(":nessie-versioned-spi"))
+  implementation(project(":nessie-services"))
+  implementation(platform(libs.cel.bom))
+  implementation("org.projectnessie.cel:cel-standalone")
   implementation(libs.slf4j.api)
 
   jmhRuntimeOnly(project(":nessie-server-store"))
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.projectnessie.services.cel.CELUtil.COMMIT_LOG_DECLARATIONS;
+import static org.projectnessie.services.cel.CELUtil.COMMIT_LOG_TYPES;
+import static org.projectnessie.services.cel.CELUtil.VAR_COMMIT;
+import static org.projectnessie.services.cel.CELUtil.VAR_OPERATIONS;
+
+import java.util.Collections;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.projectnessie.cel.tools.Script;
+import org.projectnessie.model.CommitMeta;
+import org.projectnessie.services.cel.CelScriptCache;
+
+/**
+ * Measures the per-request cost of a commit-log filter, which is compiling (or looking up) the CEL
+ * script and evaluating it against a commit.
+ */
+@Warmup(iterations = 2, time = 2000, timeUnit = MILLISECONDS)
+@Measurement(iterations = 3, time = 1000, timeUnit = MILLISECONDS)
+@Fork(1)
+@Threads(4)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class CelFilterBench {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkParam {
+
+    @Param({
+      "commit.author == 'nessie-author'",
+      "commit.author == 'nessie-author' && commit.message.startsWith('Commit') && size(operations) == 0"
+    })
+    public String filter;
+
+    Map<String, Object> arguments;
+
+    @Setup
+    public void setup() {
+      CommitMeta commitMeta =
+          CommitMeta.builder().author("nessie-author").message("Commit message").build();
+      arguments = Map.of(VAR_COMMIT, commitMeta, VAR_OPERATIONS, Collections.emptyList());
+    }
+  }
+
+  @Benchmark
+  public Boolean compileUncached(BenchmarkParam param) throws Exception {
+    Script script = CelScriptCache.compile(param.filter, COMMIT_LOG_DECLARATIONS, COMMIT_LOG_TYPES);
+    return script.execute(Boolean.class, param.arguments);
+  }
+
+  @Benchmark
+  public Boolean compileCached(BenchmarkParam param) throws Exception {
+    Script script = CelScriptCache.commitLogScript(param.filter);
+    return script.execute(Boolean.class, param.arguments);
+  }
+}
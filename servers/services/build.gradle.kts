@@ -28,6 +28,8 @@ dependencies {
 
   implementation(platform(libs.cel.bom))
   implementation("org.projectnessie.cel:cel-standalone")
+  implementation(libs.caffeine)
+  implementation(libs.micrometer.core)
 
   compileOnly(libs.immutables.builder)
   compileOnly(libs.immutables.value.annotations)
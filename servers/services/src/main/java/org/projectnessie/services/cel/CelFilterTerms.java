@@ -0,0 +1,223 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.cel;
+
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.projectnessie.cel.Env;
+import org.projectnessie.cel.Env.AstIssuesTuple;
+import org.projectnessie.cel.relocated.com.google.api.expr.v1alpha1.Constant;
+import org.projectnessie.cel.relocated.com.google.api.expr.v1alpha1.Expr;
+
+/** Helpers to inspect the parsed AST of CEL filter expressions for filter pushdowns. */
+final class CelFilterTerms {
+
+  /** Function name of the {@code &&} operator. */
+  static final String LOGICAL_AND = "_&&_";
+
+  /** Function name of the {@code ==} operator. */
+  static final String EQUALS = "_==_";
+
+  /** Function name of the {@code in} operator. */
+  static final String IN = "@in";
+
+  /** Name of the {@code string.startsWith(string)} member function. */
+  static final String STARTS_WITH = "startsWith";
+
+  /** Only used to parse, but not to check, filter expressions, so no declarations are needed. */
+  private static final Env PARSER = Env.newEnv();
+
+  private CelFilterTerms() {}
+
+  /**
+   * Parses the filter expression, returns {@code null}, if the expression is not valid. Type-checks
+   * are not performed, those happen when the filter expression is compiled for evaluation.
+   */
+  @Nullable
+  static Expr parse(String filter) {
+    AstIssuesTuple parsed = PARSER.parse(filter);
+    return parsed.hasIssues() ? null : parsed.getAst().getExpr();
+  }
+
+  /**
+   * Splits the expression into its top-level {@code &&} terms. An expression that is not an
+   * {@code &&} conjunction is returned as the only term.
+   */
+  static List<Expr> topLevelConjunction(Expr expr) {
+    List<Expr> terms = new ArrayList<>();
+    collectConjunction(expr, terms);
+    return terms;
+  }
+
+  private static void collectConjunction(Expr expr, List<Expr> terms) {
+    if (isCall(expr, LOGICAL_AND, 2)) {
+      for (Expr arg : expr.getCallExpr().getArgsList()) {
+        collectConjunction(arg, terms);
+      }
+    } else {
+      terms.add(expr);
+    }
+  }
+
+  /**
+   * Returns the identifiers and selected field names used in the expression, function names and
+   * string literals are not included.
+   */
+  static Set<String> identifiers(Expr expr) {
+    Set<String> identifiers = new HashSet<>();
+    collectIdentifiers(expr, identifiers);
+    return identifiers;
+  }
+
+  private static void collectIdentifiers(Expr expr, Set<String> identifiers) {
+    switch (expr.getExprKindCase()) {
+      case IDENT_EXPR:
+        identifiers.add(expr.getIdentExpr().getName());
+        break;
+      case SELECT_EXPR:
+        identifiers.add(expr.getSelectExpr().getField());
+        collectIdentifiers(expr.getSelectExpr().getOperand(), identifiers);
+        break;
+      case CALL_EXPR:
+        Expr.Call call = expr.getCallExpr();
+        if (call.hasTarget()) {
+          collectIdentifiers(call.getTarget(), identifiers);
+        }
+        call.getArgsList().forEach(arg -> collectIdentifiers(arg, identifiers));
+        break;
+      case LIST_EXPR:
+        expr.getListExpr().getElementsList().forEach(e -> collectIdentifiers(e, identifiers));
+        break;
+      case STRUCT_EXPR:
+        for (Expr.CreateStruct.Entry entry : expr.getStructExpr().getEntriesList()) {
+          if (entry.hasMapKey()) {
+            collectIdentifiers(entry.getMapKey(), identifiers);
+          }
+          collectIdentifiers(entry.getValue(), identifiers);
+        }
+        break;
+      case COMPREHENSION_EXPR:
+        Expr.Comprehension comprehension = expr.getComprehensionExpr();
+        collectIdentifiers(comprehension.getIterRange(), identifiers);
+        collectIdentifiers(comprehension.getAccuInit(), identifiers);
+        collectIdentifiers(comprehension.getLoopCondition(), identifiers);
+        collectIdentifiers(comprehension.getLoopStep(), identifiers);
+        collectIdentifiers(comprehension.getResult(), identifiers);
+        break;
+      default:
+        break;
+    }
+  }
+
+  /**
+   * Returns the value of the string literal compared to {@code path} using {@code ==}, in either
+   * order, or {@code null}.
+   */
+  @Nullable
+  static String equalsLiteral(Expr term, String... path) {
+    if (!isCall(term, EQUALS, 2)) {
+      return null;
+    }
+    Expr left = term.getCallExpr().getArgs(0);
+    Expr right = term.getCallExpr().getArgs(1);
+    if (isPath(left, path)) {
+      return stringLiteral(right);
+    }
+    if (isPath(right, path)) {
+      return stringLiteral(left);
+    }
+    return null;
+  }
+
+  /**
+   * Returns the value of the string literal argument of a member function call like {@code
+   * ref.name.startsWith('ci/')} on {@code path}, or {@code null}.
+   */
+  @Nullable
+  static String memberCallLiteral(Expr term, String function, String... path) {
+    if (!isCall(term, function, 1)) {
+      return null;
+    }
+    Expr.Call call = term.getCallExpr();
+    if (!call.hasTarget() || !isPath(call.getTarget(), path)) {
+      return null;
+    }
+    return stringLiteral(call.getArgs(0));
+  }
+
+  /**
+   * Returns the values of the string literals of the list that {@code path} is tested against
+   * using {@code in}, or {@code null}, if the list contains other elements than string literals.
+   */
+  @Nullable
+  static List<String> inListLiterals(Expr term, String... path) {
+    if (!isCall(term, IN, 2) || !isPath(term.getCallExpr().getArgs(0), path)) {
+      return null;
+    }
+    Expr list = term.getCallExpr().getArgs(1);
+    if (list.getExprKindCase() != Expr.ExprKindCase.LIST_EXPR) {
+      return null;
+    }
+    List<String> literals = new ArrayList<>();
+    for (Expr element : list.getListExpr().getElementsList()) {
+      String literal = stringLiteral(element);
+      if (literal == null) {
+        return null;
+      }
+      literals.add(literal);
+    }
+    return literals;
+  }
+
+  private static boolean isCall(Expr expr, String function, int args) {
+    return expr.getExprKindCase() == Expr.ExprKindCase.CALL_EXPR
+        && expr.getCallExpr().getFunction().equals(function)
+        && expr.getCallExpr().getArgsCount() == args;
+  }
+
+  /**
+   * Whether the expression is the plain identifier or field selection {@code path}, for example
+   * {@code entry.namespace} for the path {@code "entry", "namespace"}.
+   */
+  private static boolean isPath(Expr expr, String... path) {
+    for (int i = path.length - 1; i > 0; i--) {
+      if (expr.getExprKindCase() != Expr.ExprKindCase.SELECT_EXPR) {
+        return false;
+      }
+      Expr.Select select = expr.getSelectExpr();
+      if (select.getTestOnly() || !select.getField().equals(path[i])) {
+        return false;
+      }
+      expr = select.getOperand();
+    }
+    return expr.getExprKindCase() == Expr.ExprKindCase.IDENT_EXPR
+        && expr.getIdentExpr().getName().equals(path[0]);
+  }
+
+  @Nullable
+  private static String stringLiteral(Expr expr) {
+    if (expr.getExprKindCase() != Expr.ExprKindCase.CONST_EXPR) {
+      return null;
+    }
+    Constant constant = expr.getConstExpr();
+    return constant.getConstantKindCase() == Constant.ConstantKindCase.STRING_VALUE
+        ? constant.getStringValue()
+        : null;
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.cel;
+
+import static java.util.Collections.singletonList;
+import static org.projectnessie.services.cel.CELUtil.COMMIT_LOG_DECLARATIONS;
+import static org.projectnessie.services.cel.CELUtil.COMMIT_LOG_TYPES;
+import static org.projectnessie.services.cel.CELUtil.CONTAINER;
+import static org.projectnessie.services.cel.CELUtil.CONTENT_KEY_DECLARATIONS;
+import static org.projectnessie.services.cel.CELUtil.CONTENT_KEY_TYPES;
+import static org.projectnessie.services.cel.CELUtil.ENTRIES_DECLARATIONS;
+import static org.projectnessie.services.cel.CELUtil.ENTRIES_TYPES;
+import static org.projectnessie.services.cel.CELUtil.REFERENCES_DECLARATIONS;
+import static org.projectnessie.services.cel.CELUtil.REFERENCES_TYPES;
+import static org.projectnessie.services.cel.CELUtil.SCRIPT_HOST;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CaffeineStatsCounter;
+import java.util.List;
+import org.projectnessie.cel.relocated.com.google.api.expr.v1alpha1.Decl;
+import org.projectnessie.cel.tools.Script;
+import org.projectnessie.cel.tools.ScriptException;
+
+/**
+ * Bounded cache of compiled CEL {@link Script}s for the filter expressions of the references,
+ * commit-log, entries and content-key endpoints.
+ *
+ * <p>Compiling (parsing and type-checking) a CEL expression is much more expensive than evaluating
+ * it, and clients tend to send the same filter expressions over and over again. Compiled scripts
+ * are immutable and thread-safe, so a single instance can be shared by all requests.
+ *
+ * <p>Cache statistics are recorded via Micrometer's {@link Metrics#globalRegistry global
+ * registry}, using the cache name {@value #CACHE_NAME}.
+ */
+public final class CelScriptCache {
+
+  public static final String CACHE_NAME = "nessie-cel-scripts";
+  public static final int MAX_CACHED_SCRIPTS = 1000;
+
+  private static final CelScriptCache INSTANCE =
+      new CelScriptCache(MAX_CACHED_SCRIPTS, Metrics.globalRegistry);
+
+  @VisibleForTesting final Cache<ScriptKey, Script> cache;
+
+  @VisibleForTesting
+  CelScriptCache(int maxCachedScripts, MeterRegistry meterRegistry) {
+    Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder().maximumSize(maxCachedScripts);
+    if (meterRegistry != null) {
+      cacheBuilder.recordStats(() -> new CaffeineStatsCounter(meterRegistry, CACHE_NAME));
+      meterRegistry.gauge(
+          "cache_max_size",
+          singletonList(Tag.of("cache", CACHE_NAME)),
+          "",
+          x -> maxCachedScripts);
+    }
+    this.cache = cacheBuilder.build();
+  }
+
+  /** Returns the compiled script for a reference filter expression. */
+  public static Script referencesScript(String expression) throws ScriptException {
+    return INSTANCE.script(expression, REFERENCES_DECLARATIONS, REFERENCES_TYPES);
+  }
+
+  /** Returns the compiled script for a commit-log filter expression. */
+  public static Script commitLogScript(String expression) throws ScriptException {
+    return INSTANCE.script(expression, COMMIT_LOG_DECLARATIONS, COMMIT_LOG_TYPES);
+  }
+
+  /** Returns the compiled script for an entries filter expression. */
+  public static Script entriesScript(String expression) throws ScriptException {
+    return INSTANCE.script(expression, ENTRIES_DECLARATIONS, ENTRIES_TYPES);
+  }
+
+  /** Returns the compiled script for a content-key filter expression. */
+  public static Script contentKeyScript(String expression) throws ScriptException {
+    return INSTANCE.script(expression, CONTENT_KEY_DECLARATIONS, CONTENT_KEY_TYPES);
+  }
+
+  /** Compiles a CEL expression, bypassing the cache. */
+  public static Script compile(String expression, List<Decl> declarations, List<Object> types)
+      throws ScriptException {
+    return SCRIPT_HOST
+        .buildScript(expression)
+        .withContainer(CONTAINER)
+        .withDeclarations(declarations)
+        .withTypes(types)
+        .build();
+  }
+
+  @VisibleForTesting
+  Script script(String expression, List<Decl> declarations, List<Object> types)
+      throws ScriptException {
+    ScriptKey key = new ScriptKey(expression, declarations);
+    Script script = cache.getIfPresent(key);
+    if (script == null) {
+      // Compile outside the cache's compute function, because compilation can fail with a checked
+      // exception. Invalid expressions are not cached. Concurrently compiling the same expression
+      // is harmless, the last one wins.
+      script = compile(expression, declarations, types);
+      cache.put(key, script);
+    }
+    return script;
+  }
+
+  /**
+   * Cache key, the declarations are compared by identity, because only the constants in {@link
+   * CELUtil} are used, which also determine the types.
+   */
+  static final class ScriptKey {
+    final String expression;
+    final List<Decl> declarations;
+
+    ScriptKey(String expression, List<Decl> declarations) {
+      this.expression = expression;
+      this.declarations = declarations;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ScriptKey)) {
+        return false;
+      }
+      ScriptKey other = (ScriptKey) o;
+      return declarations == other.declarations && expression.equals(other.expression);
+    }
+
+    @Override
+    public int hashCode() {
+      return expression.hashCode() * 31 + System.identityHashCode(declarations);
+    }
+
+    @Override
+    public String toString() {
+      return expression;
+    }
+  }
+}
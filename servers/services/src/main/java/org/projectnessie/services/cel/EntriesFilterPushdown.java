@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.cel;
+
+import static java.util.Arrays.asList;
+import static org.projectnessie.services.cel.CELUtil.VAR_ENTRY;
+import static org.projectnessie.services.cel.CelFilterTerms.STARTS_WITH;
+import static org.projectnessie.services.cel.CelFilterTerms.equalsLiteral;
+import static org.projectnessie.services.cel.CelFilterTerms.inListLiterals;
+import static org.projectnessie.services.cel.CelFilterTerms.memberCallLiteral;
+import static org.projectnessie.services.cel.CelFilterTerms.parse;
+import static org.projectnessie.services.cel.CelFilterTerms.topLevelConjunction;
+
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.projectnessie.cel.relocated.com.google.api.expr.v1alpha1.Expr;
+import org.projectnessie.model.ContentKey;
+
+/**
+ * Extracts simple, conjunctive predicates on the namespace and the content type from an entries
+ * filter expression, so that those can be applied to the key-index iteration before any CEL
+ * evaluation or content loading happens.
+ *
+ * <p>The extracted restrictions are always implied by the filter expression, the filter expression
+ * itself still has to be evaluated. Only the top-level {@code &&} conjunction of the parsed
+ * expression is inspected, filters with a top-level {@code ||} or {@code ?:} yield no restrictions.
+ * Recognized terms are:
+ *
+ * <ul>
+ *   <li>{@code entry.namespace == 'a.b'}
+ *   <li>{@code entry.namespace.startsWith('a.b')} and {@code entry.encodedKey.startsWith('a.b')}
+ *   <li>{@code entry.contentType == 'ICEBERG_TABLE'}
+ *   <li>{@code entry.contentType in ['ICEBERG_TABLE', 'ICEBERG_VIEW']}
+ * </ul>
+ *
+ * <p>The terms are matched on the parsed expression, so the operands of {@code ==} can be in either
+ * order and the string literals can use any CEL string literal syntax, including escape sequences.
+ * Other forms, for example {@code entry['namespace']}, yield no restrictions.
+ */
+public final class EntriesFilterPushdown {
+
+  private static final EntriesFilterPushdown NONE = new EntriesFilterPushdown(null, null);
+
+  private static final String NAMESPACE = "namespace";
+  private static final String ENCODED_KEY = "encodedKey";
+  private static final String CONTENT_TYPE = "contentType";
+
+  private final ContentKey namespacePrefix;
+  private final Set<String> contentTypes;
+
+  private EntriesFilterPushdown(ContentKey namespacePrefix, Set<String> contentTypes) {
+    this.namespacePrefix = namespacePrefix;
+    this.contentTypes = contentTypes;
+  }
+
+  /**
+   * The namespace elements that all matching keys start with, as a {@link ContentKey} suitable for
+   * {@code KeyRestrictions.prefixKey()}, or {@code null}.
+   */
+  @Nullable
+  public ContentKey namespacePrefix() {
+    return namespacePrefix;
+  }
+
+  /** The names of the content types that all matching entries have, or {@code null}. */
+  @Nullable
+  public Set<String> contentTypes() {
+    return contentTypes;
+  }
+
+  public static EntriesFilterPushdown analyze(@Nullable String filter) {
+    if (filter == null || filter.isEmpty()) {
+      return NONE;
+    }
+    Expr expr = parse(filter);
+    if (expr == null) {
+      return NONE;
+    }
+
+    List<String> prefix = null;
+    Set<String> types = null;
+    for (Expr term : topLevelConjunction(expr)) {
+      List<String> termPrefix = namespacePrefix(term);
+      if (termPrefix != null) {
+        if (prefix == null || startsWith(termPrefix, prefix)) {
+          prefix = termPrefix;
+        }
+        continue;
+      }
+      Set<String> termTypes = contentTypes(term);
+      if (termTypes != null) {
+        if (types == null) {
+          types = termTypes;
+        } else {
+          types.retainAll(termTypes);
+        }
+      }
+    }
+
+    if (prefix == null && types == null) {
+      return NONE;
+    }
+    return new EntriesFilterPushdown(prefix != null ? ContentKey.of(prefix) : null, types);
+  }
+
+  private static List<String> namespacePrefix(Expr term) {
+    String namespace = equalsLiteral(term, VAR_ENTRY, NAMESPACE);
+    if (namespace != null) {
+      return pathElements(namespace, true);
+    }
+    String prefix = memberCallLiteral(term, STARTS_WITH, VAR_ENTRY, NAMESPACE);
+    if (prefix == null) {
+      prefix = memberCallLiteral(term, STARTS_WITH, VAR_ENTRY, ENCODED_KEY);
+    }
+    return prefix != null ? pathElements(prefix, false) : null;
+  }
+
+  private static Set<String> contentTypes(Expr term) {
+    String type = equalsLiteral(term, VAR_ENTRY, CONTENT_TYPE);
+    if (type != null) {
+      Set<String> types = new HashSet<>();
+      types.add(type);
+      return types;
+    }
+    List<String> list = inListLiterals(term, VAR_ENTRY, CONTENT_TYPE);
+    return list != null ? new HashSet<>(list) : null;
+  }
+
+  /**
+   * Translates an (encoded) path-string or a prefix of it to the namespace elements that are known
+   * to be matched exactly.
+   *
+   * <p>Only plain path-strings are translated. Dots inside a content-key element are encoded using
+   * special characters, path-strings that contain those are not translated.
+   *
+   * @param exact whether {@code path} is a complete path-string or only a prefix of it, in which
+   *     case the last, possibly incomplete element is ignored
+   */
+  private static List<String> pathElements(String path, boolean exact) {
+    if (path.isEmpty() || path.charAt(0) == '.') {
+      return null;
+    }
+    for (int i = 0; i < path.length(); i++) {
+      char c = path.charAt(i);
+      if (c == '\u001d' || c == '\u0000') {
+        return null;
+      }
+    }
+    List<String> elements = new ArrayList<>(asList(path.split("\\.", -1)));
+    if (!exact) {
+      elements.remove(elements.size() - 1);
+    }
+    if (elements.isEmpty() || elements.contains("")) {
+      return null;
+    }
+    return elements;
+  }
+
+  private static boolean startsWith(List<String> elements, List<String> prefix) {
+    return elements.size() >= prefix.size() && elements.subList(0, prefix.size()).equals(prefix);
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.cel;
+
+import static org.projectnessie.services.cel.CELUtil.VAR_COMMIT;
+import static org.projectnessie.services.cel.CELUtil.VAR_REF;
+import static org.projectnessie.services.cel.CELUtil.VAR_REF_META;
+import static org.projectnessie.services.cel.CELUtil.VAR_REF_TYPE;
+import static org.projectnessie.services.cel.CelFilterTerms.STARTS_WITH;
+import static org.projectnessie.services.cel.CelFilterTerms.equalsLiteral;
+import static org.projectnessie.services.cel.CelFilterTerms.identifiers;
+import static org.projectnessie.services.cel.CelFilterTerms.memberCallLiteral;
+import static org.projectnessie.services.cel.CelFilterTerms.parse;
+import static org.projectnessie.services.cel.CelFilterTerms.topLevelConjunction;
+
+import jakarta.annotation.Nullable;
+import java.util.Set;
+import org.projectnessie.cel.relocated.com.google.api.expr.v1alpha1.Expr;
+import org.projectnessie.model.Reference.ReferenceType;
+
+/**
+ * Extracts simple, conjunctive predicates on the reference name and type from a references filter
+ * expression, so that those can be applied to the reference-index iteration, and tells whether the
+ * filter expression needs the reference metadata.
+ *
+ * <p>The extracted restrictions are always implied by the filter expression, the filter expression
+ * itself still has to be evaluated. Only the top-level {@code &&} conjunction of the parsed
+ * expression is inspected, filters with a top-level {@code ||} or {@code ?:} yield no restrictions.
+ * Recognized terms are:
+ *
+ * <ul>
+ *   <li>{@code ref.name == 'main'}
+ *   <li>{@code ref.name.startsWith('ci/')}
+ *   <li>{@code refType == 'BRANCH'}
+ * </ul>
+ */
+public final class ReferencesFilterPushdown {
+
+  private static final ReferencesFilterPushdown NONE =
+      new ReferencesFilterPushdown(null, null, false);
+
+  private static final String NAME = "name";
+
+  /** Name of the field of {@code ref} that holds the reference metadata. */
+  private static final String REF_METADATA_FIELD = "metadata";
+
+  private final String namePrefix;
+  private final ReferenceType referenceType;
+  private final boolean needsMetadata;
+
+  private ReferencesFilterPushdown(
+      String namePrefix, ReferenceType referenceType, boolean needsMetadata) {
+    this.namePrefix = namePrefix;
+    this.referenceType = referenceType;
+    this.needsMetadata = needsMetadata;
+  }
+
+  /** The prefix that the names of all matching references start with, or {@code null}. */
+  @Nullable
+  public String namePrefix() {
+    return namePrefix;
+  }
+
+  /** The type of all matching references, or {@code null}. */
+  @Nullable
+  public ReferenceType referenceType() {
+    return referenceType;
+  }
+
+  /**
+   * Whether the filter expression refers to the reference metadata, the HEAD commit or the
+   * ahead/behind information. If not, the filter can be evaluated against the reference name,
+   * type and HEAD commit ID alone.
+   */
+  public boolean needsMetadata() {
+    return needsMetadata;
+  }
+
+  public static ReferencesFilterPushdown analyze(@Nullable String filter) {
+    if (filter == null || filter.isEmpty()) {
+      return NONE;
+    }
+
+    Expr expr = parse(filter);
+    if (expr == null) {
+      // Let the evaluation of the filter expression report the error.
+      return new ReferencesFilterPushdown(null, null, true);
+    }
+
+    Set<String> identifiers = identifiers(expr);
+    boolean needsMetadata =
+        identifiers.contains(VAR_COMMIT)
+            || identifiers.contains(VAR_REF_META)
+            || identifiers.contains(REF_METADATA_FIELD);
+
+    String prefix = null;
+    ReferenceType type = null;
+    for (Expr term : topLevelConjunction(expr)) {
+      String termPrefix = namePrefix(term);
+      if (termPrefix != null) {
+        if (prefix == null || termPrefix.startsWith(prefix)) {
+          prefix = termPrefix;
+        }
+        continue;
+      }
+      ReferenceType termType = referenceType(term);
+      if (termType != null) {
+        type = termType;
+      }
+    }
+
+    if (prefix != null && prefix.isEmpty()) {
+      prefix = null;
+    }
+    if (prefix == null && type == null && !needsMetadata) {
+      return NONE;
+    }
+    return new ReferencesFilterPushdown(prefix, type, needsMetadata);
+  }
+
+  private static String namePrefix(Expr term) {
+    String name = equalsLiteral(term, VAR_REF, NAME);
+    return name != null ? name : memberCallLiteral(term, STARTS_WITH, VAR_REF, NAME);
+  }
+
+  private static ReferenceType referenceType(Expr term) {
+    String type = equalsLiteral(term, VAR_REF_TYPE);
+    if (type == null) {
+      return null;
+    }
+    try {
+      return ReferenceType.valueOf(type);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+}
@@ -15,10 +15,6 @@
  */
 package org.projectnessie.services.impl;
 
-import static org.projectnessie.services.cel.CELUtil.CONTAINER;
-import static org.projectnessie.services.cel.CELUtil.CONTENT_KEY_DECLARATIONS;
-import static org.projectnessie.services.cel.CELUtil.CONTENT_KEY_TYPES;
-import static org.projectnessie.services.cel.CELUtil.SCRIPT_HOST;
 import static org.projectnessie.services.cel.CELUtil.VAR_KEY;
 import static org.projectnessie.services.cel.CELUtil.forCel;
 
@@ -37,6 +33,7 @@ import org.projectnessie.services.authz.AccessContext;
 import org.projectnessie.services.authz.ApiContext;
 import org.projectnessie.services.authz.Authorizer;
 import org.projectnessie.services.authz.BatchAccessChecker;
+import org.projectnessie.services.cel.CelScriptCache;
 import org.projectnessie.services.config.ServerConfig;
 import org.projectnessie.services.hash.HashResolver;
 import org.projectnessie.versioned.DefaultMetadataRewriter;
@@ -76,13 +73,7 @@ public abstract class BaseApiImpl {
 
     final Script script;
     try {
-      script =
-          SCRIPT_HOST
-              .buildScript(filter)
-              .withContainer(CONTAINER)
-              .withDeclarations(CONTENT_KEY_DECLARATIONS)
-              .withTypes(CONTENT_KEY_TYPES)
-              .build();
+      script = CelScriptCache.contentKeyScript(filter);
     } catch (ScriptException e) {
       throw new IllegalArgumentException(e);
     }
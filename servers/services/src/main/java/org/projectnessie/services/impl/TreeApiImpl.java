@@ -26,14 +26,6 @@ import static org.projectnessie.model.CommitResponse.AddedContent.addedContent;
 import static org.projectnessie.services.authz.Check.canReadContentKey;
 import static org.projectnessie.services.authz.Check.canReadEntries;
 import static org.projectnessie.services.authz.Check.canViewReference;
-import static org.projectnessie.services.cel.CELUtil.COMMIT_LOG_DECLARATIONS;
-import static org.projectnessie.services.cel.CELUtil.COMMIT_LOG_TYPES;
-import static org.projectnessie.services.cel.CELUtil.CONTAINER;
-import static org.projectnessie.services.cel.CELUtil.ENTRIES_DECLARATIONS;
-import static org.projectnessie.services.cel.CELUtil.ENTRIES_TYPES;
-import static org.projectnessie.services.cel.CELUtil.REFERENCES_DECLARATIONS;
-import static org.projectnessie.services.cel.CELUtil.REFERENCES_TYPES;
-import static org.projectnessie.services.cel.CELUtil.SCRIPT_HOST;
 import static org.projectnessie.services.cel.CELUtil.VAR_COMMIT;
 import static org.projectnessie.services.cel.CELUtil.VAR_ENTRY;
 import static org.projectnessie.services.cel.CELUtil.VAR_OPERATIONS;
@@ -106,6 +98,9 @@ import org.projectnessie.services.authz.BatchAccessChecker;
 import org.projectnessie.services.authz.Check;
 import org.projectnessie.services.authz.RetriableAccessChecker;
 import org.projectnessie.services.cel.CELUtil;
+import org.projectnessie.services.cel.CelScriptCache;
+import org.projectnessie.services.cel.EntriesFilterPushdown;
+import org.projectnessie.services.cel.ReferencesFilterPushdown;
 import org.projectnessie.services.config.ServerConfig;
 import org.projectnessie.services.hash.HashValidator;
 import org.projectnessie.services.hash.ResolvedHash;
@@ -116,6 +111,7 @@ import org.projectnessie.versioned.Commit;
 import org.projectnessie.versioned.GetNamedRefsParams;
 import org.projectnessie.versioned.GetNamedRefsParams.RetrieveOptions;
 import org.projectnessie.versioned.Hash;
+import org.projectnessie.versioned.ImmutableGetNamedRefsParams;
 import org.projectnessie.versioned.KeyEntry;
 import org.projectnessie.versioned.MergeConflictException;
 import org.projectnessie.versioned.MergeResult;
@@ -154,8 +150,26 @@ public class TreeApiImpl extends BaseApiImpl implements TreeService {
       String pagingToken,
       PagedResponseHandler<R, Reference> pagedResponseHandler) {
     boolean fetchAll = FetchOption.isFetchAll(fetchOption);
+
+    Predicate<Reference> filterPredicate = filterReferences(filter);
+    ReferencesFilterPushdown pushdown = ReferencesFilterPushdown.analyze(filter);
+    ImmutableGetNamedRefsParams.Builder params =
+        getNamedRefsParamsBuilder(fetchAll).namePrefix(pushdown.namePrefix());
+    if (pushdown.referenceType() == ReferenceType.BRANCH) {
+      params.tagRetrieveOptions(RetrieveOptions.OMIT);
+    } else if (pushdown.referenceType() == ReferenceType.TAG) {
+      params.branchRetrieveOptions(RetrieveOptions.OMIT);
+    }
+    // If the filter does not need the reference metadata, let the version store evaluate it before
+    // computing the metadata, so the expensive parts like the commits ahead/behind are only
+    // computed for the references that are actually returned.
+    boolean filterBeforeMetadata = !Strings.isNullOrEmpty(filter) && !pushdown.needsMetadata();
+    if (filterBeforeMetadata) {
+      params.bareReferenceFilter(refInfo -> filterPredicate.test(makeReference(refInfo, false)));
+    }
+
     try (PaginationIterator<ReferenceInfo<CommitMeta>> references =
-        getStore().getNamedRefs(getGetNamedRefsParams(fetchAll), pagingToken)) {
+        getStore().getNamedRefs(params.build(), pagingToken)) {
 
       AuthzPaginationIterator<ReferenceInfo<CommitMeta>> authz =
           new AuthzPaginationIterator<ReferenceInfo<CommitMeta>>(
@@ -166,11 +180,10 @@ public class TreeApiImpl extends BaseApiImpl implements TreeService {
             }
           };
 
-      Predicate<Reference> filterPredicate = filterReferences(filter);
       while (authz.hasNext()) {
         ReferenceInfo<CommitMeta> refInfo = authz.next();
         Reference ref = makeReference(refInfo, fetchAll);
-        if (!filterPredicate.test(ref)) {
+        if (!filterBeforeMetadata && !filterPredicate.test(ref)) {
           continue;
         }
         if (!pagedResponseHandler.addEntry(ref)) {
@@ -187,13 +200,16 @@ public class TreeApiImpl extends BaseApiImpl implements TreeService {
   }
 
   private GetNamedRefsParams getGetNamedRefsParams(boolean fetchMetadata) {
+    return fetchMetadata ? getNamedRefsParamsBuilder(true).build() : GetNamedRefsParams.DEFAULT;
+  }
+
+  private ImmutableGetNamedRefsParams.Builder getNamedRefsParamsBuilder(boolean fetchMetadata) {
     return fetchMetadata
         ? GetNamedRefsParams.builder()
             .baseReference(BranchName.of(this.getServerConfig().getDefaultBranch()))
             .branchRetrieveOptions(RetrieveOptions.BASE_REFERENCE_RELATED_AND_COMMIT_META)
             .tagRetrieveOptions(RetrieveOptions.COMMIT_META)
-            .build()
-        : GetNamedRefsParams.DEFAULT;
+        : GetNamedRefsParams.builder();
   }
 
   /**
@@ -208,13 +224,7 @@ public class TreeApiImpl extends BaseApiImpl implements TreeService {
 
     final Script script;
     try {
-      script =
-          SCRIPT_HOST
-              .buildScript(filter)
-              .withContainer(CONTAINER)
-              .withDeclarations(REFERENCES_DECLARATIONS)
-              .withTypes(REFERENCES_TYPES)
-              .build();
+      script = CelScriptCache.referencesScript(filter);
     } catch (ScriptException e) {
       throw new IllegalArgumentException(e);
     }
@@ -597,13 +607,7 @@ public class TreeApiImpl extends BaseApiImpl implements TreeService {
 
     final Script script;
     try {
-      script =
-          SCRIPT_HOST
-              .buildScript(filter)
-              .withContainer(CONTAINER)
-              .withDeclarations(COMMIT_LOG_DECLARATIONS)
-              .withTypes(COMMIT_LOG_TYPES)
-              .build();
+      script = CelScriptCache.commitLogScript(filter);
     } catch (ScriptException e) {
       throw new IllegalArgumentException(e);
     }
@@ -909,6 +913,24 @@ public class TreeApiImpl extends BaseApiImpl implements TreeService {
             (key, type) -> key.getElementCount() >= namespaceFilterDepth;
         contentKeyPredicate = combinePredicateWithAnd(contentKeyPredicate, depthFilter);
       }
+
+      // Push simple namespace and content-type restrictions of the filter down to the key-index
+      // iteration, so that neither index stripes outside the namespace are fetched nor CEL is
+      // evaluated for entries of other content types.
+      EntriesFilterPushdown pushdown = EntriesFilterPushdown.analyze(filter);
+      ContentKey pushdownPrefix = pushdown.namespacePrefix();
+      if (pushdownPrefix != null && minKey == null && maxKey == null) {
+        if (prefixKey == null || pushdownPrefix.startsWith(prefixKey)) {
+          prefixKey = pushdownPrefix;
+        }
+      }
+      Set<String> pushdownTypes = pushdown.contentTypes();
+      if (pushdownTypes != null) {
+        contentKeyPredicate =
+            combinePredicateWithAnd(
+                contentKeyPredicate, (key, type) -> pushdownTypes.contains(type.name()));
+      }
+
       BiPredicate<ContentKey, Content.Type> filterPredicate = filterEntries(filter);
       contentKeyPredicate = combinePredicateWithAnd(contentKeyPredicate, filterPredicate);
 
@@ -1002,13 +1024,7 @@ public class TreeApiImpl extends BaseApiImpl implements TreeService {
 
     final Script script;
     try {
-      script =
-          SCRIPT_HOST
-              .buildScript(filter)
-              .withContainer(CONTAINER)
-              .withDeclarations(ENTRIES_DECLARATIONS)
-              .withTypes(ENTRIES_TYPES)
-              .build();
+      script = CelScriptCache.entriesScript(filter);
     } catch (ScriptException e) {
       throw new IllegalArgumentException(e);
     }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.cel;
+
+import static org.projectnessie.services.cel.CELUtil.COMMIT_LOG_DECLARATIONS;
+import static org.projectnessie.services.cel.CELUtil.COMMIT_LOG_TYPES;
+import static org.projectnessie.services.cel.CELUtil.CONTENT_KEY_DECLARATIONS;
+import static org.projectnessie.services.cel.CELUtil.CONTENT_KEY_TYPES;
+import static org.projectnessie.services.cel.CelScriptCache.CACHE_NAME;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.cel.tools.Script;
+import org.projectnessie.cel.tools.ScriptException;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestCelScriptCache {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @Test
+  public void sameScriptForSameExpression() throws Exception {
+    CelScriptCache cache = new CelScriptCache(10, null);
+
+    Script script = cache.script("true", COMMIT_LOG_DECLARATIONS, COMMIT_LOG_TYPES);
+    soft.assertThat(cache.script("true", COMMIT_LOG_DECLARATIONS, COMMIT_LOG_TYPES))
+        .isSameAs(script);
+    soft.assertThat(cache.script("false", COMMIT_LOG_DECLARATIONS, COMMIT_LOG_TYPES))
+        .isNotSameAs(script);
+    // Same expression, but different declarations
+    soft.assertThat(cache.script("true", CONTENT_KEY_DECLARATIONS, CONTENT_KEY_TYPES))
+        .isNotSameAs(script);
+    soft.assertThat(cache.cache.estimatedSize()).isEqualTo(3);
+  }
+
+  @Test
+  public void invalidExpressionNotCached() {
+    CelScriptCache cache = new CelScriptCache(10, null);
+
+    soft.assertThatThrownBy(
+            () -> cache.script("commit.foo ==", COMMIT_LOG_DECLARATIONS, COMMIT_LOG_TYPES))
+        .isInstanceOf(ScriptException.class);
+    // 'key' is not declared for commit-log filters
+    soft.assertThatThrownBy(
+            () -> cache.script("key.name == 'x'", COMMIT_LOG_DECLARATIONS, COMMIT_LOG_TYPES))
+        .isInstanceOf(ScriptException.class);
+    soft.assertThat(cache.cache.asMap()).isEmpty();
+  }
+
+  @Test
+  public void bounded() throws Exception {
+    CelScriptCache cache = new CelScriptCache(5, null);
+    for (int i = 0; i < 50; i++) {
+      cache.script("size(operations) == " + i, COMMIT_LOG_DECLARATIONS, COMMIT_LOG_TYPES);
+    }
+    cache.cache.cleanUp();
+    soft.assertThat(cache.cache.estimatedSize()).isLessThanOrEqualTo(5);
+  }
+
+  @Test
+  public void metrics() throws Exception {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    CelScriptCache cache = new CelScriptCache(10, meterRegistry);
+
+    cache.script("true", COMMIT_LOG_DECLARATIONS, COMMIT_LOG_TYPES);
+    cache.script("true", COMMIT_LOG_DECLARATIONS, COMMIT_LOG_TYPES);
+
+    soft.assertThat(
+            meterRegistry
+                .get("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "hit")
+                .counter()
+                .count())
+        .isEqualTo(1d);
+    soft.assertThat(
+            meterRegistry
+                .get("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "miss")
+                .counter()
+                .count())
+        .isEqualTo(1d);
+    soft.assertThat(meterRegistry.get("cache_max_size").tag("cache", CACHE_NAME).gauge().value())
+        .isEqualTo(10d);
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.cel;
+
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.projectnessie.model.ContentKey;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestEntriesFilterPushdown {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  static Stream<Arguments> analyze() {
+    return Stream.of(
+        arguments(null, null, null),
+        arguments("", null, null),
+        arguments("true", null, null),
+        arguments("entry.name == 'foo'", null, null),
+        // namespace
+        arguments("entry.namespace == 'a.b'", ContentKey.of("a", "b"), null),
+        arguments("'a.b' == entry.namespace", ContentKey.of("a", "b"), null),
+        arguments("entry.namespace==\"a\"", ContentKey.of("a"), null),
+        arguments("(entry.namespace == 'a.b')", ContentKey.of("a", "b"), null),
+        arguments("entry.namespace.startsWith('a.b')", ContentKey.of("a"), null),
+        arguments("entry.namespace.startsWith('a.b.')", ContentKey.of("a", "b"), null),
+        arguments("entry.encodedKey.startsWith('a.b.c')", ContentKey.of("a", "b"), null),
+        arguments("entry.namespace.startsWith('a')", null, null),
+        arguments("entry.namespace == ''", null, null),
+        arguments("entry.namespace == 'a..b'", null, null),
+        arguments("entry.namespace == 'a\u001Db'", null, null),
+        arguments("entry.namespace == 'a\\'b'", ContentKey.of("a'b"), null),
+        arguments("entry.namespace == 'a' + '.b'", null, null),
+        // string literals are taken from the parsed expression, in any CEL string literal syntax
+        arguments("entry.namespace == '\\u0061.b'", ContentKey.of("a", "b"), null),
+        arguments("entry.namespace == r'a.b'", ContentKey.of("a", "b"), null),
+        arguments("entry.namespace == '''a.b'''", ContentKey.of("a", "b"), null),
+        arguments("entry.namespace == \"a.\\x62\"", ContentKey.of("a", "b"), null),
+        arguments("entry.namespace == b'a.b'", null, null),
+        arguments("entry['namespace'] == 'a.b'", null, null),
+        arguments("other.namespace == 'a.b'", null, null),
+        arguments(
+            "entry.namespace.startsWith('a.') && entry.namespace == 'a.b'",
+            ContentKey.of("a", "b"),
+            null),
+        // content type
+        arguments("entry.contentType == 'ICEBERG_TABLE'", null, ImmutableSet.of("ICEBERG_TABLE")),
+        arguments("'ICEBERG_TABLE' == entry.contentType", null, ImmutableSet.of("ICEBERG_TABLE")),
+        arguments(
+            "entry.contentType in ['ICEBERG_TABLE', \"ICEBERG_VIEW\"]",
+            null,
+            ImmutableSet.of("ICEBERG_TABLE", "ICEBERG_VIEW")),
+        arguments(
+            "entry.contentType in ['ICEBERG_TABLE', 'ICEBERG_VIEW'] && entry.contentType == 'ICEBERG_VIEW'",
+            null,
+            ImmutableSet.of("ICEBERG_VIEW")),
+        arguments("entry.contentType in []", null, ImmutableSet.of()),
+        arguments("entry.contentType in ['ICEBERG_TABLE', x]", null, null),
+        // combinations
+        arguments(
+            "entry.namespace == 'a.b' && entry.contentType == 'ICEBERG_TABLE' && entry.name.startsWith('t')",
+            ContentKey.of("a", "b"),
+            ImmutableSet.of("ICEBERG_TABLE")),
+        arguments(
+            "(entry.name == 'x' || entry.name == 'y') && entry.namespace == 'a'",
+            ContentKey.of("a"),
+            null),
+        arguments("entry.namespace == 'a' || entry.contentType == 'ICEBERG_TABLE'", null, null),
+        arguments("entry.namespace == 'a' && entry.name == 'x' || true", null, null),
+        arguments("entry.namespace == 'a' ? true : false", null, null),
+        arguments(
+            "!(entry.namespace == 'a') && entry.contentType == 'NAMESPACE'",
+            null,
+            ImmutableSet.of("NAMESPACE")),
+        arguments("entry.name == 'a && b' && entry.namespace == 'a'", ContentKey.of("a"), null),
+        arguments("entry.name == 'a || b' && entry.namespace == 'a'", ContentKey.of("a"), null),
+        arguments(
+            "entry.namespace == 'a' && (entry.contentType == 'ICEBERG_TABLE' && entry.name == 'x')",
+            ContentKey.of("a"),
+            ImmutableSet.of("ICEBERG_TABLE")),
+        // invalid
+        arguments("entry.namespace ==", null, null));
+  }
+
+  @ParameterizedTest
+  @MethodSource
+  void analyze(String filter, ContentKey namespacePrefix, Set<String> contentTypes) {
+    EntriesFilterPushdown pushdown = EntriesFilterPushdown.analyze(filter);
+    soft.assertThat(pushdown.namespacePrefix()).isEqualTo(namespacePrefix);
+    soft.assertThat(pushdown.contentTypes()).isEqualTo(contentTypes);
+  }
+}
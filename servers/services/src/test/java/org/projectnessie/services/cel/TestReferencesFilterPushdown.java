@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.cel;
+
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.util.stream.Stream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.projectnessie.model.Reference.ReferenceType;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestReferencesFilterPushdown {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  static Stream<Arguments> analyze() {
+    return Stream.of(
+        arguments(null, null, null, false),
+        arguments("", null, null, false),
+        arguments("true", null, null, false),
+        arguments("ref.name.endsWith('x')", null, null, false),
+        // name
+        arguments("ref.name == 'main'", "main", null, false),
+        arguments("'main' == ref.name", "main", null, false),
+        arguments("(ref.name==\"main\")", "main", null, false),
+        arguments("ref.name.startsWith('ci/pr-123')", "ci/pr-123", null, false),
+        arguments("ref.name.startsWith('')", null, null, false),
+        arguments(
+            "ref.name.startsWith('ci/') && ref.name.startsWith('ci/pr-')", "ci/pr-", null, false),
+        arguments("ref.name.startsWith('ci\\'') ", "ci'", null, false),
+        arguments("ref.name.startsWith(\"ci/\" + 'x')", null, null, false),
+        // type
+        arguments("refType == 'BRANCH'", null, ReferenceType.BRANCH, false),
+        arguments("'TAG' == refType", null, ReferenceType.TAG, false),
+        arguments("refType == 'FOO'", null, null, false),
+        // metadata
+        arguments("commit.message == 'foo'", null, null, true),
+        arguments("refMeta.numCommitsAhead > 1", null, null, true),
+        arguments("ref.metadata.numCommitsBehind > 1", null, null, true),
+        arguments("ref.name == 'commit'", "commit", null, false),
+        // combinations
+        arguments(
+            "refType == 'BRANCH' && ref.name.startsWith('ci/') && refMeta.numCommitsAhead > 0",
+            "ci/",
+            ReferenceType.BRANCH,
+            true),
+        arguments("ref.name.startsWith('ci/') || refType == 'TAG'", null, null, false),
+        arguments("ref.name.startsWith('ci/') ? true : false", null, null, false),
+        arguments("!ref.name.startsWith('ci/')", null, null, false),
+        arguments(
+            "refType == 'TAG' && (ref.name.startsWith('v') && ref.name != 'v1')",
+            "v",
+            ReferenceType.TAG,
+            false),
+        // invalid
+        arguments("ref.name ==", null, null, true));
+  }
+
+  @ParameterizedTest
+  @MethodSource
+  void analyze(
+      String filter, String namePrefix, ReferenceType referenceType, boolean needsMetadata) {
+    ReferencesFilterPushdown pushdown = ReferencesFilterPushdown.analyze(filter);
+    soft.assertThat(pushdown.namePrefix()).isEqualTo(namePrefix);
+    soft.assertThat(pushdown.referenceType()).isEqualTo(referenceType);
+    soft.assertThat(pushdown.needsMetadata()).isEqualTo(needsMetadata);
+  }
+}
@@ -16,6 +16,7 @@
 package org.projectnessie.nessie.tasks.api;
 
 import java.util.concurrent.CompletionStage;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 
 /**
@@ -27,4 +28,13 @@ public interface TasksService {
   Tasks forPersist(Persist persist);
 
   CompletionStage<Void> shutdown();
+
+  /**
+   * Notification that another Nessie instance changed the object with the given ID, for example
+   * received via distributed cache invalidations. Lets the tasks service re-evaluate a task that
+   * waits for another instance immediately, instead of waiting for the next poll.
+   *
+   * <p>Implementations must not block.
+   */
+  default void remoteObjChanged(String repositoryId, ObjId objId) {}
 }
@@ -14,7 +14,10 @@
  * limitations under the License.
  */
 
-plugins { id("nessie-conventions-server") }
+plugins {
+  id("nessie-conventions-server")
+  alias(libs.plugins.jmh)
+}
 
 publishingHelper { mavenName = "Nessie - Tasks - Async" }
 
@@ -31,4 +34,13 @@ dependencies {
 
   testImplementation(libs.vertx.core)
   testImplementation(libs.microprofile.contextpropagation.api)
+
+  jmhImplementation(libs.jmh.core)
+  jmhAnnotationProcessor(libs.jmh.generator.annprocess)
 }
+
+tasks.named("processJmhJandexIndex").configure { enabled = false }
+
+tasks.named("processTestJandexIndex").configure { enabled = false }
+
+jmh { jmhVersion = libs.versions.jmh.get() }
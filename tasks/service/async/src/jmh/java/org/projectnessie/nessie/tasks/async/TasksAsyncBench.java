@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.nessie.tasks.async;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.projectnessie.nessie.tasks.async.virtual.VirtualThreadTasksAsync.virtualThreadFactory;
+
+import java.time.Clock;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.projectnessie.nessie.tasks.async.pool.JavaPoolTasksAsync;
+import org.projectnessie.nessie.tasks.async.virtual.VirtualThreadTasksAsync;
+
+/**
+ * Compares {@link TasksAsync} implementations for many concurrent, mostly blocking tasks.
+ *
+ * <p>Each simulated table import performs a blocking "read", then schedules a blocking "write"
+ * with a short delay, similar to the task attempt and state updates done by the tasks service.
+ * Blocking I/O is simulated with {@link Thread#sleep(long)}.
+ *
+ * <p>The {@code virtual} implementation requires Java 21 or newer.
+ */
+@Warmup(iterations = 2, time = 2000, timeUnit = MILLISECONDS)
+@Measurement(iterations = 3, time = 2000, timeUnit = MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+public class TasksAsyncBench {
+  @State(Scope.Benchmark)
+  public static class BenchmarkParam {
+    @Param({"pool", "virtual"})
+    String implementation;
+
+    @Param({"1000", "5000"})
+    int concurrentImports;
+
+    @Param({"5"})
+    int ioMillis;
+
+    ScheduledExecutorService executorService;
+    TasksAsync tasksAsync;
+
+    @Setup
+    public void init() {
+      switch (implementation) {
+        case "pool":
+          // Same bounds as the default thread pool of the Nessie server
+          int threads = Math.min(16, Math.max(2, Runtime.getRuntime().availableProcessors()));
+          executorService = Executors.newScheduledThreadPool(threads);
+          tasksAsync = new JavaPoolTasksAsync(executorService, Clock.systemUTC(), 1L);
+          break;
+        case "virtual":
+          tasksAsync =
+              new VirtualThreadTasksAsync(
+                  virtualThreadFactory("bench-tasks-"), Clock.systemUTC(), 1L, 0);
+          break;
+        default:
+          throw new IllegalArgumentException(implementation);
+      }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+      if (executorService != null) {
+        executorService.shutdown();
+        executorService.awaitTermination(30, SECONDS);
+      }
+    }
+
+    CompletionStage<Void> tableImport() {
+      return tasksAsync
+          .call(this::blockingIo)
+          .thenCompose(
+              x ->
+                  tasksAsync.schedule(
+                      this::blockingIo, tasksAsync.clock().instant().plus(1, ChronoUnit.MILLIS)));
+    }
+
+    void blockingIo() {
+      try {
+        Thread.sleep(ioMillis);
+      } catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+
+  @Benchmark
+  public void concurrentTableImports(BenchmarkParam param) throws Exception {
+    CompletableFuture<?>[] imports = new CompletableFuture<?>[param.concurrentImports];
+    for (int i = 0; i < imports.length; i++) {
+      imports[i] = param.tableImport().toCompletableFuture();
+    }
+    CompletableFuture.allOf(imports).get();
+  }
+}
@@ -45,6 +45,21 @@ public interface TasksAsync {
    */
   CompletionStage<Void> schedule(Runnable runnable, Instant scheduleNotBefore);
 
+  /**
+   * Starts a task execution for the given repository using {@code submitExecution}, which must not
+   * block, and returns the result of that execution.
+   *
+   * <p>Implementations can use this to limit the number of concurrently executing tasks per
+   * repository, holding a permit until the execution completes. Other work, like task state
+   * updates, is passed to {@link #call(Runnable)}, {@link #supply(Supplier)} and {@link
+   * #schedule(Runnable, Instant)}, which must not be subject to that limit. The default
+   * implementation starts the execution immediately.
+   */
+  default <R> CompletionStage<R> submitExecution(
+      String repositoryId, Supplier<CompletionStage<R>> submitExecution) {
+    return submitExecution.get();
+  }
+
   default long calculateDelay(Clock clock, long minimumDelayMillis, Instant scheduleNotBefore) {
     long retryEarliestEpochMillis = scheduleNotBefore.toEpochMilli();
     long delayMillis = retryEarliestEpochMillis - clock.millis();
@@ -0,0 +1,221 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.nessie.tasks.async.virtual;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.projectnessie.nessie.tasks.async.TasksAsync;
+
+/**
+ * {@link TasksAsync} implementation that runs every task in its own thread, intended to be used
+ * with a {@link #virtualThreadFactory(String) virtual thread factory}.
+ *
+ * <p>Tasks spend most of their time blocked on I/O, so there is no thread pool to size. Scheduled
+ * tasks wait for their delay in their own thread, which is cheap with virtual threads. The number
+ * of concurrently executing tasks per repository can be limited, task executions exceeding the
+ * limit wait for a permit before they start, see {@link #submitExecution(String, Supplier)}.
+ * Runnables passed to {@link #call(Runnable)}, {@link #supply(Supplier)} and {@link
+ * #schedule(Runnable, Instant)}, like task state updates, never wait for a permit.
+ *
+ * <p>Cancelling a task only interrupts it while it waits for its delay, already running tasks are
+ * not interrupted.
+ */
+public class VirtualThreadTasksAsync implements TasksAsync {
+  private final ThreadFactory threadFactory;
+  private final Clock clock;
+  private final long minimumDelayMillis;
+  private final int maxConcurrentTasksPerRepository;
+  private final ConcurrentMap<String, Semaphore> repositoryPermits = new ConcurrentHashMap<>();
+
+  /**
+   * @param threadFactory factory for the threads running the tasks, one thread per task
+   * @param clock clock used to calculate the delay of scheduled tasks
+   * @param minimumDelayMillis minimum delay for scheduled tasks
+   * @param maxConcurrentTasksPerRepository maximum number of concurrently executing tasks per
+   *     repository, {@code 0} or negative values mean no limit
+   */
+  public VirtualThreadTasksAsync(
+      ThreadFactory threadFactory,
+      Clock clock,
+      long minimumDelayMillis,
+      int maxConcurrentTasksPerRepository) {
+    this.threadFactory = threadFactory;
+    this.clock = clock;
+    this.minimumDelayMillis = minimumDelayMillis;
+    this.maxConcurrentTasksPerRepository = maxConcurrentTasksPerRepository;
+  }
+
+  /**
+   * Returns a {@link ThreadFactory} for virtual threads named {@code namePrefix} plus a sequence
+   * number.
+   *
+   * @throws UnsupportedOperationException if the Java runtime does not support virtual threads
+   */
+  public static ThreadFactory virtualThreadFactory(String namePrefix) {
+    // Virtual threads are only available since Java 21, this module is built for Java 11.
+    try {
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      builder =
+          builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+      return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    } catch (ReflectiveOperationException e) {
+      throw new UnsupportedOperationException("Virtual threads are not available", e);
+    }
+  }
+
+  @Override
+  public Clock clock() {
+    return clock;
+  }
+
+  @Override
+  public <R> CompletionStage<R> supply(Supplier<R> supplier) {
+    return start(supplier, 0L);
+  }
+
+  @Override
+  public CompletionStage<Void> schedule(Runnable runnable, Instant scheduleNotBefore) {
+    long realDelay = calculateDelay(clock, minimumDelayMillis, scheduleNotBefore);
+    return start(
+        () -> {
+          runnable.run();
+          return null;
+        },
+        realDelay);
+  }
+
+  /**
+   * Starts the task execution immediately, if a permit for the repository is available, otherwise
+   * waits for a permit in its own thread. The permit is released when the task execution
+   * completes.
+   */
+  @Override
+  public <R> CompletionStage<R> submitExecution(
+      String repositoryId, Supplier<CompletionStage<R>> submitExecution) {
+    if (maxConcurrentTasksPerRepository <= 0) {
+      return submitExecution.get();
+    }
+    Semaphore permits =
+        repositoryPermits.computeIfAbsent(
+            repositoryId, id -> new Semaphore(maxConcurrentTasksPerRepository));
+    if (permits.tryAcquire()) {
+      return submitWithPermit(permits, submitExecution);
+    }
+
+    CompletableFuture<R> result = new CompletableFuture<>();
+    threadFactory
+        .newThread(
+            () -> {
+              try {
+                permits.acquire();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.completeExceptionally(e);
+                return;
+              }
+              submitWithPermit(permits, submitExecution)
+                  .whenComplete(
+                      (r, t) -> {
+                        if (t != null) {
+                          result.completeExceptionally(t);
+                        } else {
+                          result.complete(r);
+                        }
+                      });
+            })
+        .start();
+    return result;
+  }
+
+  private static <R> CompletionStage<R> submitWithPermit(
+      Semaphore permits, Supplier<CompletionStage<R>> submitExecution) {
+    CompletionStage<R> execution;
+    try {
+      execution = submitExecution.get();
+    } catch (Throwable t) {
+      permits.release();
+      CompletableFuture<R> failed = new CompletableFuture<>();
+      failed.completeExceptionally(t);
+      return failed;
+    }
+    return execution.whenComplete((r, t) -> permits.release());
+  }
+
+  private <R> CompletionStage<R> start(Supplier<R> supplier, long delayMillis) {
+    CompletableFuture<R> completable = new CompletableFuture<>();
+    VirtualTask<R> task = new VirtualTask<>(completable, supplier, delayMillis);
+    Thread thread = threadFactory.newThread(task);
+
+    completable.whenComplete(
+        (v, t) -> {
+          if (t instanceof CancellationException && task.cancel()) {
+            thread.interrupt(); // only interrupts waiting for the delay
+          }
+        });
+
+    thread.start();
+    return completable;
+  }
+
+  private static final class VirtualTask<R> implements Runnable {
+    private static final int WAITING = 0;
+    private static final int RUNNING = 1;
+    private static final int CANCELLED = 2;
+
+    private final CompletableFuture<R> completable;
+    private final Supplier<R> supplier;
+    private final long delayMillis;
+    private final AtomicInteger state = new AtomicInteger(WAITING);
+
+    VirtualTask(CompletableFuture<R> completable, Supplier<R> supplier, long delayMillis) {
+      this.completable = completable;
+      this.supplier = supplier;
+      this.delayMillis = delayMillis;
+    }
+
+    boolean cancel() {
+      return state.compareAndSet(WAITING, CANCELLED);
+    }
+
+    @Override
+    public void run() {
+      try {
+        if (delayMillis > 0L) {
+          MILLISECONDS.sleep(delayMillis);
+        }
+        if (state.compareAndSet(WAITING, RUNNING)) {
+          completable.complete(supplier.get());
+        }
+      } catch (Throwable t) {
+        // A no-op, if the task has been cancelled.
+        completable.completeExceptionally(new CompletionException(t));
+      }
+    }
+  }
+}
@@ -56,6 +56,12 @@ public abstract class WrappingTasksAsync implements TasksAsync {
     return delegate.schedule(wrapRunnable(runnable), scheduleNotBefore);
   }
 
+  @Override
+  public <R> CompletionStage<R> submitExecution(
+      String repositoryId, Supplier<CompletionStage<R>> submitExecution) {
+    return delegate.submitExecution(repositoryId, wrapSupplier(submitExecution));
+  }
+
   @Override
   public long calculateDelay(Clock clock, long minimumDelayMillis, Instant scheduleNotBefore) {
     return delegate.calculateDelay(clock, minimumDelayMillis, scheduleNotBefore);
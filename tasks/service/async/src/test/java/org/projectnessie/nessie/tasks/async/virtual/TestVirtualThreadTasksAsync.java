@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.nessie.tasks.async.virtual;
+
+import static org.projectnessie.nessie.tasks.async.virtual.VirtualThreadTasksAsync.virtualThreadFactory;
+
+import java.time.Clock;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.projectnessie.nessie.tasks.async.BaseTasksAsync;
+import org.projectnessie.nessie.tasks.async.TasksAsync;
+
+public class TestVirtualThreadTasksAsync extends BaseTasksAsync {
+
+  @Override
+  protected TasksAsync tasksAsync() {
+    return new VirtualThreadTasksAsync(threadFactory(), Clock.systemUTC(), 1L, 0);
+  }
+
+  static ThreadFactory threadFactory() {
+    try {
+      return virtualThreadFactory("test-tasks-");
+    } catch (UnsupportedOperationException e) {
+      // Running on a Java version without virtual threads
+      return Thread::new;
+    }
+  }
+
+  @Test
+  public void submitExecutionWithoutLimit() throws Exception {
+    TasksAsync async = tasksAsync();
+    CompletableFuture<String> execution = new CompletableFuture<>();
+    soft.assertThat(async.submitExecution("repo", () -> execution)).isSameAs(execution);
+  }
+
+  @Test
+  public void concurrencyLimitPerRepository() throws Exception {
+    TasksAsync async = new VirtualThreadTasksAsync(threadFactory(), Clock.systemUTC(), 1L, 2);
+
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    Semaphore started = new Semaphore(0);
+    List<CompletableFuture<String>> executions = new ArrayList<>();
+
+    List<CompletionStage<String>> stages = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      stages.add(
+          async.submitExecution(
+              "repo1",
+              () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                CompletableFuture<String> execution = new CompletableFuture<>();
+                synchronized (executions) {
+                  executions.add(execution);
+                }
+                started.release();
+                return execution;
+              }));
+    }
+
+    soft.assertThat(started.tryAcquire(2, 10, TimeUnit.SECONDS)).isTrue();
+    // The limit applies per repository
+    soft.assertThat(
+            async
+                .submitExecution("repo2", () -> CompletableFuture.completedFuture("other"))
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS))
+        .isEqualTo("other");
+    // Other work is not limited
+    soft.assertThat(async.supply(() -> "supplied").toCompletableFuture().get(10, TimeUnit.SECONDS))
+        .isEqualTo("supplied");
+    soft.assertThat(started.tryAcquire(100, TimeUnit.MILLISECONDS)).isFalse();
+
+    // Complete the executions one by one, each releases a permit for a waiting execution
+    for (int i = 0; i < 10; i++) {
+      CompletableFuture<String> execution;
+      synchronized (executions) {
+        execution = executions.get(i);
+      }
+      running.decrementAndGet();
+      execution.complete("result-" + i);
+      if (i < 8) {
+        soft.assertThat(started.tryAcquire(10, TimeUnit.SECONDS)).isTrue();
+      }
+    }
+
+    CompletableFuture.allOf(
+            stages.stream()
+                .map(CompletionStage::toCompletableFuture)
+                .toArray(CompletableFuture[]::new))
+        .get(10, TimeUnit.SECONDS);
+
+    soft.assertThat(maxRunning).hasValue(2);
+    soft.assertThat(stages)
+        .extracting(stage -> stage.toCompletableFuture().join())
+        .containsExactlyInAnyOrderElementsOf(
+            IntStream.range(0, 10).mapToObj(i -> "result-" + i).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void submitExecutionFailureReleasesPermit() throws Exception {
+    TasksAsync async = new VirtualThreadTasksAsync(threadFactory(), Clock.systemUTC(), 1L, 1);
+
+    CompletionStage<String> failed =
+        async.submitExecution(
+            "repo",
+            () -> {
+              throw new IllegalStateException("boom");
+            });
+    soft.assertThat(failed.toCompletableFuture())
+        .failsWithin(10, TimeUnit.SECONDS)
+        .withThrowableOfType(ExecutionException.class)
+        .withRootCauseInstanceOf(IllegalStateException.class);
+
+    soft.assertThat(
+            async
+                .submitExecution("repo", () -> CompletableFuture.completedFuture("ok"))
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS))
+        .isEqualTo("ok");
+  }
+
+  @Test
+  public void cancelScheduledWithInterrupt() throws Exception {
+    TasksAsync async = tasksAsync();
+
+    AtomicBoolean ran = new AtomicBoolean();
+    CompletionStage<Void> handle =
+        async.schedule(() -> ran.set(true), async.clock().instant().plus(5, ChronoUnit.SECONDS));
+
+    CountDownLatch completed = new CountDownLatch(1);
+    handle.whenComplete((r, t) -> completed.countDown());
+
+    soft.assertThat(handle.toCompletableFuture().cancel(true)).isTrue();
+    soft.assertThat(completed.await(10, TimeUnit.SECONDS)).isTrue();
+    soft.assertThat(handle.toCompletableFuture()).isCancelled();
+    soft.assertThat(ran).isFalse();
+  }
+}
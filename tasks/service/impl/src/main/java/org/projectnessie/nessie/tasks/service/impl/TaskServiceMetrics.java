@@ -113,6 +113,9 @@ public interface TaskServiceMetrics {
   /** Running-state update cancelled, because task is no longer in running-state. */
   void taskRunningStateUpdateNoLongerRunning();
 
+  /** Waiting task attempt triggered early, because the task object was changed remotely. */
+  void taskRemoteChangeWakeUp();
+
   /**
    * Task object requested for {@link Tasks#submit(TaskRequest)} has the final {@link
    * TaskStatus#FAILURE FAILURE} state and is returned immediately.
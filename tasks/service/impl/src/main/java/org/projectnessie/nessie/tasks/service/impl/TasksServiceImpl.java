@@ -31,6 +31,7 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import org.immutables.value.Value;
@@ -62,8 +63,7 @@ public class TasksServiceImpl implements TasksService {
   private final long raceWaitMillisMin;
   private final long raceWaitMillisMax;
 
-  private final ConcurrentMap<TaskKey, CompletionStage<TaskObj>> currentTasks =
-      new ConcurrentHashMap<>();
+  private final ConcurrentMap<TaskKey, ExecParams> currentTasks = new ConcurrentHashMap<>();
 
   private volatile boolean shutdown;
 
@@ -88,7 +88,7 @@ public class TasksServiceImpl implements TasksService {
     shutdown = true;
     return CompletableFuture.allOf(
             currentTasks.values().stream()
-                .map(CompletionStage::toCompletableFuture)
+                .map(params -> params.resultFuture)
                 .toArray(CompletableFuture[]::new))
         .thenApply(x -> null);
   }
@@ -144,17 +144,34 @@ public class TasksServiceImpl implements TasksService {
     CompletionStage<T> r =
         (CompletionStage<T>)
             currentTasks.computeIfAbsent(
-                taskKey,
-                id -> {
-                  metrics.startNewTaskController();
-                  ExecParams execParams = new ExecParams(persist, taskRequest);
-                  LOGGER.trace("{}: Starting new local task controller for {}", name, execParams);
-                  async.call(() -> tryLocal(execParams));
-                  return execParams.resultFuture;
-                });
+                    taskKey,
+                    id -> {
+                      metrics.startNewTaskController();
+                      ExecParams execParams = new ExecParams(persist, taskRequest);
+                      LOGGER.trace(
+                          "{}: Starting new local task controller for {}", name, execParams);
+                      async.call(() -> tryLocal(execParams));
+                      return execParams;
+                    })
+                .resultFuture;
     return r;
   }
 
+  @Override
+  public void remoteObjChanged(String repositoryId, ObjId objId) {
+    ExecParams params = currentTasks.get(TaskKey.taskKey(repositoryId, objId));
+    if (params == null) {
+      return;
+    }
+    // Only wake up task attempts that wait for a state change by another Nessie instance. The
+    // already scheduled attempt becomes a no-op.
+    if (params.pendingAttempt.getAndSet(null) != null) {
+      metrics.taskRemoteChangeWakeUp();
+      LOGGER.trace("{}: Task object for {} changed remotely, attempting now", name, params);
+      async.call(() -> tryLocal(params));
+    }
+  }
+
   private void finalResult(ExecParams params, TaskObj result) {
     try {
       params.resultFuture.complete(result);
@@ -280,7 +297,7 @@ public class TasksServiceImpl implements TasksService {
         reattemptAfterRace(params);
       }
     } else {
-      async.schedule(() -> tryLocal(params), state.retryNotBefore());
+      scheduleAttempt(params, state.retryNotBefore());
     }
   }
 
@@ -305,15 +322,31 @@ public class TasksServiceImpl implements TasksService {
         reattemptAfterRace(params);
       }
     } else {
-      async.schedule(() -> tryLocal(params), state.retryNotBefore());
+      scheduleAttempt(params, state.retryNotBefore());
     }
   }
 
   private void reattemptAfterRace(ExecParams params) {
     long raceWaitMillis =
         ThreadLocalRandom.current().nextLong(raceWaitMillisMin, raceWaitMillisMax);
+    scheduleAttempt(params, async.clock().instant().plus(raceWaitMillis, ChronoUnit.MILLIS));
+  }
+
+  /**
+   * Schedules the next task attempt while waiting for another Nessie instance. The attempt runs
+   * earlier, if {@link #remoteObjChanged(String, ObjId)} is called for the task object, the
+   * scheduled attempt remains as the fallback.
+   */
+  private void scheduleAttempt(ExecParams params, Instant scheduleNotBefore) {
+    Object attempt = new Object();
+    params.pendingAttempt.set(attempt);
     async.schedule(
-        () -> tryLocal(params), async.clock().instant().plus(raceWaitMillis, ChronoUnit.MILLIS));
+        () -> {
+          if (params.pendingAttempt.compareAndSet(attempt, null)) {
+            tryLocal(params);
+          }
+        },
+        scheduleNotBefore);
   }
 
   // Called while ExecParams is locked from tryLocal()
@@ -324,9 +357,12 @@ public class TasksServiceImpl implements TasksService {
     params.runningObj = obj;
     scheduleTaskRunningUpdate(params, obj);
 
-    params
-        .taskRequest
-        .submitExecution()
+    // Only the task execution itself is subject to a per-repository concurrency limit, the running
+    // state updates and task attempts must not wait for it, otherwise tasks would be considered
+    // as lost.
+    async
+        .submitExecution(
+            params.persist.config().repositoryId(), params.taskRequest::submitExecution)
         .whenComplete(
             (resultBuilder, failure) -> localTaskFinished(params, resultBuilder, failure));
   }
@@ -532,6 +568,9 @@ public class TasksServiceImpl implements TasksService {
 
     final Lock lock = new ReentrantLock();
 
+    /** Marker of the currently scheduled attempt, see {@code scheduleAttempt()}. */
+    final AtomicReference<Object> pendingAttempt = new AtomicReference<>();
+
     TaskObj runningObj;
     CompletionStage<Void> runningUpdateScheduled;
 
@@ -50,6 +50,7 @@ import org.projectnessie.nessie.tasks.service.TasksServiceConfig;
 import org.projectnessie.nessie.tasks.service.tasktypes.BasicTaskObj;
 import org.projectnessie.nessie.tasks.service.tasktypes.BasicTaskRequest;
 import org.projectnessie.nessie.tasks.service.tasktypes.RetryableException;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.inmemorytests.InmemoryBackendTestFactory;
 import org.projectnessie.versioned.storage.testextension.NessieBackend;
@@ -676,6 +677,80 @@ public class TestTasksServiceImpl {
         .isEqualTo("hello finished");
   }
 
+  @Test
+  public void twoServicesDistributedRemoteChange() throws Exception {
+    MutableClock clock = MutableClock.of(Instant.now(), ZoneId.of("UTC"));
+    TestingTasksAsync async = new TestingTasksAsync(clock);
+
+    CompletableFuture<BasicTaskObj.Builder> taskCompletionStage = new CompletableFuture<>();
+
+    TaskServiceMetrics metrics1 = mock(TaskServiceMetrics.class);
+    TaskServiceMetrics metrics2 = mock(TaskServiceMetrics.class);
+
+    TasksServiceImpl service1 = new TasksServiceImpl(async, metrics1, tasksServiceConfig(1));
+    Tasks tasks1 = service1.forPersist(persist);
+    TasksServiceImpl service2 = new TasksServiceImpl(async, metrics2, tasksServiceConfig(2));
+    Tasks tasks2 = service2.forPersist(persist);
+
+    BasicTaskRequest taskRequest1 = basicTaskRequest("hello", () -> taskCompletionStage);
+    CompletableFuture<BasicTaskObj> taskFuture1 = tasks1.submit(taskRequest1).toCompletableFuture();
+    soft.assertThat(async.doWork()).isEqualTo(1);
+    soft.assertThat(taskFuture1).isNotDone();
+
+    BasicTaskRequest taskRequest2 = basicTaskRequest("hello", () -> taskCompletionStage);
+    CompletableFuture<BasicTaskObj> taskFuture2 = tasks2.submit(taskRequest2).toCompletableFuture();
+    soft.assertThat(async.doWork()).isEqualTo(1);
+    soft.assertThat(taskFuture2).isNotDone();
+    verify(metrics2).startNewTaskController();
+    verify(metrics2).taskAttempt();
+    verify(metrics2).taskAttemptRunning();
+    verifyNoMoreInteractions(metrics2);
+    reset(metrics1);
+    reset(metrics2);
+
+    taskCompletionStage.complete(
+        BasicTaskObj.builder()
+            .id(taskRequest1.objId())
+            .taskParameter(taskRequest1.taskParameter())
+            .taskResult(taskRequest1.taskParameter() + " finished")
+            .taskState(TaskState.successState()));
+    soft.assertThat(taskFuture1).isCompleted();
+    soft.assertThat(taskFuture2).isNotDone();
+
+    // Change notification for another object does not trigger anything
+    service2.remoteObjChanged(persist.config().repositoryId(), ObjId.randomObjId());
+    // Change notification for another repository does not trigger anything
+    service2.remoteObjChanged("other-repo", taskRequest1.objId());
+    verifyNoMoreInteractions(metrics2);
+
+    // Change notification for the task object, "sent" by the instance of service 1, triggers a task
+    // attempt without advancing the clock
+    service2.remoteObjChanged(persist.config().repositoryId(), taskRequest1.objId());
+    verify(metrics2).taskRemoteChangeWakeUp();
+    verifyNoMoreInteractions(metrics2);
+    reset(metrics2);
+
+    soft.assertThat(async.doWork()).isEqualTo(1);
+    soft.assertThat(taskFuture2).isCompleted();
+    verify(metrics2).taskAttempt();
+    verify(metrics2).taskAttemptFinalSuccess();
+    verifyNoMoreInteractions(metrics2);
+    reset(metrics2);
+
+    // Task is no longer current
+    service2.remoteObjChanged(persist.config().repositoryId(), taskRequest1.objId());
+
+    // The scheduled fallback attempt does nothing
+    clock.add(FRESH_RUNNING_RETRY_NOT_BEFORE);
+    soft.assertThat(async.doWork()).isEqualTo(1);
+    verifyNoMoreInteractions(metrics2);
+
+    soft.assertThat(taskFuture2.get())
+        .asInstanceOf(type(BasicTaskObj.class))
+        .extracting(BasicTaskObj::taskResult)
+        .isEqualTo("hello finished");
+  }
+
   @Test
   public void singleServiceSingleConsumerRetryableError() throws Exception {
     MutableClock clock = MutableClock.of(Instant.now(), ZoneId.of("UTC"));
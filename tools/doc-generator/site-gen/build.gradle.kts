@@ -241,6 +241,7 @@ val serverAdminHelp by tasks.registering(JavaExec::class) {
     for (cmd in listOf(
       "info",
       "check-content",
+      "cleanup-repository",
       "delete-catalog-tasks",
       "erase-repository",
       "export",
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.tools.admin.cli;
+
+import static org.projectnessie.versioned.storage.common.logic.Logics.repositoryLogic;
+import static org.projectnessie.versioned.storage.common.objtypes.ContentValueObj.contentValue;
+
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.junit.main.LaunchResult;
+import io.quarkus.test.junit.main.QuarkusMainLauncher;
+import io.quarkus.test.junit.main.QuarkusMainTest;
+import java.util.UUID;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.nessie.relocated.protobuf.ByteString;
+import org.projectnessie.quarkus.tests.profiles.BaseConfigProfile;
+import org.projectnessie.versioned.storage.common.objtypes.ContentValueObj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+
+@QuarkusMainTest
+@TestProfile(BaseConfigProfile.class)
+@ExtendWith({NessieServerAdminTestExtension.class, SoftAssertionsExtension.class})
+class ITCleanupRepository {
+
+  @InjectSoftAssertions private SoftAssertions soft;
+
+  @Test
+  public void dryRun(QuarkusMainLauncher launcher, Persist persist) throws Exception {
+    ObjId orphan = storeOrphan(persist);
+
+    LaunchResult result = launcher.launch("cleanup-repository", "--grace-period=PT0S", "--dry-run");
+    soft.assertThat(result.exitCode()).isEqualTo(0);
+    soft.assertThat(result.getOutput()).contains("Unreferenced objects:");
+
+    soft.assertThat(persist.fetchObjsIfExist(new ObjId[] {orphan})).doesNotContainNull();
+  }
+
+  @Test
+  public void purge(QuarkusMainLauncher launcher, Persist persist) throws Exception {
+    ObjId orphan = storeOrphan(persist);
+
+    LaunchResult result = launcher.launch("cleanup-repository", "--grace-period=PT0S");
+    soft.assertThat(result.exitCode()).isEqualTo(0);
+    soft.assertThat(result.getOutput()).contains("Purged objects:");
+
+    soft.assertThat(persist.fetchObjsIfExist(new ObjId[] {orphan})).containsOnlyNulls();
+    soft.assertThat(repositoryLogic(persist).fetchRepositoryDescription()).isNotNull();
+  }
+
+  @Test
+  public void gracePeriod(QuarkusMainLauncher launcher, Persist persist) throws Exception {
+    ObjId orphan = storeOrphan(persist);
+
+    LaunchResult result = launcher.launch("cleanup-repository");
+    soft.assertThat(result.exitCode()).isEqualTo(0);
+
+    soft.assertThat(persist.fetchObjsIfExist(new ObjId[] {orphan})).doesNotContainNull();
+  }
+
+  private static ObjId storeOrphan(Persist persist) throws Exception {
+    ContentValueObj orphan =
+        contentValue(UUID.randomUUID().toString(), 1, ByteString.copyFromUtf8("orphan"));
+    persist.storeObj(orphan);
+    // Let the clock advance, so the object is older than a zero grace period.
+    long written = persist.config().currentTimeMicros();
+    while (persist.config().currentTimeMicros() <= written) {
+      Thread.sleep(1);
+    }
+    return orphan.id();
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.tools.admin.cli;
+
+import static org.projectnessie.versioned.storage.common.logic.Logics.repositoryLogic;
+
+import java.io.PrintWriter;
+import java.time.Duration;
+import org.projectnessie.versioned.storage.cleanup.PurgeStats;
+import org.projectnessie.versioned.storage.cleanup.PurgeUnreferencedObjects;
+import picocli.CommandLine;
+
+@CommandLine.Command(
+    name = "cleanup-repository",
+    mixinStandardHelpOptions = true,
+    description =
+        "Purge objects that are no longer reachable from any reference, for example objects of deleted branches or failed commits.")
+public class CleanupRepository extends BaseCommand {
+
+  @CommandLine.Option(
+      names = {"--grace-period"},
+      defaultValue = "P1D",
+      description =
+          "Objects written or re-referenced within this duration before the start of the cleanup "
+              + "are kept, ISO-8601 duration, defaults to ${DEFAULT-VALUE}.")
+  private Duration gracePeriod;
+
+  @CommandLine.Option(
+      names = {"--dry-run"},
+      description = "Only identify unreferenced objects, but do not delete those.")
+  private boolean dryRun;
+
+  @CommandLine.Option(
+      names = {"--expected-commit-count"},
+      defaultValue = "" + PurgeUnreferencedObjects.DEFAULT_EXPECTED_COMMIT_COUNT,
+      description = "Expected number of commits in the repository, defaults to ${DEFAULT-VALUE}.")
+  private int expectedCommitCount;
+
+  @CommandLine.Option(
+      names = {"--expected-obj-count"},
+      defaultValue = "" + PurgeUnreferencedObjects.DEFAULT_EXPECTED_OBJ_COUNT,
+      description =
+          "Expected number of referenced objects in the repository, used to size the bloom filter, "
+              + "defaults to ${DEFAULT-VALUE}.")
+  private int expectedObjCount;
+
+  @CommandLine.Option(
+      names = {"--false-positive-probability"},
+      defaultValue = "" + PurgeUnreferencedObjects.DEFAULT_FALSE_POSITIVE_PROBABILITY,
+      description = "False-positive-probability of the bloom filter, defaults to ${DEFAULT-VALUE}.")
+  private double falsePositiveProbability;
+
+  @CommandLine.Option(
+      names = {"--scan-rate"},
+      defaultValue = "0",
+      description = "Maximum number of objects to scan per second, 0 means unlimited.")
+  private int scanRate;
+
+  @CommandLine.Option(
+      names = {"--fetch-rate"},
+      defaultValue = "0",
+      description = "Maximum number of objects to fetch per second, 0 means unlimited.")
+  private int fetchRate;
+
+  @CommandLine.Option(
+      names = {"--delete-rate"},
+      defaultValue = "0",
+      description = "Maximum number of objects to delete per second, 0 means unlimited.")
+  private int deleteRate;
+
+  @CommandLine.Option(
+      names = {"--delete-batch-size"},
+      defaultValue = "" + PurgeUnreferencedObjects.DEFAULT_DELETE_BATCH_SIZE,
+      description = "Number of objects to delete at once, defaults to ${DEFAULT-VALUE}.")
+  private int deleteBatchSize;
+
+  @CommandLine.Option(
+      names = {"--fetch-batch-size"},
+      defaultValue = "" + PurgeUnreferencedObjects.DEFAULT_FETCH_BATCH_SIZE,
+      description = "Number of objects to fetch at once, defaults to ${DEFAULT-VALUE}.")
+  private int fetchBatchSize;
+
+  @Override
+  public Integer call() {
+    warnOnInMemory();
+
+    if (!repositoryLogic(persist).repositoryExists()) {
+      spec.commandLine().getErr().println("Nessie repository does not exist");
+      return EXIT_CODE_REPO_DOES_NOT_EXIST;
+    }
+
+    PrintWriter out = spec.commandLine().getOut();
+
+    PurgeStats stats =
+        PurgeUnreferencedObjects.builder()
+            .persist(persist)
+            .gracePeriod(gracePeriod)
+            .dryRun(dryRun)
+            .expectedCommitCount(expectedCommitCount)
+            .expectedObjCount(expectedObjCount)
+            .falsePositiveProbability(falsePositiveProbability)
+            .scanObjRatePerSecond(scanRate)
+            .fetchObjRatePerSecond(fetchRate)
+            .deleteObjRatePerSecond(deleteRate)
+            .deleteBatchSize(deleteBatchSize)
+            .fetchBatchSize(fetchBatchSize)
+            .build()
+            .purge();
+
+    out.printf("Cleanup finished in %s.%n", Duration.between(stats.started(), stats.finished()));
+    out.printf("References:           %d%n", stats.references());
+    out.printf("Reachable commits:    %d%n", stats.reachableCommits());
+    out.printf("Missing commits:      %d%n", stats.missingCommits());
+    out.printf("Marked objects:       %d%n", stats.markedObjs());
+    out.printf("Scanned objects:      %d%n", stats.scannedObjs());
+    out.printf("Recent objects:       %d%n", stats.recentObjs());
+    out.printf(
+        "%s %d%n",
+        stats.dryRun() ? "Unreferenced objects:" : "Purged objects:      ", stats.purgedObjs());
+
+    return 0;
+  }
+}
@@ -57,6 +57,7 @@ public class ExportRepository extends BaseCommand {
   static final String COMMIT_BATCH_SIZE = "--commit-batch-size";
   static final String EXPORT_VERSION = "--export-version";
   static final String GENERIC_OBJECT_RESOLVERS = "--object-resolvers";
+  static final String PARALLELISM = "--parallelism";
 
   enum Format {
     ZIP,
@@ -141,6 +142,17 @@ public class ExportRepository extends BaseCommand {
           "The export version, defaults to " + ExportImportConstants.DEFAULT_EXPORT_VERSION + ".")
   private int exportVersion;
 
+  @CommandLine.Option(
+      names = PARALLELISM,
+      paramLabel = "<number>",
+      description = {
+        "Number of shards that commits are concurrently exported to, defaults to 1.",
+        "Sharding is only used for the directory output format and not for "
+            + SINGLE_BRANCH
+            + " exports."
+      })
+  private Integer parallelism;
+
   @CommandLine.Option(
       names = GENERIC_OBJECT_RESOLVERS,
       description = {
@@ -195,6 +207,9 @@ public class ExportRepository extends BaseCommand {
       if (commitBatchSize != null) {
         builder.commitBatchSize(commitBatchSize);
       }
+      if (parallelism != null) {
+        builder.parallelism(parallelism);
+      }
 
       for (String resolver : genericObjectResolvers) {
         URL url;
@@ -256,6 +271,18 @@ public class ExportRepository extends BaseCommand {
       this.out = out;
     }
 
+    @Override
+    public void shardProgress(int shard, @Nonnull ProgressEvent progress) {
+      if (progress == ProgressEvent.SHARD_FINISHED) {
+        if (dot) {
+          out.println();
+          dot = false;
+        }
+        out.printf("Shard %d finished.%n", shard);
+      }
+      progress(progress);
+    }
+
     @Override
     public void progress(@Nonnull ProgressEvent progress, ExportMeta meta) {
       switch (progress) {
@@ -46,6 +46,7 @@ public class ImportRepository extends BaseCommand {
   static final String ERASE_BEFORE_IMPORT = "--erase-before-import";
   static final String INPUT_BUFFER_SIZE = "--input-buffer-size";
   static final String COMMIT_BATCH_SIZE = "--commit-batch-size";
+  static final String PARALLELISM = "--parallelism";
 
   @CommandLine.Option(
       names = {"-p", PATH},
@@ -65,6 +66,17 @@ public class ImportRepository extends BaseCommand {
               + ".")
   private Integer commitBatchSize;
 
+  @CommandLine.Option(
+      names = PARALLELISM,
+      paramLabel = "<number>",
+      description = {
+        "Number of threads that concurrently import the commits and generic objects files, "
+            + "defaults to 1.",
+        "Exports created with multiple shards or with a maximum file size consist of multiple "
+            + "files that can be imported concurrently."
+      })
+  private Integer parallelism;
+
   @CommandLine.Option(
       names = INPUT_BUFFER_SIZE,
       description =
@@ -96,6 +108,9 @@ public class ImportRepository extends BaseCommand {
       if (commitBatchSize != null) {
         builder.commitBatchSize(commitBatchSize);
       }
+      if (parallelism != null) {
+        builder.parallelism(parallelism);
+      }
 
       if (erase) {
         spec.commandLine().getOut().println("Erasing repository...");
@@ -157,6 +172,18 @@ public class ImportRepository extends BaseCommand {
       this.out = out;
     }
 
+    @Override
+    public void shardProgress(int shard, @Nonnull ProgressEvent progress) {
+      if (progress == ProgressEvent.SHARD_FINISHED) {
+        if (dot) {
+          out.println();
+          dot = false;
+        }
+        out.printf("Shard %d finished, duration: %s.%n", shard, totalDuration());
+      }
+      progress(progress);
+    }
+
     @Override
     public void progress(@Nonnull ProgressEvent progress, ExportMeta meta) {
       switch (progress) {
@@ -184,6 +211,9 @@ public class ImportRepository extends BaseCommand {
               meta.getCommitsFilesCount(),
               meta.getGenericObjCount(),
               meta.getGenericObjFilesCount());
+          if (meta.getShardCount() > 1) {
+            out.printf("The export has been written using %d shards.%n", meta.getShardCount());
+          }
           break;
         case START_COMMITS:
           out.printf("Importing %d commits...%n", exportMeta.getCommitCount());
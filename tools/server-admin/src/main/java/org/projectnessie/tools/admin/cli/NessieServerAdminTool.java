@@ -30,6 +30,7 @@ import picocli.CommandLine.HelpCommand;
       NessieInfo.class,
       HelpCommand.class,
       CheckContent.class,
+      CleanupRepository.class,
       DeleteCatalogTasks.class,
       EraseRepository.class,
       ExportRepository.class,
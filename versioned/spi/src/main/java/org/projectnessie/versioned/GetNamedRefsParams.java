@@ -16,7 +16,9 @@
 package org.projectnessie.versioned;
 
 import jakarta.annotation.Nullable;
+import java.util.function.Predicate;
 import org.immutables.value.Value;
+import org.projectnessie.model.CommitMeta;
 
 /**
  * Parameters that control the values that shall be returned via for each {@link ReferenceInfo} via
@@ -41,6 +43,30 @@ public interface GetNamedRefsParams {
   @Nullable
   NamedRef getBaseReference();
 
+  /**
+   * Only return references whose name starts with the given prefix, applies to both branches and
+   * tags.
+   *
+   * @return reference name prefix. Can be {@code null}, if all references shall be returned.
+   */
+  @Nullable
+  String getNamePrefix();
+
+  /**
+   * Filter that is evaluated before any of the information requested via {@link
+   * #getBranchRetrieveOptions()} and {@link #getTagRetrieveOptions()} is computed. The filter only
+   * receives the {@link ReferenceInfo#getNamedRef() named reference} and its {@link
+   * ReferenceInfo#getHash() HEAD}. References that do not match the filter are not returned.
+   *
+   * <p>Allows computing expensive information like the commits ahead/behind only for the
+   * references that are actually returned.
+   *
+   * @return filter for references, or {@code null}, if all references shall be returned.
+   */
+  @Nullable
+  @Value.Auxiliary
+  Predicate<ReferenceInfo<CommitMeta>> getBareReferenceFilter();
+
   /** Whether to retrieve branches, defaults to {@code true}. */
   @Value.Default
   default RetrieveOptions getBranchRetrieveOptions() {
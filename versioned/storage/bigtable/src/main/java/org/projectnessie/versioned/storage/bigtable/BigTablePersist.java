@@ -17,10 +17,14 @@ package org.projectnessie.versioned.storage.bigtable;
 
 import static com.google.cloud.bigtable.data.v2.models.Filters.FILTERS;
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static com.google.protobuf.ByteString.copyFromUtf8;
 import static com.google.protobuf.UnsafeByteOperations.unsafeWrap;
+import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
+import static java.util.concurrent.CompletableFuture.failedFuture;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toList;
 import static org.projectnessie.versioned.storage.bigtable.BigTableConstants.CELL_TIMESTAMP;
 import static org.projectnessie.versioned.storage.bigtable.BigTableConstants.DEFAULT_BULK_READ_TIMEOUT;
 import static org.projectnessie.versioned.storage.bigtable.BigTableConstants.FAMILY_OBJS;
@@ -39,6 +43,7 @@ import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.s
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializeReference;
 
 import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
 import com.google.api.core.ApiFutures;
 import com.google.api.gax.batching.Batcher;
 import com.google.api.gax.rpc.AbortedException;
@@ -67,7 +72,10 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
@@ -81,6 +89,7 @@ import org.projectnessie.versioned.storage.common.exceptions.RefConditionFailedE
 import org.projectnessie.versioned.storage.common.exceptions.RefNotFoundException;
 import org.projectnessie.versioned.storage.common.exceptions.UnknownOperationResultException;
 import org.projectnessie.versioned.storage.common.objtypes.UpdateableObj;
+import org.projectnessie.versioned.storage.common.persist.AsyncPersist;
 import org.projectnessie.versioned.storage.common.persist.CloseableIterator;
 import org.projectnessie.versioned.storage.common.persist.Obj;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
@@ -89,7 +98,7 @@ import org.projectnessie.versioned.storage.common.persist.ObjTypes;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.common.persist.Reference;
 
-public class BigTablePersist implements Persist {
+public class BigTablePersist implements Persist, AsyncPersist {
 
   private final BigTableBackend backend;
   private final StoreConfig config;
@@ -358,6 +367,127 @@ public class BigTablePersist implements Persist {
     }
   }
 
+  @Override
+  @Nonnull
+  public AsyncPersist async() {
+    return this;
+  }
+
+  @Override
+  @Nonnull
+  public <T extends Obj> CompletionStage<T[]> fetchTypedObjsIfExistAsync(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    List<ApiFuture<Row>> handles;
+    try {
+      if (ids.length <= MAX_PARALLEL_READS) {
+        handles =
+            asList(
+                doBulkFetch(
+                    ids,
+                    this::dbKey,
+                    key -> backend.client().readRowAsync(backend.tableObjsId, key)));
+      } else {
+        Batcher<ByteString, Row> batcher =
+            backend.client().newBulkReadRowsBatcher(backend.tableObjsId);
+        handles = asList(doBulkFetch(ids, this::dbKey, batcher::add));
+        batcher.sendOutstanding();
+        // All reads have been sent, closing the batcher does not block once those completed.
+        ApiFutures.successfulAsList(handles.stream().filter(Objects::nonNull).collect(toList()))
+            .addListener(() -> closeBatcher(batcher), directExecutor());
+      }
+    } catch (ApiException e) {
+      return failedFuture(apiException(e));
+    }
+
+    CompletableFuture<T[]> result = new CompletableFuture<>();
+    ApiFutures.addCallback(
+        ApiFutures.allAsList(
+            handles.stream()
+                .map(h -> h != null ? h : ApiFutures.<Row>immediateFuture(null))
+                .collect(toList())),
+        new ApiFutureCallback<>() {
+          @Override
+          public void onFailure(Throwable t) {
+            result.completeExceptionally(
+                t instanceof ApiException ? apiException((ApiException) t) : t);
+          }
+
+          @Override
+          public void onSuccess(List<Row> rows) {
+            try {
+              @SuppressWarnings("unchecked")
+              T[] r = (T[]) Array.newInstance(typeClass, ids.length);
+              for (int i = 0; i < r.length; i++) {
+                Row row = rows.get(i);
+                if (row != null) {
+                  Obj o = objFromRow(row);
+                  if (type == null || type.equals(o.type())) {
+                    r[i] = typeClass.cast(o);
+                  }
+                }
+              }
+              result.complete(r);
+            } catch (RuntimeException e) {
+              result.completeExceptionally(e);
+            }
+          }
+        },
+        directExecutor());
+    return result;
+  }
+
+  private static void closeBatcher(Batcher<ByteString, Row> batcher) {
+    try {
+      batcher.close();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (RuntimeException e) {
+      // Failures of individual reads are propagated via the returned stage
+    }
+  }
+
+  @Override
+  @Nonnull
+  public CompletionStage<boolean[]> storeObjsAsync(@Nonnull Obj[] objs) {
+    List<ApiFuture<Boolean>> futures = new ArrayList<>(objs.length);
+    try {
+      for (Obj obj : objs) {
+        futures.add(
+            obj != null
+                ? backend.client().checkAndMutateRowAsync(mutationForStoreObj(obj, false))
+                : ApiFutures.immediateFuture(Boolean.TRUE));
+      }
+    } catch (ObjTooLargeException e) {
+      return failedFuture(e);
+    } catch (ApiException e) {
+      return failedFuture(apiException(e));
+    }
+
+    CompletableFuture<boolean[]> result = new CompletableFuture<>();
+    ApiFutures.addCallback(
+        ApiFutures.allAsList(futures),
+        new ApiFutureCallback<>() {
+          @Override
+          public void onFailure(Throwable t) {
+            result.completeExceptionally(
+                t instanceof ApiException ? apiException((ApiException) t) : t);
+          }
+
+          @Override
+          public void onSuccess(List<Boolean> existed) {
+            // The conditional mutation already updates the 'referenced' attribute of existing
+            // objects.
+            boolean[] r = new boolean[existed.size()];
+            for (int i = 0; i < r.length; i++) {
+              r[i] = !existed.get(i);
+            }
+            result.complete(r);
+          }
+        },
+        directExecutor());
+    return result;
+  }
+
   @Override
   public boolean storeObj(@Nonnull Obj obj, boolean ignoreSoftSizeRestrictions)
       throws ObjTooLargeException {
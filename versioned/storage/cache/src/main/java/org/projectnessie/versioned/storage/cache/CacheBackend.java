@@ -90,6 +90,12 @@ public interface CacheBackend {
 
   Persist wrap(@Nonnull Persist persist);
 
+  /**
+   * Whether references are cached at all. If not, {@link #getReference(String, String)} always
+   * returns {@code null} and callers must always load references from the backing store.
+   */
+  boolean referenceCachingEnabled();
+
   Reference getReference(@Nonnull String repositoryId, @Nonnull String name);
 
   void removeReference(@Nonnull String repositoryId, @Nonnull String name);
@@ -21,6 +21,7 @@ import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.function.LongSupplier;
 import org.immutables.value.Value;
 
@@ -30,9 +31,18 @@ public interface CacheConfig {
   String INVALID_REFERENCE_NEGATIVE_TTL =
       "Cache reference-negative-TTL must only be present, if reference-TTL is configured, and must only be positive.";
   String INVALID_REFERENCE_TTL = "Cache reference-TTL must be positive, if present.";
+  String INVALID_DESERIALIZED_CAPACITY =
+      "Cache deserialized-objects capacity must be positive, if present.";
 
   long capacityMb();
 
+  /**
+   * Capacity in MB of the optional tier that holds already deserialized {@link
+   * org.projectnessie.versioned.storage.common.persist.Obj} instances in front of the serialized
+   * objects cache. The tier is disabled, if not present.
+   */
+  OptionalLong deserializedCapacityMb();
+
   Optional<MeterRegistry> meterRegistry();
 
   Optional<Duration> referenceTtl();
@@ -50,6 +60,8 @@ public interface CacheConfig {
 
   @Value.Check
   default void check() {
+    deserializedCapacityMb()
+        .ifPresent(capacity -> checkState(capacity > 0L, INVALID_DESERIALIZED_CAPACITY));
     referenceTtl()
         .ifPresent(ttl -> checkState(ttl.compareTo(Duration.ZERO) > 0, INVALID_REFERENCE_TTL));
     referenceNegativeTtl()
@@ -64,6 +76,9 @@ public interface CacheConfig {
     @CanIgnoreReturnValue
     Builder capacityMb(long capacityMb);
 
+    @CanIgnoreReturnValue
+    Builder deserializedCapacityMb(long deserializedCapacityMb);
+
     @CanIgnoreReturnValue
     Builder meterRegistry(MeterRegistry meterRegistry);
 
@@ -15,6 +15,8 @@
  */
 package org.projectnessie.versioned.storage.cache;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.projectnessie.versioned.storage.cache.CacheBackend.NON_EXISTENT_REFERENCE_SENTINEL;
 import static org.projectnessie.versioned.storage.cache.CacheBackend.NOT_FOUND_OBJ_SENTINEL;
 
@@ -22,7 +24,14 @@ import jakarta.annotation.Nonnull;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
 import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
 import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
@@ -30,6 +39,7 @@ import org.projectnessie.versioned.storage.common.exceptions.RefAlreadyExistsExc
 import org.projectnessie.versioned.storage.common.exceptions.RefConditionFailedException;
 import org.projectnessie.versioned.storage.common.exceptions.RefNotFoundException;
 import org.projectnessie.versioned.storage.common.objtypes.UpdateableObj;
+import org.projectnessie.versioned.storage.common.persist.AsyncPersist;
 import org.projectnessie.versioned.storage.common.persist.CloseableIterator;
 import org.projectnessie.versioned.storage.common.persist.Obj;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
@@ -37,11 +47,27 @@ import org.projectnessie.versioned.storage.common.persist.ObjType;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.common.persist.Reference;
 
-class CachingPersistImpl implements Persist {
+class CachingPersistImpl implements Persist, AsyncPersist {
 
   final Persist persist;
   final ObjCache cache;
 
+  /**
+   * Object loads that are currently in flight, used to let concurrent cache misses for the same
+   * object wait for the first load instead of issuing additional backend requests. Instances of
+   * this class are bound to a single repository, so the object ID and requested type are
+   * sufficient as the key.
+   */
+  private final ConcurrentMap<InFlightKey, CompletableFuture<Obj>> inFlightObjs =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Reference loads that are currently in flight, same as {@link #inFlightObjs}, only used if
+   * reference caching is enabled.
+   */
+  private final ConcurrentMap<String, CompletableFuture<Reference>> inFlightReferences =
+      new ConcurrentHashMap<>();
+
   CachingPersistImpl(Persist persist, ObjCache cache) {
     this.persist = persist;
     this.cache = cache;
@@ -51,20 +77,13 @@ class CachingPersistImpl implements Persist {
   @Nonnull
   public Obj fetchObj(@Nonnull ObjId id) throws ObjNotFoundException {
     Obj o = cache.get(id);
-    if (o != null) {
-      if (o != NOT_FOUND_OBJ_SENTINEL) {
-        return o;
-      }
-      throw new ObjNotFoundException(id);
+    if (o == null) {
+      o = loadObjSingleFlight(id, null, () -> persist.fetchObj(id));
     }
-    try {
-      o = persist.fetchObj(id);
-      cache.putLocal(o);
-      return o;
-    } catch (ObjNotFoundException e) {
-      cache.remove(id);
-      throw e;
+    if (o == null || o == NOT_FOUND_OBJ_SENTINEL) {
+      throw new ObjNotFoundException(id);
     }
+    return o;
   }
 
   @Override
@@ -81,25 +100,70 @@ class CachingPersistImpl implements Persist {
   public <T extends Obj> T fetchTypedObj(
       @Nonnull ObjId id, ObjType type, @Nonnull Class<T> typeClass) throws ObjNotFoundException {
     Obj o = cache.get(id);
-    if (o == NOT_FOUND_OBJ_SENTINEL) {
+    if (o == null) {
+      o = loadObjSingleFlight(id, type, () -> persist.fetchTypedObj(id, type, typeClass));
+    }
+    if (o == null || o == NOT_FOUND_OBJ_SENTINEL) {
       throw new ObjNotFoundException(id);
     }
-    if (o != null) {
-      if (type != null && !type.equals(o.type())) {
-        throw new ObjNotFoundException(id);
-      }
-    } else {
+    if (type != null && !type.equals(o.type())) {
+      throw new ObjNotFoundException(id);
+    }
+    @SuppressWarnings("unchecked")
+    T r = (T) o;
+    return r;
+  }
+
+  @FunctionalInterface
+  private interface ObjLoader {
+    Obj load() throws ObjNotFoundException;
+  }
+
+  /**
+   * Loads the object with the given ID and type from the backend, unless a load for the same ID
+   * and type is already in flight, in which case the result of that load is returned.
+   *
+   * @return the loaded object or {@code null}, if it does not exist
+   */
+  private Obj loadObjSingleFlight(ObjId id, ObjType type, ObjLoader objLoader) {
+    InFlightKey key = new InFlightKey(id, type);
+    CompletableFuture<Obj> loader = new CompletableFuture<>();
+    CompletableFuture<Obj> inFlight = inFlightObjs.putIfAbsent(key, loader);
+    if (inFlight != null) {
+      return awaitInFlight(inFlight);
+    }
+    try {
+      Obj o;
       try {
-        o = persist.fetchTypedObj(id, type, typeClass);
+        o = objLoader.load();
         cache.putLocal(o);
       } catch (ObjNotFoundException e) {
         cache.putReferenceNegative(id, type);
-        throw e;
+        o = null;
       }
+      loader.complete(o);
+      return o;
+    } catch (RuntimeException | Error e) {
+      loader.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlightObjs.remove(key, loader);
+    }
+  }
+
+  private static <V> V awaitInFlight(CompletableFuture<V> inFlight) {
+    try {
+      return inFlight.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
     }
-    @SuppressWarnings("unchecked")
-    T r = (T) o;
-    return r;
   }
 
   @Override
@@ -120,16 +184,9 @@ class CachingPersistImpl implements Persist {
   @Override
   @Nonnull
   public Obj[] fetchObjs(@Nonnull ObjId[] ids) throws ObjNotFoundException {
-    Obj[] r = new Obj[ids.length];
-
-    ObjId[] backendIds = fetchObjsPre(ids, r, null, Obj.class);
-
-    if (backendIds == null) {
-      return r;
-    }
-
-    Obj[] backendResult = persist.fetchObjs(backendIds);
-    return fetchObjsPost(backendIds, backendResult, r, null);
+    Obj[] r = fetchObjsSingleFlight(ids, new Obj[ids.length], null, persist::fetchObjsIfExist);
+    throwIfNotFound(ids, r);
+    return r;
   }
 
   @Nonnull
@@ -138,14 +195,14 @@ class CachingPersistImpl implements Persist {
       @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) throws ObjNotFoundException {
     @SuppressWarnings("unchecked")
     T[] r = (T[]) Array.newInstance(typeClass, ids.length);
+    r =
+        fetchObjsSingleFlight(
+            ids, r, type, backendIds -> persist.fetchTypedObjsIfExist(backendIds, type, typeClass));
+    throwIfNotFound(ids, r);
+    return r;
+  }
 
-    ObjId[] backendIds = fetchObjsPre(ids, r, type, typeClass);
-
-    if (backendIds != null) {
-      T[] backendResult = persist.fetchTypedObjsIfExist(backendIds, type, typeClass);
-      r = fetchObjsPost(backendIds, backendResult, r, type);
-    }
-
+  private static void throwIfNotFound(ObjId[] ids, Obj[] r) throws ObjNotFoundException {
     List<ObjId> notFound = null;
     for (int i = 0; i < ids.length; i++) {
       ObjId id = ids[i];
@@ -159,8 +216,6 @@ class CachingPersistImpl implements Persist {
     if (notFound != null) {
       throw new ObjNotFoundException(notFound);
     }
-
-    return r;
   }
 
   @Override
@@ -168,20 +223,155 @@ class CachingPersistImpl implements Persist {
       @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
     @SuppressWarnings("unchecked")
     T[] r = (T[]) Array.newInstance(typeClass, ids.length);
+    return fetchObjsSingleFlight(
+        ids, r, type, backendIds -> persist.fetchTypedObjsIfExist(backendIds, type, typeClass));
+  }
+
+  @Override
+  @Nonnull
+  public Obj[] fetchObjsIfExist(@Nonnull ObjId[] ids) {
+    return fetchObjsSingleFlight(ids, new Obj[ids.length], null, persist::fetchObjsIfExist);
+  }
+
+  /**
+   * Bulk-fetch implementation that serves objects from the cache, waits for loads of the same
+   * objects that are already in flight and loads only the remaining objects from the backend.
+   *
+   * <p>Loads initiated by this call are completed before waiting for the loads of other callers,
+   * so concurrent bulk fetches of overlapping sets of objects cannot dead-lock.
+   */
+  private <T extends Obj> T[] fetchObjsSingleFlight(
+      ObjId[] ids, T[] r, ObjType type, Function<ObjId[], Obj[]> backendFetch) {
+    ObjId[] backendIds = null;
+    InFlightKey[] keys = new InFlightKey[ids.length];
+    @SuppressWarnings("unchecked")
+    CompletableFuture<Obj>[] futures = new CompletableFuture[ids.length];
+    boolean waitForOthers = false;
 
-    ObjId[] backendIds = fetchObjsPre(ids, r, type, typeClass);
+    for (int i = 0; i < ids.length; i++) {
+      ObjId id = ids[i];
+      if (id == null) {
+        continue;
+      }
+      Obj o = cache.get(id);
+      if (o != null) {
+        if (o != NOT_FOUND_OBJ_SENTINEL) {
+          setIfTypeMatches(r, i, o, type);
+        }
+        continue;
+      }
 
-    if (backendIds == null) {
-      return r;
+      InFlightKey key = new InFlightKey(id, type);
+      CompletableFuture<Obj> loader = new CompletableFuture<>();
+      CompletableFuture<Obj> inFlight = inFlightObjs.putIfAbsent(key, loader);
+      if (inFlight != null) {
+        futures[i] = inFlight;
+        waitForOthers = true;
+      } else {
+        futures[i] = loader;
+        keys[i] = key;
+        if (backendIds == null) {
+          backendIds = new ObjId[ids.length];
+        }
+        backendIds[i] = id;
+      }
+    }
+
+    if (backendIds != null) {
+      try {
+        Obj[] backendResult = backendFetch.apply(backendIds);
+        for (int i = 0; i < backendResult.length; i++) {
+          ObjId id = backendIds[i];
+          if (id != null) {
+            Obj o = backendResult[i];
+            if (o != null) {
+              setIfTypeMatches(r, i, o, type);
+              cache.putLocal(o);
+            } else {
+              cache.putReferenceNegative(id, type);
+            }
+            futures[i].complete(o);
+          }
+        }
+      } catch (RuntimeException | Error e) {
+        for (int i = 0; i < backendIds.length; i++) {
+          if (backendIds[i] != null) {
+            futures[i].completeExceptionally(e);
+          }
+        }
+        throw e;
+      } finally {
+        for (int i = 0; i < backendIds.length; i++) {
+          if (backendIds[i] != null) {
+            inFlightObjs.remove(keys[i], futures[i]);
+          }
+        }
+      }
+    }
+
+    if (waitForOthers) {
+      for (int i = 0; i < ids.length; i++) {
+        if (futures[i] != null && (backendIds == null || backendIds[i] == null)) {
+          Obj o = awaitInFlight(futures[i]);
+          if (o != null) {
+            setIfTypeMatches(r, i, o, type);
+          }
+        }
+      }
     }
 
-    T[] backendResult = persist.fetchTypedObjsIfExist(backendIds, type, typeClass);
-    return fetchObjsPost(backendIds, backendResult, r, type);
+    return r;
   }
 
-  private <T extends Obj> ObjId[] fetchObjsPre(
-      ObjId[] ids, T[] r, ObjType type, @SuppressWarnings("unused") @Nonnull Class<T> typeClass) {
+  @Override
+  @Nonnull
+  public AsyncPersist async() {
+    return persist.async().isAsynchronous() ? this : AsyncPersist.synchronous(this);
+  }
+
+  @Override
+  public boolean isAsynchronous() {
+    return persist.async().isAsynchronous();
+  }
+
+  @Override
+  @Nonnull
+  public <T extends Obj> CompletionStage<T[]> fetchTypedObjsIfExistAsync(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    @SuppressWarnings("unchecked")
+    T[] r = (T[]) Array.newInstance(typeClass, ids.length);
+    return fetchObjsSingleFlightAsync(
+        ids,
+        r,
+        type,
+        backendIds -> persist.async().fetchTypedObjsIfExistAsync(backendIds, type, typeClass));
+  }
+
+  @Override
+  @Nonnull
+  public CompletionStage<Obj[]> fetchObjsIfExistAsync(@Nonnull ObjId[] ids) {
+    return fetchObjsSingleFlightAsync(
+        ids,
+        new Obj[ids.length],
+        null,
+        backendIds -> persist.async().fetchObjsIfExistAsync(backendIds));
+  }
+
+  /**
+   * Asynchronous variant of {@link #fetchObjsSingleFlight(ObjId[], Obj[], ObjType, Function)},
+   * does not block while waiting for the loads of other callers.
+   */
+  private <T extends Obj> CompletionStage<T[]> fetchObjsSingleFlightAsync(
+      ObjId[] ids,
+      T[] r,
+      ObjType type,
+      Function<ObjId[], CompletionStage<? extends Obj[]>> backendFetch) {
     ObjId[] backendIds = null;
+    InFlightKey[] keys = new InFlightKey[ids.length];
+    @SuppressWarnings("unchecked")
+    CompletableFuture<Obj>[] futures = new CompletableFuture[ids.length];
+    List<CompletableFuture<Obj>> pending = new ArrayList<>();
+
     for (int i = 0; i < ids.length; i++) {
       ObjId id = ids[i];
       if (id == null) {
@@ -189,51 +379,131 @@ class CachingPersistImpl implements Persist {
       }
       Obj o = cache.get(id);
       if (o != null) {
-        if (o != NOT_FOUND_OBJ_SENTINEL && (type == null || type.equals(o.type()))) {
-          @SuppressWarnings("unchecked")
-          T typed = (T) o;
-          r[i] = typed;
+        if (o != NOT_FOUND_OBJ_SENTINEL) {
+          setIfTypeMatches(r, i, o, type);
         }
+        continue;
+      }
+
+      InFlightKey key = new InFlightKey(id, type);
+      CompletableFuture<Obj> loader = new CompletableFuture<>();
+      CompletableFuture<Obj> inFlight = inFlightObjs.putIfAbsent(key, loader);
+      if (inFlight != null) {
+        futures[i] = inFlight;
       } else {
+        futures[i] = loader;
+        keys[i] = key;
         if (backendIds == null) {
           backendIds = new ObjId[ids.length];
         }
         backendIds[i] = id;
       }
+      pending.add(futures[i]);
     }
-    return backendIds;
-  }
 
-  private <T extends Obj> T[] fetchObjsPost(
-      ObjId[] backendIds, T[] backendResult, T[] r, ObjType type) {
-    for (int i = 0; i < backendResult.length; i++) {
-      ObjId id = backendIds[i];
-      if (id != null) {
-        T o = backendResult[i];
-        if (o != null) {
-          r[i] = o;
-          cache.putLocal(o);
-        } else {
-          cache.putReferenceNegative(id, type);
-        }
+    if (pending.isEmpty()) {
+      return completedFuture(r);
+    }
+
+    if (backendIds != null) {
+      ObjId[] loadIds = backendIds;
+      CompletionStage<? extends Obj[]> load;
+      try {
+        load = backendFetch.apply(loadIds);
+      } catch (RuntimeException e) {
+        load = failedFuture(e);
       }
+      load.whenComplete(
+          (backendResult, e) -> {
+            for (int i = 0; i < loadIds.length; i++) {
+              ObjId id = loadIds[i];
+              if (id != null) {
+                try {
+                  if (e != null) {
+                    futures[i].completeExceptionally(e);
+                  } else {
+                    Obj o = backendResult[i];
+                    if (o != null) {
+                      cache.putLocal(o);
+                    } else {
+                      cache.putReferenceNegative(id, type);
+                    }
+                    futures[i].complete(o);
+                  }
+                } finally {
+                  inFlightObjs.remove(keys[i], futures[i]);
+                }
+              }
+            }
+          });
     }
-    return r;
+
+    return CompletableFuture.allOf(pending.toArray(new CompletableFuture[0]))
+        .thenApply(
+            v -> {
+              for (int i = 0; i < ids.length; i++) {
+                if (futures[i] != null) {
+                  Obj o = futures[i].join();
+                  if (o != null) {
+                    setIfTypeMatches(r, i, o, type);
+                  }
+                }
+              }
+              return r;
+            });
   }
 
   @Override
   @Nonnull
-  public Obj[] fetchObjsIfExist(@Nonnull ObjId[] ids) {
-    Obj[] r = new Obj[ids.length];
-
-    ObjId[] backendIds = fetchObjsPre(ids, r, null, Obj.class);
+  public CompletionStage<boolean[]> storeObjsAsync(@Nonnull Obj[] objs) {
+    return persist
+        .async()
+        .storeObjsAsync(objs)
+        .thenApply(
+            stored -> {
+              for (int i = 0; i < stored.length; i++) {
+                if (stored[i]) {
+                  cache.put(objs[i]);
+                }
+              }
+              return stored;
+            });
+  }
+
+  /** Key for in-flight object loads, the object type is part of the key for typed fetches. */
+  private static final class InFlightKey {
+    final ObjId id;
+    final ObjType type;
+
+    InFlightKey(ObjId id, ObjType type) {
+      this.id = id;
+      this.type = type;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof InFlightKey)) {
+        return false;
+      }
+      InFlightKey that = (InFlightKey) o;
+      return id.equals(that.id) && Objects.equals(type, that.type);
+    }
 
-    if (backendIds == null) {
-      return r;
+    @Override
+    public int hashCode() {
+      return id.hashCode() * 31 + Objects.hashCode(type);
     }
+  }
 
-    Obj[] backendResult = persist.fetchObjsIfExist(backendIds);
-    return fetchObjsPost(backendIds, backendResult, r, null);
+  private static <T extends Obj> void setIfTypeMatches(T[] r, int i, Obj o, ObjType type) {
+    if (type == null || type.equals(o.type())) {
+      @SuppressWarnings("unchecked")
+      T typed = (T) o;
+      r[i] = typed;
+    }
   }
 
   @Override
@@ -437,21 +707,44 @@ class CachingPersistImpl implements Persist {
   }
 
   private Reference fetchReferenceInternal(@Nonnull String name, boolean bypassCache) {
-    Reference r = null;
-    if (!bypassCache) {
-      r = cache.getReference(name);
-      if (r == NON_EXISTENT_REFERENCE_SENTINEL) {
-        return null;
-      }
+    if (bypassCache || !cache.referenceCachingEnabled()) {
+      // Without reference caching, every caller must observe the state of the reference as of its
+      // own call. Joining a load that started earlier could return a reference that is older than
+      // a commit that the caller has just performed.
+      return loadReference(name);
+    }
+
+    Reference r = cache.getReference(name);
+    if (r == NON_EXISTENT_REFERENCE_SENTINEL) {
+      return null;
+    }
+    if (r != null) {
+      return r;
     }
 
+    CompletableFuture<Reference> loader = new CompletableFuture<>();
+    CompletableFuture<Reference> inFlight = inFlightReferences.putIfAbsent(name, loader);
+    if (inFlight != null) {
+      return awaitInFlight(inFlight);
+    }
+    try {
+      r = loadReference(name);
+      loader.complete(r);
+      return r;
+    } catch (RuntimeException | Error e) {
+      loader.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlightReferences.remove(name, loader);
+    }
+  }
+
+  private Reference loadReference(@Nonnull String name) {
+    Reference r = persist.fetchReferenceForUpdate(name);
     if (r == null) {
-      r = persist.fetchReferenceForUpdate(name);
-      if (r == null) {
-        cache.putReferenceNegative(name);
-      } else {
-        cache.putReferenceLocal(r);
-      }
+      cache.putReferenceNegative(name);
+    } else {
+      cache.putReferenceLocal(r);
     }
     return r;
   }
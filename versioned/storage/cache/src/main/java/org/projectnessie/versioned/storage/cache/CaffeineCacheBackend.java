@@ -44,11 +44,19 @@ import org.projectnessie.versioned.storage.serialize.ProtoSerialization;
 class CaffeineCacheBackend implements CacheBackend {
 
   public static final String CACHE_NAME = "nessie-objects";
+  public static final String DESERIALIZED_CACHE_NAME = "nessie-objects-deserialized";
   private static final byte[] NON_EXISTING_SENTINEL = "NON_EXISTING".getBytes(UTF_8);
 
   private final CacheConfig config;
   final Cache<CacheKeyValue, byte[]> cache;
 
+  /**
+   * Optional tier of already deserialized objects in front of {@link #cache}, {@code null} if not
+   * configured. {@link Obj} instances are immutable and can therefore be handed out to multiple
+   * callers.
+   */
+  final Cache<CacheKeyValue, Obj> deserializedCache;
+
   private final long refCacheTtlNanos;
   private final long refCacheNegativeTtlNanos;
 
@@ -62,40 +70,7 @@ class CaffeineCacheBackend implements CacheBackend {
         Caffeine.newBuilder()
             .maximumWeight(config.capacityMb() * 1024L * 1024L)
             .weigher(this::weigher)
-            .expireAfter(
-                new Expiry<CacheKeyValue, byte[]>() {
-                  @Override
-                  public long expireAfterCreate(
-                      CacheKeyValue key, byte[] value, long currentTimeNanos) {
-                    long expire = key.expiresAtNanosEpoch;
-                    if (expire == CACHE_UNLIMITED) {
-                      return Long.MAX_VALUE;
-                    }
-                    if (expire == NOT_CACHED) {
-                      return 0L;
-                    }
-                    long remaining = expire - currentTimeNanos;
-                    return Math.max(0L, remaining);
-                  }
-
-                  @Override
-                  public long expireAfterUpdate(
-                      CacheKeyValue key,
-                      byte[] value,
-                      long currentTimeNanos,
-                      @NonNegative long currentDurationNanos) {
-                    return expireAfterCreate(key, value, currentTimeNanos);
-                  }
-
-                  @Override
-                  public long expireAfterRead(
-                      CacheKeyValue key,
-                      byte[] value,
-                      long currentTimeNanos,
-                      @NonNegative long currentDurationNanos) {
-                    return currentDurationNanos;
-                  }
-                })
+            .expireAfter(new CacheKeyValueExpiry<byte[]>())
             .ticker(config.clockNanos()::getAsLong);
     config
         .meterRegistry()
@@ -110,6 +85,31 @@ class CaffeineCacheBackend implements CacheBackend {
             });
 
     this.cache = cacheBuilder.build();
+
+    if (config.deserializedCapacityMb().isPresent()) {
+      long deserializedCapacityMb = config.deserializedCapacityMb().getAsLong();
+      Caffeine<CacheKeyValue, Obj> deserializedCacheBuilder =
+          Caffeine.newBuilder()
+              .maximumWeight(deserializedCapacityMb * 1024L * 1024L)
+              .weigher(CaffeineCacheBackend::deserializedWeigher)
+              .expireAfter(new CacheKeyValueExpiry<Obj>())
+              .ticker(config.clockNanos()::getAsLong);
+      config
+          .meterRegistry()
+          .ifPresent(
+              meterRegistry -> {
+                deserializedCacheBuilder.recordStats(
+                    () -> new CaffeineStatsCounter(meterRegistry, DESERIALIZED_CACHE_NAME));
+                meterRegistry.gauge(
+                    "cache_capacity_mb",
+                    singletonList(Tag.of("cache", DESERIALIZED_CACHE_NAME)),
+                    "",
+                    x -> deserializedCapacityMb);
+              });
+      this.deserializedCache = deserializedCacheBuilder.build();
+    } else {
+      this.deserializedCache = null;
+    }
   }
 
   @Override
@@ -127,9 +127,22 @@ class CaffeineCacheBackend implements CacheBackend {
     return size;
   }
 
+  private static int deserializedWeigher(CacheKeyValue key, Obj value) {
+    int size = key.heapSize();
+    size += DESERIALIZED_OBJ_SIZE_FACTOR * key.serializedSize;
+    size += CAFFEINE_OBJ_OVERHEAD;
+    return size;
+  }
+
   @Override
   public Obj get(@Nonnull String repositoryId, @Nonnull ObjId id) {
     CacheKeyValue key = cacheKey(repositoryId, id);
+    if (deserializedCache != null) {
+      Obj obj = deserializedCache.getIfPresent(key);
+      if (obj != null) {
+        return obj;
+      }
+    }
     byte[] value = cache.getIfPresent(key);
     if (value == null) {
       return null;
@@ -137,7 +150,20 @@ class CaffeineCacheBackend implements CacheBackend {
     if (value == NON_EXISTING_SENTINEL) {
       return NOT_FOUND_OBJ_SENTINEL;
     }
-    return ProtoSerialization.deserializeObj(id, 0L, value, null);
+    Obj obj = ProtoSerialization.deserializeObj(id, 0L, value, null);
+    if (deserializedCache != null) {
+      long expiresAtNanos = expiresAtNanos(obj);
+      if (expiresAtNanos != NOT_CACHED) {
+        deserializedCache.put(cacheKeyValue(repositoryId, id, expiresAtNanos, value.length), obj);
+        // A concurrent remove(), putNegative(), putLocal() or clear() may have replaced or removed
+        // the serialized entry after it has been read above, the deserialized entry must not
+        // resurrect the stale object in that case.
+        if (cache.asMap().get(key) != value) {
+          deserializedCache.asMap().remove(key, obj);
+        }
+      }
+    }
+    return obj;
   }
 
   @Override
@@ -147,26 +173,36 @@ class CaffeineCacheBackend implements CacheBackend {
 
   @Override
   public void putLocal(@Nonnull String repositoryId, @Nonnull Obj obj) {
-    long expiresAt =
-        obj.type()
-            .cachedObjectExpiresAtMicros(
-                obj, () -> NANOSECONDS.toMicros(config.clockNanos().getAsLong()));
-    if (expiresAt == NOT_CACHED) {
+    long expiresAtNanos = expiresAtNanos(obj);
+    if (expiresAtNanos == NOT_CACHED) {
       return;
     }
 
     try {
       byte[] serialized = serializeObj(obj, Integer.MAX_VALUE, Integer.MAX_VALUE, true);
-      long expiresAtNanos =
-          expiresAt == CACHE_UNLIMITED ? CACHE_UNLIMITED : MICROSECONDS.toNanos(expiresAt);
-      CacheKeyValue keyValue = cacheKeyValue(repositoryId, obj.id(), expiresAtNanos);
+      CacheKeyValue keyValue =
+          cacheKeyValue(repositoryId, obj.id(), expiresAtNanos, serialized.length);
       cache.put(keyValue, serialized);
+      if (deserializedCache != null) {
+        deserializedCache.put(keyValue, obj);
+      }
     } catch (ObjTooLargeException e) {
       // this should never happen
       throw new RuntimeException(e);
     }
   }
 
+  private long expiresAtNanos(Obj obj) {
+    long expiresAt =
+        obj.type()
+            .cachedObjectExpiresAtMicros(
+                obj, () -> NANOSECONDS.toMicros(config.clockNanos().getAsLong()));
+    if (expiresAt == NOT_CACHED || expiresAt == CACHE_UNLIMITED) {
+      return expiresAt;
+    }
+    return MICROSECONDS.toNanos(expiresAt);
+  }
+
   @Override
   public void putNegative(@Nonnull String repositoryId, @Nonnull ObjId id, @Nonnull ObjType type) {
     long expiresAt =
@@ -181,17 +217,26 @@ class CaffeineCacheBackend implements CacheBackend {
         expiresAt == CACHE_UNLIMITED ? CACHE_UNLIMITED : MICROSECONDS.toNanos(expiresAt);
     CacheKeyValue keyValue = cacheKeyValue(repositoryId, id, expiresAtNanos);
 
+    if (deserializedCache != null) {
+      deserializedCache.invalidate(keyValue);
+    }
     cache.put(keyValue, NON_EXISTING_SENTINEL);
   }
 
   @Override
   public void remove(@Nonnull String repositoryId, @Nonnull ObjId id) {
     CacheKeyValue key = cacheKey(repositoryId, id);
+    if (deserializedCache != null) {
+      deserializedCache.invalidate(key);
+    }
     cache.invalidate(key);
   }
 
   @Override
   public void clear(@Nonnull String repositoryId) {
+    if (deserializedCache != null) {
+      deserializedCache.asMap().keySet().removeIf(k -> k.repositoryId.equals(repositoryId));
+    }
     cache.asMap().keySet().removeIf(k -> k.repositoryId.equals(repositoryId));
   }
 
@@ -236,6 +281,11 @@ class CaffeineCacheBackend implements CacheBackend {
     cache.put(key, NON_EXISTING_SENTINEL);
   }
 
+  @Override
+  public boolean referenceCachingEnabled() {
+    return refCacheTtlNanos > 0L;
+  }
+
   @Override
   public Reference getReference(@Nonnull String repositoryId, @Nonnull String name) {
     if (refCacheTtlNanos <= 0L) {
@@ -256,7 +306,43 @@ class CaffeineCacheBackend implements CacheBackend {
 
   private static CacheKeyValue cacheKeyValue(
       String repositoryId, ObjId id, long expiresAtNanosEpoch) {
-    return new CacheKeyValue(repositoryId, id, expiresAtNanosEpoch);
+    return new CacheKeyValue(repositoryId, id, expiresAtNanosEpoch, 0);
+  }
+
+  private static CacheKeyValue cacheKeyValue(
+      String repositoryId, ObjId id, long expiresAtNanosEpoch, int serializedSize) {
+    return new CacheKeyValue(repositoryId, id, expiresAtNanosEpoch, serializedSize);
+  }
+
+  /**
+   * Variable expiration for both the serialized and the deserialized objects cache, using the
+   * expiration timestamp from {@link CacheKeyValue#expiresAtNanosEpoch}.
+   */
+  static final class CacheKeyValueExpiry<V> implements Expiry<CacheKeyValue, V> {
+    @Override
+    public long expireAfterCreate(CacheKeyValue key, V value, long currentTimeNanos) {
+      long expire = key.expiresAtNanosEpoch;
+      if (expire == CACHE_UNLIMITED) {
+        return Long.MAX_VALUE;
+      }
+      if (expire == NOT_CACHED) {
+        return 0L;
+      }
+      long remaining = expire - currentTimeNanos;
+      return Math.max(0L, remaining);
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        CacheKeyValue key, V value, long currentTimeNanos, @NonNegative long currentDurationNanos) {
+      return expireAfterCreate(key, value, currentTimeNanos);
+    }
+
+    @Override
+    public long expireAfterRead(
+        CacheKeyValue key, V value, long currentTimeNanos, @NonNegative long currentDurationNanos) {
+      return currentDurationNanos;
+    }
   }
 
   /**
@@ -273,14 +359,19 @@ class CaffeineCacheBackend implements CacheBackend {
     // Revisit this field before 2262-04-11T23:47:16.854Z (64-bit signed long overflow) ;) ;)
     final long expiresAtNanosEpoch;
 
+    // Size of the serialized object, used to estimate the weight of deserialized objects. Fits into
+    // the otherwise unused alignment gap.
+    final int serializedSize;
+
     CacheKeyValue(String repositoryId, ObjId id) {
-      this(repositoryId, id, 0L);
+      this(repositoryId, id, 0L, 0);
     }
 
-    CacheKeyValue(String repositoryId, ObjId id, long expiresAtNanosEpoch) {
+    CacheKeyValue(String repositoryId, ObjId id, long expiresAtNanosEpoch, int serializedSize) {
       this.repositoryId = repositoryId;
       this.id = id;
       this.expiresAtNanosEpoch = expiresAtNanosEpoch;
+      this.serializedSize = serializedSize;
     }
 
     int heapSize() {
@@ -320,10 +411,10 @@ class CaffeineCacheBackend implements CacheBackend {
     8   4                                                            (object header: class)       0x010c4800
    12   4                                           java.lang.String CacheKeyValue.repositoryId   null
    16   8                                                       long CacheKeyValue.expiresAt      0
-   24   4   org.projectnessie.versioned.storage.common.persist.ObjId CacheKeyValue.id             null
-   28   4                                                            (object alignment gap)
+   24   4                                                        int CacheKeyValue.serializedSize 0
+   28   4   org.projectnessie.versioned.storage.common.persist.ObjId CacheKeyValue.id             null
   Instance size: 32 bytes
-  Space losses: 0 bytes internal + 4 bytes external = 4 bytes total
+  Space losses: 0 bytes internal + 0 bytes external = 0 bytes total
   */
   static final int OBJ_SIZE = 32;
   /*
@@ -348,4 +439,9 @@ class CaffeineCacheBackend implements CacheBackend {
   Assume an overhead of 2 objects for each entry (java.util.concurrent.ConcurrentHashMap$Node is 32 bytes) in Caffeine.
   */
   static final int CAFFEINE_OBJ_OVERHEAD = 2 * 32;
+  /*
+  Deserialized objects are assumed to consume roughly 3 times the heap of their serialized form
+  (object headers, references, boxed collections, ObjId instances).
+  */
+  static final int DESERIALIZED_OBJ_SIZE_FACTOR = 3;
 }
@@ -0,0 +1,26 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cache;
+
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+
+/**
+ * Notified about object invalidations received from other Nessie instances, after those have been
+ * applied to the local cache. Implementations must not block.
+ */
+public interface DistributedCacheInvalidationListener {
+  void objInvalidated(String repositoryId, ObjId objId);
+}
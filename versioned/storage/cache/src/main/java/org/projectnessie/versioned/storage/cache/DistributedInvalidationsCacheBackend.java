@@ -88,6 +88,11 @@ final class DistributedInvalidationsCacheBackend implements CacheBackend {
     local.clear(repositoryId);
   }
 
+  @Override
+  public boolean referenceCachingEnabled() {
+    return local.referenceCachingEnabled();
+  }
+
   @Override
   public Reference getReference(@Nonnull String repositoryId, @Nonnull String name) {
     return local.getReference(repositoryId, name);
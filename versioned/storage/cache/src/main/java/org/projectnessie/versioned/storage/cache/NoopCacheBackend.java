@@ -45,6 +45,11 @@ final class NoopCacheBackend implements CacheBackend {
   @Override
   public void removeReference(@Nonnull String repositoryId, @Nonnull String name) {}
 
+  @Override
+  public boolean referenceCachingEnabled() {
+    return false;
+  }
+
   @Override
   public Reference getReference(@Nonnull String repositoryId, @Nonnull String name) {
     return null;
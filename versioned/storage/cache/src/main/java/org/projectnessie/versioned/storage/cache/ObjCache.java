@@ -53,6 +53,9 @@ public interface ObjCache {
 
   void clear();
 
+  /** See {@link CacheBackend#referenceCachingEnabled()}. */
+  boolean referenceCachingEnabled();
+
   Reference getReference(@Nonnull String name);
 
   void removeReference(@Nonnull String name);
@@ -80,6 +80,11 @@ final class ObjCacheImpl implements ObjCache {
     backend.putReferenceLocal(repositoryId, r);
   }
 
+  @Override
+  public boolean referenceCachingEnabled() {
+    return backend.referenceCachingEnabled();
+  }
+
   @Override
   public Reference getReference(@Nonnull String name) {
     return backend.getReference(repositoryId, name);
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cache;
+
+import static org.projectnessie.versioned.storage.cache.CaffeineCacheBackend.cacheKey;
+import static org.projectnessie.versioned.storage.common.objtypes.ContentValueObj.contentValue;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.VALUE;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.nessie.relocated.protobuf.ByteString;
+import org.projectnessie.versioned.storage.common.objtypes.ContentValueObj;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestDeserializedObjectsCache {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @Test
+  public void disabledByDefault() {
+    CaffeineCacheBackend backend =
+        new CaffeineCacheBackend(CacheConfig.builder().capacityMb(8).build());
+    soft.assertThat(backend.deserializedCache).isNull();
+
+    ContentValueObj obj = contentValue("cid", 42, ByteString.copyFromUtf8("foo"));
+    backend.put("repo", obj);
+
+    Obj cached = backend.get("repo", obj.id());
+    soft.assertThat(cached).isEqualTo(obj).isNotSameAs(obj);
+  }
+
+  @Test
+  public void sameInstanceOnHit() {
+    CaffeineCacheBackend backend =
+        new CaffeineCacheBackend(
+            CacheConfig.builder().capacityMb(8).deserializedCapacityMb(8).build());
+
+    ContentValueObj obj = contentValue("cid", 42, ByteString.copyFromUtf8("foo"));
+    backend.put("repo", obj);
+
+    soft.assertThat(backend.deserializedCache.asMap()).containsKey(cacheKey("repo", obj.id()));
+    soft.assertThat(backend.get("repo", obj.id())).isSameAs(obj);
+    soft.assertThat(backend.get("repo", obj.id())).isSameAs(obj);
+    soft.assertThat(backend.get("other", obj.id())).isNull();
+  }
+
+  @Test
+  public void populatedFromSerializedCache() {
+    CaffeineCacheBackend backend =
+        new CaffeineCacheBackend(
+            CacheConfig.builder().capacityMb(8).deserializedCapacityMb(8).build());
+
+    ContentValueObj obj = contentValue("cid", 42, ByteString.copyFromUtf8("foo"));
+    backend.put("repo", obj);
+    backend.deserializedCache.invalidateAll();
+
+    Obj first = backend.get("repo", obj.id());
+    soft.assertThat(first).isEqualTo(obj).isNotSameAs(obj);
+    soft.assertThat(backend.deserializedCache.asMap()).containsKey(cacheKey("repo", obj.id()));
+    soft.assertThat(backend.get("repo", obj.id())).isSameAs(first);
+  }
+
+  @Test
+  public void invalidation() {
+    CaffeineCacheBackend backend =
+        new CaffeineCacheBackend(
+            CacheConfig.builder().capacityMb(8).deserializedCapacityMb(8).build());
+
+    ContentValueObj obj1 = contentValue("cid1", 42, ByteString.copyFromUtf8("foo"));
+    ContentValueObj obj2 = contentValue("cid2", 42, ByteString.copyFromUtf8("bar"));
+    ContentValueObj obj3 = contentValue("cid3", 42, ByteString.copyFromUtf8("baz"));
+    backend.put("repo", obj1);
+    backend.put("repo", obj2);
+    backend.put("repo", obj3);
+
+    backend.remove("repo", obj1.id());
+    soft.assertThat(backend.get("repo", obj1.id())).isNull();
+
+    // VALUE objects are not negatively cached, so this removes the object from both tiers
+    backend.putNegative("repo", obj2.id(), VALUE);
+    soft.assertThat(backend.get("repo", obj2.id())).isNull();
+
+    backend.clear("repo");
+    soft.assertThat(backend.get("repo", obj3.id())).isNull();
+    soft.assertThat(backend.deserializedCache.asMap()).isEmpty();
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cache;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.projectnessie.versioned.storage.common.objtypes.ContentValueObj.contentValue;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.VALUE;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.EMPTY_OBJ_ID;
+import static org.projectnessie.versioned.storage.common.persist.Reference.reference;
+import static org.projectnessie.versioned.storage.testextension.ConcurrentCalls.runBehindFirstCall;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.nessie.relocated.protobuf.ByteString;
+import org.projectnessie.versioned.storage.common.objtypes.ContentValueObj;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.common.persist.Reference;
+import org.projectnessie.versioned.storage.testextension.NessiePersist;
+import org.projectnessie.versioned.storage.testextension.PersistExtension;
+
+@ExtendWith({PersistExtension.class, SoftAssertionsExtension.class})
+public class TestSingleFlightLoads {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @NessiePersist protected Persist persist;
+
+  static final int CONCURRENCY = 8;
+
+  @Test
+  public void concurrentFetchObj() throws Exception {
+    ContentValueObj obj = contentValue("cid", 42, ByteString.copyFromUtf8("foo"));
+    persist.storeObj(obj);
+
+    Persist backing = spy(persist);
+    CountDownLatch entered = new CountDownLatch(1);
+    Semaphore release = new Semaphore(0);
+    doAnswer(
+            invocation -> {
+              entered.countDown();
+              release.acquire();
+              return invocation.callRealMethod();
+            })
+        .when(backing)
+        .fetchObj(obj.id());
+
+    Persist cachedPersist =
+        PersistCaches.newBackend(CacheConfig.builder().capacityMb(16).build()).wrap(backing);
+
+    List<CompletableFuture<Obj>> results =
+        runConcurrently(entered, release, () -> cachedPersist.fetchObj(obj.id()));
+    for (CompletableFuture<Obj> result : results) {
+      soft.assertThat(result.get(30, SECONDS)).isEqualTo(obj);
+    }
+
+    verify(backing, times(1)).fetchObj(obj.id());
+  }
+
+  @Test
+  public void concurrentFetchTypedObjsIfExist() throws Exception {
+    ContentValueObj obj1 = contentValue("cid1", 42, ByteString.copyFromUtf8("foo"));
+    ContentValueObj obj2 = contentValue("cid2", 42, ByteString.copyFromUtf8("bar"));
+    persist.storeObjs(new Obj[] {obj1, obj2});
+    ObjId[] ids = new ObjId[] {obj1.id(), obj2.id()};
+
+    Persist backing = spy(persist);
+    CountDownLatch entered = new CountDownLatch(1);
+    Semaphore release = new Semaphore(0);
+    doAnswer(
+            invocation -> {
+              entered.countDown();
+              release.acquire();
+              return invocation.callRealMethod();
+            })
+        .when(backing)
+        .fetchTypedObjsIfExist(any(), any(), any());
+
+    Persist cachedPersist =
+        PersistCaches.newBackend(CacheConfig.builder().capacityMb(16).build()).wrap(backing);
+
+    List<CompletableFuture<ContentValueObj[]>> results =
+        runConcurrently(
+            entered,
+            release,
+            () -> cachedPersist.fetchTypedObjsIfExist(ids, VALUE, ContentValueObj.class));
+    for (CompletableFuture<ContentValueObj[]> result : results) {
+      soft.assertThat(result.get(30, SECONDS)).containsExactly(obj1, obj2);
+    }
+
+    verify(backing, times(1)).fetchTypedObjsIfExist(any(), any(), any());
+  }
+
+  @Test
+  public void concurrentFetchReference() throws Exception {
+    Reference ref =
+        persist.addReference(reference("refs/heads/cached", EMPTY_OBJ_ID, false, 0L, null));
+
+    Persist backing = spy(persist);
+    CountDownLatch entered = new CountDownLatch(1);
+    Semaphore release = new Semaphore(0);
+    doAnswer(
+            invocation -> {
+              entered.countDown();
+              release.acquire();
+              return invocation.callRealMethod();
+            })
+        .when(backing)
+        .fetchReferenceForUpdate(ref.name());
+
+    Persist cachedPersist =
+        PersistCaches.newBackend(
+                CacheConfig.builder()
+                    .capacityMb(16)
+                    .referenceTtl(Duration.ofMinutes(1))
+                    .referenceNegativeTtl(Duration.ofMinutes(1))
+                    .build())
+            .wrap(backing);
+
+    List<CompletableFuture<Reference>> results =
+        runConcurrently(entered, release, () -> cachedPersist.fetchReference(ref.name()));
+    for (CompletableFuture<Reference> result : results) {
+      soft.assertThat(result.get(30, SECONDS)).isEqualTo(ref);
+    }
+
+    verify(backing, times(1)).fetchReferenceForUpdate(ref.name());
+  }
+
+  /**
+   * Reference loads must not be coalesced without reference caching, a caller must never observe
+   * the state of a reference as of a load that started before the caller's own call.
+   */
+  @Test
+  public void concurrentFetchReferenceWithoutReferenceCache() throws Exception {
+    Reference ref =
+        persist.addReference(reference("refs/heads/uncached", EMPTY_OBJ_ID, false, 0L, null));
+
+    Persist backing = spy(persist);
+    CountDownLatch entered = new CountDownLatch(1);
+    Semaphore release = new Semaphore(0);
+    doAnswer(
+            invocation -> {
+              entered.countDown();
+              release.acquire();
+              return invocation.callRealMethod();
+            })
+        .when(backing)
+        .fetchReferenceForUpdate(ref.name());
+
+    Persist cachedPersist =
+        PersistCaches.newBackend(CacheConfig.builder().capacityMb(16).build()).wrap(backing);
+
+    List<CompletableFuture<Reference>> results =
+        runConcurrently(entered, release, () -> cachedPersist.fetchReference(ref.name()));
+    for (CompletableFuture<Reference> result : results) {
+      soft.assertThat(result.get(30, SECONDS)).isEqualTo(ref);
+    }
+
+    verify(backing, times(CONCURRENCY)).fetchReferenceForUpdate(ref.name());
+  }
+
+  /**
+   * Runs the call concurrently, the first caller blocks in the backend until all other callers are
+   * either waiting for the in-flight load or are blocked in the backend.
+   */
+  private static <R> List<CompletableFuture<R>> runConcurrently(
+      CountDownLatch entered, Semaphore release, Callable<R> call) throws Exception {
+    // enough permits for every caller, but only the first caller must reach the backend
+    return runBehindFirstCall(CONCURRENCY, entered, () -> release.release(CONCURRENCY), i -> call);
+  }
+}
@@ -19,6 +19,8 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Backend.unhandledException;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.ADD_REFERENCE;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.COL_OBJ_ID;
@@ -37,6 +39,7 @@ import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.MAX_CONCURRENT_STORES;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.PURGE_REFERENCE;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.SCAN_OBJS;
+import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.SELECT_BATCH_SIZE;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.STORE_OBJ;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.UPDATE_OBJ;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.UPDATE_OBJ_REFERENCED;
@@ -56,13 +59,19 @@ import com.datastax.oss.driver.api.core.cql.Row;
 import com.google.common.collect.AbstractIterator;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import java.lang.reflect.Array;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.projectnessie.versioned.storage.cassandra2.Cassandra2Backend.BatchedQuery;
@@ -73,6 +82,7 @@ import org.projectnessie.versioned.storage.common.exceptions.RefAlreadyExistsExc
 import org.projectnessie.versioned.storage.common.exceptions.RefConditionFailedException;
 import org.projectnessie.versioned.storage.common.exceptions.RefNotFoundException;
 import org.projectnessie.versioned.storage.common.objtypes.UpdateableObj;
+import org.projectnessie.versioned.storage.common.persist.AsyncPersist;
 import org.projectnessie.versioned.storage.common.persist.CloseableIterator;
 import org.projectnessie.versioned.storage.common.persist.Obj;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
@@ -81,7 +91,7 @@ import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.common.persist.Reference;
 import org.projectnessie.versioned.storage.serialize.ProtoSerialization;
 
-public class Cassandra2Persist implements Persist {
+public class Cassandra2Persist implements Persist, AsyncPersist {
 
   private final Cassandra2Backend backend;
   private final StoreConfig config;
@@ -279,18 +289,7 @@ public class Cassandra2Persist implements Persist {
                 backend.buildStatement(
                     FIND_OBJS, true, config.repositoryId(), idsToByteBuffers.apply(keys)));
 
-    Function<Row, T> rowMapper =
-        row -> {
-          ObjType objType = objTypeByName(requireNonNull(row.getString(COL_OBJ_TYPE.name())));
-          if (type != null && !type.equals(objType)) {
-            return null;
-          }
-          ObjId id = deserializeObjId(row.getByteBuffer(COL_OBJ_ID.name()));
-          String versionToken = row.getString(COL_OBJ_VERS.name());
-          ByteBuffer serialized = row.getByteBuffer(COL_OBJ_VALUE.name());
-          long referenced = row.getLong(COL_OBJ_REFERENCED.name());
-          return typeClass.cast(deserializeObj(id, referenced, serialized, versionToken));
-        };
+    Function<Row, T> rowMapper = row -> objFromRow(row, type, typeClass);
 
     T[] r;
     try (BatchedQuery<ObjId, T> batchedQuery =
@@ -311,6 +310,157 @@ public class Cassandra2Persist implements Persist {
     return r;
   }
 
+  private static <T extends Obj> T objFromRow(Row row, ObjType type, Class<T> typeClass) {
+    ObjType objType = objTypeByName(requireNonNull(row.getString(COL_OBJ_TYPE.name())));
+    if (type != null && !type.equals(objType)) {
+      return null;
+    }
+    ObjId id = deserializeObjId(row.getByteBuffer(COL_OBJ_ID.name()));
+    String versionToken = row.getString(COL_OBJ_VERS.name());
+    ByteBuffer serialized = row.getByteBuffer(COL_OBJ_VALUE.name());
+    long referenced = row.getLong(COL_OBJ_REFERENCED.name());
+    return typeClass.cast(deserializeObj(id, referenced, serialized, versionToken));
+  }
+
+  @Nonnull
+  @Override
+  public AsyncPersist async() {
+    return this;
+  }
+
+  @Nonnull
+  @Override
+  public <T extends Obj> CompletionStage<T[]> fetchTypedObjsIfExistAsync(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    Map<ObjId, T> fetched = new ConcurrentHashMap<>();
+    List<CompletableFuture<?>> queries = new ArrayList<>();
+    try {
+      List<ByteBuffer> batch = new ArrayList<>(SELECT_BATCH_SIZE);
+      for (ObjId id : ids) {
+        if (id != null) {
+          batch.add(id.asByteBuffer());
+          if (batch.size() == SELECT_BATCH_SIZE) {
+            queries.add(fetchObjsBatchAsync(batch, type, typeClass, fetched));
+            batch = new ArrayList<>(SELECT_BATCH_SIZE);
+          }
+        }
+      }
+      if (!batch.isEmpty()) {
+        queries.add(fetchObjsBatchAsync(batch, type, typeClass, fetched));
+      }
+    } catch (DriverException e) {
+      return failedFuture(unhandledException(e));
+    }
+
+    CompletableFuture<T[]> result = new CompletableFuture<>();
+    CompletableFuture.allOf(queries.toArray(new CompletableFuture[0]))
+        .whenComplete(
+            (v, e) -> {
+              if (e != null) {
+                result.completeExceptionally(asyncFailure(e));
+                return;
+              }
+              @SuppressWarnings("unchecked")
+              T[] r = (T[]) Array.newInstance(typeClass, ids.length);
+              for (int i = 0; i < ids.length; i++) {
+                ObjId id = ids[i];
+                if (id != null) {
+                  r[i] = fetched.get(id);
+                }
+              }
+              result.complete(r);
+            });
+    return result;
+  }
+
+  private <T extends Obj> CompletableFuture<Void> fetchObjsBatchAsync(
+      List<ByteBuffer> batch, ObjType type, Class<T> typeClass, Map<ObjId, T> fetched) {
+    BoundStatement stmt = backend.buildStatement(FIND_OBJS, true, config.repositoryId(), batch);
+    return backend
+        .executeAsync(stmt)
+        .thenCompose(
+            rs ->
+                consumeAllPages(
+                    rs,
+                    row -> {
+                      T obj = objFromRow(row, type, typeClass);
+                      if (obj != null) {
+                        fetched.put(obj.id(), obj);
+                      }
+                    }))
+        .toCompletableFuture();
+  }
+
+  private static CompletionStage<Void> consumeAllPages(
+      AsyncResultSet rs, Consumer<Row> rowConsumer) {
+    for (Row row : rs.currentPage()) {
+      rowConsumer.accept(row);
+    }
+    if (rs.hasMorePages()) {
+      return rs.fetchNextPage().thenCompose(next -> consumeAllPages(next, rowConsumer));
+    }
+    return completedFuture(null);
+  }
+
+  /**
+   * Issues the writes with at most {@code MAX_CONCURRENT_STORES} writes in flight, like {@link
+   * #storeObjs(Obj[])}. The calling thread is blocked while that limit is reached.
+   */
+  @Nonnull
+  @Override
+  public CompletionStage<boolean[]> storeObjsAsync(@Nonnull Obj[] objs) {
+    long referenced = config.currentTimeMicros();
+    // Written by the completion handlers, read after all writes have completed.
+    boolean[] stored = new boolean[objs.length];
+    List<CompletableFuture<?>> writes = new ArrayList<>(objs.length);
+    // Not closed, the result stage completes after all writes have completed.
+    LimitedConcurrentRequests requests = new LimitedConcurrentRequests(MAX_CONCURRENT_STORES);
+    try {
+      for (int i = 0; i < objs.length; i++) {
+        Obj o = objs[i];
+        if (o != null) {
+          int idx = i;
+          CompletableFuture<AsyncResultSet> write =
+              writeSingleObj(o, referenced, false, false, backend::executeAsync)
+                  .thenCompose(
+                      rs -> {
+                        if (rs.wasApplied()) {
+                          stored[idx] = true;
+                          return completedFuture(rs);
+                        }
+                        return updateSingleReferenced(o.id(), referenced, backend::executeAsync);
+                      })
+                  .toCompletableFuture();
+          writes.add(write);
+          requests.submitted(write);
+        }
+      }
+    } catch (ObjTooLargeException e) {
+      return failedFuture(e);
+    } catch (DriverException e) {
+      return failedFuture(unhandledException(e));
+    }
+
+    CompletableFuture<boolean[]> result = new CompletableFuture<>();
+    CompletableFuture.allOf(writes.toArray(new CompletableFuture[0]))
+        .whenComplete(
+            (v, e) -> {
+              if (e != null) {
+                result.completeExceptionally(asyncFailure(e));
+              } else {
+                result.complete(stored);
+              }
+            });
+    return result;
+  }
+
+  private static Throwable asyncFailure(Throwable e) {
+    if (e instanceof CompletionException && e.getCause() != null) {
+      e = e.getCause();
+    }
+    return e instanceof DriverException ? unhandledException((DriverException) e) : e;
+  }
+
   @Override
   public boolean storeObj(@Nonnull Obj obj, boolean ignoreSoftSizeRestrictions)
       throws ObjTooLargeException {
@@ -23,7 +23,8 @@ import org.projectnessie.versioned.storage.common.persist.ObjId;
 
 /**
  * Synchronization helper for asynchronous "child" queries for {@link Cassandra2Persist#erase()},
- * {@link Cassandra2Persist#deleteObjs(ObjId[])}, {@link Cassandra2Persist#storeObjs(Obj[])}.
+ * {@link Cassandra2Persist#deleteObjs(ObjId[])}, {@link Cassandra2Persist#storeObjs(Obj[])} and
+ * {@link Cassandra2Persist#storeObjsAsync(Obj[])}.
  *
  * <p>Note: this implementation does not actively prevent submitting a new query, but it prevents
  * making further progress by blocking inside {@link #submitted(CompletionStage)}.
@@ -0,0 +1,412 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cleanup;
+
+import static java.util.Collections.singleton;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.deserializeStoreIndex;
+import static org.projectnessie.versioned.storage.common.logic.InternalRef.allInternalRefs;
+import static org.projectnessie.versioned.storage.common.logic.ReferencesQuery.referencesQuery;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.COMMIT_OP_SERIALIZER;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.COMMIT;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.EMPTY_OBJ_ID;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnel;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import org.agrona.collections.Hashing;
+import org.agrona.collections.Object2ObjectHashMap;
+import org.agrona.collections.ObjectHashSet;
+import org.projectnessie.versioned.storage.common.indexes.StoreIndex;
+import org.projectnessie.versioned.storage.common.indexes.StoreIndexElement;
+import org.projectnessie.versioned.storage.common.logic.InternalRef;
+import org.projectnessie.versioned.storage.common.logic.PagedResult;
+import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
+import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
+import org.projectnessie.versioned.storage.common.objtypes.IndexObj;
+import org.projectnessie.versioned.storage.common.objtypes.IndexSegmentsObj;
+import org.projectnessie.versioned.storage.common.objtypes.IndexStripe;
+import org.projectnessie.versioned.storage.common.objtypes.RefObj;
+import org.projectnessie.versioned.storage.common.objtypes.StringObj;
+import org.projectnessie.versioned.storage.common.persist.CloseableIterator;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.common.persist.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** State and implementation of a single {@link PurgeUnreferencedObjects#purge() purge run}. */
+final class PurgeRun {
+  private static final Logger LOGGER = LoggerFactory.getLogger(PurgeRun.class);
+
+  @SuppressWarnings("UnstableApiUsage")
+  private static final Funnel<ObjId> OBJ_ID_FUNNEL = (id, sink) -> sink.putBytes(id.asByteArray());
+
+  private final PurgeUnreferencedObjects params;
+  private final Persist persist;
+  private final RateLimit scanRateLimit;
+  private final RateLimit fetchRateLimit;
+  private final RateLimit deleteRateLimit;
+
+  /**
+   * Commit IDs to the IDs of their direct and secondary parents, populated by the commit scan,
+   * released after the reachable commits have been identified.
+   */
+  private Object2ObjectHashMap<ObjId, ObjId[]> commitParents;
+
+  /**
+   * Exact set of the reachable commits, needed to stop walking the commit graph at already visited
+   * commits, which a bloom filter cannot safely tell.
+   */
+  private final ObjectHashSet<ObjId> reachableCommits;
+
+  /** Exact set of the index and other non-content objects, which need to be fetched. */
+  private final ObjectHashSet<ObjId> fetchedObjs;
+
+  private final List<ObjId> pendingFetches = new ArrayList<>();
+
+  @SuppressWarnings("UnstableApiUsage")
+  private final BloomFilter<ObjId> referencedObjs;
+
+  private int references;
+  private long missingCommits;
+  private long markedObjs;
+  private long scannedObjs;
+  private long recentObjs;
+  private long purgedObjs;
+
+  PurgeRun(PurgeUnreferencedObjects params) {
+    this.params = params;
+    this.persist = params.persist();
+    this.scanRateLimit = RateLimit.create(params.scanObjRatePerSecond());
+    this.fetchRateLimit = RateLimit.create(params.fetchObjRatePerSecond());
+    this.deleteRateLimit = RateLimit.create(params.deleteObjRatePerSecond());
+    // Using open-addressing implementations here, because those are much more space-efficient than
+    // the java.util ones.
+    this.commitParents =
+        new Object2ObjectHashMap<>(params.expectedCommitCount() * 2, Hashing.DEFAULT_LOAD_FACTOR);
+    this.reachableCommits =
+        new ObjectHashSet<>(params.expectedCommitCount() * 2, Hashing.DEFAULT_LOAD_FACTOR, false);
+    this.fetchedObjs =
+        new ObjectHashSet<>(
+            ObjectHashSet.DEFAULT_INITIAL_CAPACITY, Hashing.DEFAULT_LOAD_FACTOR, false);
+    @SuppressWarnings("UnstableApiUsage")
+    BloomFilter<ObjId> filter =
+        BloomFilter.create(
+            OBJ_ID_FUNNEL, params.expectedObjCount(), params.falsePositiveProbability());
+    this.referencedObjs = filter;
+  }
+
+  PurgeStats run() {
+    Instant started = persist.config().clock().instant();
+    long maxObjReferenced =
+        persist.config().currentTimeMicros() - toMicros(params.gracePeriod());
+
+    LOGGER.info(
+        "Starting purge of unreferenced objects{}, keeping objects referenced after {}",
+        params.dryRun() ? " (dry run)" : "",
+        Instant.EPOCH.plus(Duration.ofNanos(maxObjReferenced * 1000L)));
+
+    collectCommitGraph();
+    identifyReachableCommits();
+    markReachableCommitContents();
+    sweep(maxObjReferenced);
+
+    PurgeStats stats =
+        PurgeStats.builder()
+            .started(started)
+            .finished(persist.config().clock().instant())
+            .maxObjReferenced(maxObjReferenced)
+            .dryRun(params.dryRun())
+            .references(references)
+            .reachableCommits(reachableCommits.size())
+            .missingCommits(missingCommits)
+            .markedObjs(markedObjs)
+            .scannedObjs(scannedObjs)
+            .recentObjs(recentObjs)
+            .purgedObjs(purgedObjs)
+            .build();
+    LOGGER.info("Finished purge of unreferenced objects: {}", stats);
+    return stats;
+  }
+
+  private static long toMicros(Duration duration) {
+    return duration.getSeconds() * 1_000_000L + duration.getNano() / 1_000L;
+  }
+
+  // Mark phase
+
+  /** Scans all (non-internal) commits to build the commit graph in memory. */
+  private void collectCommitGraph() {
+    Object2ObjectHashMap<ObjId, ObjId[]> parents = commitParents;
+    params
+        .commitLogic()
+        .identifyAllHeadsAndForkPoints(
+            params.expectedCommitCount(),
+            commit -> {
+              scanRateLimit.acquire(1);
+              parents.put(commit.id(), parentsOf(commit));
+            });
+    LOGGER.info("Scanned {} commits", parents.size());
+  }
+
+  private static ObjId[] parentsOf(CommitObj commit) {
+    List<ObjId> secondary = commit.secondaryParents();
+    ObjId[] parents = new ObjId[1 + secondary.size()];
+    parents[0] = commit.directParent();
+    for (int i = 0; i < secondary.size(); i++) {
+      parents[i + 1] = secondary.get(i);
+    }
+    return parents;
+  }
+
+  /** Walks the commit graph from the heads of all references. */
+  private void identifyReachableCommits() {
+    Deque<ObjId> pending = new ArrayDeque<>();
+
+    for (InternalRef internalRef : allInternalRefs()) {
+      Reference reference = persist.fetchReferenceForUpdate(internalRef.name());
+      if (reference != null) {
+        addReferenceRoots(reference, pending);
+      }
+    }
+    PagedResult<Reference, String> namedRefs =
+        params.referenceLogic().queryReferences(referencesQuery());
+    while (namedRefs.hasNext()) {
+      addReferenceRoots(namedRefs.next(), pending);
+    }
+
+    Object2ObjectHashMap<ObjId, ObjId[]> parents = commitParents;
+    List<ObjId> unknownCommits = new ArrayList<>();
+    while (!pending.isEmpty() || !unknownCommits.isEmpty()) {
+      if (pending.isEmpty()) {
+        fetchUnknownCommits(unknownCommits, pending);
+        continue;
+      }
+      ObjId commitId = pending.pop();
+      if (EMPTY_OBJ_ID.equals(commitId) || !reachableCommits.add(commitId)) {
+        continue;
+      }
+      ObjId[] commitParents = parents.get(commitId);
+      if (commitParents == null) {
+        // Commits of internal references are not returned by the commit scan, also commits that
+        // have been written after the commit scan. Those are fetched in batches.
+        unknownCommits.add(commitId);
+        if (unknownCommits.size() >= params.fetchBatchSize()) {
+          fetchUnknownCommits(unknownCommits, pending);
+        }
+        continue;
+      }
+      pushParents(commitParents, pending);
+    }
+
+    // The commit graph is no longer needed, let it be garbage collected.
+    this.commitParents = null;
+
+    LOGGER.info(
+        "Identified {} commits reachable from {} references, {} missing commits",
+        reachableCommits.size(),
+        references,
+        missingCommits);
+  }
+
+  private void fetchUnknownCommits(List<ObjId> unknownCommits, Deque<ObjId> pending) {
+    ObjId[] ids = unknownCommits.toArray(new ObjId[0]);
+    unknownCommits.clear();
+
+    fetchRateLimit.acquire(ids.length);
+    CommitObj[] commits = persist.fetchTypedObjsIfExist(ids, COMMIT, CommitObj.class);
+    for (CommitObj commit : commits) {
+      if (commit == null) {
+        missingCommits++;
+        continue;
+      }
+      pushParents(parentsOf(commit), pending);
+      // The tail contains the next direct ancestors, which are all reachable. Adding those lets the
+      // next batch contain multiple commits of the same commit chain, which would otherwise be
+      // fetched one commit per batch.
+      pushParents(commit.tail().toArray(new ObjId[0]), pending);
+    }
+  }
+
+  private void pushParents(ObjId[] parents, Deque<ObjId> pending) {
+    for (ObjId parent : parents) {
+      if (!reachableCommits.contains(parent)) {
+        pending.push(parent);
+      }
+    }
+  }
+
+  private void addReferenceRoots(Reference reference, Deque<ObjId> pending) {
+    references++;
+    pending.push(reference.pointer());
+    for (Reference.PreviousPointer previousPointer : reference.previousPointers()) {
+      pending.push(previousPointer.pointer());
+    }
+    ObjId extendedInfoObj = reference.extendedInfoObj();
+    if (extendedInfoObj != null) {
+      mark(extendedInfoObj);
+    }
+  }
+
+  /** Marks the commits and the objects referenced by the indexes of the reachable commits. */
+  private void markReachableCommitContents() {
+    try (CloseableIterator<Obj> scan = persist.scanAllObjects(singleton(COMMIT))) {
+      while (scan.hasNext()) {
+        scanRateLimit.acquire(1);
+        CommitObj commit = (CommitObj) scan.next();
+        if (reachableCommits.contains(commit.id())) {
+          markCommit(commit);
+        }
+      }
+    }
+    fetchPending();
+
+    LOGGER.info("Marked {} referenced objects", markedObjs);
+  }
+
+  private void markCommit(CommitObj commit) {
+    mark(commit.id());
+
+    markIndexValues(deserializeStoreIndex(commit.incrementalIndex(), COMMIT_OP_SERIALIZER));
+
+    ObjId referenceIndex = commit.referenceIndex();
+    if (referenceIndex != null) {
+      fetchLater(referenceIndex);
+    }
+    for (IndexStripe stripe : commit.referenceIndexStripes()) {
+      fetchLater(stripe.segment());
+    }
+  }
+
+  private void markIndexValues(StoreIndex<CommitOp> index) {
+    for (StoreIndexElement<CommitOp> el : index) {
+      CommitOp op = el.content();
+      ObjId value = op.value();
+      if (value == null) {
+        continue;
+      }
+      if (op.payload() == 0) {
+        // Not a content value, but for example a RefObj or StringObj of an internal reference,
+        // which can refer to other objects.
+        fetchLater(value);
+      } else {
+        mark(value);
+      }
+    }
+  }
+
+  private void fetchLater(ObjId id) {
+    if (fetchedObjs.add(id)) {
+      pendingFetches.add(id);
+      if (pendingFetches.size() >= params.fetchBatchSize()) {
+        fetchPending();
+      }
+    }
+  }
+
+  private void fetchPending() {
+    while (!pendingFetches.isEmpty()) {
+      ObjId[] ids = pendingFetches.toArray(new ObjId[0]);
+      pendingFetches.clear();
+
+      fetchRateLimit.acquire(ids.length);
+      Obj[] objs = persist.fetchObjsIfExist(ids);
+      for (Obj obj : objs) {
+        if (obj == null) {
+          continue;
+        }
+        mark(obj.id());
+        if (obj instanceof IndexObj) {
+          markIndexValues(deserializeStoreIndex(((IndexObj) obj).index(), COMMIT_OP_SERIALIZER));
+        } else if (obj instanceof IndexSegmentsObj) {
+          for (IndexStripe stripe : ((IndexSegmentsObj) obj).stripes()) {
+            fetchLater(stripe.segment());
+          }
+        } else if (obj instanceof RefObj) {
+          ObjId extendedInfoObj = ((RefObj) obj).extendedInfoObj();
+          if (extendedInfoObj != null) {
+            mark(extendedInfoObj);
+          }
+        } else if (obj instanceof StringObj) {
+          for (ObjId predecessor : ((StringObj) obj).predecessors()) {
+            fetchLater(predecessor);
+          }
+        }
+      }
+    }
+  }
+
+  @SuppressWarnings("UnstableApiUsage")
+  private void mark(ObjId id) {
+    if (referencedObjs.put(id)) {
+      markedObjs++;
+    }
+  }
+
+  // Sweep phase
+
+  @SuppressWarnings("UnstableApiUsage")
+  private void sweep(long maxObjReferenced) {
+    List<ObjId> unreferenced = new ArrayList<>(params.deleteBatchSize());
+    try (CloseableIterator<Obj> scan = persist.scanAllObjects(params.purgeObjTypes())) {
+      while (scan.hasNext()) {
+        scanRateLimit.acquire(1);
+        Obj obj = scan.next();
+        scannedObjs++;
+
+        if (obj.referenced() >= maxObjReferenced) {
+          recentObjs++;
+          continue;
+        }
+        ObjId id = obj.id();
+        if (reachableCommits.contains(id) || referencedObjs.mightContain(id)) {
+          continue;
+        }
+
+        unreferenced.add(id);
+        if (unreferenced.size() >= params.deleteBatchSize()) {
+          purge(unreferenced);
+        }
+      }
+    }
+    purge(unreferenced);
+
+    LOGGER.info(
+        "Scanned {} objects, {} unreferenced objects {}",
+        scannedObjs,
+        purgedObjs,
+        params.dryRun() ? "identified (dry run)" : "purged");
+  }
+
+  private void purge(List<ObjId> unreferenced) {
+    int count = unreferenced.size();
+    if (count == 0) {
+      return;
+    }
+    deleteRateLimit.acquire(count);
+    if (!params.dryRun()) {
+      persist.deleteObjs(unreferenced.toArray(new ObjId[0]));
+    }
+    purgedObjs += count;
+    unreferenced.clear();
+  }
+}
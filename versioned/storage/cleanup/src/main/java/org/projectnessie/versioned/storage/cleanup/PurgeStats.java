@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cleanup;
+
+import java.time.Instant;
+import org.immutables.value.Value;
+
+/** Statistics of a {@link PurgeUnreferencedObjects#purge() purge run}. */
+@Value.Immutable
+public interface PurgeStats {
+
+  Instant started();
+
+  Instant finished();
+
+  /** Objects written or re-referenced at or after this timestamp (microseconds) were kept. */
+  long maxObjReferenced();
+
+  boolean dryRun();
+
+  /** Number of references (named and internal) used as the roots of the mark phase. */
+  int references();
+
+  /** Number of commits reachable from the references. */
+  long reachableCommits();
+
+  /** Number of commits that are reachable from the references, but do not exist. */
+  long missingCommits();
+
+  /** Number of objects marked as referenced, including the reachable commits. */
+  long markedObjs();
+
+  /** Number of objects scanned in the sweep phase. */
+  long scannedObjs();
+
+  /** Number of scanned objects that were kept, because those were written recently. */
+  long recentObjs();
+
+  /** Number of unreferenced objects that were deleted, or would have been in a dry run. */
+  long purgedObjs();
+
+  static ImmutablePurgeStats.Builder builder() {
+    return ImmutablePurgeStats.builder();
+  }
+}
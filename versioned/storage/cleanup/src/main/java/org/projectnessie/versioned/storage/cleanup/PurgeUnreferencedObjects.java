@@ -0,0 +1,269 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cleanup;
+
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.COMMIT;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.INDEX;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.INDEX_SEGMENTS;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.REF;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.STRING;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.TAG;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.VALUE;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.time.Duration;
+import java.util.Set;
+import org.immutables.value.Value;
+import org.projectnessie.versioned.storage.common.logic.CommitLogic;
+import org.projectnessie.versioned.storage.common.logic.Logics;
+import org.projectnessie.versioned.storage.common.logic.ReferenceLogic;
+import org.projectnessie.versioned.storage.common.objtypes.StandardObjType;
+import org.projectnessie.versioned.storage.common.objtypes.UniqueIdObj;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.ObjType;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+
+/**
+ * Mark-and-sweep maintenance operation that deletes objects, which are no longer reachable from
+ * any reference, for example objects written by failed commit attempts or only referenced by
+ * deleted branches.
+ *
+ * <p>The <em>mark</em> phase first builds the commit graph using {@link
+ * CommitLogic#identifyAllHeadsAndForkPoints(int, java.util.function.Consumer)} and walks it from
+ * the heads of all named and internal references to determine the reachable commits. A second scan
+ * over all commits then marks the index and value objects referenced by the reachable commits.
+ *
+ * <p>The <em>sweep</em> phase scans all objects of the {@link #purgeObjTypes() purged object types}
+ * via {@link Persist#scanAllObjects(Set)} and deletes the objects that have not been marked, in
+ * batches via {@link Persist#deleteObjs(ObjId[])}.
+ *
+ * <p>Objects that have been written or re-referenced after the {@link #gracePeriod() grace period}
+ * before the start of the purge run, as indicated by {@link Obj#referenced()}, are never deleted.
+ * This protects objects written by concurrent commits, because {@link Persist} implementations
+ * update that timestamp also when an already existing object is stored again. It does
+ * <em>not</em> protect commits that become reachable again during a purge run only by assigning a
+ * reference to an otherwise unreachable commit.
+ *
+ * <p>A purge run does not keep any state in the repository. It is safe to abort a purge run at any
+ * time and to just run it again, deletions are idempotent and a subsequent run only sees the
+ * objects that have not been deleted yet. A purge run cannot be resumed from where it was aborted:
+ * {@link Persist#scanAllObjects(Set)} cannot continue at a given position, and the marked objects
+ * would be outdated by the time a purge run is resumed. A subsequent run therefore repeats the mark
+ * phase and the full sweep scan.
+ *
+ * <p>Reachable commits and index objects are tracked in exact hash sets, all other marked objects
+ * in a bloom filter, sized via {@link #expectedObjCount()} and {@link
+ * #falsePositiveProbability()}. A false positive only means that an unreferenced object is not
+ * deleted.
+ */
+@Value.Immutable
+public abstract class PurgeUnreferencedObjects {
+
+  public static final Duration DEFAULT_GRACE_PERIOD = Duration.ofDays(1);
+  public static final int DEFAULT_EXPECTED_COMMIT_COUNT = 100_000;
+  public static final int DEFAULT_EXPECTED_OBJ_COUNT = 1_000_000;
+  public static final double DEFAULT_FALSE_POSITIVE_PROBABILITY = 0.00001d;
+  public static final int DEFAULT_DELETE_BATCH_SIZE = 100;
+  public static final int DEFAULT_FETCH_BATCH_SIZE = 50;
+
+  /**
+   * The object types that can be purged. Other object types, for example {@link UniqueIdObj}s or
+   * custom object types, are not necessarily reachable from a commit and are never purged.
+   */
+  public static final Set<ObjType> DEFAULT_PURGE_OBJ_TYPES =
+      Set.of(COMMIT, INDEX_SEGMENTS, INDEX, VALUE, REF, STRING, TAG);
+
+  public static Builder builder() {
+    return ImmutablePurgeUnreferencedObjects.builder();
+  }
+
+  public interface Builder {
+    @CanIgnoreReturnValue
+    Builder persist(Persist persist);
+
+    @CanIgnoreReturnValue
+    Builder commitLogic(CommitLogic commitLogic);
+
+    @CanIgnoreReturnValue
+    Builder referenceLogic(ReferenceLogic referenceLogic);
+
+    /**
+     * Objects written or re-referenced less than this duration before the start of the purge run
+     * are never deleted, defaults to one day.
+     */
+    @CanIgnoreReturnValue
+    Builder gracePeriod(Duration gracePeriod);
+
+    /**
+     * The expected number of commits in the repository, used to size the commit graph, default is
+     * {@value #DEFAULT_EXPECTED_COMMIT_COUNT}.
+     */
+    @CanIgnoreReturnValue
+    Builder expectedCommitCount(int expectedCommitCount);
+
+    /**
+     * The expected number of referenced objects in the repository, used to size the bloom filter,
+     * default is {@value #DEFAULT_EXPECTED_OBJ_COUNT}.
+     */
+    @CanIgnoreReturnValue
+    Builder expectedObjCount(int expectedObjCount);
+
+    /**
+     * The false-positive-probability of the bloom filter, default is {@value
+     * #DEFAULT_FALSE_POSITIVE_PROBABILITY}.
+     */
+    @CanIgnoreReturnValue
+    Builder falsePositiveProbability(double falsePositiveProbability);
+
+    /**
+     * Maximum number of objects scanned per second, applies to all object scans, {@code 0} (the
+     * default) means unlimited.
+     */
+    @CanIgnoreReturnValue
+    Builder scanObjRatePerSecond(int scanObjRatePerSecond);
+
+    /**
+     * Maximum number of objects fetched per second during the mark phase, {@code 0} (the default)
+     * means unlimited.
+     */
+    @CanIgnoreReturnValue
+    Builder fetchObjRatePerSecond(int fetchObjRatePerSecond);
+
+    /** Maximum number of objects deleted per second, {@code 0} (the default) means unlimited. */
+    @CanIgnoreReturnValue
+    Builder deleteObjRatePerSecond(int deleteObjRatePerSecond);
+
+    /** Number of objects to delete at once, default is {@value #DEFAULT_DELETE_BATCH_SIZE}. */
+    @CanIgnoreReturnValue
+    Builder deleteBatchSize(int deleteBatchSize);
+
+    /** Number of objects to fetch at once, default is {@value #DEFAULT_FETCH_BATCH_SIZE}. */
+    @CanIgnoreReturnValue
+    Builder fetchBatchSize(int fetchBatchSize);
+
+    /** The object types to purge, defaults to {@link #DEFAULT_PURGE_OBJ_TYPES}. */
+    @CanIgnoreReturnValue
+    Builder purgeObjTypes(Iterable<? extends ObjType> purgeObjTypes);
+
+    /** When set to {@code true}, unreferenced objects are identified, but not deleted. */
+    @CanIgnoreReturnValue
+    Builder dryRun(boolean dryRun);
+
+    PurgeUnreferencedObjects build();
+  }
+
+  abstract Persist persist();
+
+  @Value.Default
+  CommitLogic commitLogic() {
+    return Logics.commitLogic(persist());
+  }
+
+  @Value.Default
+  ReferenceLogic referenceLogic() {
+    return Logics.referenceLogic(persist());
+  }
+
+  @Value.Default
+  Duration gracePeriod() {
+    return DEFAULT_GRACE_PERIOD;
+  }
+
+  @Value.Default
+  int expectedCommitCount() {
+    return DEFAULT_EXPECTED_COMMIT_COUNT;
+  }
+
+  @Value.Default
+  int expectedObjCount() {
+    return DEFAULT_EXPECTED_OBJ_COUNT;
+  }
+
+  @Value.Default
+  double falsePositiveProbability() {
+    return DEFAULT_FALSE_POSITIVE_PROBABILITY;
+  }
+
+  @Value.Default
+  int scanObjRatePerSecond() {
+    return 0;
+  }
+
+  @Value.Default
+  int fetchObjRatePerSecond() {
+    return 0;
+  }
+
+  @Value.Default
+  int deleteObjRatePerSecond() {
+    return 0;
+  }
+
+  @Value.Default
+  int deleteBatchSize() {
+    return DEFAULT_DELETE_BATCH_SIZE;
+  }
+
+  @Value.Default
+  int fetchBatchSize() {
+    return DEFAULT_FETCH_BATCH_SIZE;
+  }
+
+  @Value.Default
+  Set<ObjType> purgeObjTypes() {
+    return DEFAULT_PURGE_OBJ_TYPES;
+  }
+
+  @Value.Default
+  boolean dryRun() {
+    return false;
+  }
+
+  @Value.Check
+  void check() {
+    if (gracePeriod().isNegative()) {
+      throw new IllegalArgumentException("Grace period must not be negative");
+    }
+    if (deleteBatchSize() <= 0 || fetchBatchSize() <= 0) {
+      throw new IllegalArgumentException("Batch sizes must be positive");
+    }
+    for (ObjType type : purgeObjTypes()) {
+      if (!DEFAULT_PURGE_OBJ_TYPES.contains(type)) {
+        throw new IllegalArgumentException(
+            "Object type " + type.name() + " cannot be purged, allowed are " + allowedTypeNames());
+      }
+    }
+  }
+
+  private static String allowedTypeNames() {
+    StringBuilder sb = new StringBuilder();
+    for (StandardObjType type : StandardObjType.values()) {
+      if (DEFAULT_PURGE_OBJ_TYPES.contains(type)) {
+        if (sb.length() > 0) {
+          sb.append(", ");
+        }
+        sb.append(type.name());
+      }
+    }
+    return sb.toString();
+  }
+
+  /** Runs the mark and sweep phases and returns the statistics of this purge run. */
+  public PurgeStats purge() {
+    return new PurgeRun(this).run();
+  }
+}
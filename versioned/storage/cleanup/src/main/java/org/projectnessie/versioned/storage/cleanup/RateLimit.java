@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cleanup;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+/** Limits the rate of database operations of a purge run. */
+@FunctionalInterface
+interface RateLimit {
+  RateLimit UNLIMITED = permits -> {};
+
+  /** Blocks until the given number of permits are available. */
+  void acquire(int permits);
+
+  /** Creates a rate limit, a {@code ratePerSecond} of {@code 0} or less means unlimited. */
+  static RateLimit create(int ratePerSecond) {
+    if (ratePerSecond <= 0) {
+      return UNLIMITED;
+    }
+    @SuppressWarnings("UnstableApiUsage")
+    RateLimiter limiter = RateLimiter.create(ratePerSecond);
+    return permits -> {
+      if (permits > 0) {
+        limiter.acquire(permits);
+      }
+    };
+  }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cleanup;
+
+import static java.util.Collections.singletonList;
+import static org.projectnessie.model.CommitMeta.fromMessage;
+import static org.projectnessie.versioned.storage.common.logic.Logics.repositoryLogic;
+import static org.projectnessie.versioned.storage.common.objtypes.ContentValueObj.contentValue;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.UNIQUE;
+import static org.projectnessie.versioned.storage.common.objtypes.UniqueIdObj.uniqueId;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.objIdFromString;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.IcebergTable;
+import org.projectnessie.model.Operation.Put;
+import org.projectnessie.nessie.relocated.protobuf.ByteString;
+import org.projectnessie.versioned.BranchName;
+import org.projectnessie.versioned.Hash;
+import org.projectnessie.versioned.VersionStore;
+import org.projectnessie.versioned.storage.common.objtypes.ContentValueObj;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.testextension.NessiePersist;
+import org.projectnessie.versioned.storage.testextension.PersistExtension;
+import org.projectnessie.versioned.storage.versionstore.VersionStoreImpl;
+
+@ExtendWith({PersistExtension.class, SoftAssertionsExtension.class})
+public class TestPurgeUnreferencedObjects {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @NessiePersist protected static Persist persist;
+
+  static final BranchName MAIN = BranchName.of("main");
+  static final ContentKey MAIN_KEY = ContentKey.of("main-table");
+
+  @Test
+  public void purgeUnreferencedObjects() throws Exception {
+    Fixture fixture = setupRepository();
+
+    PurgeStats stats =
+        PurgeUnreferencedObjects.builder()
+            .persist(persist)
+            .gracePeriod(Duration.ZERO)
+            .build()
+            .purge();
+
+    soft.assertThat(stats.dryRun()).isFalse();
+    soft.assertThat(stats.missingCommits()).isEqualTo(0L);
+    soft.assertThat(stats.purgedObjs()).isGreaterThanOrEqualTo(2L);
+    soft.assertThat(stats.recentObjs()).isEqualTo(0L);
+
+    soft.assertThat(persist.fetchObjsIfExist(new ObjId[] {fixture.deletedBranchCommit}))
+        .containsOnlyNulls();
+    soft.assertThat(persist.fetchObjsIfExist(new ObjId[] {fixture.orphan})).containsOnlyNulls();
+    soft.assertThat(persist.fetchObjsIfExist(new ObjId[] {fixture.unique})).doesNotContainNull();
+
+    // Everything reachable from main is still there.
+    VersionStore store = new VersionStoreImpl(persist);
+    soft.assertThat(store.getValue(MAIN, MAIN_KEY, false).content()).isNotNull();
+    soft.assertThat(repositoryLogic(persist).fetchRepositoryDescription()).isNotNull();
+
+    // A second run does not find anything to purge.
+    PurgeStats again =
+        PurgeUnreferencedObjects.builder()
+            .persist(persist)
+            .gracePeriod(Duration.ZERO)
+            .build()
+            .purge();
+    soft.assertThat(again.purgedObjs()).isEqualTo(0L);
+    soft.assertThat(again.markedObjs()).isEqualTo(stats.markedObjs());
+  }
+
+  @Test
+  public void gracePeriodKeepsRecentObjects() throws Exception {
+    Fixture fixture = setupRepository();
+
+    PurgeStats stats = PurgeUnreferencedObjects.builder().persist(persist).build().purge();
+
+    soft.assertThat(stats.purgedObjs()).isEqualTo(0L);
+    soft.assertThat(stats.recentObjs()).isEqualTo(stats.scannedObjs());
+    soft.assertThat(persist.fetchObjsIfExist(new ObjId[] {fixture.orphan})).doesNotContainNull();
+  }
+
+  @Test
+  public void dryRun() throws Exception {
+    Fixture fixture = setupRepository();
+
+    PurgeStats stats =
+        PurgeUnreferencedObjects.builder()
+            .persist(persist)
+            .gracePeriod(Duration.ZERO)
+            .dryRun(true)
+            .build()
+            .purge();
+
+    soft.assertThat(stats.dryRun()).isTrue();
+    soft.assertThat(stats.purgedObjs()).isGreaterThanOrEqualTo(2L);
+    soft.assertThat(
+            persist.fetchObjsIfExist(new ObjId[] {fixture.deletedBranchCommit, fixture.orphan}))
+        .doesNotContainNull();
+  }
+
+  @Test
+  public void smallBatches() throws Exception {
+    Fixture fixture = setupRepository();
+
+    PurgeStats stats =
+        PurgeUnreferencedObjects.builder()
+            .persist(persist)
+            .gracePeriod(Duration.ZERO)
+            .deleteBatchSize(1)
+            .fetchBatchSize(1)
+            .expectedCommitCount(1)
+            .expectedObjCount(1)
+            .build()
+            .purge();
+
+    soft.assertThat(stats.purgedObjs()).isGreaterThanOrEqualTo(2L);
+    soft.assertThat(persist.fetchObjsIfExist(new ObjId[] {fixture.orphan})).containsOnlyNulls();
+    soft.assertThat(new VersionStoreImpl(persist).getValue(MAIN, MAIN_KEY, false).content())
+        .isNotNull();
+  }
+
+  @Test
+  public void invalidParameters() {
+    soft.assertThatIllegalArgumentException()
+        .isThrownBy(
+            () ->
+                PurgeUnreferencedObjects.builder()
+                    .persist(persist)
+                    .purgeObjTypes(Set.of(UNIQUE))
+                    .build())
+        .withMessageContaining("cannot be purged");
+    soft.assertThatIllegalArgumentException()
+        .isThrownBy(
+            () ->
+                PurgeUnreferencedObjects.builder()
+                    .persist(persist)
+                    .gracePeriod(Duration.ofSeconds(-1))
+                    .build());
+    soft.assertThatIllegalArgumentException()
+        .isThrownBy(
+            () -> PurgeUnreferencedObjects.builder().persist(persist).deleteBatchSize(0).build());
+  }
+
+  static final class Fixture {
+    ObjId deletedBranchCommit;
+    ObjId orphan;
+    ObjId unique;
+  }
+
+  private static Fixture setupRepository() throws Exception {
+    VersionStore store = new VersionStoreImpl(persist);
+    Fixture fixture = new Fixture();
+
+    Hash mainHead =
+        store
+            .commit(
+                MAIN,
+                Optional.empty(),
+                fromMessage("main commit"),
+                singletonList(Put.of(MAIN_KEY, IcebergTable.of("main", 1, 2, 3, 4))))
+            .getCommitHash();
+
+    BranchName temp = BranchName.of("temp");
+    store.create(temp, Optional.of(mainHead));
+    Hash tempHead =
+        store
+            .commit(
+                temp,
+                Optional.empty(),
+                fromMessage("temp commit"),
+                singletonList(
+                    Put.of(ContentKey.of("temp-table"), IcebergTable.of("temp", 1, 2, 3, 4))))
+            .getCommitHash();
+    store.delete(temp, tempHead);
+    fixture.deletedBranchCommit = objIdFromString(tempHead.asString());
+
+    // An object left behind for example by a failed commit attempt.
+    ContentValueObj orphan =
+        contentValue(UUID.randomUUID().toString(), 1, ByteString.copyFromUtf8("orphan"));
+    persist.storeObj(orphan);
+    fixture.orphan = orphan.id();
+
+    Obj unique = uniqueId("test", UUID.randomUUID());
+    persist.storeObj(unique);
+    fixture.unique = unique.id();
+
+    // Let the clock advance, so all objects written above are older than a zero grace period.
+    long written = persist.config().currentTimeMicros();
+    while (persist.config().currentTimeMicros() <= written) {
+      Thread.sleep(1);
+    }
+
+    return fixture;
+  }
+}
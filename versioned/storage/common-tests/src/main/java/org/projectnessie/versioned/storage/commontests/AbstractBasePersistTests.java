@@ -63,6 +63,7 @@ import static org.projectnessie.versioned.storage.common.objtypes.StringObj.stri
 import static org.projectnessie.versioned.storage.common.objtypes.TagObj.tag;
 import static org.projectnessie.versioned.storage.common.objtypes.UniqueIdObj.uniqueId;
 import static org.projectnessie.versioned.storage.common.objtypes.UniqueIdObj.uuidToBytes;
+import static org.projectnessie.versioned.storage.common.persist.AsyncPersist.awaitResult;
 import static org.projectnessie.versioned.storage.common.persist.ObjId.EMPTY_OBJ_ID;
 import static org.projectnessie.versioned.storage.common.persist.ObjId.objIdFromString;
 import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
@@ -115,6 +116,7 @@ import org.projectnessie.versioned.storage.common.objtypes.StandardObjType;
 import org.projectnessie.versioned.storage.common.objtypes.StringObj;
 import org.projectnessie.versioned.storage.common.objtypes.TagObj;
 import org.projectnessie.versioned.storage.common.objtypes.UpdateableObj;
+import org.projectnessie.versioned.storage.common.persist.AsyncPersist;
 import org.projectnessie.versioned.storage.common.persist.CloseableIterator;
 import org.projectnessie.versioned.storage.common.persist.ImmutableReference;
 import org.projectnessie.versioned.storage.common.persist.Obj;
@@ -926,6 +928,42 @@ public class AbstractBasePersistTests {
     soft.assertThat(fetched).containsExactlyElementsOf(objects);
   }
 
+  @Test
+  public void asyncStoreAndFetch() {
+    AsyncPersist async = persist.async();
+
+    List<TagObj> objects =
+        IntStream.range(0, 57)
+            .mapToObj(i -> tag(randomObjId(), 42L, null, null, ByteString.copyFrom(new byte[42])))
+            .collect(Collectors.toList());
+    Obj[] objs = objects.toArray(new Obj[0]);
+
+    soft.assertThat(awaitResult(async.storeObjsAsync(objs)))
+        .hasSize(objects.size())
+        .containsOnly(true);
+    soft.assertThat(awaitResult(async.storeObjsAsync(objs)))
+        .hasSize(objects.size())
+        .containsOnly(false);
+
+    ObjId[] ids = objects.stream().map(Obj::id).toArray(ObjId[]::new);
+    ObjId[] idsWithMissing = Arrays.copyOf(ids, ids.length + 2);
+    idsWithMissing[ids.length + 1] = randomObjId();
+
+    Obj[] fetched = awaitResult(async.fetchObjsIfExistAsync(idsWithMissing));
+    soft.assertThat(fetched).hasSize(ids.length + 2);
+    soft.assertThat(Arrays.copyOf(fetched, ids.length)).containsExactlyElementsOf(objects);
+    soft.assertThat(fetched[ids.length]).isNull();
+    soft.assertThat(fetched[ids.length + 1]).isNull();
+
+    soft.assertThat(awaitResult(async.fetchTypedObjsIfExistAsync(ids, TAG, TagObj.class)))
+        .containsExactlyElementsOf(objects);
+    soft.assertThat(awaitResult(async.fetchTypedObjsIfExistAsync(ids, COMMIT, CommitObj.class)))
+        .hasSize(ids.length)
+        .containsOnlyNulls();
+
+    soft.assertThat(persist.fetchObjsIfExist(ids)).containsExactlyElementsOf(objects);
+  }
+
   @Test
   public void multipleStoreObjs() throws Exception {
     Obj obj1 = tag(randomObjId(), 42L, null, null, ByteString.EMPTY);
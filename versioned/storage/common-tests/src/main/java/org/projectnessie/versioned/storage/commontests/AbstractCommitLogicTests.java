@@ -27,6 +27,7 @@ import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.api.InstanceOfAssertFactories.list;
 import static org.assertj.core.api.InstanceOfAssertFactories.type;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_COMMIT_LOG_READ_AHEAD;
 import static org.projectnessie.versioned.storage.common.indexes.StoreKey.key;
 import static org.projectnessie.versioned.storage.common.logic.CommitConflict.ConflictType.VALUE_DIFFERS;
 import static org.projectnessie.versioned.storage.common.logic.CommitLogQuery.commitLogQuery;
@@ -72,6 +73,7 @@ import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundExceptio
 import org.projectnessie.versioned.storage.common.indexes.StoreIndexElement;
 import org.projectnessie.versioned.storage.common.indexes.StoreKey;
 import org.projectnessie.versioned.storage.common.logic.CommitConflict;
+import org.projectnessie.versioned.storage.common.logic.CommitLogReadAhead;
 import org.projectnessie.versioned.storage.common.logic.CommitLogic;
 import org.projectnessie.versioned.storage.common.logic.CreateCommit;
 import org.projectnessie.versioned.storage.common.logic.DiffEntry;
@@ -87,6 +89,7 @@ import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.common.persist.Reference;
 import org.projectnessie.versioned.storage.testextension.NessiePersist;
+import org.projectnessie.versioned.storage.testextension.NessieStoreConfig;
 import org.projectnessie.versioned.storage.testextension.PersistExtension;
 
 /** {@link CommitLogic} related tests to be run against every {@link Persist} implementation. */
@@ -355,6 +358,48 @@ public class AbstractCommitLogicTests {
     }
   }
 
+  @Test
+  public void commitLogReadAhead(
+      @NessieStoreConfig(name = CONFIG_COMMIT_LOG_READ_AHEAD, value = "2") @NessiePersist
+          Persist readAheadPersist)
+      throws Exception {
+    CommitLogic commitLogic = commitLogic(readAheadPersist);
+
+    List<ObjId> expected = new ArrayList<>();
+    ObjId tip = EMPTY_OBJ_ID;
+    for (int i = 0; i < 100; i++) {
+      tip =
+          requireNonNull(
+                  commitLogic.doCommit(
+                      stdCommit().parentCommitId(tip).message("commit #" + i).build(),
+                      emptyList()))
+              .id();
+      expected.add(0, tip);
+    }
+
+    long usedBefore = CommitLogReadAhead.usedBatches();
+
+    soft.assertThat(newArrayList(commitLogic.commitLog(commitLogQuery(tip))))
+        .extracting(CommitObj::id)
+        .containsExactlyElementsOf(expected);
+    soft.assertThat(CommitLogReadAhead.usedBatches()).isGreaterThan(usedBefore);
+
+    // read-ahead must not go beyond the end-commit
+    ObjId end = expected.get(42);
+    soft.assertThat(newArrayList(commitLogic.commitLog(commitLogQuery(null, tip, end))))
+        .extracting(CommitObj::id)
+        .containsExactlyElementsOf(expected.subList(0, 43));
+
+    // consumer stopping early
+    PagedResult<CommitObj, ObjId> iter = commitLogic.commitLog(commitLogQuery(tip));
+    soft.assertThat(iter.next().id()).isEqualTo(tip);
+
+    // start in the middle
+    soft.assertThat(newArrayList(commitLogic.commitLog(commitLogQuery(expected.get(77)))))
+        .extracting(CommitObj::id)
+        .containsExactlyElementsOf(expected.subList(77, expected.size()));
+  }
+
   @Test
   public void commitIdLog() throws Exception {
     CommitLogic commitLogic = commitLogic(persist);
@@ -18,9 +18,16 @@ package org.projectnessie.versioned.storage.common.indexes;
 import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.projectnessie.versioned.storage.common.indexes.StoreIndexElement.indexElement;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.newStoreIndex;
+import static org.projectnessie.versioned.storage.common.indexes.StoreKey.key;
 import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.commitOp;
 import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -74,6 +81,54 @@ public class RandomUuidKeyIndexImplBench {
     }
   }
 
+  /**
+   * Keys in random order for insert/remove workloads, which mutate the index, so each thread needs
+   * its own state.
+   */
+  @State(Scope.Thread)
+  public static class MutationParam {
+
+    @Param({"100000", "1000000"})
+    public int mutationKeys;
+
+    List<StoreKey> insertOrder;
+    List<StoreKey> removeOrder;
+    CommitOp content;
+
+    @Setup
+    public void init() {
+      Random random = new Random(mutationKeys);
+      insertOrder = new ArrayList<>(mutationKeys);
+      for (int i = 0; i < mutationKeys; i++) {
+        insertOrder.add(key(new UUID(random.nextLong(), random.nextLong()).toString()));
+      }
+      removeOrder = new ArrayList<>(insertOrder);
+      Collections.shuffle(removeOrder, random);
+      content = commitOp(Action.ADD, 1, randomObjId());
+    }
+  }
+
+  @Benchmark
+  public StoreIndex<CommitOp> insertRandomOrder(MutationParam param) {
+    StoreIndex<CommitOp> index = newStoreIndex(CommitOp.COMMIT_OP_SERIALIZER);
+    for (StoreKey key : param.insertOrder) {
+      index.add(indexElement(key, param.content));
+    }
+    return index;
+  }
+
+  @Benchmark
+  public StoreIndex<CommitOp> insertRemoveRandomOrder(MutationParam param) {
+    StoreIndex<CommitOp> index = newStoreIndex(CommitOp.COMMIT_OP_SERIALIZER);
+    for (StoreKey key : param.insertOrder) {
+      index.add(indexElement(key, param.content));
+    }
+    for (StoreKey key : param.removeOrder) {
+      index.remove(key);
+    }
+    return index;
+  }
+
   @Benchmark
   public void serialize(BenchmarkParam param, Blackhole bh) {
     bh.consume(param.keyIndexTestSet.serialize());
@@ -18,12 +18,17 @@ package org.projectnessie.versioned.storage.common.indexes;
 import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.projectnessie.versioned.storage.common.indexes.StoreIndexElement.indexElement;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.newStoreIndex;
 import static org.projectnessie.versioned.storage.common.indexes.StoreKey.key;
 import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.Action.ADD;
 import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.commitOp;
 import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -91,6 +96,63 @@ public class RealisticKeyIndexImplBench {
     }
   }
 
+  /**
+   * Keys in random order for insert/remove workloads, which mutate the index, so each thread needs
+   * its own state. 10 folders per level and 100 tables per namespace generate 100k keys for 3
+   * namespace levels and 1M keys for 4 namespace levels.
+   */
+  @State(Scope.Thread)
+  public static class MutationParam {
+
+    @Param({"3", "4"})
+    public int mutationNamespaceLevels;
+
+    List<StoreKey> insertOrder;
+    List<StoreKey> removeOrder;
+    CommitOp content;
+
+    @Setup
+    public void init() {
+      List<StoreKey> keys =
+          ImmutableRealisticKeySet.builder()
+              .namespaceLevels(mutationNamespaceLevels)
+              .foldersPerLevel(10)
+              .tablesPerNamespace(100)
+              .deterministic(true)
+              .build()
+              .keys();
+      Random random = new Random(mutationNamespaceLevels);
+      insertOrder = new ArrayList<>(keys);
+      Collections.shuffle(insertOrder, random);
+      removeOrder = new ArrayList<>(keys);
+      Collections.shuffle(removeOrder, random);
+      content = commitOp(ADD, 1, randomObjId());
+
+      System.err.printf("%nNumber of keys for insert/remove: %d%n", keys.size());
+    }
+  }
+
+  @Benchmark
+  public StoreIndex<CommitOp> insertRandomOrder(MutationParam param) {
+    StoreIndex<CommitOp> index = newStoreIndex(CommitOp.COMMIT_OP_SERIALIZER);
+    for (StoreKey key : param.insertOrder) {
+      index.add(indexElement(key, param.content));
+    }
+    return index;
+  }
+
+  @Benchmark
+  public StoreIndex<CommitOp> insertRemoveRandomOrder(MutationParam param) {
+    StoreIndex<CommitOp> index = newStoreIndex(CommitOp.COMMIT_OP_SERIALIZER);
+    for (StoreKey key : param.insertOrder) {
+      index.add(indexElement(key, param.content));
+    }
+    for (StoreKey key : param.removeOrder) {
+      index.remove(key);
+    }
+    return index;
+  }
+
   @Benchmark
   public Object serializeUnmodifiedIndex(BenchmarkParam param) {
     return param.keyIndexTestSet.serialize();
@@ -69,6 +69,12 @@ public interface StoreConfig {
   String CONFIG_PREVIOUS_HEAD_TIME_SPAN_SECONDS = "ref-previous-head-time-span-seconds";
   long DEFAULT_PREVIOUS_HEAD_TIME_SPAN_SECONDS = 5 * 60;
 
+  String CONFIG_COMMIT_COMBINING_MAX_COMMITS = "commit-combining-max-commits";
+  int DEFAULT_COMMIT_COMBINING_MAX_COMMITS = 0;
+
+  String CONFIG_COMMIT_LOG_READ_AHEAD = "commit-log-read-ahead";
+  int DEFAULT_COMMIT_LOG_READ_AHEAD = 0;
+
   String CONFIG_REFERENCE_CACHE_TTL = "reference-cache-ttl";
 
   String CONFIG_REFERENCE_NEGATIVE_CACHE_TTL = "reference-cache-negative-ttl";
@@ -257,6 +263,40 @@ public interface StoreConfig {
     return DEFAULT_PREVIOUS_HEAD_TIME_SPAN_SECONDS;
   }
 
+  /**
+   * Maximum number of concurrent commits against the same branch that are combined into a single
+   * update of the branch's HEAD. Values less than 2 disable commit combining, which is the
+   * default.
+   *
+   * <p>When enabled, concurrent commits on the same Nessie instance against the same branch are
+   * queued and chained onto each other, each commit is still validated individually and gets its
+   * own commit ID and conflict result. This significantly reduces the amount of commit retries
+   * for "hot" branches with many concurrent writers.
+   */
+  @Value.Default
+  default int commitCombiningMaxCommits() {
+    return DEFAULT_COMMIT_COMBINING_MAX_COMMITS;
+  }
+
+  /**
+   * Number of commit log batches, each being the tail of the last commit of the previous batch,
+   * that are fetched in the background while a commit log is being consumed. Valid values are 0,
+   * 1 and 2, 0 is the default.
+   *
+   * <p>Database implementations with an actually asynchronous {@code Persist.async()} facet always
+   * read ahead at least one batch, because that does not occupy any additional thread. 0 only
+   * disables the read-ahead for database implementations without an asynchronous facet.
+   *
+   * <p>Read-ahead reduces the latency of long commit log traversals, for example exports or
+   * listing the whole commit log, at the cost of fetching batches that are not needed, if the
+   * consumer stops early. The {@code CommitLogReadAhead} counters tell whether read-ahead batches
+   * were actually used.
+   */
+  @Value.Default
+  default int commitLogReadAhead() {
+    return DEFAULT_COMMIT_LOG_READ_AHEAD;
+  }
+
   /**
    * Defines the duration how long references shall be kept in the cache. Defaults to not cache
    * references. If reference caching is enabled, it is highly recommended to also enable negative
@@ -374,6 +414,14 @@ public interface StoreConfig {
       if (v != null) {
         a = a.withReferencePreviousHeadTimeSpanSeconds(Long.parseLong(v.trim()));
       }
+      v = configFunction.apply(CONFIG_COMMIT_COMBINING_MAX_COMMITS);
+      if (v != null) {
+        a = a.withCommitCombiningMaxCommits(Integer.parseInt(v.trim()));
+      }
+      v = configFunction.apply(CONFIG_COMMIT_LOG_READ_AHEAD);
+      if (v != null) {
+        a = a.withCommitLogReadAhead(Integer.parseInt(v.trim()));
+      }
       v = configFunction.apply(CONFIG_REFERENCE_CACHE_TTL);
       if (v != null) {
         a = a.withReferenceCacheTtl(Duration.parse(v.trim()));
@@ -428,6 +476,12 @@ public interface StoreConfig {
 
     Adjustable withReferencePreviousHeadTimeSpanSeconds(long referencePreviousHeadTimeSpanSeconds);
 
+    /** See {@link StoreConfig#commitCombiningMaxCommits()}. */
+    Adjustable withCommitCombiningMaxCommits(int commitCombiningMaxCommits);
+
+    /** See {@link StoreConfig#commitLogReadAhead()}. */
+    Adjustable withCommitLogReadAhead(int commitLogReadAhead);
+
     /** See {@link StoreConfig#referenceCacheTtl()}. */
     Adjustable withReferenceCacheTtl(Duration referenceCacheTtl);
 
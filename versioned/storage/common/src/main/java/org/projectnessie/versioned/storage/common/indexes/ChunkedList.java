@@ -0,0 +1,353 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.indexes;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.function.ToIntFunction;
+
+/**
+ * A {@link java.util.List} implementation that holds its elements in a sequence of bounded-size
+ * chunks, used by {@link StoreIndexImpl} to hold its elements.
+ *
+ * <p>Inserting or removing an element "in the middle" of a {@link ArrayList} has to shift all
+ * following elements, which is {@code O(n)} and dominates building large indexes, for example
+ * during big merges or imports. This implementation only has to shift the elements within a single
+ * chunk and update the chunk offsets, which is {@code O(n / MAX_CHUNK_SIZE + MAX_CHUNK_SIZE)}.
+ * Chunks are split in halves when they exceed {@link #MAX_CHUNK_SIZE} elements, empty chunks are
+ * removed.
+ *
+ * <p>Positional access needs a binary search over the chunk offsets. Sequential access via {@link
+ * #iterator()} and {@link #iterator(int, int)} and the key lookups via {@link #binarySearch(Object,
+ * Comparator)} and {@link #binarySearch(ToIntFunction)} are aware of the chunks and do not need
+ * positional access.
+ *
+ * <p>Appending elements, which is what deserialization does, fills chunks completely.
+ *
+ * <p>This class is not thread safe.
+ */
+final class ChunkedList<E> extends AbstractList<E> implements RandomAccess {
+
+  static final int MAX_CHUNK_SIZE = 512;
+
+  /** The chunks, only the first {@link #chunkCount} entries are used. */
+  private Object[][] chunks;
+
+  /** Number of elements in each chunk. */
+  private int[] chunkSizes;
+
+  /** Index of the first element of each chunk. */
+  private int[] chunkOffsets;
+
+  private int chunkCount;
+  private int size;
+
+  ChunkedList() {
+    this(0);
+  }
+
+  ChunkedList(int expectedSize) {
+    int initialChunks = Math.max(1, (expectedSize + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE);
+    this.chunks = new Object[initialChunks][];
+    this.chunkSizes = new int[initialChunks];
+    this.chunkOffsets = new int[initialChunks];
+  }
+
+  ChunkedList(Collection<? extends E> source) {
+    this(source.size());
+    for (E e : source) {
+      add(e);
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public E get(int index) {
+    checkIndex(index, size);
+    int chunk = chunkForIndex(index);
+    return elementAt(chunk, index - chunkOffsets[chunk]);
+  }
+
+  @Override
+  public E set(int index, E element) {
+    checkIndex(index, size);
+    int chunk = chunkForIndex(index);
+    Object[] c = chunks[chunk];
+    int pos = index - chunkOffsets[chunk];
+    @SuppressWarnings("unchecked")
+    E previous = (E) c[pos];
+    c[pos] = element;
+    return previous;
+  }
+
+  @Override
+  public boolean add(E element) {
+    int last = chunkCount - 1;
+    if (last < 0 || chunkSizes[last] == MAX_CHUNK_SIZE) {
+      last = insertChunk(chunkCount, new Object[MAX_CHUNK_SIZE], 0);
+    }
+    Object[] c = chunks[last];
+    c[chunkSizes[last]++] = element;
+    size++;
+    modCount++;
+    return true;
+  }
+
+  @Override
+  public void add(int index, E element) {
+    checkIndex(index, size + 1);
+    if (index == size) {
+      add(element);
+      return;
+    }
+
+    int chunk = chunkForIndex(index);
+    int pos = index - chunkOffsets[chunk];
+    if (chunkSizes[chunk] == MAX_CHUNK_SIZE) {
+      // Split the full chunk in halves
+      int half = MAX_CHUNK_SIZE / 2;
+      Object[] c = chunks[chunk];
+      Object[] upper = new Object[MAX_CHUNK_SIZE];
+      System.arraycopy(c, half, upper, 0, MAX_CHUNK_SIZE - half);
+      Arrays.fill(c, half, MAX_CHUNK_SIZE, null);
+      chunkSizes[chunk] = half;
+      insertChunk(chunk + 1, upper, MAX_CHUNK_SIZE - half);
+      if (pos > half) {
+        chunk++;
+        pos -= half;
+      }
+    }
+
+    // All chunk arrays have a length of MAX_CHUNK_SIZE
+    Object[] c = chunks[chunk];
+    int chunkSize = chunkSizes[chunk];
+    System.arraycopy(c, pos, c, pos + 1, chunkSize - pos);
+    c[pos] = element;
+    chunkSizes[chunk]++;
+    adjustOffsets(chunk + 1, 1);
+    size++;
+    modCount++;
+  }
+
+  @Override
+  public E remove(int index) {
+    checkIndex(index, size);
+    int chunk = chunkForIndex(index);
+    int pos = index - chunkOffsets[chunk];
+    Object[] c = chunks[chunk];
+    @SuppressWarnings("unchecked")
+    E removed = (E) c[pos];
+    int chunkSize = --chunkSizes[chunk];
+    if (chunkSize == 0) {
+      removeChunk(chunk);
+    } else {
+      System.arraycopy(c, pos + 1, c, pos, chunkSize - pos);
+      c[chunkSize] = null;
+      adjustOffsets(chunk + 1, -1);
+    }
+    size--;
+    modCount++;
+    return removed;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(chunks, 0, chunkCount, null);
+    chunkCount = 0;
+    size = 0;
+    modCount++;
+  }
+
+  /**
+   * Same contract as {@link java.util.Collections#binarySearch(java.util.List, Object,
+   * Comparator)}, but first searches the chunk that may contain the key and then searches within
+   * that chunk.
+   */
+  int binarySearch(E key, Comparator<? super E> comparator) {
+    return binarySearch(element -> comparator.compare(element, key));
+  }
+
+  /**
+   * Variant of {@link #binarySearch(Object, Comparator)} for callers that can compare an element
+   * against the searched key without having an element instance for the key.
+   *
+   * @param compareToKey returns a negative integer, zero, or a positive integer as the given
+   *     element is less than, equal to, or greater than the searched key
+   */
+  int binarySearch(ToIntFunction<? super E> compareToKey) {
+    // Find the first chunk whose last element is >= key
+    int low = 0;
+    int high = chunkCount - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int cmp = compareToKey.applyAsInt(elementAt(mid, chunkSizes[mid] - 1));
+      if (cmp < 0) {
+        low = mid + 1;
+      } else if (cmp > 0) {
+        high = mid - 1;
+      } else {
+        return chunkOffsets[mid] + chunkSizes[mid] - 1;
+      }
+    }
+    int chunk = low;
+    if (chunk == chunkCount) {
+      return -(size + 1);
+    }
+
+    low = 0;
+    high = chunkSizes[chunk] - 2; // last element already compared above
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int cmp = compareToKey.applyAsInt(elementAt(chunk, mid));
+      if (cmp < 0) {
+        low = mid + 1;
+      } else if (cmp > 0) {
+        high = mid - 1;
+      } else {
+        return chunkOffsets[chunk] + mid;
+      }
+    }
+    return -(chunkOffsets[chunk] + low + 1);
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return iterator(0, size);
+  }
+
+  /**
+   * Returns an iterator over the elements from index {@code fromIndex} (inclusive) to {@code
+   * toIndex} (exclusive). The returned iterator does not support {@link Iterator#remove()}.
+   */
+  Iterator<E> iterator(int fromIndex, int toIndex) {
+    checkArgument(
+        fromIndex >= 0 && fromIndex <= toIndex && toIndex <= size,
+        "Illegal range %s..%s for size %s",
+        fromIndex,
+        toIndex,
+        size);
+    int startChunk = fromIndex < size ? chunkForIndex(fromIndex) : chunkCount;
+    int startPos = fromIndex < size ? fromIndex - chunkOffsets[startChunk] : 0;
+    int expectedModCount = modCount;
+    return new Iterator<>() {
+      int remaining = toIndex - fromIndex;
+      int chunk = startChunk;
+      int pos = startPos;
+
+      @Override
+      public boolean hasNext() {
+        return remaining > 0;
+      }
+
+      @Override
+      public E next() {
+        if (remaining <= 0) {
+          throw new NoSuchElementException();
+        }
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+        if (pos == chunkSizes[chunk]) {
+          chunk++;
+          pos = 0;
+        }
+        remaining--;
+        return elementAt(chunk, pos++);
+      }
+    };
+  }
+
+  @VisibleForTesting
+  int chunkCount() {
+    return chunkCount;
+  }
+
+  @SuppressWarnings("unchecked")
+  private E elementAt(int chunk, int pos) {
+    return (E) chunks[chunk][pos];
+  }
+
+  /** Returns the index of the chunk that contains the element at the given index. */
+  private int chunkForIndex(int index) {
+    int[] offsets = chunkOffsets;
+    int low = 0;
+    int high = chunkCount - 1;
+    while (low < high) {
+      int mid = (low + high + 1) >>> 1;
+      if (offsets[mid] <= index) {
+        low = mid;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return low;
+  }
+
+  private int insertChunk(int chunk, Object[] elements, int elementCount) {
+    if (chunkCount == chunks.length) {
+      int newLength = chunks.length + (chunks.length >> 1) + 1;
+      chunks = Arrays.copyOf(chunks, newLength);
+      chunkSizes = Arrays.copyOf(chunkSizes, newLength);
+      chunkOffsets = Arrays.copyOf(chunkOffsets, newLength);
+    }
+    int move = chunkCount - chunk;
+    System.arraycopy(chunks, chunk, chunks, chunk + 1, move);
+    System.arraycopy(chunkSizes, chunk, chunkSizes, chunk + 1, move);
+    System.arraycopy(chunkOffsets, chunk, chunkOffsets, chunk + 1, move);
+    chunks[chunk] = elements;
+    chunkSizes[chunk] = elementCount;
+    chunkOffsets[chunk] = chunk > 0 ? chunkOffsets[chunk - 1] + chunkSizes[chunk - 1] : 0;
+    chunkCount++;
+    return chunk;
+  }
+
+  private void removeChunk(int chunk) {
+    int move = chunkCount - chunk - 1;
+    System.arraycopy(chunks, chunk + 1, chunks, chunk, move);
+    System.arraycopy(chunkSizes, chunk + 1, chunkSizes, chunk, move);
+    System.arraycopy(chunkOffsets, chunk + 1, chunkOffsets, chunk, move);
+    chunkCount--;
+    chunks[chunkCount] = null;
+    adjustOffsets(chunk, -1);
+  }
+
+  private void adjustOffsets(int fromChunk, int delta) {
+    int[] offsets = chunkOffsets;
+    for (int i = fromChunk; i < chunkCount; i++) {
+      offsets[i] += delta;
+    }
+  }
+
+  private static void checkIndex(int index, int size) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+    }
+  }
+}
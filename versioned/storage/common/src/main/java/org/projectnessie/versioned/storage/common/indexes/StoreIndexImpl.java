@@ -17,7 +17,6 @@ package org.projectnessie.versioned.storage.common.indexes;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
-import static java.util.Collections.binarySearch;
 import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
 import static org.projectnessie.nessie.relocated.protobuf.UnsafeByteOperations.unsafeWrap;
@@ -40,6 +39,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import org.projectnessie.nessie.relocated.protobuf.ByteString;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
 
@@ -77,6 +77,12 @@ import org.projectnessie.versioned.storage.common.persist.ObjId;
  *
  * <p>This implementation is just an idea, not an actual proposal.
  *
+ * <p>Elements of a deserialized index are lazy, the {@link StoreKey} and the value of an element
+ * are only materialized when accessed. Key lookups ({@link #get(StoreKey)}, {@link
+ * #contains(StoreKey)}, etc.) compare the searched key directly against the serialized
+ * representation of the elements' keys, so a point lookup does not materialize any key except
+ * when the caller accesses the found element.
+ *
  * <h2>Other ideas</h2>
  *
  * <p>There are other possible ideas and approaches to implement a serializable index of {@link
@@ -97,7 +103,9 @@ import org.projectnessie.versioned.storage.common.persist.ObjId;
  *       might save one (or two) row reads of a bulk read. The savings do not feel worth the extra
  *       complexity.
  *   <li>Have another implementation that is similar to this one, but uses a {@link
- *       java.util.TreeMap} to build indexes, when there are many elements to add to the index
+ *       java.util.TreeMap} to build indexes, when there are many elements to add to the index.
+ *       <em>Elements are held in a {@link ChunkedList}, which makes adding elements "in the
+ *       middle" of large indexes cheap, without the need for another implementation.</em>
  *   <li>Cross check whether the left-truncation used in the serialized representation of this
  *       implementation is really legit in real life. <em>It still feels valid and legit and
  *       efficient.</em>
@@ -133,7 +141,7 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
   private final int originalSerializedSize;
 
   private int estimatedSerializedSizeDiff;
-  private final List<StoreIndexElement<V>> elements;
+  private final ChunkedList<StoreIndexElement<V>> elements;
   private final ElementSerializer<V> serializer;
 
   /**
@@ -150,19 +158,21 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
    */
   private final ByteBuffer scratchKeyBuffer = newKeyBuffer();
 
+  private final KeySearch keySearch = new KeySearch();
+
   private boolean modified;
   private ObjId objId;
 
-  // NOTE: The implementation uses j.u.ArrayList to optimize for reads. Additions to this data
-  // structure are rather inefficient, when elements need to be added "in the middle" of the
-  // 'elements' j.u.ArrayList.
+  // NOTE: The implementation uses a ChunkedList, which is optimized for reads like a
+  // j.u.ArrayList, but only has to shift the elements of a single chunk when elements are added
+  // "in the middle" of the 'elements' list.
 
   StoreIndexImpl(ElementSerializer<V> serializer) {
-    this(new ArrayList<>(), 2, serializer, false);
+    this(new ChunkedList<>(), 2, serializer, false);
   }
 
   private StoreIndexImpl(
-      List<StoreIndexElement<V>> elements,
+      ChunkedList<StoreIndexElement<V>> elements,
       int originalSerializedSize,
       ElementSerializer<V> serializer,
       boolean modified) {
@@ -217,7 +227,7 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
 
   @Override
   public List<StoreIndex<V>> divide(int parts) {
-    List<StoreIndexElement<V>> elems = elements;
+    ChunkedList<StoreIndexElement<V>> elems = elements;
     int size = elems.size();
     checkArgument(
         parts > 0 && parts <= size,
@@ -231,7 +241,8 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
     int index = 0;
     for (int i = 0; i < parts; i++) {
       int end = i < parts - 1 ? index + partSize : elems.size();
-      List<StoreIndexElement<V>> partElements = new ArrayList<>(elements.subList(index, end));
+      ChunkedList<StoreIndexElement<V>> partElements =
+          new ChunkedList<>(elements.subList(index, end));
       StoreIndexImpl<V> part = new StoreIndexImpl<>(partElements, serializedMax, serializer, true);
       result.add(part);
       index = end;
@@ -251,7 +262,7 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
 
   @Override
   public void updateAll(Function<StoreIndexElement<V>, V> updater) {
-    List<StoreIndexElement<V>> e = elements;
+    ChunkedList<StoreIndexElement<V>> e = elements;
     ElementSerializer<V> serializer = this.serializer;
     int size = e.size();
     for (int i = 0; i < size; i++) {
@@ -276,9 +287,9 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
   @Override
   public boolean add(@Nonnull StoreIndexElement<V> element) {
     modified = true;
-    List<StoreIndexElement<V>> e = elements;
+    ChunkedList<StoreIndexElement<V>> e = elements;
     ElementSerializer<V> serializer = this.serializer;
-    int idx = search(e, element);
+    int idx = search(element.key());
     int elementSerializedSize = element.contentSerializedSize(serializer);
     if (idx >= 0) {
       // exact match, key already in segment
@@ -308,8 +319,8 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
 
   @Override
   public boolean remove(@Nonnull StoreKey key) {
-    List<StoreIndexElement<V>> e = elements;
-    int idx = search(e, key);
+    ChunkedList<StoreIndexElement<V>> e = elements;
+    int idx = search(key);
     if (idx < 0) {
       return false;
     }
@@ -329,14 +340,14 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
 
   @Override
   public boolean contains(@Nonnull StoreKey key) {
-    int idx = search(elements, key);
+    int idx = search(key);
     return idx >= 0;
   }
 
   @Override
   public @Nullable StoreIndexElement<V> get(@Nonnull StoreKey key) {
-    List<StoreIndexElement<V>> e = elements;
-    int idx = search(e, key);
+    ChunkedList<StoreIndexElement<V>> e = elements;
+    int idx = search(key);
     if (idx < 0) {
       return null;
     }
@@ -346,21 +357,21 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
   @Nullable
   @Override
   public StoreKey first() {
-    List<StoreIndexElement<V>> e = elements;
+    ChunkedList<StoreIndexElement<V>> e = elements;
     return e.isEmpty() ? null : e.get(0).key();
   }
 
   @Nullable
   @Override
   public StoreKey last() {
-    List<StoreIndexElement<V>> e = elements;
+    ChunkedList<StoreIndexElement<V>> e = elements;
     return e.isEmpty() ? null : e.get(e.size() - 1).key();
   }
 
   @Override
   public @Nonnull Iterator<StoreIndexElement<V>> iterator(
       @Nullable StoreKey begin, @Nullable StoreKey end, boolean prefetch) {
-    List<StoreIndexElement<V>> e = elements;
+    ChunkedList<StoreIndexElement<V>> e = elements;
 
     if (begin == null && end == null) {
       return e.iterator();
@@ -372,8 +383,7 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
 
     checkArgument(toIdx >= fromIdx, "'to' must be greater than 'from'");
 
-    e = e.subList(fromIdx, toIdx);
-    Iterator<StoreIndexElement<V>> base = e.iterator();
+    Iterator<StoreIndexElement<V>> base = e.iterator(fromIdx, toIdx);
     return prefix
         ? new AbstractIterator<>() {
 
@@ -393,7 +403,7 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
   }
 
   private int iteratorIndex(StoreKey from, int exactAdd) {
-    int fromIdx = search(elements, from);
+    int fromIdx = search(from);
     if (fromIdx < 0) {
       fromIdx = -fromIdx - 1;
     } else {
@@ -471,7 +481,7 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
       @SuppressWarnings("UnnecessaryLocalVariable")
       ElementSerializer<V> ser = serializer;
 
-      List<StoreIndexElement<V>> elements = this.elements;
+      ChunkedList<StoreIndexElement<V>> elements = this.elements;
       boolean onlyLazy;
       StoreIndexElement<V> previous = null;
       for (StoreIndexElement<V> el : elements) {
@@ -555,8 +565,8 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
     checkArgument(
         version == 1 || version == 2, "Unsupported serialized representation of KeyIndexSegment");
 
-    List<StoreIndexElement<V>> elements =
-        version >= 2 ? new ArrayList<>(readVarInt(serialized)) : new ArrayList<>();
+    ChunkedList<StoreIndexElement<V>> elements =
+        version >= 2 ? new ChunkedList<>(readVarInt(serialized)) : new ChunkedList<>();
 
     boolean first = true;
     int previousKeyLen = 0;
@@ -724,6 +734,79 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
       return deserializeKey(keyBuffer);
     }
 
+    /**
+     * Compares this element's key with the given {@linkplain StoreKey#rawString() raw key string},
+     * with the same sign as {@link StoreKey#compareTo(StoreKey)}, without materializing this
+     * element's {@link StoreKey}.
+     *
+     * <p>The serialized key bytes are decoded on the fly and compared {@code char} by {@code char}
+     * against {@code rawKey}. Comparing the UTF-8 bytes directly would not be correct, because the
+     * order of UTF-8 byte sequences differs from the order of the UTF-16 representation of {@link
+     * String}s for supplementary code points.
+     */
+    int compareKey(String rawKey) {
+      StoreKey k = key;
+      if (k != null) {
+        return k.rawString().compareTo(rawKey);
+      }
+
+      StoreIndexImpl<V> index = StoreIndexImpl.this;
+      ByteBuffer serialized = requireNonNull(index.serialized);
+      serialized.limit(valueOffset);
+
+      int preLen = prefixLen;
+      ByteBuffer prefix = preLen > 0 ? prefixKey(serialized, this, preLen) : null;
+      // The byte at index 'i' (i >= preLen) of the key is at 'serialized[suffixOffset + i]'
+      int suffixOffset = keyOffset - preLen;
+      // Number of bytes of the key, excluding the two trailing 0 bytes
+      int len = preLen + valueOffset - keyOffset - 2;
+
+      int rawLen = rawKey.length();
+      int r = 0;
+      char pendingLowSurrogate = 0;
+      for (int i = 0; ; r++) {
+        char c;
+        if (pendingLowSurrogate != 0) {
+          c = pendingLowSurrogate;
+          pendingLowSurrogate = 0;
+        } else if (i == len) {
+          return r == rawLen ? 0 : -1;
+        } else {
+          int b = keyByte(prefix, preLen, serialized, suffixOffset, i++);
+          if (b < 0x80) {
+            c = (char) b;
+          } else if (b < 0xe0) {
+            c =
+                (char)
+                    ((b & 0x1f) << 6
+                        | keyByte(prefix, preLen, serialized, suffixOffset, i++) & 0x3f);
+          } else if (b < 0xf0) {
+            c =
+                (char)
+                    ((b & 0x0f) << 12
+                        | (keyByte(prefix, preLen, serialized, suffixOffset, i++) & 0x3f) << 6
+                        | keyByte(prefix, preLen, serialized, suffixOffset, i++) & 0x3f);
+          } else {
+            int codePoint =
+                (b & 0x07) << 18
+                    | (keyByte(prefix, preLen, serialized, suffixOffset, i++) & 0x3f) << 12
+                    | (keyByte(prefix, preLen, serialized, suffixOffset, i++) & 0x3f) << 6
+                    | keyByte(prefix, preLen, serialized, suffixOffset, i++) & 0x3f;
+            c = Character.highSurrogate(codePoint);
+            pendingLowSurrogate = Character.lowSurrogate(codePoint);
+          }
+        }
+
+        if (r == rawLen) {
+          return 1;
+        }
+        char rc = rawKey.charAt(r);
+        if (c != rc) {
+          return c - rc;
+        }
+      }
+    }
+
     private ByteBuffer prefixKey(ByteBuffer serialized, LazyStoreIndexElement me, int remaining) {
       ByteBuffer keyBuffer = StoreIndexImpl.this.scratchKeyBuffer.clear();
 
@@ -821,6 +904,16 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
     }
   }
 
+  /**
+   * Returns the unsigned byte at index {@code i} of a key, whose first {@code preLen} bytes are in
+   * {@code prefix} and the remaining bytes in {@code serialized} starting at {@code suffixOffset +
+   * preLen}.
+   */
+  private static int keyByte(
+      ByteBuffer prefix, int preLen, ByteBuffer serialized, int suffixOffset, int i) {
+    return (i < preLen ? prefix.get(i) : serialized.get(suffixOffset + i)) & 0xff;
+  }
+
   @VisibleForTesting
   static int serializedSize(StoreKey key) {
     // 1st byte: number of elements
@@ -834,12 +927,38 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
     return ByteBuffer.allocate(MAX_KEY_BYTES);
   }
 
-  private static <V> int search(List<StoreIndexElement<V>> e, @Nonnull StoreKey key) {
-    // Need a StoreIndexElement for the sake of 'binarySearch()' (the content value isn't used)
-    return search(e, indexElement(key, ""));
+  /**
+   * Binary search for the given key, same contract as {@link
+   * java.util.Collections#binarySearch(List, Object, Comparator)}.
+   *
+   * <p>Keys of {@link LazyStoreIndexElement}s are not materialized, those are compared against
+   * their serialized representation, see {@link LazyStoreIndexElement#compareKey(String)}.
+   */
+  private int search(@Nonnull StoreKey key) {
+    KeySearch s = keySearch;
+    s.rawKey = key.rawString();
+    try {
+      return elements.binarySearch(s);
+    } finally {
+      s.rawKey = null;
+    }
   }
 
-  private static <V> int search(List<StoreIndexElement<V>> e, StoreIndexElement<?> element) {
-    return binarySearch(e, element, KEY_COMPARATOR);
+  /**
+   * Compares an index element's key against {@link #rawKey}. There is one instance per {@link
+   * StoreIndexImpl}, which is not thread safe, so searches do not need to allocate a comparator or
+   * a "search element".
+   */
+  private final class KeySearch implements ToIntFunction<StoreIndexElement<V>> {
+    String rawKey;
+
+    @Override
+    public int applyAsInt(StoreIndexElement<V> el) {
+      if (el.getClass() == LazyStoreIndexElement.class) {
+        LazyStoreIndexElement lazyEl = (LazyStoreIndexElement) el;
+        return lazyEl.compareKey(rawKey);
+      }
+      return el.key().rawString().compareTo(rawKey);
+    }
   }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.logic;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared state for the commit log read-ahead, see {@link
+ * org.projectnessie.versioned.storage.common.config.StoreConfig#commitLogReadAhead()}.
+ *
+ * <p>Provides the counters that tell whether the read-ahead is useful. A high number of {@link
+ * #issuedBatches() issued} batches compared to the number of {@link #usedBatches() used} batches
+ * means that commit log consumers often stop before reaching the prefetched batches.
+ */
+public final class CommitLogReadAhead {
+
+  /** Maximum number of batches that are read ahead of the currently consumed batch. */
+  public static final int MAX_READ_AHEAD_BATCHES = 2;
+
+  private static final LongAdder ISSUED = new LongAdder();
+  private static final LongAdder USED = new LongAdder();
+  private static final LongAdder DISCARDED = new LongAdder();
+  private static final LongAdder REJECTED = new LongAdder();
+
+  private CommitLogReadAhead() {}
+
+  /** Number of commit log batches that have been requested ahead of time. */
+  public static long issuedBatches() {
+    return ISSUED.sum();
+  }
+
+  /** Number of read-ahead batches that have been consumed by a commit log iterator. */
+  public static long usedBatches() {
+    return USED.sum();
+  }
+
+  /**
+   * Number of read-ahead batches that have been discarded, because they did not match the commits
+   * the iterator needed or because the read-ahead failed.
+   */
+  public static long discardedBatches() {
+    return DISCARDED.sum();
+  }
+
+  /**
+   * Number of read-ahead batches that have not been issued, because all read-ahead threads were
+   * busy.
+   */
+  public static long rejectedBatches() {
+    return REJECTED.sum();
+  }
+
+  static void issued() {
+    ISSUED.increment();
+  }
+
+  static void used() {
+    USED.increment();
+  }
+
+  static void discarded() {
+    DISCARDED.increment();
+  }
+
+  static void rejected() {
+    REJECTED.increment();
+  }
+
+  static int effectiveReadAhead(int configured) {
+    return Math.max(0, Math.min(configured, MAX_READ_AHEAD_BATCHES));
+  }
+
+  /**
+   * Executor for read-ahead against {@code Persist} implementations without an actually
+   * asynchronous facet. The number of threads is bounded and there is no queue, read-ahead
+   * requests are rejected if all threads are busy.
+   */
+  static ExecutorService executor() {
+    return ExecutorHolder.EXECUTOR;
+  }
+
+  private static final class ExecutorHolder {
+    static final ExecutorService EXECUTOR = newExecutor();
+
+    private static ExecutorService newExecutor() {
+      AtomicInteger threadNum = new AtomicInteger();
+      ThreadFactory threadFactory =
+          r -> {
+            Thread t = new Thread(r, "nessie-commit-log-read-ahead-" + threadNum.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+          };
+      int maxThreads = Math.max(2, Runtime.getRuntime().availableProcessors());
+      return new ThreadPoolExecutor(
+          0, maxThreads, 30, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory);
+    }
+  }
+}
@@ -53,6 +53,7 @@ import com.google.common.collect.AbstractIterator;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotNull;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -65,6 +66,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -84,6 +87,7 @@ import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
 import org.projectnessie.versioned.storage.common.objtypes.CommitOp.Action;
 import org.projectnessie.versioned.storage.common.objtypes.CommitType;
 import org.projectnessie.versioned.storage.common.objtypes.IndexStripe;
+import org.projectnessie.versioned.storage.common.persist.AsyncPersist;
 import org.projectnessie.versioned.storage.common.persist.CloseableIterator;
 import org.projectnessie.versioned.storage.common.persist.Obj;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
@@ -119,16 +123,44 @@ final class CommitLogicImpl implements CommitLogic {
     return new CommitLogIter(startCommitId, commitLogQuery.endCommitId().orElse(null));
   }
 
+  /**
+   * Iterates over the commit log, fetching the {@link CommitObj#tail() tail} of the last commit of
+   * the current batch as the next batch.
+   *
+   * <p>If the {@link Persist#async() asynchronous facet} is actually asynchronous, the next batch
+   * is requested as soon as the current batch has been fetched, so that the database round-trip
+   * overlaps with the consumption of the current batch.
+   *
+   * <p>If {@link StoreConfig#commitLogReadAhead()} is enabled, up to that many batches are
+   * requested ahead of the current batch, also for {@link Persist} implementations that are not
+   * asynchronous, using the {@link CommitLogReadAhead#executor() read-ahead executor}.
+   */
   private final class CommitLogIter extends AbstractIterator<CommitObj>
       implements PagedResult<CommitObj, ObjId> {
     private final ObjId endCommitId;
+    private final AsyncPersist async;
+    private final int readAhead;
 
     private Iterator<Obj> batch;
     private List<ObjId> next;
 
+    /** Batches requested ahead of time, at most {@link #readAhead} entries. */
+    private final ArrayDeque<CompletableFuture<Obj[]>> readAheadBatches;
+
     CommitLogIter(ObjId startCommitId, ObjId endCommitId) {
       this.next = singletonList(startCommitId);
       this.endCommitId = endCommitId;
+      AsyncPersist async = persist.async();
+      int readAhead = CommitLogReadAhead.effectiveReadAhead(persist.config().commitLogReadAhead());
+      if (async.isAsynchronous()) {
+        this.async = async;
+        // read-ahead against an asynchronous facet does not occupy a thread, always use it
+        this.readAhead = Math.max(1, readAhead);
+      } else {
+        this.async = null;
+        this.readAhead = readAhead;
+      }
+      this.readAheadBatches = new ArrayDeque<>(Math.max(1, this.readAhead));
     }
 
     @Override
@@ -142,25 +174,14 @@ final class CommitLogicImpl implements CommitLogic {
           if (n == null) {
             return endOfData();
           }
-          int i = n.indexOf(EMPTY_OBJ_ID);
-          if (i != -1) {
-            n = n.subList(0, i);
-          }
+          n = idsUntilEmpty(n);
           if (n.isEmpty()) {
             return endOfData();
           }
 
-          try {
-            b = batch = Arrays.asList(persist.fetchObjs(n.toArray(new ObjId[0]))).iterator();
-          } catch (ObjNotFoundException e) {
-            List<ObjId> ids = e.objIds();
-            throw new NoSuchElementException(
-                ids.size() == 1
-                    ? "Commit '" + ids.get(0) + "' not found"
-                    : "Commit(s) "
-                        + ids.stream().map(ObjId::toString).collect(Collectors.joining(", "))
-                        + " not found");
-          }
+          Obj[] objs = fetchBatch(n);
+          b = batch = Arrays.asList(objs).iterator();
+          scheduleReadAhead(objs);
         }
 
         if (b.hasNext()) {
@@ -183,6 +204,142 @@ final class CommitLogicImpl implements CommitLogic {
       }
     }
 
+    private List<ObjId> idsUntilEmpty(List<ObjId> ids) {
+      int i = ids.indexOf(EMPTY_OBJ_ID);
+      return i != -1 ? ids.subList(0, i) : ids;
+    }
+
+    private Obj[] fetchBatch(List<ObjId> ids) {
+      CompletableFuture<Obj[]> readAheadBatch = readAheadBatches.pollFirst();
+      if (readAheadBatch != null) {
+        Obj[] objs = readAheadResult(readAheadBatch, ids);
+        if (objs != null) {
+          CommitLogReadAhead.used();
+          return objs;
+        }
+        // Batches behind a non-matching batch are useless as well.
+        readAheadBatches.clear();
+      }
+
+      try {
+        return persist.fetchObjs(ids.toArray(new ObjId[0]));
+      } catch (ObjNotFoundException e) {
+        throw commitsNotFound(e.objIds());
+      }
+    }
+
+    /**
+     * Returns the result of the given read-ahead batch, if it contains exactly the requested
+     * commits, or {@code null}. Missing commits and failures are left to the synchronous fetch,
+     * which reports those properly.
+     */
+    private Obj[] readAheadResult(CompletableFuture<Obj[]> readAheadBatch, List<ObjId> ids) {
+      Obj[] objs;
+      try {
+        objs = AsyncPersist.awaitResult(readAheadBatch);
+      } catch (RuntimeException e) {
+        CommitLogReadAhead.discarded();
+        return null;
+      }
+      if (objs == null) {
+        // read-ahead has not been issued
+        return null;
+      }
+      if (objs.length != ids.size()) {
+        CommitLogReadAhead.discarded();
+        return null;
+      }
+      for (int i = 0; i < objs.length; i++) {
+        Obj obj = objs[i];
+        if (obj == null || !obj.id().equals(ids.get(i))) {
+          CommitLogReadAhead.discarded();
+          return null;
+        }
+      }
+      return objs;
+    }
+
+    /**
+     * Tops up the read-ahead batches after {@code objs} has been fetched. Each read-ahead batch
+     * depends on the tail of the last commit of the previous batch, so the requests are chained.
+     */
+    private void scheduleReadAhead(Obj[] objs) {
+      if (readAhead == 0) {
+        return;
+      }
+      CompletableFuture<Obj[]> last = readAheadBatches.peekLast();
+      if (last == null) {
+        List<ObjId> ids = nextBatchIds(objs);
+        if (ids == null) {
+          return;
+        }
+        last = fetchReadAhead(ids);
+        if (last == null) {
+          return;
+        }
+        readAheadBatches.addLast(last);
+      }
+      while (readAheadBatches.size() < readAhead) {
+        last =
+            last.thenCompose(
+                prev -> {
+                  List<ObjId> ids = nextBatchIds(prev);
+                  CompletableFuture<Obj[]> f = ids != null ? fetchReadAhead(ids) : null;
+                  return f != null ? f : CompletableFuture.completedFuture(null);
+                });
+        readAheadBatches.addLast(last);
+      }
+    }
+
+    /**
+     * Returns the IDs of the batch following {@code objs} or {@code null}, if there is no
+     * following batch or the end of the commit log is reached.
+     */
+    private List<ObjId> nextBatchIds(Obj[] objs) {
+      if (objs == null || objs.length == 0) {
+        return null;
+      }
+      for (Obj obj : objs) {
+        if (obj == null || obj.id().equals(endCommitId)) {
+          return null;
+        }
+      }
+      Obj last = objs[objs.length - 1];
+      if (!(last instanceof CommitObj)) {
+        return null;
+      }
+      List<ObjId> ids = idsUntilEmpty(((CommitObj) last).tail());
+      return ids.isEmpty() ? null : ids;
+    }
+
+    private CompletableFuture<Obj[]> fetchReadAhead(List<ObjId> ids) {
+      ObjId[] idArray = ids.toArray(new ObjId[0]);
+      CompletableFuture<Obj[]> f;
+      if (async != null) {
+        f = async.fetchObjsIfExistAsync(idArray).toCompletableFuture();
+      } else {
+        try {
+          f =
+              CompletableFuture.supplyAsync(
+                  () -> persist.fetchObjsIfExist(idArray), CommitLogReadAhead.executor());
+        } catch (RejectedExecutionException e) {
+          CommitLogReadAhead.rejected();
+          return null;
+        }
+      }
+      CommitLogReadAhead.issued();
+      return f;
+    }
+
+    private NoSuchElementException commitsNotFound(List<ObjId> ids) {
+      return new NoSuchElementException(
+          ids.size() == 1
+              ? "Commit '" + ids.get(0) + "' not found"
+              : "Commit(s) "
+                  + ids.stream().map(ObjId::toString).collect(Collectors.joining(", "))
+                  + " not found");
+    }
+
     @Nonnull
     @Override
     public PagingToken tokenForKey(ObjId key) {
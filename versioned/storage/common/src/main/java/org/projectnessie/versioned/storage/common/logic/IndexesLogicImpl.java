@@ -46,11 +46,13 @@ import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import org.projectnessie.nessie.relocated.protobuf.ByteString;
@@ -66,6 +68,7 @@ import org.projectnessie.versioned.storage.common.objtypes.IndexObj;
 import org.projectnessie.versioned.storage.common.objtypes.IndexSegmentsObj;
 import org.projectnessie.versioned.storage.common.objtypes.IndexStripe;
 import org.projectnessie.versioned.storage.common.objtypes.StandardObjType;
+import org.projectnessie.versioned.storage.common.persist.AsyncPersist;
 import org.projectnessie.versioned.storage.common.persist.Obj;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.ObjType;
@@ -75,6 +78,12 @@ import org.slf4j.LoggerFactory;
 
 final class IndexesLogicImpl implements IndexesLogic {
   private static final Logger LOGGER = LoggerFactory.getLogger(IndexesLogicImpl.class);
+
+  /**
+   * Number of index segments per fetch, when loading many segments via an asynchronous {@link
+   * Persist#async()}.
+   */
+  static final int INDEX_SEGMENTS_PER_ASYNC_FETCH = 4;
   private final Persist persist;
 
   IndexesLogicImpl(Persist persist) {
@@ -269,6 +278,11 @@ final class IndexesLogicImpl implements IndexesLogic {
   }
 
   private StoreIndex<CommitOp>[] loadIndexSegments(@Nonnull ObjId[] indexes) {
+    AsyncPersist async = persist.async();
+    if (async.isAsynchronous() && indexes.length > INDEX_SEGMENTS_PER_ASYNC_FETCH) {
+      return loadIndexSegmentsAsync(async, indexes);
+    }
+
     try {
       IndexObj[] objs = persist.fetchTypedObjs(indexes, INDEX, IndexObj.class);
       @SuppressWarnings("unchecked")
@@ -285,6 +299,46 @@ final class IndexesLogicImpl implements IndexesLogic {
     }
   }
 
+  /**
+   * Fetches the index segments in chunks, all chunks are requested at once, the segments of each
+   * chunk are deserialized while the following chunks are still being fetched.
+   */
+  private StoreIndex<CommitOp>[] loadIndexSegmentsAsync(
+      AsyncPersist async, @Nonnull ObjId[] indexes) {
+    int chunks =
+        (indexes.length + INDEX_SEGMENTS_PER_ASYNC_FETCH - 1) / INDEX_SEGMENTS_PER_ASYNC_FETCH;
+    List<CompletionStage<IndexObj[]>> fetches = new ArrayList<>(chunks);
+    for (int from = 0; from < indexes.length; from += INDEX_SEGMENTS_PER_ASYNC_FETCH) {
+      int to = Math.min(indexes.length, from + INDEX_SEGMENTS_PER_ASYNC_FETCH);
+      fetches.add(
+          async.fetchTypedObjsIfExistAsync(
+              Arrays.copyOfRange(indexes, from, to), INDEX, IndexObj.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    StoreIndex<CommitOp>[] r = new StoreIndex[indexes.length];
+    List<ObjId> notFound = null;
+    for (int chunk = 0, from = 0; chunk < chunks; chunk++, from += INDEX_SEGMENTS_PER_ASYNC_FETCH) {
+      IndexObj[] objs = AsyncPersist.awaitResult(fetches.get(chunk));
+      for (int i = 0; i < objs.length; i++) {
+        ObjId id = indexes[from + i];
+        IndexObj index = objs[i];
+        if (index != null) {
+          r[from + i] = deserializeIndex(index.index()).setObjId(id);
+        } else if (id != null) {
+          if (notFound == null) {
+            notFound = new ArrayList<>();
+          }
+          notFound.add(id);
+        }
+      }
+    }
+    if (notFound != null) {
+      throw new IllegalStateException(format("Reference index segments %s not found", notFound));
+    }
+    return r;
+  }
+
   private StoreIndex<CommitOp> referenceIndexFromStripes(
       List<IndexStripe> indexStripes, ObjId commitId) {
     List<StoreIndex<CommitOp>> stripes = new ArrayList<>(indexStripes.size());
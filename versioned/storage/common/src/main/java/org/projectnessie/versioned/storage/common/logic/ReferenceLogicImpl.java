@@ -240,6 +240,11 @@ final class ReferenceLogicImpl implements ReferenceLogic {
             .map(ByteString::toStringUtf8)
             .map(StoreKey::key)
             .orElse(prefix);
+    if (prefix != null && begin.compareTo(prefix) < 0) {
+      // Paging token from a query with a different prefix, no need to scan the keys before the
+      // prefix.
+      begin = prefix;
+    }
 
     SuppliedCommitIndex index = createRefsIndexSupplier().get();
 
@@ -255,6 +260,7 @@ final class ReferenceLogicImpl implements ReferenceLogic {
     private static final int REFERENCES_BATCH_SIZE = 50;
     private final List<String> referencesBatch;
     private Iterator<Reference> referenceIterator = emptyIterator();
+    private boolean exhausted;
 
     private QueryIter(
         SuppliedCommitIndex index, StoreKey prefix, StoreKey begin, boolean prefetch) {
@@ -271,7 +277,7 @@ final class ReferenceLogicImpl implements ReferenceLogic {
           return referenceIterator.next();
         }
 
-        if (!base.hasNext()) {
+        if (exhausted || !base.hasNext()) {
           if (fetchReferencesBatch()) {
             continue;
           }
@@ -286,6 +292,9 @@ final class ReferenceLogicImpl implements ReferenceLogic {
           if (referencesBatch.size() == REFERENCES_BATCH_SIZE) {
             fetchReferencesBatch();
           }
+        } else if (k.compareTo(prefix) > 0) {
+          // Keys are sorted, all keys starting with the prefix have been seen.
+          exhausted = true;
         }
       }
     }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.persist;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
+
+/**
+ * Asynchronous facet of {@link Persist} for fetching and storing objects, available via {@link
+ * Persist#async()}.
+ *
+ * <p>Lets callers keep multiple database round-trips in flight, for example to fetch the next
+ * batch of a commit log while the current batch is being processed.
+ *
+ * <p>{@link Persist} implementations backed by database clients with asynchronous APIs implement
+ * this interface directly. For all other implementations, {@link Persist#async()} returns an
+ * implementation that runs the synchronous operations in the calling thread and returns completed
+ * stages, see {@link #isAsynchronous()}.
+ *
+ * <p>Returned stages complete exceptionally with the same exceptions that the synchronous
+ * counterparts throw.
+ */
+public interface AsyncPersist {
+
+  /**
+   * Whether the operations of this instance are actually asynchronous. Callers can use this to
+   * decide whether issuing operations before their results are needed is worth it.
+   */
+  default boolean isAsynchronous() {
+    return true;
+  }
+
+  /** Asynchronous version of {@link Persist#fetchTypedObjsIfExist(ObjId[], ObjType, Class)}. */
+  @Nonnull
+  <T extends Obj> CompletionStage<T[]> fetchTypedObjsIfExistAsync(
+      @Nonnull ObjId[] ids, @Nullable ObjType type, @Nonnull Class<T> typeClass);
+
+  /** Asynchronous version of {@link Persist#fetchObjsIfExist(ObjId[])}. */
+  @Nonnull
+  default CompletionStage<Obj[]> fetchObjsIfExistAsync(@Nonnull ObjId[] ids) {
+    return fetchTypedObjsIfExistAsync(ids, null, Obj.class);
+  }
+
+  /**
+   * Asynchronous version of {@link Persist#storeObjs(Obj[])}, the returned stage completes
+   * exceptionally with an {@link ObjTooLargeException}, if an object is too large.
+   */
+  @Nonnull
+  CompletionStage<boolean[]> storeObjsAsync(@Nonnull Obj[] objs);
+
+  /**
+   * Returns an {@link AsyncPersist} that runs the synchronous operations of the given {@link
+   * Persist} in the calling thread.
+   */
+  static AsyncPersist synchronous(Persist persist) {
+    return new SynchronousAsyncPersist(persist);
+  }
+
+  /**
+   * Waits for the result of the given stage, rethrows the original exception, if it is a {@link
+   * RuntimeException} or {@link Error}, otherwise wraps it in a {@link CompletionException}.
+   */
+  static <T> T awaitResult(CompletionStage<T> stage) {
+    try {
+      return stage.toCompletableFuture().join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
+    }
+  }
+}
@@ -21,6 +21,7 @@ import io.opentelemetry.instrumentation.annotations.WithSpan;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
 import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
 import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
@@ -29,7 +30,7 @@ import org.projectnessie.versioned.storage.common.exceptions.RefConditionFailedE
 import org.projectnessie.versioned.storage.common.exceptions.RefNotFoundException;
 import org.projectnessie.versioned.storage.common.objtypes.UpdateableObj;
 
-public class ObservingPersist implements Persist {
+public class ObservingPersist implements Persist, AsyncPersist {
   private final Persist delegate;
 
   private static final String PREFIX = "nessie.storage.persist";
@@ -309,4 +310,36 @@ public class ObservingPersist implements Persist {
   public boolean isCaching() {
     return delegate.isCaching();
   }
+
+  @Override
+  @Nonnull
+  public AsyncPersist async() {
+    // Let asynchronous operations and synchronous fallbacks go through this instance, so those are
+    // observed
+    return isAsynchronous() ? this : AsyncPersist.synchronous(this);
+  }
+
+  @Override
+  public boolean isAsynchronous() {
+    return delegate.async().isAsynchronous();
+  }
+
+  @WithSpan
+  @Override
+  @Counted(PREFIX)
+  @Timed(value = PREFIX, histogram = true)
+  @Nonnull
+  public <T extends Obj> CompletionStage<T[]> fetchTypedObjsIfExistAsync(
+      @Nonnull ObjId[] ids, @Nullable ObjType type, @Nonnull Class<T> typeClass) {
+    return delegate.async().fetchTypedObjsIfExistAsync(ids, type, typeClass);
+  }
+
+  @WithSpan
+  @Override
+  @Counted(PREFIX)
+  @Timed(value = PREFIX, histogram = true)
+  @Nonnull
+  public CompletionStage<boolean[]> storeObjsAsync(@Nonnull Obj[] objs) {
+    return delegate.async().storeObjsAsync(objs);
+  }
 }
@@ -443,4 +443,13 @@ public interface Persist {
   default boolean isCaching() {
     return false;
   }
+
+  /**
+   * Returns the {@linkplain AsyncPersist asynchronous facet} of this instance. The default
+   * implementation runs the synchronous operations of this instance in the calling thread.
+   */
+  @Nonnull
+  default AsyncPersist async() {
+    return AsyncPersist.synchronous(this);
+  }
 }
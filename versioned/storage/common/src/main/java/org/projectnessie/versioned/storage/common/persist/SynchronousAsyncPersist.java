@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.persist;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+
+import jakarta.annotation.Nonnull;
+import java.util.concurrent.CompletionStage;
+import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
+
+/** {@link AsyncPersist} that runs the synchronous {@link Persist} operations. */
+final class SynchronousAsyncPersist implements AsyncPersist {
+  private final Persist persist;
+
+  SynchronousAsyncPersist(Persist persist) {
+    this.persist = persist;
+  }
+
+  @Override
+  public boolean isAsynchronous() {
+    return false;
+  }
+
+  @Nonnull
+  @Override
+  public <T extends Obj> CompletionStage<T[]> fetchTypedObjsIfExistAsync(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    try {
+      return completedFuture(persist.fetchTypedObjsIfExist(ids, type, typeClass));
+    } catch (RuntimeException e) {
+      return failedFuture(e);
+    }
+  }
+
+  @Nonnull
+  @Override
+  public CompletionStage<Obj[]> fetchObjsIfExistAsync(@Nonnull ObjId[] ids) {
+    try {
+      return completedFuture(persist.fetchObjsIfExist(ids));
+    } catch (RuntimeException e) {
+      return failedFuture(e);
+    }
+  }
+
+  @Nonnull
+  @Override
+  public CompletionStage<boolean[]> storeObjsAsync(@Nonnull Obj[] objs) {
+    try {
+      return completedFuture(persist.storeObjs(objs));
+    } catch (ObjTooLargeException | RuntimeException e) {
+      return failedFuture(e);
+    }
+  }
+}
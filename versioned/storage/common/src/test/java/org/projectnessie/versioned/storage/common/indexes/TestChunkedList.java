@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.indexes;
+
+import static org.projectnessie.versioned.storage.common.indexes.ChunkedList.MAX_CHUNK_SIZE;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestChunkedList {
+  @InjectSoftAssertions SoftAssertions soft;
+
+  @Test
+  public void empty() {
+    ChunkedList<Integer> list = new ChunkedList<>();
+    soft.assertThat(list).isEmpty();
+    soft.assertThat(list.iterator()).isExhausted();
+    soft.assertThat(list.iterator(0, 0)).isExhausted();
+    soft.assertThat(list.binarySearch(42, Comparator.naturalOrder())).isEqualTo(-1);
+    soft.assertThatThrownBy(() -> list.get(0)).isInstanceOf(IndexOutOfBoundsException.class);
+    soft.assertThatThrownBy(() -> list.remove(0)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  public void appendFillsChunks() {
+    ChunkedList<Integer> list = new ChunkedList<>(10);
+    for (int i = 0; i < 5 * MAX_CHUNK_SIZE; i++) {
+      list.add(i);
+    }
+    soft.assertThat(list).hasSize(5 * MAX_CHUNK_SIZE);
+    soft.assertThat(list.chunkCount()).isEqualTo(5);
+    for (int i = 0; i < 5 * MAX_CHUNK_SIZE; i++) {
+      soft.assertThat(list.get(i)).isEqualTo(i);
+    }
+  }
+
+  @Test
+  public void insertSplitsAndRemoveDropsChunks() {
+    ChunkedList<Integer> list = new ChunkedList<>();
+    for (int i = 0; i < MAX_CHUNK_SIZE; i++) {
+      list.add(i * 2);
+    }
+    soft.assertThat(list.chunkCount()).isEqualTo(1);
+
+    list.add(1, 1);
+    soft.assertThat(list.chunkCount()).isEqualTo(2);
+    soft.assertThat(list.subList(0, 3)).containsExactly(0, 1, 2);
+
+    while (!list.isEmpty()) {
+      list.remove(list.size() - 1);
+    }
+    soft.assertThat(list.chunkCount()).isEqualTo(0);
+    list.add(42);
+    soft.assertThat(list).containsExactly(42);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 100, 1000, 10000})
+  public void sameAsArrayList(int operations) {
+    Random random = new Random(operations);
+    List<Integer> reference = new ArrayList<>();
+    ChunkedList<Integer> list = new ChunkedList<>();
+
+    for (int i = 0; i < operations * 10; i++) {
+      int value = random.nextInt(operations * 5);
+      if (random.nextInt(3) > 0) {
+        int expected = Collections.binarySearch(reference, value);
+        int idx = list.binarySearch(value, Comparator.naturalOrder());
+        soft.assertThat(idx).isEqualTo(expected);
+        if (idx < 0) {
+          reference.add(-idx - 1, value);
+          list.add(-idx - 1, value);
+        } else {
+          reference.set(idx, value);
+          list.set(idx, value);
+        }
+      } else if (!reference.isEmpty()) {
+        int idx = random.nextInt(reference.size());
+        soft.assertThat(list.remove(idx)).isEqualTo(reference.remove(idx));
+      }
+    }
+
+    soft.assertThat(list).containsExactlyElementsOf(reference);
+    soft.assertThat(list).isEqualTo(reference);
+    soft.assertThat(list.hashCode()).isEqualTo(reference.hashCode());
+    for (int i = 0; i < reference.size(); i++) {
+      soft.assertThat(list.get(i)).isEqualTo(reference.get(i));
+    }
+
+    int from = reference.size() / 3;
+    int to = reference.size() - from;
+    List<Integer> range = new ArrayList<>();
+    list.iterator(from, to).forEachRemaining(range::add);
+    soft.assertThat(range).isEqualTo(reference.subList(from, to));
+    soft.assertThat(new ChunkedList<>(reference.subList(from, to)))
+        .isEqualTo(reference.subList(from, to));
+  }
+
+  @Test
+  public void iteratorDetectsModification() {
+    ChunkedList<Integer> list = new ChunkedList<>();
+    list.add(1);
+    list.add(2);
+    Iterator<Integer> iter = list.iterator();
+    iter.next();
+    list.add(3);
+    soft.assertThatThrownBy(iter::next).isInstanceOf(ConcurrentModificationException.class);
+  }
+}
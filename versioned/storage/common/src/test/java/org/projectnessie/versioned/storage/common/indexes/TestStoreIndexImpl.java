@@ -235,6 +235,66 @@ public class TestStoreIndexImpl {
     }
   }
 
+  static Stream<List<StoreKey>> lookupsOnSerializedKeys() {
+    return Stream.of(
+        asList(key("a"), key("a", "b"), key("a", "b", "c"), key("ab"), key("b")),
+        // Supplementary code points (surrogate pairs) must be ordered before U+E000..U+FFFF, like
+        // 'String.compareTo()' does, although their UTF-8 representation is "greater".
+        asList(
+            key("ns", "\u00e9t\u00e9"),
+            key("ns", "\u0800"),
+            key("ns", "\ud83d\ude00"),
+            key("ns", "\ud83d\ude00", "x"),
+            key("ns", "\ue000"),
+            key("ns", "\uffee"),
+            key("ns", "z")),
+        IntStream.range(0, 500)
+            .mapToObj(i -> key("a" + (i % 7), format("tbl-%05d", i)))
+            .collect(Collectors.toList()));
+  }
+
+  @ParameterizedTest
+  @MethodSource("lookupsOnSerializedKeys")
+  public void lookupsOnSerializedKeys(List<StoreKey> keys) {
+    StoreIndex<ObjId> index = newStoreIndex(OBJ_ID_SERIALIZER);
+    keys.forEach(k -> index.add(indexElement(k, randomObjId())));
+
+    List<StoreKey> probes = newArrayList(keys);
+    for (StoreKey k : keys) {
+      probes.add(key(k.rawString().split("\u0000")[0]));
+      probes.add(StoreKey.keyFromString(k.rawString() + "\u0000x"));
+      probes.add(StoreKey.keyFromString(k.rawString() + "!"));
+      probes.add(StoreKey.keyFromString(k.rawString().substring(0, k.rawString().length() - 1)));
+    }
+    probes.add(key("0"));
+    probes.add(key("\ud83d\ude01"));
+    probes.add(key("\uffff"));
+
+    StoreIndex<ObjId> deserialized = deserializeStoreIndex(index.serialize(), OBJ_ID_SERIALIZER);
+    for (StoreKey probe : probes) {
+      soft.assertThat(deserialized.contains(probe))
+          .describedAs("%s", probe)
+          .isEqualTo(index.contains(probe));
+    }
+    // None of the lookups above must have materialized a key
+    soft.assertThat(materializedKeys(deserialized)).isEqualTo(0);
+
+    for (StoreKey probe : probes) {
+      StoreIndexElement<ObjId> el = deserialized.get(probe);
+      soft.assertThat(el).describedAs("%s", probe).isEqualTo(index.get(probe));
+    }
+    soft.assertThat(materializedKeys(deserialized)).isEqualTo(keys.size());
+    soft.assertThat(deserialized.asKeyList()).containsExactlyElementsOf(index.asKeyList());
+  }
+
+  private static long materializedKeys(StoreIndex<?> index) {
+    // The lazy elements of a deserialized index only expose their key in 'toString()' once it has
+    // been materialized.
+    return stream(spliteratorUnknownSize(index.iterator(), 0), false)
+        .filter(el -> !el.toString().contains("keyOffset="))
+        .count();
+  }
+
   @Test
   public void similarPrefixLengths() {
     StoreKey keyA = key("a", "x", "A");
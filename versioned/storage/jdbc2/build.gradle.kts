@@ -16,7 +16,10 @@
 
 import org.apache.tools.ant.taskdefs.condition.Os
 
-plugins { id("nessie-conventions-server") }
+plugins {
+  id("nessie-conventions-server")
+  alias(libs.plugins.jmh)
+}
 
 publishingHelper { mavenName = "Nessie - Storage - JDBC2" }
 
@@ -46,6 +49,8 @@ dependencies {
   testFixturesApi(project(":nessie-versioned-storage-testextension"))
   testFixturesApi(project(":nessie-versioned-tests"))
   testFixturesImplementation(libs.agroal.pool)
+  testImplementation(platform(libs.junit.bom))
+  testImplementation(libs.bundles.junit.testing)
   testRuntimeOnly(libs.h2)
   intTestRuntimeOnly(libs.postgresql)
   intTestRuntimeOnly(libs.mariadb.java.client)
@@ -54,8 +59,20 @@ dependencies {
   testFixturesImplementation(platform(libs.junit.bom))
   testFixturesImplementation(libs.bundles.junit.testing)
   testFixturesImplementation(libs.logback.classic)
+
+  jmhImplementation(libs.jmh.core)
+  jmhImplementation(project(":nessie-versioned-storage-jdbc2-tests"))
+  jmhImplementation(project(path = ":nessie-protobuf-relocated", configuration = "shadow"))
+  jmhAnnotationProcessor(libs.jmh.generator.annprocess)
+  jmhRuntimeOnly(libs.h2)
+  jmhRuntimeOnly(libs.postgresql)
+  jmhRuntimeOnly(libs.logback.classic)
 }
 
+tasks.named("processJmhJandexIndex").configure { enabled = false }
+
+jmh { jmhVersion = libs.versions.jmh.get() }
+
 // Testcontainers is not supported on Windows :(
 if (Os.isFamily(Os.FAMILY_WINDOWS)) {
   tasks.named<Test>("intTest").configure { this.enabled = false }
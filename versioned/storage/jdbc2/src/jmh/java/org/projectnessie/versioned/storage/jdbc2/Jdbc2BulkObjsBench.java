@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.jdbc2;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.projectnessie.versioned.storage.common.objtypes.ContentValueObj.contentValue;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.projectnessie.nessie.relocated.protobuf.ByteString;
+import org.projectnessie.versioned.storage.common.config.StoreConfig;
+import org.projectnessie.versioned.storage.common.persist.Backend;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.jdbc2tests.AbstractJdbc2BackendTestFactory;
+import org.projectnessie.versioned.storage.jdbc2tests.H2BackendTestFactory;
+import org.projectnessie.versioned.storage.jdbc2tests.PostgreSQLBackendTestFactory;
+
+/**
+ * Bulk object fetch and store throughput against the JDBC backend.
+ *
+ * <p>Fetches use a random number of object IDs up to {@code maxFetchSize}, which exercises the
+ * number of distinct prepared statements. The {@code postgresql} database requires Docker.
+ */
+@Warmup(iterations = 2, time = 2000, timeUnit = MILLISECONDS)
+@Measurement(iterations = 3, time = 1000, timeUnit = MILLISECONDS)
+@Fork(1)
+@Threads(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class Jdbc2BulkObjsBench {
+  @State(Scope.Benchmark)
+  public static class BenchmarkParam {
+
+    @Param({"h2", "postgresql"})
+    public String database;
+
+    @Param({"10", "100", "1000"})
+    public int maxFetchSize;
+
+    @Param({"10", "500"})
+    public int storeSize;
+
+    @Param({"10000"})
+    public int existingObjs;
+
+    AbstractJdbc2BackendTestFactory backendFactory;
+    Backend backend;
+    Persist persist;
+    ObjId[] existingIds;
+
+    @Setup
+    public void init() throws Exception {
+      switch (database) {
+        case "h2":
+          backendFactory = new H2BackendTestFactory();
+          break;
+        case "postgresql":
+          backendFactory = new PostgreSQLBackendTestFactory();
+          break;
+        default:
+          throw new IllegalArgumentException(database);
+      }
+      backendFactory.start();
+      backend = backendFactory.createNewBackend();
+      backend.setupSchema();
+      persist = backend.createFactory().newPersist(StoreConfig.Adjustable.empty());
+
+      existingIds = new ObjId[existingObjs];
+      for (int offset = 0; offset < existingObjs; offset += 1000) {
+        Obj[] objs = newObjs(Math.min(1000, existingObjs - offset));
+        persist.storeObjs(objs);
+        for (int i = 0; i < objs.length; i++) {
+          existingIds[offset + i] = objs[i].id();
+        }
+      }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+      try {
+        backend.close();
+      } finally {
+        backendFactory.stop();
+      }
+    }
+
+    ObjId[] nextFetchIds() {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      ObjId[] ids = new ObjId[random.nextInt(1, maxFetchSize + 1)];
+      for (int i = 0; i < ids.length; i++) {
+        ids[i] = existingIds[random.nextInt(existingIds.length)];
+      }
+      return ids;
+    }
+
+    Obj[] newObjs(int count) {
+      Obj[] objs = new Obj[count];
+      for (int i = 0; i < count; i++) {
+        objs[i] = contentValue(UUID.randomUUID().toString(), 1, ByteString.copyFromUtf8("v" + i));
+      }
+      return objs;
+    }
+  }
+
+  @Benchmark
+  public Obj[] fetchObjs(BenchmarkParam param) {
+    return param.persist.fetchObjsIfExist(param.nextFetchIds());
+  }
+
+  @Benchmark
+  public boolean[] storeObjs(BenchmarkParam param) throws Exception {
+    return param.persist.storeObjs(param.newObjs(param.storeSize));
+  }
+}
@@ -22,6 +22,7 @@ import static org.projectnessie.versioned.storage.common.util.Closing.closeMulti
 import static org.projectnessie.versioned.storage.jdbc2.Jdbc2Serde.deserializeObjId;
 import static org.projectnessie.versioned.storage.jdbc2.Jdbc2Serde.serializeObjId;
 import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.ADD_REFERENCE;
+import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.BUCKET_SIZES;
 import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.COL_OBJ_ID;
 import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.COL_OBJ_REFERENCED;
 import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.COL_OBJ_VALUE;
@@ -55,6 +56,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -122,23 +124,21 @@ abstract class AbstractJdbc2Persist implements Persist {
       return r;
     }
 
-    try (PreparedStatement ps =
-        conn.prepareStatement(sqlSelectMultiple(FIND_REFERENCES, keys.size()))) {
-      int idx = 1;
-      ps.setString(idx++, config.repositoryId());
-      for (String key : keys) {
-        ps.setString(idx++, key);
-      }
-      try (ResultSet rs = ps.executeQuery()) {
-        while (rs.next()) {
-          Reference ref = Jdbc2Serde.deserializeReference(rs);
-          int i = nameToIndex.getValue(ref.name());
-          if (i != -1) {
-            r[i] = ref;
-          }
-        }
-        return r;
-      }
+    try {
+      selectMultiple(
+          conn,
+          FIND_REFERENCES,
+          Jdbc2ColumnType.NAME,
+          keys,
+          null,
+          rs -> {
+            Reference ref = Jdbc2Serde.deserializeReference(rs);
+            int i = nameToIndex.getValue(ref.name());
+            if (i != -1) {
+              r[i] = ref;
+            }
+          });
+      return r;
     } catch (SQLException e) {
       throw unhandledSQLException(e);
     }
@@ -343,32 +343,103 @@ abstract class AbstractJdbc2Persist implements Persist {
       return r;
     }
 
-    String sql = type == null ? FIND_OBJS : FIND_OBJS_TYPED;
-    sql = sqlSelectMultiple(sql, keys.size());
+    try {
+      selectMultiple(
+          conn,
+          type == null ? FIND_OBJS : FIND_OBJS_TYPED,
+          Jdbc2ColumnType.OBJ_ID,
+          keys,
+          type != null ? type.shortName() : null,
+          rs -> {
+            Obj obj = deserializeObj(rs);
+            int i = idToIndex.getValue(obj.id());
+            if (i != -1) {
+              r[i] = typeClass.cast(obj);
+            }
+          });
+      return r;
+    } catch (SQLException e) {
+      throw unhandledSQLException(e);
+    }
+  }
 
-    try (PreparedStatement ps = conn.prepareStatement(sql)) {
-      int idx = 1;
-      ps.setString(idx++, config.repositoryId());
-      for (ObjId key : keys) {
-        serializeObjId(ps, idx++, key, databaseSpecific);
-      }
-      if (type != null) {
-        ps.setString(idx, type.shortName());
+  /**
+   * Runs a query that selects rows for multiple keys. {@code sql} must contain an {@code IN (?)}
+   * placeholder for the keys, which follows the repository ID parameter and is optionally followed
+   * by {@code trailingParameter}.
+   *
+   * <p>If the database supports it, all keys are bound as a single array parameter using {@code =
+   * ANY(?)}, so the same prepared statement is used for any number of keys. Otherwise the keys are
+   * bound as {@code IN (?, ?, ...)} with the number of parameters padded to the next {@link
+   * SqlConstants#BUCKET_SIZES bucket size} by repeating the last key, requests exceeding the
+   * largest bucket size are split into multiple queries.
+   */
+  private void selectMultiple(
+      Connection conn,
+      String sql,
+      Jdbc2ColumnType keyType,
+      List<?> keys,
+      @Nullable String trailingParameter,
+      ThrowingConsumer<ResultSet> rowConsumer)
+      throws SQLException {
+    String arrayElementType = databaseSpecific.arrayElementType(keyType);
+    if (arrayElementType != null) {
+      try (PreparedStatement ps = conn.prepareStatement(sqlSelectAny(sql))) {
+        java.sql.Array array = conn.createArrayOf(arrayElementType, arrayElements(keyType, keys));
+        try {
+          ps.setString(1, config.repositoryId());
+          ps.setArray(2, array);
+          if (trailingParameter != null) {
+            ps.setString(3, trailingParameter);
+          }
+          consumeRows(ps, rowConsumer);
+        } finally {
+          array.free();
+        }
       }
+      return;
+    }
 
-      try (ResultSet rs = ps.executeQuery()) {
-        while (rs.next()) {
-          Obj obj = deserializeObj(rs);
-          int i = idToIndex.getValue(obj.id());
-          if (i != -1) {
-            r[i] = typeClass.cast(obj);
+    int maxBucketSize = BUCKET_SIZES[BUCKET_SIZES.length - 1];
+    for (int offset = 0; offset < keys.size(); offset += maxBucketSize) {
+      int count = Math.min(keys.size() - offset, maxBucketSize);
+      int paramCount = bucketSize(count, maxBucketSize);
+      try (PreparedStatement ps = conn.prepareStatement(sqlSelectMultiple(sql, paramCount))) {
+        int idx = 1;
+        ps.setString(idx++, config.repositoryId());
+        for (int i = 0; i < paramCount; i++) {
+          Object key = keys.get(offset + Math.min(i, count - 1));
+          if (keyType == Jdbc2ColumnType.OBJ_ID) {
+            serializeObjId(ps, idx++, (ObjId) key, databaseSpecific);
+          } else {
+            ps.setString(idx++, (String) key);
           }
         }
+        if (trailingParameter != null) {
+          ps.setString(idx, trailingParameter);
+        }
+        consumeRows(ps, rowConsumer);
+      }
+    }
+  }
 
-        return r;
+  private static Object[] arrayElements(Jdbc2ColumnType keyType, List<?> keys) {
+    if (keyType == Jdbc2ColumnType.OBJ_ID) {
+      byte[][] elements = new byte[keys.size()][];
+      for (int i = 0; i < elements.length; i++) {
+        elements[i] = ((ObjId) keys.get(i)).asByteArray();
+      }
+      return elements;
+    }
+    return keys.toArray(new String[0]);
+  }
+
+  private static void consumeRows(PreparedStatement ps, ThrowingConsumer<ResultSet> rowConsumer)
+      throws SQLException {
+    try (ResultSet rs = ps.executeQuery()) {
+      while (rs.next()) {
+        rowConsumer.accept(rs);
       }
-    } catch (SQLException e) {
-      throw unhandledSQLException(e);
     }
   }
 
@@ -465,6 +536,32 @@ abstract class AbstractJdbc2Persist implements Persist {
       List<ObjId> updateReferenced)
       throws ObjTooLargeException {
 
+    try {
+      if (databaseSpecific.supportsInsertReturning()) {
+        upsertObjsWriteMultiRow(conn, objs, ignoreSoftSizeRestrictions, r, updateReferenced);
+      } else {
+        upsertObjsWriteBatch(conn, objs, ignoreSoftSizeRestrictions, r, updateReferenced);
+      }
+    } catch (SQLException e) {
+      if (databaseSpecific.isConstraintViolation(e)) {
+        throw new UnsupportedOperationException(
+            "The database should support a functionality like PostgreSQL's "
+                + "'ON CONFLICT DO NOTHING' for INSERT statements. For H2, enable the "
+                + "PostgreSQL Compatibility Mode.");
+      }
+      throw unhandledSQLException(e);
+    }
+  }
+
+  /** Inserts the objects using JDBC batches of single-row inserts. */
+  private void upsertObjsWriteBatch(
+      Connection conn,
+      Obj[] objs,
+      boolean ignoreSoftSizeRestrictions,
+      boolean[] r,
+      List<ObjId> updateReferenced)
+      throws SQLException, ObjTooLargeException {
+
     try (PreparedStatement ps = conn.prepareStatement(databaseSpecific.wrapInsert(STORE_OBJ))) {
       Int2IntHashMap batchIndexToObjIndex =
           new Int2IntHashMap(objs.length * 2, Hashing.DEFAULT_LOAD_FACTOR, -1);
@@ -493,29 +590,9 @@ abstract class AbstractJdbc2Persist implements Persist {
           continue;
         }
 
-        ObjId id = obj.id();
-        ObjType type = obj.type();
-
-        int incrementalIndexSizeLimit =
-            ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIncrementalIndexSizeLimit();
-        int indexSizeLimit =
-            ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIndexSegmentSizeLimit();
-
-        checkArgument(id != null, "Obj to store must have a non-null ID");
         // INSERT INTO objs2 (repo, obj_id, obj_type, obj_vers, obj_value) VALUES (?, ?, ?, ?, ?) ON
         // CONFLICT DO NOTHING
-        ps.setString(1, config.repositoryId());
-        serializeObjId(ps, 2, id, databaseSpecific);
-        ps.setString(3, type.shortName());
-        Optional<String> versionToken = UpdateableObj.extractVersionToken(obj);
-        if (versionToken.isPresent()) {
-          ps.setString(4, versionToken.get());
-        } else {
-          ps.setNull(4, Types.VARCHAR);
-        }
-        byte[] serialized = serializeObj(obj, incrementalIndexSizeLimit, indexSizeLimit, false);
-        ps.setBytes(5, serialized);
-        ps.setLong(6, referenced);
+        bindObj(ps, 1, obj, serializeObjForStore(obj, ignoreSoftSizeRestrictions), referenced);
 
         batchIndexToObjIndex.put(batchIndex++, i);
         ps.addBatch();
@@ -529,15 +606,103 @@ abstract class AbstractJdbc2Persist implements Persist {
       if (batchIndex > 0) {
         batchResultHandler.accept(ps.executeBatch());
       }
-    } catch (SQLException e) {
-      if (databaseSpecific.isConstraintViolation(e)) {
-        throw new UnsupportedOperationException(
-            "The database should support a functionality like PostgreSQL's "
-                + "'ON CONFLICT DO NOTHING' for INSERT statements. For H2, enable the "
-                + "PostgreSQL Compatibility Mode.");
+    }
+  }
+
+  /**
+   * Inserts the objects using multi-row {@code INSERT ... RETURNING obj_id} statements, the
+   * returned IDs are the actually inserted objects. The number of rows per statement is padded to
+   * the next {@link SqlConstants#BUCKET_SIZES bucket size} by repeating the last row, which is
+   * ignored by {@code ON CONFLICT DO NOTHING}.
+   */
+  private void upsertObjsWriteMultiRow(
+      Connection conn,
+      Obj[] objs,
+      boolean ignoreSoftSizeRestrictions,
+      boolean[] r,
+      List<ObjId> updateReferenced)
+      throws SQLException, ObjTooLargeException {
+
+    int[] objIndexes = new int[objs.length];
+    int numObjs = 0;
+    for (int i = 0; i < objs.length; i++) {
+      if (objs[i] != null) {
+        objIndexes[numObjs++] = i;
       }
-      throw unhandledSQLException(e);
     }
+
+    long referenced = config.currentTimeMicros();
+
+    byte[][] serialized = new byte[MAX_BATCH_SIZE][];
+    Set<ObjId> inserted = new HashSet<>();
+    for (int offset = 0; offset < numObjs; offset += MAX_BATCH_SIZE) {
+      int count = Math.min(numObjs - offset, MAX_BATCH_SIZE);
+      int rows = bucketSize(count, MAX_BATCH_SIZE);
+
+      for (int i = 0; i < count; i++) {
+        serialized[i] =
+            serializeObjForStore(objs[objIndexes[offset + i]], ignoreSoftSizeRestrictions);
+      }
+
+      String sql =
+          databaseSpecific.wrapInsert(sqlInsertMultiple(STORE_OBJ, rows))
+              + " RETURNING "
+              + COL_OBJ_ID;
+      try (PreparedStatement ps = conn.prepareStatement(sql)) {
+        int idx = 1;
+        for (int row = 0; row < rows; row++) {
+          int i = Math.min(row, count - 1);
+          idx = bindObj(ps, idx, objs[objIndexes[offset + i]], serialized[i], referenced);
+        }
+
+        inserted.clear();
+        try (ResultSet rs = ps.executeQuery()) {
+          while (rs.next()) {
+            inserted.add(deserializeObjId(rs, COL_OBJ_ID));
+          }
+        }
+      }
+
+      for (int i = 0; i < count; i++) {
+        int objIndex = objIndexes[offset + i];
+        ObjId id = objs[objIndex].id();
+        if (inserted.remove(id)) {
+          r[objIndex] = true;
+        } else {
+          updateReferenced.add(id);
+        }
+      }
+    }
+  }
+
+  private byte[] serializeObjForStore(Obj obj, boolean ignoreSoftSizeRestrictions)
+      throws ObjTooLargeException {
+    checkArgument(obj.id() != null, "Obj to store must have a non-null ID");
+    int incrementalIndexSizeLimit =
+        ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIncrementalIndexSizeLimit();
+    int indexSizeLimit =
+        ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIndexSegmentSizeLimit();
+    return serializeObj(obj, incrementalIndexSizeLimit, indexSizeLimit, false);
+  }
+
+  /**
+   * Binds the parameters of one row of {@link SqlConstants#STORE_OBJ} starting at parameter index
+   * {@code idx}, returns the index of the next parameter.
+   */
+  private int bindObj(PreparedStatement ps, int idx, Obj obj, byte[] serialized, long referenced)
+      throws SQLException {
+    ps.setString(idx++, config.repositoryId());
+    serializeObjId(ps, idx++, obj.id(), databaseSpecific);
+    ps.setString(idx++, obj.type().shortName());
+    Optional<String> versionToken = UpdateableObj.extractVersionToken(obj);
+    if (versionToken.isPresent()) {
+      ps.setString(idx++, versionToken.get());
+    } else {
+      ps.setNull(idx++, Types.VARCHAR);
+    }
+    ps.setBytes(idx++, serialized);
+    ps.setLong(idx++, referenced);
+    return idx;
   }
 
   private void upsertObjsReferenced(Connection conn, List<ObjId> updateReferenced) {
@@ -627,6 +792,44 @@ abstract class AbstractJdbc2Persist implements Persist {
     return marks.toString();
   }
 
+  @VisibleForTesting
+  static String sqlSelectAny(String sql) {
+    int idx = sql.indexOf(" IN (?)");
+    checkArgument(idx > 0, "SQL does not contain IN (?) placeholder: %s", sql);
+    return sql.substring(0, idx) + " = ANY(?)" + sql.substring(idx + 7);
+  }
+
+  @VisibleForTesting
+  static String sqlInsertMultiple(String sql, int rows) {
+    int idx = sql.lastIndexOf(" VALUES (");
+    checkArgument(
+        idx > 0 && sql.endsWith(")"), "SQL is not a single row INSERT ... VALUES: %s", sql);
+    if (rows == 1) {
+      return sql;
+    }
+    String row = sql.substring(idx + 8);
+    StringBuilder values = new StringBuilder(sql.length() + (row.length() + 2) * (rows - 1));
+    values.append(sql);
+    for (int i = 1; i < rows; i++) {
+      values.append(", ").append(row);
+    }
+    return values.toString();
+  }
+
+  /**
+   * Returns the smallest {@link SqlConstants#BUCKET_SIZES bucket size} that is greater than or
+   * equal to {@code count}, but not greater than {@code maxSize}.
+   */
+  @VisibleForTesting
+  static int bucketSize(int count, int maxSize) {
+    for (int size : BUCKET_SIZES) {
+      if (size >= count) {
+        return Math.min(size, maxSize);
+      }
+    }
+    return maxSize;
+  }
+
   @FunctionalInterface
   interface ThrowingConsumer<T> {
     void accept(T t) throws SQLException;
@@ -15,6 +15,7 @@
  */
 package org.projectnessie.versioned.storage.jdbc2;
 
+import jakarta.annotation.Nullable;
 import java.sql.SQLException;
 import java.util.Map;
 
@@ -33,4 +34,20 @@ public interface DatabaseSpecific {
   String wrapInsert(String sql);
 
   String primaryKeyCol(String col, Jdbc2ColumnType columnType);
+
+  /**
+   * The SQL type name to use with {@link java.sql.Connection#createArrayOf(String, Object[])}, if
+   * the database supports binding multiple keys of the given column type as a single array
+   * parameter using {@code = ANY(?)}, or {@code null}, if multiple keys have to be bound using
+   * {@code IN (?, ?, ...)}.
+   */
+  @Nullable
+  String arrayElementType(Jdbc2ColumnType columnType);
+
+  /**
+   * Whether the database supports {@code INSERT ... RETURNING} for an insert as returned by {@link
+   * #wrapInsert(String)}, which allows inserting multiple rows with a single statement while still
+   * knowing which rows have been inserted.
+   */
+  boolean supportsInsertReturning();
 }
@@ -44,13 +44,14 @@ public final class DatabaseSpecifics {
   // choose a collation in which 'ref-    2' is sorted _after_ 'ref-   19', which is unexpected
   // and wrong for Nessie.
   public static final DatabaseSpecific POSTGRESQL_DATABASE_SPECIFIC =
-      new BasePostgresDatabaseSpecific("VARCHAR COLLATE ucs_basic", Types.BINARY);
+      new BasePostgresDatabaseSpecific("VARCHAR COLLATE ucs_basic", Types.BINARY, true);
 
   public static final DatabaseSpecific COCKROACH_DATABASE_SPECIFIC =
-      new BasePostgresDatabaseSpecific("VARCHAR", Types.BINARY);
+      new BasePostgresDatabaseSpecific("VARCHAR", Types.BINARY, true);
 
+  // H2 only emulates PostgreSQL, use plain IN-lists and batched single-row inserts.
   public static final DatabaseSpecific H2_DATABASE_SPECIFIC =
-      new BasePostgresDatabaseSpecific("VARCHAR", Types.VARBINARY);
+      new BasePostgresDatabaseSpecific("VARCHAR", Types.VARBINARY, false);
 
   public static final DatabaseSpecific MARIADB_DATABASE_SPECIFIC = new MariaDBDatabaseSpecific();
 
@@ -109,8 +110,10 @@ public final class DatabaseSpecifics {
 
     private final Map<Jdbc2ColumnType, String> typeMap;
     private final Map<Jdbc2ColumnType, Integer> typeIdMap;
+    private final boolean nativePostgres;
 
-    BasePostgresDatabaseSpecific(String varcharType, int objIdType) {
+    BasePostgresDatabaseSpecific(String varcharType, int objIdType, boolean nativePostgres) {
+      this.nativePostgres = nativePostgres;
       typeMap = new EnumMap<>(Jdbc2ColumnType.class);
       typeIdMap = new EnumMap<>(Jdbc2ColumnType.class);
       typeMap.put(Jdbc2ColumnType.NAME, varcharType);
@@ -170,6 +173,26 @@ public final class DatabaseSpecifics {
     public String primaryKeyCol(String col, Jdbc2ColumnType columnType) {
       return col;
     }
+
+    @Override
+    public String arrayElementType(Jdbc2ColumnType columnType) {
+      if (!nativePostgres) {
+        return null;
+      }
+      switch (columnType) {
+        case OBJ_ID:
+          return "bytea";
+        case NAME:
+          return "varchar";
+        default:
+          return null;
+      }
+    }
+
+    @Override
+    public boolean supportsInsertReturning() {
+      return nativePostgres;
+    }
   }
 
   static class MariaDBDatabaseSpecific implements DatabaseSpecific {
@@ -240,5 +263,15 @@ public final class DatabaseSpecifics {
           return col;
       }
     }
+
+    @Override
+    public String arrayElementType(Jdbc2ColumnType columnType) {
+      return null;
+    }
+
+    @Override
+    public boolean supportsInsertReturning() {
+      return false;
+    }
   }
 }
@@ -19,6 +19,13 @@ final class SqlConstants {
 
   static final int MAX_BATCH_SIZE = 50;
 
+  /**
+   * Statement sizes used for {@code IN (?, ...)} lists and multi-row inserts. The number of keys or
+   * rows is padded to the next size, so that only a few distinct statements are prepared. Requests
+   * exceeding the largest size are split.
+   */
+  static final int[] BUCKET_SIZES = {1, 4, 16, 64, 256};
+
   static final String TABLE_REFS = "refs2";
   static final String TABLE_OBJS = "objs2";
 
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.jdbc2;
+
+import static org.projectnessie.versioned.storage.jdbc2.AbstractJdbc2Persist.bucketSize;
+import static org.projectnessie.versioned.storage.jdbc2.AbstractJdbc2Persist.sqlInsertMultiple;
+import static org.projectnessie.versioned.storage.jdbc2.AbstractJdbc2Persist.sqlSelectAny;
+import static org.projectnessie.versioned.storage.jdbc2.AbstractJdbc2Persist.sqlSelectMultiple;
+import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.FIND_OBJS_TYPED;
+import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.MAX_BATCH_SIZE;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestSqlStatements {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @Test
+  public void selectMultiple() {
+    soft.assertThat(sqlSelectMultiple("SELECT a FROM t WHERE r=? AND k IN (?) AND y=?", 1))
+        .isEqualTo("SELECT a FROM t WHERE r=? AND k IN (?) AND y=?");
+    soft.assertThat(sqlSelectMultiple("SELECT a FROM t WHERE r=? AND k IN (?) AND y=?", 3))
+        .isEqualTo("SELECT a FROM t WHERE r=? AND k IN (?,?,?) AND y=?");
+  }
+
+  @Test
+  public void selectAny() {
+    soft.assertThat(sqlSelectAny("SELECT a FROM t WHERE r=? AND k IN (?) AND y=?"))
+        .isEqualTo("SELECT a FROM t WHERE r=? AND k = ANY(?) AND y=?");
+    soft.assertThat(sqlSelectAny(FIND_OBJS_TYPED)).contains(" obj_id = ANY(?) AND ");
+    soft.assertThatIllegalArgumentException()
+        .isThrownBy(() -> sqlSelectAny("SELECT a FROM t WHERE k=?"));
+  }
+
+  @Test
+  public void insertMultiple() {
+    soft.assertThat(sqlInsertMultiple("INSERT INTO t (a, b) VALUES (?, ?)", 1))
+        .isEqualTo("INSERT INTO t (a, b) VALUES (?, ?)");
+    soft.assertThat(sqlInsertMultiple("INSERT INTO t (a, b) VALUES (?, ?)", 3))
+        .isEqualTo("INSERT INTO t (a, b) VALUES (?, ?), (?, ?), (?, ?)");
+    soft.assertThatIllegalArgumentException()
+        .isThrownBy(() -> sqlInsertMultiple("SELECT a FROM t", 2));
+  }
+
+  @Test
+  public void bucketSizes() {
+    soft.assertThat(bucketSize(1, 256)).isEqualTo(1);
+    soft.assertThat(bucketSize(2, 256)).isEqualTo(4);
+    soft.assertThat(bucketSize(4, 256)).isEqualTo(4);
+    soft.assertThat(bucketSize(5, 256)).isEqualTo(16);
+    soft.assertThat(bucketSize(65, 256)).isEqualTo(256);
+    soft.assertThat(bucketSize(256, 256)).isEqualTo(256);
+    soft.assertThat(bucketSize(17, MAX_BATCH_SIZE)).isEqualTo(MAX_BATCH_SIZE);
+    soft.assertThat(bucketSize(MAX_BATCH_SIZE, MAX_BATCH_SIZE)).isEqualTo(MAX_BATCH_SIZE);
+  }
+}
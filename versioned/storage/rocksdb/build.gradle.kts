@@ -14,7 +14,10 @@
  * limitations under the License.
  */
 
-plugins { id("nessie-conventions-server") }
+plugins {
+  id("nessie-conventions-server")
+  alias(libs.plugins.jmh)
+}
 
 publishingHelper { mavenName = "Nessie - Storage - RocksDB" }
 
@@ -43,4 +46,16 @@ dependencies {
   testImplementation(platform(libs.junit.bom))
   testImplementation(libs.bundles.junit.testing)
   testRuntimeOnly(libs.logback.classic)
+
+  jmhImplementation(libs.jmh.core)
+  jmhImplementation(project(":nessie-model"))
+  jmhImplementation(project(":nessie-versioned-spi"))
+  jmhImplementation(project(":nessie-versioned-storage-store"))
+  jmhImplementation(project(path = ":nessie-protobuf-relocated", configuration = "shadow"))
+  jmhAnnotationProcessor(libs.jmh.generator.annprocess)
+  jmhRuntimeOnly(libs.logback.classic)
 }
+
+tasks.named("processJmhJandexIndex").configure { enabled = false }
+
+jmh { jmhVersion = libs.versions.jmh.get() }
@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.rocksdb;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.projectnessie.model.CommitMeta.fromMessage;
+import static org.projectnessie.versioned.storage.common.logic.Logics.repositoryLogic;
+import static org.projectnessie.versioned.storage.common.objtypes.ContentValueObj.contentValue;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.IcebergTable;
+import org.projectnessie.model.Operation;
+import org.projectnessie.model.Operation.Put;
+import org.projectnessie.nessie.relocated.protobuf.ByteString;
+import org.projectnessie.versioned.BranchName;
+import org.projectnessie.versioned.CommitResult;
+import org.projectnessie.versioned.VersionStore;
+import org.projectnessie.versioned.storage.common.config.StoreConfig;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.rocksdb.RocksDBBackendBaseConfig.CompactionStyle;
+import org.projectnessie.versioned.storage.rocksdb.RocksDBBackendBaseConfig.Compression;
+import org.projectnessie.versioned.storage.versionstore.VersionStoreImpl;
+
+/** Commit and bulk object write throughput against the RocksDB backend. */
+@Warmup(iterations = 2, time = 2000, timeUnit = MILLISECONDS)
+@Measurement(iterations = 3, time = 1000, timeUnit = MILLISECONDS)
+@Fork(1)
+@Threads(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class RocksDBCommitBench {
+  @State(Scope.Benchmark)
+  public static class BenchmarkParam {
+
+    @Param({"1", "20"})
+    public int putsPerCommit;
+
+    @Param({"UNIVERSAL", "LEVEL"})
+    public String compactionStyle;
+
+    @Param({"NONE", "LZ4"})
+    public String compression;
+
+    @Param({"0", "10"})
+    public int bloomFilterBitsPerKey;
+
+    @Param({"0", "64"})
+    public int blockCacheSizeMb;
+
+    Path rocksDir;
+    RocksDBBackend backend;
+    Persist persist;
+    VersionStore versionStore;
+    BranchName branch;
+    final AtomicLong keyCounter = new AtomicLong();
+
+    @Setup
+    public void init() throws Exception {
+      rocksDir = Files.createTempDirectory("nessie-rocksdb-bench");
+
+      ImmutableRocksDBBackendConfig.Builder config =
+          RocksDBBackendConfig.builder()
+              .databasePath(rocksDir)
+              .compactionStyle(CompactionStyle.valueOf(compactionStyle))
+              .compression(Compression.valueOf(compression))
+              .bloomFilterBitsPerKey(bloomFilterBitsPerKey);
+      if (blockCacheSizeMb > 0) {
+        config.blockCacheSizeMb(blockCacheSizeMb);
+      }
+
+      backend = new RocksDBBackendFactory().buildBackend(config.build());
+      backend.setupSchema();
+      persist = backend.createFactory().newPersist(StoreConfig.Adjustable.empty());
+      repositoryLogic(persist).initialize("main");
+      versionStore = new VersionStoreImpl(persist);
+      branch = BranchName.of("main");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+      try {
+        backend.close();
+      } finally {
+        deleteTempDir(rocksDir);
+      }
+    }
+
+    List<Operation> nextPuts() {
+      List<Operation> puts = new ArrayList<>(putsPerCommit);
+      for (int i = 0; i < putsPerCommit; i++) {
+        long k = keyCounter.incrementAndGet();
+        puts.add(Put.of(ContentKey.of("table-" + k), IcebergTable.of("meta-" + k, k, 1, 2, 3)));
+      }
+      return puts;
+    }
+
+    Obj[] nextObjs() {
+      Obj[] objs = new Obj[putsPerCommit];
+      for (int i = 0; i < putsPerCommit; i++) {
+        objs[i] = contentValue(UUID.randomUUID().toString(), 1, ByteString.copyFromUtf8("v" + i));
+      }
+      return objs;
+    }
+  }
+
+  @Benchmark
+  public CommitResult commit(BenchmarkParam param) throws Exception {
+    return param.versionStore.commit(
+        param.branch, Optional.empty(), fromMessage("commit"), param.nextPuts());
+  }
+
+  @Benchmark
+  public boolean[] storeObjs(BenchmarkParam param) throws Exception {
+    return param.persist.storeObjs(param.nextObjs());
+  }
+
+  private static void deleteTempDir(Path dir) throws IOException {
+    if (dir == null || Files.notExists(dir)) {
+      return;
+    }
+    Files.walkFileTree(
+        dir,
+        new SimpleFileVisitor<>() {
+          @Override
+          public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
+              throws IOException {
+            Files.delete(file);
+            return FileVisitResult.CONTINUE;
+          }
+
+          @Override
+          public FileVisitResult postVisitDirectory(Path d, IOException exc) throws IOException {
+            Files.delete(d);
+            return FileVisitResult.CONTINUE;
+          }
+        });
+  }
+}
@@ -29,6 +29,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
@@ -36,15 +37,21 @@ import org.projectnessie.nessie.relocated.protobuf.ByteString;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
 import org.projectnessie.versioned.storage.common.persist.Backend;
 import org.projectnessie.versioned.storage.common.persist.PersistFactory;
+import org.projectnessie.versioned.storage.rocksdb.RocksDBBackendBaseConfig.CompactionStyle;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompressionType;
 import org.rocksdb.DBOptions;
+import org.rocksdb.LRUCache;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.TransactionDB;
 import org.rocksdb.TransactionDBOptions;
+import org.rocksdb.WriteOptions;
 
 public final class RocksDBBackend implements Backend {
   public static final String CF_REFERENCES = "nessie_refs";
@@ -57,6 +64,8 @@ public final class RocksDBBackend implements Backend {
   private TransactionDB db;
   private ColumnFamilyHandle cfReferences;
   private ColumnFamilyHandle cfObjects;
+  private WriteOptions writeOptions;
+  private final List<AutoCloseable> closeables = new ArrayList<>();
 
   private final Map<String, RocksDBRepo> repositories = new ConcurrentHashMap<>();
 
@@ -81,17 +90,29 @@ public final class RocksDBBackend implements Backend {
     return cfObjects;
   }
 
+  WriteOptions writeOptions() {
+    return writeOptions;
+  }
+
   @Override
   public synchronized void close() {
     if (db != null) {
       try {
-        closeMultiple(cfObjects, cfReferences, db);
+        List<AutoCloseable> toClose = new ArrayList<>();
+        toClose.add(cfObjects);
+        toClose.add(cfReferences);
+        toClose.add(db);
+        toClose.add(writeOptions);
+        toClose.addAll(closeables);
+        closeMultiple(toClose);
       } catch (Exception e) {
         throw new RuntimeException(e);
       } finally {
         db = null;
         cfReferences = null;
         cfObjects = null;
+        writeOptions = null;
+        closeables.clear();
       }
     }
   }
@@ -110,14 +131,14 @@ public final class RocksDBBackend implements Backend {
       columnFamilies.add(DEFAULT_COLUMN_FAMILY);
       CF_ALL.stream().map(s -> s.getBytes(StandardCharsets.UTF_8)).forEach(columnFamilies::add);
 
+      BlockBasedTableConfig tableConfig = tableConfig();
       List<ColumnFamilyDescriptor> columnFamilyDescriptors =
           columnFamilies.stream()
-              .map(
-                  c ->
-                      new ColumnFamilyDescriptor(
-                          c, new ColumnFamilyOptions().optimizeUniversalStyleCompaction()))
+              .map(c -> new ColumnFamilyDescriptor(c, columnFamilyOptions(tableConfig)))
               .collect(Collectors.toList());
 
+      writeOptions = new WriteOptions().setSync(config.syncWrites().orElse(false));
+
       try (final DBOptions dbOptions =
           new DBOptions().setCreateIfMissing(true).setCreateMissingColumnFamilies(true)) {
         // TODO: Consider setting WAL limits.
@@ -144,6 +165,71 @@ public final class RocksDBBackend implements Backend {
     }
   }
 
+  private BlockBasedTableConfig tableConfig() {
+    OptionalInt blockCacheSizeMb = config.blockCacheSizeMb();
+    int bloomFilterBitsPerKey = config.bloomFilterBitsPerKey().orElse(0);
+    if (blockCacheSizeMb.isEmpty() && bloomFilterBitsPerKey <= 0) {
+      return null;
+    }
+
+    BlockBasedTableConfig tableConfig = new BlockBasedTableConfig();
+    if (blockCacheSizeMb.isPresent()) {
+      LRUCache blockCache = new LRUCache(blockCacheSizeMb.getAsInt() * 1024L * 1024L);
+      closeables.add(blockCache);
+      tableConfig.setBlockCache(blockCache);
+    }
+    if (bloomFilterBitsPerKey > 0) {
+      BloomFilter bloomFilter = new BloomFilter(bloomFilterBitsPerKey);
+      closeables.add(bloomFilter);
+      tableConfig.setFilterPolicy(bloomFilter);
+    }
+    return tableConfig;
+  }
+
+  private ColumnFamilyOptions columnFamilyOptions(BlockBasedTableConfig tableConfig) {
+    ColumnFamilyOptions options = new ColumnFamilyOptions();
+    closeables.add(options);
+
+    switch (config.compactionStyle().orElse(CompactionStyle.UNIVERSAL)) {
+      case LEVEL:
+        options.optimizeLevelStyleCompaction();
+        break;
+      case UNIVERSAL:
+        options.optimizeUniversalStyleCompaction();
+        break;
+      default:
+        throw new IllegalArgumentException(
+            "Unsupported compaction style " + config.compactionStyle());
+    }
+
+    config
+        .compression()
+        .ifPresent(
+            compression -> {
+              switch (compression) {
+                case NONE:
+                  options.setCompressionType(CompressionType.NO_COMPRESSION);
+                  break;
+                case SNAPPY:
+                  options.setCompressionType(CompressionType.SNAPPY_COMPRESSION);
+                  break;
+                case LZ4:
+                  options.setCompressionType(CompressionType.LZ4_COMPRESSION);
+                  break;
+                case ZSTD:
+                  options.setCompressionType(CompressionType.ZSTD_COMPRESSION);
+                  break;
+                default:
+                  throw new IllegalArgumentException("Unsupported compression " + compression);
+              }
+            });
+
+    if (tableConfig != null) {
+      options.setTableFormatConfig(tableConfig);
+    }
+    return options;
+  }
+
   @Override
   public Optional<String> setupSchema() {
     initialize();
@@ -16,8 +16,48 @@
 package org.projectnessie.versioned.storage.rocksdb;
 
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.OptionalInt;
 
 public interface RocksDBBackendBaseConfig {
   /** Sets RocksDB storage path. */
   Path databasePath();
+
+  /**
+   * Size of the RocksDB block cache in MB, shared by all column families. If not set, RocksDB's
+   * default per column family block cache is used.
+   */
+  OptionalInt blockCacheSizeMb();
+
+  /**
+   * Number of bits per key for the bloom filters of the SST files, which let point lookups skip
+   * files that do not contain the requested key. 10 is a good value. Bloom filters are not used, if
+   * not set or 0.
+   */
+  OptionalInt bloomFilterBitsPerKey();
+
+  /** Compression of the SST files. If not set, RocksDB's default compression is used. */
+  Optional<Compression> compression();
+
+  /** Compaction style, defaults to universal style compaction. */
+  Optional<CompactionStyle> compactionStyle();
+
+  /**
+   * Whether writes are synced to disk before they are acknowledged. Defaults to {@code false},
+   * which can lose the most recent writes in case of a machine crash, but not in case of a process
+   * crash.
+   */
+  Optional<Boolean> syncWrites();
+
+  enum Compression {
+    NONE,
+    SNAPPY,
+    LZ4,
+    ZSTD
+  }
+
+  enum CompactionStyle {
+    LEVEL,
+    UNIVERSAL
+  }
 }
@@ -16,9 +16,11 @@
 package org.projectnessie.versioned.storage.rocksdb;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Collections.nCopies;
 import static java.util.Collections.singleton;
 import static org.projectnessie.versioned.storage.rocksdb.RocksDBBackend.keyPrefix;
 import static org.projectnessie.versioned.storage.rocksdb.RocksDBBackend.rocksDbException;
+import static org.projectnessie.versioned.storage.rocksdb.RocksDBRepo.unlockAll;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeObj;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeObjId;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeReference;
@@ -30,6 +32,7 @@ import jakarta.annotation.Nonnull;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.locks.Lock;
@@ -52,6 +55,7 @@ import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.TransactionDB;
+import org.rocksdb.WriteBatch;
 
 class RocksDBPersist implements Persist {
 
@@ -161,7 +165,7 @@ class RocksDBPersist implements Persist {
         throw new RefAlreadyExistsException(deserializeReference(existing));
       }
 
-      db.put(cf, key, serializeReference(reference));
+      db.put(b.writeOptions(), cf, key, serializeReference(reference));
 
       return reference;
     } catch (RocksDBException e) {
@@ -185,7 +189,7 @@ class RocksDBPersist implements Persist {
       checkReference(reference, db, cf, key, false);
 
       Reference asDeleted = reference.withDeleted(true);
-      db.put(cf, key, serializeReference(asDeleted));
+      db.put(b.writeOptions(), cf, key, serializeReference(asDeleted));
       return asDeleted;
     } catch (RocksDBException e) {
       throw rocksDbException(e);
@@ -224,7 +228,7 @@ class RocksDBPersist implements Persist {
 
       checkReference(reference.withDeleted(true), db, cf, key, true);
 
-      db.delete(cf, key);
+      db.delete(b.writeOptions(), cf, key);
     } catch (RocksDBException e) {
       throw rocksDbException(e);
     } finally {
@@ -247,7 +251,7 @@ class RocksDBPersist implements Persist {
 
       Reference updated = reference.forNewPointer(newPointer, config);
 
-      db.put(cf, key, serializeReference(updated));
+      db.put(b.writeOptions(), cf, key, serializeReference(updated));
       return updated;
     } catch (RocksDBException e) {
       throw rocksDbException(e);
@@ -359,7 +363,7 @@ class RocksDBPersist implements Persist {
           ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIndexSegmentSizeLimit();
       byte[] serialized = serializeObj(obj, incrementalIndexSizeLimit, indexSizeLimit, true);
 
-      db.put(cf, key, serialized);
+      db.put(b.writeOptions(), cf, key, serialized);
       return r;
     } catch (RocksDBException e) {
       throw rocksDbException(e);
@@ -372,13 +376,67 @@ class RocksDBPersist implements Persist {
   @Nonnull
   public boolean[] storeObjs(@Nonnull Obj[] objs) throws ObjTooLargeException {
     boolean[] r = new boolean[objs.length];
-    for (int i = 0; i < objs.length; i++) {
-      Obj o = objs[i];
-      if (o != null) {
-        r[i] = storeObj(o, false);
+
+    List<ObjId> ids = new ArrayList<>(objs.length);
+    List<byte[]> keys = new ArrayList<>(objs.length);
+    for (Obj obj : objs) {
+      if (obj != null) {
+        checkArgument(obj.id() != null, "Obj to store must have a non-null ID");
+        ids.add(obj.id());
+        keys.add(dbKey(obj.id()));
       }
     }
-    return r;
+    if (ids.isEmpty()) {
+      return r;
+    }
+
+    List<Lock> locks = repo.objLocks(ids);
+    try (WriteBatch batch = new WriteBatch()) {
+      RocksDBBackend b = backend;
+      TransactionDB db = b.db();
+      ColumnFamilyHandle cf = b.objs();
+
+      long referenced = config.currentTimeMicros();
+      List<byte[]> existing = db.multiGetAsList(nCopies(keys.size(), cf), keys);
+
+      Set<ObjId> inBatch = new HashSet<>();
+      for (int i = 0, ki = 0; i < objs.length; i++) {
+        Obj obj = objs[i];
+        if (obj == null) {
+          continue;
+        }
+        byte[] key = keys.get(ki);
+        byte[] ex = existing.get(ki++);
+
+        boolean ignoreSoftSizeRestrictions;
+        if (!inBatch.add(obj.id())) {
+          // same object twice in the same call, the first one wins
+          continue;
+        } else if (ex != null) {
+          obj = deserializeObj(obj.id(), referenced, ex, null);
+          ignoreSoftSizeRestrictions = true;
+        } else {
+          obj = obj.withReferenced(referenced);
+          ignoreSoftSizeRestrictions = false;
+          r[i] = true;
+        }
+
+        int incrementalIndexSizeLimit =
+            ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIncrementalIndexSizeLimit();
+        int indexSizeLimit =
+            ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIndexSegmentSizeLimit();
+        byte[] serialized = serializeObj(obj, incrementalIndexSizeLimit, indexSizeLimit, true);
+
+        batch.put(cf, key, serialized);
+      }
+
+      db.write(b.writeOptions(), batch);
+      return r;
+    } catch (RocksDBException e) {
+      throw rocksDbException(e);
+    } finally {
+      unlockAll(locks);
+    }
   }
 
   @Override
@@ -390,7 +448,7 @@ class RocksDBPersist implements Persist {
       ColumnFamilyHandle cf = b.objs();
       byte[] key = dbKey(id);
 
-      db.delete(cf, key);
+      db.delete(b.writeOptions(), cf, key);
     } catch (RocksDBException e) {
       throw rocksDbException(e);
     } finally {
@@ -400,10 +458,31 @@ class RocksDBPersist implements Persist {
 
   @Override
   public void deleteObjs(@Nonnull ObjId[] ids) {
+    List<ObjId> nonNullIds = new ArrayList<>(ids.length);
     for (ObjId id : ids) {
       if (id != null) {
-        deleteObj(id);
+        nonNullIds.add(id);
+      }
+    }
+    if (nonNullIds.isEmpty()) {
+      return;
+    }
+
+    List<Lock> locks = repo.objLocks(nonNullIds);
+    try (WriteBatch batch = new WriteBatch()) {
+      RocksDBBackend b = backend;
+      TransactionDB db = b.db();
+      ColumnFamilyHandle cf = b.objs();
+
+      for (ObjId id : nonNullIds) {
+        batch.delete(cf, dbKey(id));
       }
+
+      db.write(b.writeOptions(), batch);
+    } catch (RocksDBException e) {
+      throw rocksDbException(e);
+    } finally {
+      unlockAll(locks);
     }
   }
 
@@ -426,7 +505,7 @@ class RocksDBPersist implements Persist {
           serializeObj(
               obj, effectiveIncrementalIndexSizeLimit(), effectiveIndexSegmentSizeLimit(), true);
 
-      db.put(cf, key, serialized);
+      db.put(b.writeOptions(), cf, key, serialized);
     } catch (RocksDBException e) {
       throw rocksDbException(e);
     } finally {
@@ -436,11 +515,42 @@ class RocksDBPersist implements Persist {
 
   @Override
   public void upsertObjs(@Nonnull Obj[] objs) throws ObjTooLargeException {
+    List<ObjId> ids = new ArrayList<>(objs.length);
     for (Obj obj : objs) {
       if (obj != null) {
-        upsertObj(obj);
+        checkArgument(obj.id() != null, "Obj to store must have a non-null ID");
+        ids.add(obj.id());
       }
     }
+    if (ids.isEmpty()) {
+      return;
+    }
+
+    List<Lock> locks = repo.objLocks(ids);
+    try (WriteBatch batch = new WriteBatch()) {
+      RocksDBBackend b = backend;
+      TransactionDB db = b.db();
+      ColumnFamilyHandle cf = b.objs();
+
+      long referenced = config.currentTimeMicros();
+      for (Obj obj : objs) {
+        if (obj != null) {
+          byte[] serialized =
+              serializeObj(
+                  obj.withReferenced(referenced),
+                  effectiveIncrementalIndexSizeLimit(),
+                  effectiveIndexSegmentSizeLimit(),
+                  true);
+          batch.put(cf, dbKey(obj.id()), serialized);
+        }
+      }
+
+      db.write(b.writeOptions(), batch);
+    } catch (RocksDBException e) {
+      throw rocksDbException(e);
+    } finally {
+      unlockAll(locks);
+    }
   }
 
   @Override
@@ -466,7 +576,7 @@ class RocksDBPersist implements Persist {
         return false;
       }
 
-      db.delete(cf, key);
+      db.delete(b.writeOptions(), cf, key);
       return true;
     } catch (RocksDBException e) {
       throw rocksDbException(e);
@@ -511,7 +621,7 @@ class RocksDBPersist implements Persist {
               effectiveIndexSegmentSizeLimit(),
               true);
 
-      db.put(cf, key, serialized);
+      db.put(b.writeOptions(), cf, key, serialized);
 
       return true;
     } catch (RocksDBException e) {
@@ -16,6 +16,8 @@
 package org.projectnessie.versioned.storage.rocksdb;
 
 import com.google.common.util.concurrent.Striped;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.locks.Lock;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
 
@@ -42,4 +44,29 @@ final class RocksDBRepo {
     l.lock();
     return l;
   }
+
+  /**
+   * Acquires the locks for all given object IDs in a consistent order, the returned locks must be
+   * released using {@link #unlockAll(List)}.
+   */
+  @SuppressWarnings("UnstableApiUsage")
+  List<Lock> objLocks(List<ObjId> ids) {
+    List<Lock> locks = new ArrayList<>(Math.min(ids.size(), STRIPES));
+    Lock previous = null;
+    // bulkGet() returns the stripes in a consistent order, same stripes are adjacent
+    for (Lock l : objLocks.bulkGet(ids)) {
+      if (l != previous) {
+        l.lock();
+        locks.add(l);
+        previous = l;
+      }
+    }
+    return locks;
+  }
+
+  static void unlockAll(List<Lock> locks) {
+    for (int i = locks.size() - 1; i >= 0; i--) {
+      locks.get(i).unlock();
+    }
+  }
 }
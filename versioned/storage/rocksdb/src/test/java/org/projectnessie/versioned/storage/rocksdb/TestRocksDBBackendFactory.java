@@ -32,6 +32,8 @@ import org.projectnessie.versioned.storage.common.persist.BackendFactory;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.common.persist.PersistFactory;
 import org.projectnessie.versioned.storage.common.persist.PersistLoader;
+import org.projectnessie.versioned.storage.rocksdb.RocksDBBackendBaseConfig.CompactionStyle;
+import org.projectnessie.versioned.storage.rocksdb.RocksDBBackendBaseConfig.Compression;
 import org.projectnessie.versioned.storage.rocksdbtests.RocksDBBackendTestFactory;
 
 @ExtendWith(SoftAssertionsExtension.class)
@@ -78,6 +80,31 @@ public class TestRocksDBBackendFactory {
     }
   }
 
+  @Test
+  public void tunedOptions() throws Exception {
+    BackendFactory<RocksDBBackendConfig> factory =
+        PersistLoader.findFactoryByName(RocksDBBackendFactory.NAME);
+
+    RocksDBBackendConfig config =
+        RocksDBBackendConfig.builder()
+            .databasePath(rocksDir)
+            .blockCacheSizeMb(8)
+            .bloomFilterBitsPerKey(10)
+            .compression(Compression.LZ4)
+            .compactionStyle(CompactionStyle.LEVEL)
+            .syncWrites(true)
+            .build();
+
+    try (Backend backend = factory.buildBackend(config)) {
+      backend.setupSchema();
+      Persist persist = backend.createFactory().newPersist(StoreConfig.Adjustable.empty());
+
+      RepositoryLogic repositoryLogic = repositoryLogic(persist);
+      repositoryLogic.initialize("main");
+      soft.assertThat(repositoryLogic.fetchRepositoryDescription()).isNotNull();
+    }
+  }
+
   @Test
   public void testFactory() throws Exception {
     RocksDBBackendTestFactory testFactory = new RocksDBBackendTestFactory();
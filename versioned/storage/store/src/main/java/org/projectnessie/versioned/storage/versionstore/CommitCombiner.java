@@ -0,0 +1,349 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.versionstore;
+
+import static org.projectnessie.versioned.storage.versionstore.BaseCommitHelper.committingOperation;
+
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import org.projectnessie.model.CommitMeta;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.Operation;
+import org.projectnessie.versioned.BranchName;
+import org.projectnessie.versioned.CommitResult;
+import org.projectnessie.versioned.Hash;
+import org.projectnessie.versioned.ReferenceConflictException;
+import org.projectnessie.versioned.ReferenceNotFoundException;
+import org.projectnessie.versioned.VersionStore.CommitValidator;
+import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
+import org.projectnessie.versioned.storage.common.exceptions.UnknownOperationResultException;
+import org.projectnessie.versioned.storage.common.logic.CommitRetry.RetryException;
+import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.common.persist.Reference;
+import org.projectnessie.versioned.storage.versionstore.CommitImpl.CommitRetryState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Combines concurrent commits against the same branch into a single update of the reference
+ * pointer, see {@link
+ * org.projectnessie.versioned.storage.common.config.StoreConfig#commitCombiningMaxCommits()}.
+ *
+ * <p>Commit requests are queued per branch. The thread whose commit request is at the head of the
+ * queue becomes the "leader" and processes up to {@code maxCommits} queued commit requests as one
+ * batch: each commit is built and validated on top of the previous commit of the batch, exactly
+ * like a retried commit would be built on top of a concurrently committed HEAD. Commits that fail
+ * validation or have conflicts are left out and only fail for their own caller. The remaining
+ * commits form a chain, which is made visible with a single reference-pointer update. If that
+ * update fails, because the reference has been concurrently changed by another Nessie instance,
+ * the whole batch, including the commits that failed, is retried using the same {@link
+ * BaseCommitHelper#committingOperation commit-retry} mechanism as for single commits. Failures are
+ * only reported to the callers after the chain has been published.
+ *
+ * <p>After the leader has finished its batch, it promotes the owner of the next queued commit
+ * request to become the next leader, so every thread processes at most one batch.
+ */
+final class CommitCombiner {
+  private static final Logger LOGGER = LoggerFactory.getLogger(CommitCombiner.class);
+
+  private final Persist persist;
+  private final int maxCommits;
+  private final ConcurrentMap<String, BranchQueue> queues = new ConcurrentHashMap<>();
+
+  CommitCombiner(Persist persist, int maxCommits) {
+    this.persist = persist;
+    this.maxCommits = maxCommits;
+  }
+
+  CommitResult commit(
+      @Nonnull BranchName branch,
+      @Nonnull Optional<Hash> referenceHash,
+      @Nonnull CommitMeta metadata,
+      @Nonnull List<Operation> operations,
+      @Nonnull CommitValidator validator,
+      @Nonnull BiConsumer<ContentKey, String> addedContents)
+      throws ReferenceNotFoundException, ReferenceConflictException {
+    PendingCommit pending =
+        new PendingCommit(referenceHash, metadata, operations, validator, addedContents);
+
+    BranchQueue queue = queues.computeIfAbsent(branch.getName(), x -> new BranchQueue());
+    boolean leader;
+    synchronized (queue) {
+      queue.pending.add(pending);
+      leader = !queue.leaderActive;
+      if (leader) {
+        queue.leaderActive = true;
+      }
+    }
+
+    if (leader || pending.awaitDoneOrPromoted()) {
+      // This thread became the leader, its own commit request is the head of the queue.
+      processBatch(branch, queue);
+    }
+
+    return pending.result();
+  }
+
+  private void processBatch(BranchName branch, BranchQueue queue) {
+    List<PendingCommit> batch = new ArrayList<>(maxCommits);
+    synchronized (queue) {
+      for (int i = 0; i < maxCommits; i++) {
+        PendingCommit p = queue.pending.poll();
+        if (p == null) {
+          break;
+        }
+        batch.add(p);
+      }
+    }
+
+    try {
+      commitBatch(branch, batch);
+    } catch (ReferenceNotFoundException | ReferenceConflictException | RuntimeException | Error e) {
+      for (PendingCommit p : batch) {
+        p.fail(e);
+      }
+    } finally {
+      synchronized (queue) {
+        PendingCommit next = queue.pending.peek();
+        if (next != null) {
+          next.promote();
+        } else {
+          queue.leaderActive = false;
+          // A concurrent commit request might still add itself to the removed queue instance and
+          // become the leader for that instance, which is fine.
+          queues.remove(branch.getName(), queue);
+        }
+      }
+    }
+  }
+
+  private void commitBatch(BranchName branch, List<PendingCommit> batch)
+      throws ReferenceNotFoundException, ReferenceConflictException {
+    committingOperation(
+        "commit",
+        branch,
+        Optional.empty(),
+        persist,
+        (b, referenceHash, p, reference, head) -> new BatchAttempt(p, reference, head),
+        (attempt, retryState) -> commitChain(branch, attempt, batch, retryState));
+  }
+
+  /**
+   * Builds the chain of commits of the batch on top of the current HEAD of the branch and makes
+   * the chain visible with a single reference-pointer update.
+   *
+   * <p>Commit requests that fail are not part of the chain, but their failures are only reported
+   * after the chain has been published. A commit request can conflict with a previous commit of
+   * the same batch, which only becomes a real conflict once that commit is visible. If the
+   * reference-pointer update fails, the whole batch, including the failed commit requests, is
+   * retried against the new HEAD.
+   */
+  private static Void commitChain(
+      BranchName branch, BatchAttempt attempt, List<PendingCommit> batch, Optional<?> retryState)
+      throws ReferenceNotFoundException, RetryException {
+    CommitObj head = attempt.head;
+    List<PendingCommit> chain = new ArrayList<>(batch.size());
+    for (PendingCommit pending : batch) {
+      pending.committer = null;
+      pending.newHead = null;
+      pending.attemptFailure = null;
+      try {
+        CommitImpl committer =
+            new CommitImpl(branch, pending.referenceHash, attempt.persist, attempt.reference, head);
+        CommitObj newHead =
+            committer.storeCommit(
+                pending.retryState, pending.metadata, pending.operations, pending.validator);
+        pending.committer = committer;
+        pending.newHead = newHead;
+        head = newHead;
+        chain.add(pending);
+      } catch (UnknownOperationResultException e) {
+        throw new RetryException(retryState);
+      } catch (ReferenceConflictException
+          | ReferenceNotFoundException
+          | ObjTooLargeException
+          | RuntimeException e) {
+        // The commit request conflicts, is invalid or has been rejected by the validator, only
+        // fail the commit of this caller, but not before the chain has been published.
+        pending.attemptFailure = e;
+      }
+    }
+
+    if (!chain.isEmpty()) {
+      ObjId newPointer = head.id();
+      PendingCommit last = chain.get(chain.size() - 1);
+      try {
+        last.committer.bumpReferencePointer(newPointer, retryState);
+      } catch (UnknownOperationResultException e) {
+        throw new RetryException(retryState);
+      }
+
+      LOGGER.debug(
+          "Combined {} commits into a single reference update of '{}'",
+          chain.size(),
+          branch.getName());
+    }
+
+    for (PendingCommit pending : batch) {
+      if (pending.attemptFailure != null) {
+        pending.fail(pending.attemptFailure);
+        continue;
+      }
+      try {
+        pending.complete(
+            pending.committer.commitResult(
+                pending.retryState, pending.newHead, pending.addedContents));
+      } catch (ReferenceNotFoundException | RuntimeException e) {
+        pending.fail(e);
+      }
+    }
+    return null;
+  }
+
+  /** The state of the branch that one attempt to commit a batch is based on. */
+  private static final class BatchAttempt {
+    final Persist persist;
+    final Reference reference;
+    final CommitObj head;
+
+    BatchAttempt(Persist persist, Reference reference, CommitObj head) {
+      this.persist = persist;
+      this.reference = reference;
+      this.head = head;
+    }
+  }
+
+  static final class BranchQueue {
+    // guarded by 'this'
+    final ArrayDeque<PendingCommit> pending = new ArrayDeque<>();
+    // guarded by 'this'
+    boolean leaderActive;
+  }
+
+  static final class PendingCommit {
+    final Optional<Hash> referenceHash;
+    final CommitMeta metadata;
+    final List<Operation> operations;
+    final CommitValidator validator;
+    final BiConsumer<ContentKey, String> addedContents;
+
+    /** Retry state is kept per commit request, survives batch retries. */
+    final CommitRetryState retryState = new CommitRetryState();
+
+    // only accessed by the leader, reset for every attempt
+    CommitImpl committer;
+    CommitObj newHead;
+    Exception attemptFailure;
+
+    // guarded by 'this'
+    private boolean done;
+    private boolean promoted;
+    private CommitResult result;
+    private Throwable failure;
+
+    PendingCommit(
+        Optional<Hash> referenceHash,
+        CommitMeta metadata,
+        List<Operation> operations,
+        CommitValidator validator,
+        BiConsumer<ContentKey, String> addedContents) {
+      this.referenceHash = referenceHash;
+      this.metadata = metadata;
+      this.operations = operations;
+      this.validator = validator;
+      this.addedContents = addedContents;
+    }
+
+    synchronized void complete(CommitResult commitResult) {
+      if (!done) {
+        this.result = commitResult;
+        this.done = true;
+        notifyAll();
+      }
+    }
+
+    synchronized void fail(Throwable t) {
+      if (!done) {
+        this.failure = t;
+        this.done = true;
+        notifyAll();
+      }
+    }
+
+    synchronized void promote() {
+      this.promoted = true;
+      notifyAll();
+    }
+
+    /**
+     * Waits until the commit request has been processed by a leader or until the caller has been
+     * promoted to become the leader.
+     *
+     * @return {@code true} if the caller has been promoted to become the leader
+     */
+    synchronized boolean awaitDoneOrPromoted() {
+      boolean interrupted = false;
+      try {
+        while (!done && !promoted) {
+          try {
+            wait();
+          } catch (InterruptedException e) {
+            // Cannot abandon the commit request, it might already be part of a batch.
+            interrupted = true;
+          }
+        }
+        return !done;
+      } finally {
+        if (interrupted) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+
+    synchronized CommitResult result()
+        throws ReferenceNotFoundException, ReferenceConflictException {
+      if (!done) {
+        throw new IllegalStateException("Commit request has not been processed");
+      }
+      Throwable f = failure;
+      if (f == null) {
+        return result;
+      }
+      if (f instanceof ReferenceNotFoundException) {
+        throw (ReferenceNotFoundException) f;
+      }
+      if (f instanceof ReferenceConflictException) {
+        throw (ReferenceConflictException) f;
+      }
+      if (f instanceof RuntimeException) {
+        throw (RuntimeException) f;
+      }
+      if (f instanceof Error) {
+        throw (Error) f;
+      }
+      throw new RuntimeException(f);
+    }
+  }
+}
@@ -62,7 +62,10 @@ import static org.projectnessie.versioned.storage.versionstore.TypeMapping.store
 import static org.projectnessie.versioned.storage.versionstore.TypeMapping.toCommitMeta;
 import static org.projectnessie.versioned.store.DefaultStoreWorker.contentTypeForPayload;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
 import jakarta.annotation.Nonnull;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -82,6 +85,7 @@ import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.annotation.CheckForNull;
 import org.projectnessie.model.CommitConsistency;
 import org.projectnessie.model.CommitMeta;
@@ -154,7 +158,11 @@ import org.projectnessie.versioned.storage.versionstore.BaseCommitHelper.Committ
 public class VersionStoreImpl implements VersionStore {
 
   public static final int GET_KEYS_CONTENT_BATCH_SIZE = 50;
+  private static final int COMMON_ANCESTOR_CACHE_SIZE = 10_000;
   private final Persist persist;
+  private final CommitCombiner commitCombiner;
+  private final Cache<HeadPair, CommonAncestor> commonAncestors =
+      CacheBuilder.newBuilder().maximumSize(COMMON_ANCESTOR_CACHE_SIZE).build();
 
   @SuppressWarnings("unused")
   public VersionStoreImpl() {
@@ -163,6 +171,9 @@ public class VersionStoreImpl implements VersionStore {
 
   public VersionStoreImpl(Persist persist) {
     this.persist = persist;
+    int combineMaxCommits = persist != null ? persist.config().commitCombiningMaxCommits() : 0;
+    this.commitCombiner =
+        combineMaxCommits > 1 ? new CommitCombiner(persist, combineMaxCommits) : null;
   }
 
   @Nonnull
@@ -529,8 +540,34 @@ public class VersionStoreImpl implements VersionStore {
       prefix = RefMapping.REFS;
     }
 
-    PagedResult<Reference, String> result =
-        referenceLogic.queryReferences(referencesQuery(token, prefix, false));
+    String namePrefix = params.getNamePrefix();
+    Iterator<Reference> result;
+    if (namePrefix == null || namePrefix.isEmpty()) {
+      result = referenceLogic.queryReferences(referencesQuery(token, prefix, false));
+    } else if (RefMapping.REFS.equals(prefix)) {
+      // Branches and tags with the name prefix are two separate ranges in the reference index.
+      result =
+          Iterators.concat(
+              Stream.of(RefMapping.REFS_HEADS, RefMapping.REFS_TAGS)
+                  .map(
+                      p ->
+                          referenceLogic.queryReferences(
+                              referencesQuery(token, p + namePrefix, false)))
+                  .iterator());
+    } else {
+      result = referenceLogic.queryReferences(referencesQuery(token, prefix + namePrefix, false));
+    }
+
+    Predicate<ReferenceInfo<CommitMeta>> bareReferenceFilter = params.getBareReferenceFilter();
+    Predicate<Reference> referenceFilter =
+        bareReferenceFilter == null
+            ? r -> true
+            : reference ->
+                bareReferenceFilter.test(
+                    ReferenceInfo.<CommitMeta>builder()
+                        .namedRef(referenceToNamedRef(reference))
+                        .hash(objIdToHash(reference.pointer()))
+                        .build());
 
     Optional<CommitObj> baseRefHead = headForBaseReference(refMapping, params);
 
@@ -546,7 +583,8 @@ public class VersionStoreImpl implements VersionStore {
           } catch (ObjNotFoundException e) {
             throw new RuntimeException("Could not resolve reference " + reference, e);
           }
-        }) {
+        },
+        referenceFilter) {
 
       @Override
       protected String computeTokenForCurrent() {
@@ -593,25 +631,14 @@ public class VersionStoreImpl implements VersionStore {
           && (opts.isComputeAheadBehind() || opts.isComputeCommonAncestor())) {
         if (baseRefHead.isPresent()) {
           CommitObj baseHead = baseRefHead.get();
-          try {
-            ObjId commonAncestorId = commitLogic.findCommonAncestor(baseHead.id(), head.id());
-            refInfo.commonAncestor(objIdToHash(commonAncestorId));
-
-            if (opts.isComputeAheadBehind()) {
-              CommitObj commonAncestor = commitLogic.fetchCommit(commonAncestorId);
-              long commonAncestorSeq = commonAncestor.seq();
-              refInfo.aheadBehind(
-                  CommitsAheadBehind.of(
-                      (int) (head.seq() - commonAncestorSeq),
-                      (int) (baseHead.seq() - commonAncestorSeq)));
-            }
-          } catch (NoSuchElementException e) {
-            // no common ancestor
-            refInfo.commonAncestor(NO_ANCESTOR);
+          CommonAncestor commonAncestor = commonAncestor(commitLogic, baseHead, head);
+          refInfo.commonAncestor(objIdToHash(commonAncestor.id));
 
-            if (opts.isComputeAheadBehind()) {
-              refInfo.aheadBehind(CommitsAheadBehind.of((int) head.seq(), (int) baseHead.seq()));
-            }
+          if (opts.isComputeAheadBehind()) {
+            refInfo.aheadBehind(
+                CommitsAheadBehind.of(
+                    (int) (head.seq() - commonAncestor.seq),
+                    (int) (baseHead.seq() - commonAncestor.seq)));
           }
         } else {
           refInfo.commonAncestor(NO_ANCESTOR);
@@ -628,6 +655,72 @@ public class VersionStoreImpl implements VersionStore {
     return refInfo.build();
   }
 
+  /**
+   * Returns the common ancestor of the given commits. Commits are immutable, so the result for a
+   * pair of commit IDs never changes and is cached.
+   */
+  private CommonAncestor commonAncestor(CommitLogic commitLogic, CommitObj baseHead, CommitObj head)
+      throws ObjNotFoundException {
+    HeadPair headPair = new HeadPair(persist.config().repositoryId(), baseHead.id(), head.id());
+    CommonAncestor cached = commonAncestors.getIfPresent(headPair);
+    if (cached != null) {
+      return cached;
+    }
+
+    CommonAncestor commonAncestor;
+    try {
+      ObjId commonAncestorId = commitLogic.findCommonAncestor(baseHead.id(), head.id());
+      commonAncestor =
+          new CommonAncestor(commonAncestorId, commitLogic.fetchCommit(commonAncestorId).seq());
+    } catch (NoSuchElementException e) {
+      // no common ancestor
+      commonAncestor = new CommonAncestor(EMPTY_OBJ_ID, 0L);
+    }
+    commonAncestors.put(headPair, commonAncestor);
+    return commonAncestor;
+  }
+
+  private static final class HeadPair {
+    private final String repositoryId;
+    private final ObjId base;
+    private final ObjId head;
+
+    HeadPair(String repositoryId, ObjId base, ObjId head) {
+      this.repositoryId = repositoryId;
+      this.base = base;
+      this.head = head;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof HeadPair)) {
+        return false;
+      }
+      HeadPair headPair = (HeadPair) o;
+      return repositoryId.equals(headPair.repositoryId)
+          && base.equals(headPair.base)
+          && head.equals(headPair.head);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(repositoryId, base, head);
+    }
+  }
+
+  private static final class CommonAncestor {
+    private final ObjId id;
+    private final long seq;
+
+    CommonAncestor(ObjId id, long seq) {
+      this.id = id;
+      this.seq = seq;
+    }
+  }
+
   static <R> R emptyOrNotFound(Ref ref, R namedRefResult) throws ReferenceNotFoundException {
     if (ref instanceof Hash && !NO_ANCESTOR.equals(ref)) {
       throw RefMapping.hashNotFound((Hash) ref);
@@ -1021,6 +1114,10 @@ public class VersionStoreImpl implements VersionStore {
       @Nonnull CommitValidator validator,
       @Nonnull BiConsumer<ContentKey, String> addedContents)
       throws ReferenceNotFoundException, ReferenceConflictException {
+    if (commitCombiner != null) {
+      return commitCombiner.commit(
+          branch, referenceHash, metadata, operations, validator, addedContents);
+    }
     return committingOperation(
         "commit",
         branch,
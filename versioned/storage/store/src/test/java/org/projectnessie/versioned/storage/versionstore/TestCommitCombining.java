@@ -0,0 +1,270 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.versionstore;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.projectnessie.model.CommitMeta.fromMessage;
+import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_COMMIT_COMBINING_MAX_COMMITS;
+import static org.projectnessie.versioned.storage.testextension.ConcurrentCalls.runBehindFirstCall;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.IcebergTable;
+import org.projectnessie.model.Operation.Put;
+import org.projectnessie.versioned.BranchName;
+import org.projectnessie.versioned.Commit;
+import org.projectnessie.versioned.CommitResult;
+import org.projectnessie.versioned.Hash;
+import org.projectnessie.versioned.ReferenceConflictException;
+import org.projectnessie.versioned.VersionStore;
+import org.projectnessie.versioned.paging.PaginationIterator;
+import org.projectnessie.versioned.storage.common.exceptions.RefConditionFailedException;
+import org.projectnessie.versioned.storage.common.exceptions.RefNotFoundException;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.common.persist.Reference;
+import org.projectnessie.versioned.storage.testextension.NessiePersist;
+import org.projectnessie.versioned.storage.testextension.NessieStoreConfig;
+import org.projectnessie.versioned.storage.testextension.PersistExtension;
+
+@ExtendWith({PersistExtension.class, SoftAssertionsExtension.class})
+public class TestCommitCombining {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @NessiePersist
+  @NessieStoreConfig(name = CONFIG_COMMIT_COMBINING_MAX_COMMITS, value = "16")
+  protected static Persist persist;
+
+  static final int CONCURRENCY = 8;
+
+  @Test
+  public void combinedCommits() throws Exception {
+    BranchName branch = BranchName.of("combined");
+    Hash initial = new VersionStoreImpl(persist).create(branch, Optional.empty()).getHash();
+
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger pointerUpdates = new AtomicInteger();
+    VersionStore store = new VersionStoreImpl(blockingPersist(blocked, release, pointerUpdates));
+
+    List<CompletableFuture<CommitResult>> results =
+        runConcurrently(
+            blocked,
+            release,
+            i ->
+                () ->
+                    store.commit(
+                        branch,
+                        Optional.of(initial),
+                        fromMessage("commit " + i),
+                        singletonList(
+                            Put.of(
+                                ContentKey.of("key-" + i),
+                                IcebergTable.of("meta", 42, 43, 44, 45)))));
+
+    Set<Hash> commitHashes = new HashSet<>();
+    for (CompletableFuture<CommitResult> result : results) {
+      commitHashes.add(result.get(30, SECONDS).getCommitHash());
+    }
+    soft.assertThat(commitHashes).hasSize(CONCURRENCY);
+
+    // The first commit is processed alone, all other commits are combined into one batch.
+    soft.assertThat(pointerUpdates).hasValue(2);
+
+    Set<Hash> logHashes = new HashSet<>();
+    try (PaginationIterator<Commit> log = store.getCommits(branch, false)) {
+      log.forEachRemaining(c -> logHashes.add(c.getHash()));
+    }
+    soft.assertThat(logHashes).containsExactlyInAnyOrderElementsOf(commitHashes);
+
+    List<ContentKey> keys = new ArrayList<>();
+    for (int i = 0; i < CONCURRENCY; i++) {
+      keys.add(ContentKey.of("key-" + i));
+    }
+    soft.assertThat(store.getValues(branch, keys, false)).containsOnlyKeys(keys);
+  }
+
+  @Test
+  public void conflictingCommitsFailIndividually() throws Exception {
+    BranchName branch = BranchName.of("conflicting");
+    Hash initial = new VersionStoreImpl(persist).create(branch, Optional.empty()).getHash();
+
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger pointerUpdates = new AtomicInteger();
+    VersionStore store = new VersionStoreImpl(blockingPersist(blocked, release, pointerUpdates));
+
+    // All commits try to create the same key, only the first one can succeed.
+    List<CompletableFuture<CommitResult>> results =
+        runConcurrently(
+            blocked,
+            release,
+            i ->
+                () ->
+                    store.commit(
+                        branch,
+                        Optional.of(initial),
+                        fromMessage("commit " + i),
+                        singletonList(
+                            Put.of(
+                                ContentKey.of("same-key"),
+                                IcebergTable.of("meta" + i, 42, 43, 44, 45)))));
+
+    int succeeded = 0;
+    for (CompletableFuture<CommitResult> result : results) {
+      try {
+        result.get(30, SECONDS);
+        succeeded++;
+      } catch (ExecutionException e) {
+        soft.assertThat(e.getCause()).isInstanceOf(ReferenceConflictException.class);
+      }
+    }
+    soft.assertThat(succeeded).isEqualTo(1);
+    // The batch consisting only of conflicting commits does not update the reference.
+    soft.assertThat(pointerUpdates).hasValue(1);
+  }
+
+  /**
+   * A commit that conflicts with a previous commit of the same batch must not fail, if that
+   * previous commit does not become visible, because the reference-pointer update of the batch has
+   * to be retried and the previous commit fails on retry.
+   */
+  @Test
+  public void conflictsWithUnpublishedCommitsAreRetried() throws Exception {
+    BranchName branch = BranchName.of("unpublished");
+    Hash initial = new VersionStoreImpl(persist).create(branch, Optional.empty()).getHash();
+
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger pointerUpdates = new AtomicInteger();
+    // The reference-pointer update of the batch fails once, as if another Nessie instance had
+    // concurrently updated the reference.
+    VersionStore store = new VersionStoreImpl(blockingPersist(blocked, release, pointerUpdates, 2));
+
+    // The first commit of the batch passes validation only once, the second commit of the batch
+    // conflicts with the first one.
+    AtomicInteger validations = new AtomicInteger();
+    List<Callable<CommitResult>> commits =
+        asList(
+            () ->
+                store.commit(
+                    branch,
+                    Optional.of(initial),
+                    fromMessage("leader"),
+                    singletonList(
+                        Put.of(ContentKey.of("leader"), IcebergTable.of("meta", 42, 43, 44, 45)))),
+            () ->
+                store.commit(
+                    branch,
+                    Optional.of(initial),
+                    fromMessage("rejected on retry"),
+                    singletonList(
+                        Put.of(
+                            ContentKey.of("same-key"), IcebergTable.of("meta1", 42, 43, 44, 45))),
+                    validation -> {
+                      if (validations.incrementAndGet() > 1) {
+                        throw new IllegalArgumentException("rejected on retry");
+                      }
+                    },
+                    (k, c) -> {}),
+            () ->
+                store.commit(
+                    branch,
+                    Optional.of(initial),
+                    fromMessage("conflicts with unpublished commit"),
+                    singletonList(
+                        Put.of(
+                            ContentKey.of("same-key"), IcebergTable.of("meta2", 42, 43, 44, 45)))));
+
+    List<CompletableFuture<CommitResult>> results =
+        runBehindFirstCall(commits.size(), blocked, release::countDown, commits::get);
+
+    soft.assertThat(results.get(0)).succeedsWithin(30, SECONDS);
+    soft.assertThat(results.get(2)).succeedsWithin(30, SECONDS);
+    soft.assertThat(results.get(1)).failsWithin(30, SECONDS);
+    soft.assertThat(store.getValues(branch, singletonList(ContentKey.of("same-key")), false))
+        .extractingByKey(ContentKey.of("same-key"))
+        .extracting(c -> ((IcebergTable) c.content()).getMetadataLocation())
+        .isEqualTo("meta2");
+  }
+
+  private static Persist blockingPersist(
+      CountDownLatch blocked, CountDownLatch release, AtomicInteger pointerUpdates) {
+    return blockingPersist(blocked, release, pointerUpdates, -1);
+  }
+
+  /**
+   * Returns a {@link Persist} that blocks the first reference-pointer update until {@code release}
+   * is counted down, so concurrent commits queue up behind the first commit. The reference-pointer
+   * update number {@code failingUpdate}, counting from 1, fails with a {@link
+   * RefConditionFailedException}.
+   */
+  private static Persist blockingPersist(
+      CountDownLatch blocked,
+      CountDownLatch release,
+      AtomicInteger pointerUpdates,
+      int failingUpdate) {
+    return new PersistDelegate(persist) {
+      @Nonnull
+      @Override
+      public Reference updateReferencePointer(
+          @Nonnull Reference reference, @Nonnull ObjId newPointer)
+          throws RefNotFoundException, RefConditionFailedException {
+        int update = pointerUpdates.incrementAndGet();
+        if (update == 1) {
+          blocked.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+          }
+        }
+        if (update == failingUpdate) {
+          throw new RefConditionFailedException(reference);
+        }
+        return super.updateReferencePointer(reference, newPointer);
+      }
+    };
+  }
+
+  /**
+   * The first commit becomes the leader and blocks in the reference-pointer update, all other
+   * commits queue up and wait for the leader.
+   */
+  private static List<CompletableFuture<CommitResult>> runConcurrently(
+      CountDownLatch blocked, CountDownLatch release, IntFunction<Callable<CommitResult>> commit)
+      throws Exception {
+    return runBehindFirstCall(CONCURRENCY, blocked, release::countDown, commit);
+  }
+}
@@ -38,6 +38,7 @@ dependencies {
 
   implementation(platform(libs.junit.bom))
   implementation(libs.bundles.junit.testing)
+  implementation(libs.awaitility)
 
   testImplementation(platform(libs.junit.bom))
   testImplementation(libs.bundles.junit.testing)
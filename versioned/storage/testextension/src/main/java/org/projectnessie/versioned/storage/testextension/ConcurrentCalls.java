@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.testextension;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.IntFunction;
+
+/**
+ * Helper for tests that verify how concurrent calls are coalesced or queued behind a first call,
+ * which is blocked until all other calls have been issued.
+ */
+public final class ConcurrentCalls {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+  private ConcurrentCalls() {}
+
+  /**
+   * Starts the first call, waits until it is blocked, which it signals via {@code firstBlocked},
+   * starts the remaining calls, waits until all of those are {@link Thread.State#WAITING waiting}
+   * and then runs {@code releaseFirst}.
+   *
+   * @param calls number of concurrent calls
+   * @param firstBlocked counted down by the first call when it is blocked
+   * @param releaseFirst unblocks the first call
+   * @param call produces the call for the given index, {@code 0} being the first call
+   * @return the results of the calls, in the order of their indexes
+   */
+  public static <R> List<CompletableFuture<R>> runBehindFirstCall(
+      int calls, CountDownLatch firstBlocked, Runnable releaseFirst, IntFunction<Callable<R>> call)
+      throws InterruptedException {
+    List<CompletableFuture<R>> results = new ArrayList<>(calls);
+    List<Thread> threads = new ArrayList<>(calls);
+    for (int i = 0; i < calls; i++) {
+      CompletableFuture<R> result = new CompletableFuture<>();
+      Callable<R> c = call.apply(i);
+      results.add(result);
+      threads.add(
+          new Thread(
+              () -> {
+                try {
+                  result.complete(c.call());
+                } catch (Throwable e) {
+                  result.completeExceptionally(e);
+                }
+              }));
+    }
+
+    threads.get(0).start();
+    assertThat(firstBlocked.await(TIMEOUT.toMillis(), MILLISECONDS)).isTrue();
+
+    for (int i = 1; i < calls; i++) {
+      threads.get(i).start();
+    }
+    for (int i = 1; i < calls; i++) {
+      Thread t = threads.get(i);
+      await().atMost(TIMEOUT).until(() -> t.getState() == Thread.State.WAITING);
+    }
+
+    releaseFirst.run();
+
+    for (Thread t : threads) {
+      t.join(TIMEOUT.toMillis());
+    }
+    return results;
+  }
+}
@@ -15,6 +15,7 @@
  */
 package org.projectnessie.versioned.tests;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.util.Streams.stream;
 import static org.projectnessie.versioned.GetNamedRefsParams.RetrieveOptions.BARE;
@@ -305,4 +306,51 @@ public abstract class AbstractReferences extends AbstractNestedVersionStore {
           .containsAll(tags);
     }
   }
+
+  @Test
+  void listWithNamePrefix() throws Exception {
+    for (String name : asList("ci/pr-1", "ci/pr-12", "ci/pr-2", "dev")) {
+      store().create(BranchName.of(name), Optional.empty());
+      store().create(TagName.of(name + "-t"), Optional.empty());
+    }
+
+    soft.assertThat(namedRefs(GetNamedRefsParams.builder().namePrefix("ci/pr-1").build()))
+        .containsExactly(
+            BranchName.of("ci/pr-1"),
+            BranchName.of("ci/pr-12"),
+            TagName.of("ci/pr-1-t"),
+            TagName.of("ci/pr-12-t"));
+    soft.assertThat(
+            namedRefs(
+                GetNamedRefsParams.builder()
+                    .namePrefix("ci/pr-1")
+                    .tagRetrieveOptions(OMIT)
+                    .build()))
+        .containsExactly(BranchName.of("ci/pr-1"), BranchName.of("ci/pr-12"));
+    soft.assertThat(
+            namedRefs(
+                GetNamedRefsParams.builder()
+                    .namePrefix("ci/pr-1")
+                    .branchRetrieveOptions(OMIT)
+                    .build()))
+        .containsExactly(TagName.of("ci/pr-1-t"), TagName.of("ci/pr-12-t"));
+    soft.assertThat(namedRefs(GetNamedRefsParams.builder().namePrefix("nope").build())).isEmpty();
+
+    // The filter is applied before computing the ahead/behind information
+    soft.assertThat(
+            namedRefs(
+                GetNamedRefsParams.builder()
+                    .namePrefix("ci/")
+                    .baseReference(BranchName.of("main"))
+                    .branchRetrieveOptions(BASE_REFERENCE_RELATED_AND_COMMIT_META)
+                    .bareReferenceFilter(r -> r.getNamedRef().getName().endsWith("2"))
+                    .build()))
+        .containsExactly(BranchName.of("ci/pr-12"), BranchName.of("ci/pr-2"));
+  }
+
+  private List<NamedRef> namedRefs(GetNamedRefsParams params) throws Exception {
+    try (PaginationIterator<ReferenceInfo<CommitMeta>> refs = store().getNamedRefs(params, null)) {
+      return stream(refs).map(ReferenceInfo::getNamedRef).collect(Collectors.toList());
+    }
+  }
 }
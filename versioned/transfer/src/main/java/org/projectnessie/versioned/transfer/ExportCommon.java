@@ -26,6 +26,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 import org.projectnessie.api.NessieVersion;
 import org.projectnessie.nessie.relocated.protobuf.UnsafeByteOperations;
 import org.projectnessie.versioned.storage.common.logic.RepositoryDescription;
@@ -89,7 +90,10 @@ abstract class ExportCommon {
       // Generic objects are written by multiple export tasks, so we need to open (and close) its
       // `Batcher` instance here.
       try (Batcher<Obj> genericObjBatcher =
-          new Batcher<>(exporter.commitBatchSize(), objs -> mapGenericObjs(objs, exportContext))) {
+          new Batcher<>(
+              exporter.commitBatchSize(),
+              objs ->
+                  mapGenericObjs(objs, exportContext::writeGeneric, exporter.progressListener()))) {
         this.genericObjBatcher = genericObjBatcher;
 
         exporter.progressListener().progress(ProgressEvent.STARTED);
@@ -191,22 +195,40 @@ abstract class ExportCommon {
     }
   }
 
+  /**
+   * Number of shards to use for the commits of the export, {@code 1} means that the export is
+   * sequential.
+   */
+  int shardCount() {
+    int parallelism = exporter.parallelism();
+    return parallelism > 1 && exportFiles.supportsConcurrentOutputs() ? parallelism : 1;
+  }
+
   void handleGenericObjs(Set<ObjId> ids) {
+    handleGenericObjs(ids, this::addGenericObj);
+  }
+
+  void addGenericObj(Obj obj) {
+    genericObjBatcher.add(obj);
+  }
+
+  void handleGenericObjs(Set<ObjId> ids, Consumer<Obj> genericObjs) {
     if (ids.isEmpty()) {
       return;
     }
 
     ObjId[] idArray = ids.toArray(ObjId[]::new);
     Obj[] objs = exporter.persist().fetchObjsIfExist(idArray);
-    Arrays.stream(objs).filter(Objects::nonNull).forEach(genericObjBatcher::add);
+    Arrays.stream(objs).filter(Objects::nonNull).forEach(genericObjs);
   }
 
-  private void mapGenericObjs(List<Obj> objs, ExportContext exportContext) {
+  void mapGenericObjs(
+      List<Obj> objs, Consumer<RelatedObj> output, ProgressListener progressListener) {
     for (Obj o : objs) {
       RelatedObj custom = mapGenericObj(o);
-      exportContext.writeGeneric(custom);
+      output.accept(custom);
       // use the same progress value than commits
-      exporter.progressListener().progress(ProgressEvent.GENERIC_WRITTEN);
+      progressListener.progress(ProgressEvent.GENERIC_WRITTEN);
     }
   }
 
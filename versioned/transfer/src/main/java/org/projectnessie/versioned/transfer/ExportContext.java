@@ -24,6 +24,8 @@ import org.projectnessie.versioned.transfer.serialize.TransferTypes.RelatedObj;
 
 final class ExportContext {
 
+  private final ExportFileSupplier exportFiles;
+  private final NessieExporter exporter;
   private final ExportMeta.Builder exportMeta;
 
   final SizeLimitedOutput namedReferenceOutput;
@@ -32,6 +34,8 @@ final class ExportContext {
 
   ExportContext(
       ExportFileSupplier exportFiles, NessieExporter exporter, ExportMeta.Builder exportMeta) {
+    this.exportFiles = exportFiles;
+    this.exporter = exporter;
     this.exportMeta = exportMeta;
     namedReferenceOutput =
         new SizeLimitedOutput(
@@ -45,17 +49,59 @@ final class ExportContext {
             exportFiles,
             exporter,
             NessieExporter.COMMITS_PREFIX,
-            exportMeta::addCommitsFiles,
+            this::addCommitsFile,
             exportMeta::setCommitCount);
     genericOutput =
         new SizeLimitedOutput(
             exportFiles,
             exporter,
             NessieExporter.CUSTOM_PREFIX,
-            exportMeta::addGenericObjFiles,
+            this::addGenericObjFile,
             exportMeta::setGenericObjCount);
   }
 
+  /**
+   * Creates the output for the commits of an export shard, the file names are added to the export
+   * metadata, the entity count is added to the overall commit count.
+   */
+  SizeLimitedOutput shardCommitOutput(int shard) {
+    return new SizeLimitedOutput(
+        exportFiles,
+        exporter,
+        shardFilePrefix(NessieExporter.COMMITS_PREFIX, shard),
+        this::addCommitsFile,
+        count -> commitOutput.entityCount += count);
+  }
+
+  /**
+   * Creates the output for the generic objects of an export shard, the file names are added to the
+   * export metadata, the entity count is added to the overall generic object count.
+   */
+  SizeLimitedOutput shardGenericOutput(int shard) {
+    return new SizeLimitedOutput(
+        exportFiles,
+        exporter,
+        shardFilePrefix(NessieExporter.CUSTOM_PREFIX, shard),
+        this::addGenericObjFile,
+        count -> genericOutput.entityCount += count);
+  }
+
+  private static String shardFilePrefix(String prefix, int shard) {
+    return String.format("%s-shard-%04d", prefix, shard);
+  }
+
+  void shardCount(int shardCount) {
+    exportMeta.setShardCount(shardCount);
+  }
+
+  private synchronized void addCommitsFile(String fileName) {
+    exportMeta.addCommitsFiles(fileName);
+  }
+
+  private synchronized void addGenericObjFile(String fileName) {
+    exportMeta.addGenericObjFiles(fileName);
+  }
+
   public void writeRef(Ref ref) {
     namedReferenceOutput.writeEntity(ref);
   }
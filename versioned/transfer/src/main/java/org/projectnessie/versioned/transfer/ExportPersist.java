@@ -72,13 +72,34 @@ final class ExportPersist extends ExportCommon {
   HeadsAndForks exportCommits(ExportContext exportContext) {
 
     HeadsAndForkPoints headsAndForkPoints;
-    try (Batcher<CommitObj> commitObjBatcher =
-        new Batcher<>(
-            exporter.commitBatchSize(), commits -> mapCommitObjs(commits, exportContext))) {
-      headsAndForkPoints =
-          exporter.fullScan()
-              ? scanDatabase(commitObjBatcher::add)
-              : scanAllReferences(commitObjBatcher::add);
+    int shardCount = shardCount();
+    if (shardCount > 1) {
+      try (ExportShards shards =
+          new ExportShards(
+              this,
+              exportContext,
+              shardCount,
+              (commits, shard) ->
+                  mapCommitObjs(
+                      commits,
+                      shard.commitOutput::writeEntity,
+                      shard.genericObjBatcher::add,
+                      shard.progressListener))) {
+        headsAndForkPoints = scanCommits(shards::add);
+        shards.finish();
+      }
+    } else {
+      try (Batcher<CommitObj> commitObjBatcher =
+          new Batcher<>(
+              exporter.commitBatchSize(),
+              commits ->
+                  mapCommitObjs(
+                      commits,
+                      exportContext::writeCommit,
+                      this::addGenericObj,
+                      exporter.progressListener()))) {
+        headsAndForkPoints = scanCommits(commitObjBatcher::add);
+      }
     }
 
     HeadsAndForks.Builder hf =
@@ -89,6 +110,10 @@ final class ExportPersist extends ExportCommon {
     return hf.build();
   }
 
+  private HeadsAndForkPoints scanCommits(Consumer<CommitObj> commitHandler) {
+    return exporter.fullScan() ? scanDatabase(commitHandler) : scanAllReferences(commitHandler);
+  }
+
   private HeadsAndForkPoints scanAllReferences(Consumer<CommitObj> commitHandler) {
     IdentifyHeadsAndForkPoints identify =
         new IdentifyHeadsAndForkPoints(
@@ -144,16 +169,20 @@ final class ExportPersist extends ExportCommon {
     }
   }
 
-  private void mapCommitObjs(List<CommitObj> commitObjs, ExportContext exportContext) {
+  private void mapCommitObjs(
+      List<CommitObj> commitObjs,
+      Consumer<Commit> output,
+      Consumer<Obj> genericObjs,
+      ProgressListener progressListener) {
     Map<ObjId, Obj> objs = fetchReferencedObjs(commitObjs);
 
     for (CommitObj c : commitObjs) {
-      Commit commit = mapCommitObj(c, objs);
-      exportContext.writeCommit(commit);
+      Commit commit = mapCommitObj(c, objs, genericObjs);
+      output.accept(commit);
 
-      handleGenericObjs(transferRelatedObjects.commitRelatedObjects(c));
+      handleGenericObjs(transferRelatedObjects.commitRelatedObjects(c), genericObjs);
 
-      exporter.progressListener().progress(ProgressEvent.COMMIT_WRITTEN);
+      progressListener.progress(ProgressEvent.COMMIT_WRITTEN);
     }
   }
 
@@ -182,7 +211,7 @@ final class ExportPersist extends ExportCommon {
     }
   }
 
-  private Commit mapCommitObj(CommitObj c, Map<ObjId, Obj> objs) {
+  private Commit mapCommitObj(CommitObj c, Map<ObjId, Obj> objs, Consumer<Obj> genericObjs) {
     Commit.Builder b =
         Commit.newBuilder()
             .setCommitId(c.id().asBytes())
@@ -217,7 +246,8 @@ final class ExportPersist extends ExportCommon {
                       .setContentId(value.contentId())
                       .setValue(ByteString.copyFrom(modelContentBytes));
 
-                  handleGenericObjs(transferRelatedObjects.contentRelatedObjects(modelContent));
+                  handleGenericObjs(
+                      transferRelatedObjects.contentRelatedObjects(modelContent), genericObjs);
                 } catch (JsonProcessingException e) {
                   throw new RuntimeException(e);
                 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.transfer;
+
+import com.google.common.base.Throwables;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+
+/**
+ * Distributes the commits of a parallel export to a fixed number of shards using the hash of the
+ * commit ID.
+ *
+ * <p>Every shard has its own thread and its own size-limited outputs for commits and generic
+ * objects, so the files of a shard are only written by that shard's thread. Commits are passed to
+ * the shards in batches, the number of pending batches per shard is bounded, so a slow shard slows
+ * down the commit traversal instead of buffering the whole repository in memory.
+ */
+final class ExportShards implements AutoCloseable {
+
+  /** Maximum number of commit batches that are queued or processed per shard. */
+  static final int MAX_PENDING_BATCHES = 2;
+
+  /** Handles a batch of commits, called on the thread of the given shard. */
+  @FunctionalInterface
+  interface ShardBatchHandler {
+    void handle(List<CommitObj> commits, ExportShard shard);
+  }
+
+  private final ExportShard[] shards;
+  private final ShardBatchHandler handler;
+  private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+  ExportShards(
+      ExportCommon export, ExportContext exportContext, int shardCount, ShardBatchHandler handler) {
+    this.handler = handler;
+    this.shards = new ExportShard[shardCount];
+    for (int i = 0; i < shardCount; i++) {
+      shards[i] = new ExportShard(i, export, exportContext);
+    }
+    exportContext.shardCount(shardCount);
+  }
+
+  void add(CommitObj commit) {
+    checkFailure();
+    shards[Math.floorMod(commit.id().hashCode(), shards.length)].commitBatcher.add(commit);
+  }
+
+  /**
+   * Passes the remaining commits to the shards, waits until all shards are done and finishes the
+   * shard outputs.
+   */
+  void finish() {
+    for (ExportShard shard : shards) {
+      shard.commitBatcher.close();
+      shard.submit(shard::finishShard);
+      shard.executor.shutdown();
+    }
+    try {
+      for (ExportShard shard : shards) {
+        while (!shard.executor.awaitTermination(1, TimeUnit.SECONDS)) {
+          checkFailure();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+    checkFailure();
+
+    try {
+      for (ExportShard shard : shards) {
+        shard.commitOutput.finish();
+        shard.genericOutput.finish();
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public void close() {
+    for (ExportShard shard : shards) {
+      shard.executor.shutdownNow();
+      shard.commitOutput.closeSilently();
+      shard.genericOutput.closeSilently();
+    }
+  }
+
+  private void checkFailure() {
+    Throwable t = failure.get();
+    if (t != null) {
+      Throwables.throwIfUnchecked(t);
+      throw new RuntimeException(t);
+    }
+  }
+
+  final class ExportShard {
+    final int shard;
+    final SizeLimitedOutput commitOutput;
+    final SizeLimitedOutput genericOutput;
+
+    /** Collects the generic objects of this shard, only used from the shard's thread. */
+    final Batcher<Obj> genericObjBatcher;
+
+    /** Reports progress events of this shard, only used from the shard's thread. */
+    final ProgressListener progressListener;
+
+    /** Collects the commits for this shard, only used from the thread traversing the commits. */
+    private final Batcher<CommitObj> commitBatcher;
+
+    private final ExecutorService executor;
+    private final Semaphore pendingBatches = new Semaphore(MAX_PENDING_BATCHES);
+
+    private ExportShard(int shard, ExportCommon export, ExportContext exportContext) {
+      NessieExporter exporter = export.exporter;
+      ProgressListener listener = exporter.progressListener();
+
+      this.shard = shard;
+      this.commitOutput = exportContext.shardCommitOutput(shard);
+      this.genericOutput = exportContext.shardGenericOutput(shard);
+      this.progressListener =
+          (type, meta) -> {
+            synchronized (listener) {
+              listener.shardProgress(shard, type);
+            }
+          };
+      this.genericObjBatcher =
+          new Batcher<>(
+              exporter.commitBatchSize(),
+              objs -> export.mapGenericObjs(objs, genericOutput::writeEntity, progressListener));
+      this.commitBatcher =
+          new Batcher<>(exporter.commitBatchSize(), commits -> submit(() -> handle(commits)));
+      this.executor =
+          Executors.newSingleThreadExecutor(
+              r -> {
+                Thread t = new Thread(r, "nessie-export-shard-" + shard);
+                t.setDaemon(true);
+                return t;
+              });
+
+      submit(() -> progressListener.progress(ProgressEvent.SHARD_STARTED));
+    }
+
+    private void handle(List<CommitObj> commits) {
+      handler.handle(commits, this);
+    }
+
+    private void finishShard() {
+      genericObjBatcher.close();
+      progressListener.progress(ProgressEvent.SHARD_FINISHED);
+    }
+
+    private void submit(Runnable task) {
+      try {
+        pendingBatches.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      }
+      try {
+        executor.execute(
+            () -> {
+              try {
+                if (failure.get() == null) {
+                  task.run();
+                }
+              } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+              } finally {
+                pendingBatches.release();
+              }
+            });
+      } catch (RejectedExecutionException e) {
+        pendingBatches.release();
+        throw e;
+      }
+    }
+  }
+}
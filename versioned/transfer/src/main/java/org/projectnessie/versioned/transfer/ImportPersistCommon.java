@@ -23,8 +23,15 @@ import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.commi
 import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.contentIdMaybe;
 import static org.projectnessie.versioned.storage.common.objtypes.ContentValueObj.contentValue;
 
+import com.google.common.base.Throwables;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.projectnessie.model.Content;
 import org.projectnessie.nessie.relocated.protobuf.ByteString;
 import org.projectnessie.versioned.storage.batching.BatchingPersist;
@@ -50,13 +57,16 @@ abstract class ImportPersistCommon extends ImportCommon {
 
   ImportPersistCommon(ExportMeta exportMeta, NessieImporter importer) {
     super(exportMeta, importer);
-    this.persist =
-        WriteBatching.builder()
-            .persist(requireNonNull(importer.persist()))
-            .batchSize(importer.commitBatchSize())
-            .optimistic(true)
-            .build()
-            .create();
+    this.persist = newBatchingPersist();
+  }
+
+  private BatchingPersist newBatchingPersist() {
+    return WriteBatching.builder()
+        .persist(requireNonNull(importer.persist()))
+        .batchSize(importer.commitBatchSize())
+        .optimistic(true)
+        .build()
+        .create();
   }
 
   @Override
@@ -89,50 +99,129 @@ abstract class ImportPersistCommon extends ImportCommon {
 
   @Override
   long importCommits() throws IOException {
-    long commitCount = 0L;
-    try {
-      for (String fileName : exportMeta.getCommitsFilesList()) {
-        try (InputStream input = importFiles.newFileInput(fileName)) {
+    return importFiles(
+        exportMeta.getCommitsFilesList(),
+        (shard, input) -> {
+          long commitCount = 0L;
           while (true) {
             Commit commit = Commit.parseDelimitedFrom(input);
             if (commit == null) {
               break;
             }
-            processCommit(commit);
+            processCommit(shard, commit);
             commitCount++;
           }
-        } catch (ObjTooLargeException e) {
-          throw new RuntimeException(e);
-        }
-      }
-    } finally {
-      persist.flush();
-    }
-    return commitCount;
+          return commitCount;
+        });
   }
 
   @Override
   long importGeneric() throws IOException {
-    long genericCount = 0L;
-    try {
-      for (String fileName : exportMeta.getGenericObjFilesList()) {
-        try (InputStream input = importFiles.newFileInput(fileName)) {
+    return importFiles(
+        exportMeta.getGenericObjFilesList(),
+        (shard, input) -> {
+          long genericCount = 0L;
           while (true) {
             RelatedObj generic = RelatedObj.parseDelimitedFrom(input);
             if (generic == null) {
               break;
             }
-            processGeneric(generic);
+            processGeneric(shard, generic);
             genericCount++;
           }
-        } catch (ObjTooLargeException e) {
-          throw new RuntimeException(e);
+          return genericCount;
+        });
+  }
+
+  /**
+   * Imports the given files, either sequentially or, if the importer's parallelism is greater than
+   * one, concurrently. Files of the same import phase do not depend on each other, each concurrent
+   * import shard uses its own {@link BatchingPersist} instance.
+   */
+  private long importFiles(List<String> fileNames, FileImport fileImport) throws IOException {
+    int shardCount = Math.min(importer.parallelism(), fileNames.size());
+    if (shardCount <= 1) {
+      try {
+        long count = 0L;
+        ImportShard shard = new ImportShard(persist, importer.progressListener());
+        for (String fileName : fileNames) {
+          count += importFile(fileName, shard, fileImport);
+        }
+        return count;
+      } finally {
+        persist.flush();
+      }
+    }
+
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            shardCount,
+            r -> {
+              Thread t = new Thread(r, "nessie-import-shard");
+              t.setDaemon(true);
+              return t;
+            });
+    try {
+      List<Future<Long>> shardResults = new ArrayList<>(shardCount);
+      for (int i = 0; i < shardCount; i++) {
+        int shardNum = i;
+        List<String> shardFiles = new ArrayList<>();
+        for (int f = shardNum; f < fileNames.size(); f += shardCount) {
+          shardFiles.add(fileNames.get(f));
         }
+        shardResults.add(executor.submit(() -> importShard(shardNum, shardFiles, fileImport)));
+      }
+
+      long count = 0L;
+      for (Future<Long> shardResult : shardResults) {
+        count += shardResult.get();
       }
+      return count;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      Throwables.throwIfInstanceOf(cause, IOException.class);
+      Throwables.throwIfUnchecked(cause);
+      throw new RuntimeException(cause);
     } finally {
-      persist.flush();
+      executor.shutdownNow();
+    }
+  }
+
+  private long importShard(int shardNum, List<String> fileNames, FileImport fileImport)
+      throws IOException {
+    ProgressListener listener = importer.progressListener();
+    ProgressListener shardListener =
+        (type, meta) -> {
+          synchronized (listener) {
+            listener.shardProgress(shardNum, type);
+          }
+        };
+    BatchingPersist shardPersist = newBatchingPersist();
+    ImportShard shard = new ImportShard(shardPersist, shardListener);
+
+    shardListener.progress(ProgressEvent.SHARD_STARTED);
+    try {
+      long count = 0L;
+      for (String fileName : fileNames) {
+        count += importFile(fileName, shard, fileImport);
+      }
+      return count;
+    } finally {
+      shardPersist.flush();
+      shardListener.progress(ProgressEvent.SHARD_FINISHED);
+    }
+  }
+
+  private long importFile(String fileName, ImportShard shard, FileImport fileImport)
+      throws IOException {
+    try (InputStream input = importFiles.newFileInput(fileName)) {
+      return fileImport.importFile(shard, input);
+    } catch (ObjTooLargeException e) {
+      throw new RuntimeException(e);
     }
-    return genericCount;
   }
 
   @Override
@@ -151,11 +240,14 @@ abstract class ImportPersistCommon extends ImportCommon {
     }
   }
 
-  abstract void processCommit(Commit commit) throws IOException, ObjTooLargeException;
+  abstract void processCommit(ImportShard shard, Commit commit)
+      throws IOException, ObjTooLargeException;
 
-  abstract void processGeneric(RelatedObj genericObj) throws IOException, ObjTooLargeException;
+  abstract void processGeneric(ImportShard shard, RelatedObj genericObj)
+      throws IOException, ObjTooLargeException;
 
-  void processCommitOp(StoreIndex<CommitOp> index, Operation op, StoreKey storeKey) {
+  void processCommitOp(
+      ImportShard shard, StoreIndex<CommitOp> index, Operation op, StoreKey storeKey) {
     byte payload = (byte) op.getPayload();
     switch (op.getOperationType()) {
       case Delete:
@@ -169,7 +261,7 @@ abstract class ImportPersistCommon extends ImportCommon {
           ByteString onRef = importer.storeWorker().toStoreOnReferenceState(content);
 
           ContentValueObj value = contentValue(op.getContentId(), payload, onRef);
-          persist.storeObj(value);
+          shard.persist.storeObj(value);
           index.add(
               indexElement(
                   storeKey, commitOp(ADD, payload, value.id(), contentIdMaybe(op.getContentId()))));
@@ -181,4 +273,23 @@ abstract class ImportPersistCommon extends ImportCommon {
         throw new IllegalArgumentException("Unknown operation type " + op);
     }
   }
+
+  /**
+   * The state used to import the files of one shard. A sequential import uses a single instance
+   * with the importer's {@link BatchingPersist} and {@link ProgressListener}.
+   */
+  static final class ImportShard {
+    final BatchingPersist persist;
+    final ProgressListener progressListener;
+
+    ImportShard(BatchingPersist persist, ProgressListener progressListener) {
+      this.persist = persist;
+      this.progressListener = progressListener;
+    }
+  }
+
+  @FunctionalInterface
+  private interface FileImport {
+    long importFile(ImportShard shard, InputStream input) throws IOException, ObjTooLargeException;
+  }
 }
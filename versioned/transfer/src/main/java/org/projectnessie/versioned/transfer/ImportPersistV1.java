@@ -93,7 +93,7 @@ final class ImportPersistV1 extends ImportPersistCommon {
   }
 
   @Override
-  void processCommit(Commit commit) throws IOException, ObjTooLargeException {
+  void processCommit(ImportShard shard, Commit commit) throws IOException, ObjTooLargeException {
     CommitMeta metadata;
     try (InputStream in = commit.getMetadata().newInput()) {
       metadata = importer.objectMapper().readValue(in, CommitMeta.class);
@@ -115,16 +115,16 @@ final class ImportPersistV1 extends ImportPersistCommon {
         .forEach(
             op -> {
               StoreKey storeKey = keyToStoreKey(ContentKey.of(op.getContentKeyList()));
-              processCommitOp(index, op, storeKey);
+              processCommitOp(shard, index, op, storeKey);
             });
 
     c.incrementalIndex(index.serialize());
 
-    persist.storeObj(c.build());
+    shard.persist.storeObj(c.build());
 
-    importer.progressListener().progress(ProgressEvent.COMMIT_WRITTEN);
+    shard.progressListener.progress(ProgressEvent.COMMIT_WRITTEN);
   }
 
   @Override
-  void processGeneric(RelatedObj genericObj) {}
+  void processGeneric(ImportShard shard, RelatedObj genericObj) {}
 }
@@ -121,7 +121,7 @@ final class ImportPersistV23 extends ImportPersistCommon {
   }
 
   @Override
-  void processCommit(Commit commit) throws ObjTooLargeException {
+  void processCommit(ImportShard shard, Commit commit) throws ObjTooLargeException {
     CommitHeaders.Builder headers = newCommitHeaders();
     commit
         .getHeadersList()
@@ -143,18 +143,18 @@ final class ImportPersistV23 extends ImportPersistCommon {
         .forEach(
             op -> {
               StoreKey storeKey = keyFromString(op.getContentKey(0));
-              processCommitOp(index, op, storeKey);
+              processCommitOp(shard, index, op, storeKey);
             });
 
     c.incrementalIndex(index.serialize());
 
-    persist.storeObj(c.build());
+    shard.persist.storeObj(c.build());
 
-    importer.progressListener().progress(ProgressEvent.COMMIT_WRITTEN);
+    shard.progressListener.progress(ProgressEvent.COMMIT_WRITTEN);
   }
 
   @Override
-  void processGeneric(RelatedObj genericObj) throws ObjTooLargeException {
+  void processGeneric(ImportShard shard, RelatedObj genericObj) throws ObjTooLargeException {
     ObjType type = objTypeByName(genericObj.getTypeName());
     ObjId id = objIdFromBytes(genericObj.getId());
 
@@ -175,8 +175,8 @@ final class ImportPersistV23 extends ImportPersistCommon {
               id, versionToken, data, type, 0L, Compression.fromValue(genericObj.getCompression()));
     }
 
-    persist.storeObj(obj);
+    shard.persist.storeObj(obj);
 
-    importer.progressListener().progress(ProgressEvent.GENERIC_WRITTEN);
+    shard.progressListener.progress(ProgressEvent.GENERIC_WRITTEN);
   }
 }
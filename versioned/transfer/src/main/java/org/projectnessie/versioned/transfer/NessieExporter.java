@@ -123,6 +123,15 @@ public abstract class NessieExporter {
     @CanIgnoreReturnValue
     Builder exportVersion(int exportVersion);
 
+    /**
+     * Optional, specify the number of shards that commits and their related objects are
+     * concurrently written to, defaults to {@code 1}, which means a sequential export. Sharding is
+     * not used for single-branch exports and for {@link ExportFileSupplier}s that do not {@link
+     * ExportFileSupplier#supportsConcurrentOutputs() support concurrent outputs}.
+     */
+    @CanIgnoreReturnValue
+    Builder parallelism(int parallelism);
+
     @CanIgnoreReturnValue
     Builder addGenericObjectResolvers(URL element);
 
@@ -216,6 +225,11 @@ public abstract class NessieExporter {
     return ExportImportConstants.DEFAULT_EXPORT_VERSION;
   }
 
+  @Value.Default
+  int parallelism() {
+    return 1;
+  }
+
   abstract List<URL> genericObjectResolvers();
 
   abstract ExportFileSupplier exportFileSupplier();
@@ -73,6 +73,13 @@ public abstract class NessieImporter {
      */
     Builder attachmentBatchSize(int attachmentBatchSize);
 
+    /**
+     * Optional, specify the number of threads that concurrently import the commits and generic
+     * objects files of an export, defaults to {@code 1}. Named references are always created after
+     * all commits have been imported.
+     */
+    Builder parallelism(int parallelism);
+
     Builder progressListener(ProgressListener progressListener);
 
     Builder importFileSupplier(ImportFileSupplier importFileSupplier);
@@ -107,6 +114,11 @@ public abstract class NessieImporter {
     return DEFAULT_ATTACHMENT_BATCH_SIZE;
   }
 
+  @Value.Default
+  int parallelism() {
+    return 1;
+  }
+
   @Value.Default
   StoreWorker storeWorker() {
     return DefaultStoreWorker.instance();
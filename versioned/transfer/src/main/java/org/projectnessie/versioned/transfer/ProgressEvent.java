@@ -33,5 +33,7 @@ public enum ProgressEvent {
   END_GENERIC,
   START_META,
   END_META,
-  STARTED
+  STARTED,
+  SHARD_STARTED,
+  SHARD_FINISHED
 }
@@ -30,4 +30,15 @@ public interface ProgressListener {
    * ProgressEvent#END_META}.
    */
   void progress(@Nonnull ProgressEvent type, @Nullable ExportMeta exportMeta);
+
+  /**
+   * Reports a progress event for one shard of a parallel export or import, shards are numbered
+   * starting at {@code 0}. The default implementation delegates to {@link
+   * #progress(ProgressEvent)}.
+   *
+   * <p>Calls to this function are serialized, implementations do not need to be thread-safe.
+   */
+  default void shardProgress(int shard, @Nonnull ProgressEvent type) {
+    progress(type);
+  }
 }
@@ -29,4 +29,13 @@ public interface ExportFileSupplier extends AutoCloseable {
 
   @Nonnull
   OutputStream newFileOutput(@Nonnull String fileName) throws IOException;
+
+  /**
+   * Whether multiple outputs returned by {@link #newFileOutput(String)} can be written to
+   * concurrently. Parallel exports fall back to a single shard, if this function returns {@code
+   * false}.
+   */
+  default boolean supportsConcurrentOutputs() {
+    return true;
+  }
 }
@@ -72,6 +72,12 @@ public abstract class ZipArchiveExporter implements ExportFileSupplier {
     return outputFile();
   }
 
+  @Override
+  public boolean supportsConcurrentOutputs() {
+    // ZIP entries must be written one after the other
+    return false;
+  }
+
   @Override
   @Nonnull
   public OutputStream newFileOutput(@Nonnull String fileName) throws IOException {
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.transfer;
+
+import java.io.IOException;
+import org.projectnessie.versioned.transfer.files.FileExporter;
+import org.projectnessie.versioned.transfer.files.FileImporter;
+import org.projectnessie.versioned.transfer.serialize.TransferTypes.ExportMeta;
+
+/** Runs the export/import scenarios using a sharded export and a parallel import. */
+public class TestExportImportV3Parallel extends TestExportImportV3 {
+
+  static final int PARALLELISM = 3;
+
+  @Override
+  ImportResult importRepo() throws IOException {
+    NessieImporter importer =
+        NessieImporter.builder()
+            .persist(persistImport)
+            .parallelism(PARALLELISM)
+            .importFileSupplier(FileImporter.builder().sourceDirectory(dir).build())
+            .build();
+    return importer.importNessieRepository();
+  }
+
+  @Override
+  ExportMeta exportRepo(boolean fullScan) throws IOException {
+    NessieExporter exporter =
+        NessieExporter.builder()
+            .persist(persistExport)
+            .fullScan(fullScan)
+            .parallelism(PARALLELISM)
+            .exportFileSupplier(FileExporter.builder().targetDirectory(dir).build())
+            .build();
+    ExportMeta exportMeta = exporter.exportNessieRepository();
+    soft.assertThat(exportMeta.getShardCount()).isEqualTo(PARALLELISM);
+    return exportMeta;
+  }
+}